@@ -8,12 +8,16 @@ package ti.modules.titanium.app;
 
 import static android.content.Context.ACTIVITY_SERVICE;
 
+import org.appcelerator.kroll.KrollDict;
 import org.appcelerator.kroll.KrollModule;
 import org.appcelerator.kroll.KrollRuntime;
 import org.appcelerator.kroll.annotations.Kroll;
 import org.appcelerator.kroll.common.Log;
+import org.appcelerator.kroll.common.TiMessenger;
+import org.appcelerator.kroll.util.KrollAssetCache;
 import org.appcelerator.titanium.TiApplication;
 import org.appcelerator.titanium.TiBaseActivity;
+import org.appcelerator.titanium.TiStylesheet;
 import org.appcelerator.titanium.proxy.ActivityProxy;
 import org.appcelerator.titanium.proxy.IntentProxy;
 import org.appcelerator.titanium.proxy.RProxy;
@@ -80,6 +84,38 @@ public class AndroidModule extends KrollModule
 		return appVersionCode;
 	}
 
+	@Kroll.getProperty
+	public KrollDict getAssetCacheStats()
+	{
+		return new KrollDict(KrollAssetCache.getStats());
+	}
+
+	@Kroll.getProperty
+	public KrollDict getConversionStats()
+	{
+		KrollRuntime runtime = KrollRuntime.getInstance();
+		if (runtime == null) {
+			return new KrollDict();
+		}
+		return new KrollDict(runtime.getConversionStats());
+	}
+
+	@Kroll.getProperty
+	public boolean getLazyConversion()
+	{
+		KrollRuntime runtime = KrollRuntime.getInstance();
+		return (runtime != null) && runtime.isLazyConversionEnabled();
+	}
+
+	@Kroll.setProperty
+	public void setLazyConversion(boolean enabled)
+	{
+		KrollRuntime runtime = KrollRuntime.getInstance();
+		if (runtime != null) {
+			runtime.setLazyConversionEnabled(enabled);
+		}
+	}
+
 	@Kroll.getProperty
 	public IntentProxy getLaunchIntent()
 	{
@@ -93,6 +129,24 @@ public class AndroidModule extends KrollModule
 		return null;
 	}
 
+	@Kroll.getProperty
+	public KrollDict getMessengerStats()
+	{
+		return new KrollDict(TiMessenger.getStats());
+	}
+
+	@Kroll.getProperty
+	public KrollDict getStylesheetStats()
+	{
+		return new KrollDict(TiStylesheet.getStats());
+	}
+
+	@Kroll.getProperty
+	public String[] getRecentLogs()
+	{
+		return Log.getRecentEntries().toArray(new String[0]);
+	}
+
 	@Kroll.getProperty
 	public String getAppVersionName()
 	{
@@ -6,11 +6,15 @@
  */
 package ti.modules.titanium.app;
 
+import java.util.List;
+import java.util.Map;
+
 import org.appcelerator.kroll.KrollDict;
 import org.appcelerator.kroll.KrollModule;
 import org.appcelerator.kroll.KrollProxy;
 import org.appcelerator.kroll.annotations.Kroll;
 import org.appcelerator.kroll.common.Log;
+import org.appcelerator.kroll.common.TiStartupTimeline;
 import org.appcelerator.titanium.ITiAppInfo;
 import org.appcelerator.titanium.TiApplication;
 import org.appcelerator.titanium.TiBaseActivity;
@@ -138,6 +142,17 @@ public class AppModule extends KrollModule implements SensorEventListener
 		return TiSession.getInstance().getCurrentSessionId();
 	}
 
+	@Kroll.getProperty
+	public KrollDict[] getStartupTimeline()
+	{
+		List<Map<String, Object>> traceEvents = TiStartupTimeline.getTraceEvents();
+		KrollDict[] result = new KrollDict[traceEvents.size()];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = new KrollDict(traceEvents.get(i));
+		}
+		return result;
+	}
+
 	@Kroll.method
 	public String appURLToPath(String url)
 	{
@@ -14,6 +14,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 
+import org.appcelerator.kroll.KrollDict;
 import org.appcelerator.kroll.KrollInvocation;
 import org.appcelerator.kroll.KrollModule;
 import org.appcelerator.kroll.annotations.Kroll;
@@ -23,6 +24,7 @@ import org.appcelerator.titanium.TiFileProxy;
 import org.appcelerator.titanium.io.TiBaseFile;
 import org.appcelerator.titanium.io.TiFile;
 import org.appcelerator.titanium.io.TiFileFactory;
+import org.appcelerator.titanium.util.TiConvert;
 import org.appcelerator.titanium.util.TiUrl;
 
 import android.content.Context;
@@ -33,6 +35,9 @@ import android.net.Uri;
 public class DatabaseModule extends KrollModule
 {
 	private static final String TAG = "TiDatabase";
+	private static final String PROPERTY_WRITE_AHEAD_LOGGING = "writeAheadLogging";
+	private static final String PROPERTY_READ_CONNECTIONS = "readConnections";
+	private static final int DEFAULT_READ_CONNECTIONS = 4;
 
 	@Kroll.constant
 	public static final int FIELD_TYPE_UNKNOWN = -1;
@@ -51,7 +56,7 @@ public class DatabaseModule extends KrollModule
 	}
 
 	@Kroll.method
-	public TiDatabaseProxy open(Object file)
+	public TiDatabaseProxy open(Object file, @Kroll.argument(optional = true) KrollDict options)
 	{
 		// Acquire database name or file object providing full file path from argument.
 		TiBaseFile dbTiBaseFile = null;
@@ -116,6 +121,14 @@ public class DatabaseModule extends KrollModule
 			throw new IllegalArgumentException("Ti.Database.open() failed to extract path from argument: " + file);
 		}
 
+		// Enable write-ahead logging if requested. Allows reads to run in parallel with each other and with writes.
+		if ((options != null) && options.optBoolean(PROPERTY_WRITE_AHEAD_LOGGING, false)) {
+			int readConnections = TiConvert.toInt(options.get(PROPERTY_READ_CONNECTIONS), DEFAULT_READ_CONNECTIONS);
+			if (!dbp.enableWriteAheadLogging(readConnections)) {
+				Log.w(TAG, "Failed to enable write-ahead logging for database: " + dbp.getName());
+			}
+		}
+
 		// Return a proxy to the opened database.
 		Log.d(TAG, "Opened database: " + dbp.getName(), Log.DEBUG_MODE);
 		return dbp;
@@ -137,7 +150,7 @@ public class DatabaseModule extends KrollModule
 		Context ctx = TiApplication.getInstance();
 		for (String dbname : ctx.databaseList()) {
 			if (dbname.equals(name)) {
-				return open(name);
+				return open(name, null);
 			}
 		}
 
@@ -195,7 +208,7 @@ public class DatabaseModule extends KrollModule
 		}
 
 		// Open a connection to the installed database.
-		return open(name);
+		return open(name, null);
 	}
 
 	@Override
@@ -23,28 +23,55 @@ import android.content.Context;
 import android.database.Cursor;
 import android.database.DatabaseUtils;
 import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
 import android.os.Looper;
 
 import java.security.InvalidParameterException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 @Kroll.proxy(parentModule = DatabaseModule.class)
 public class TiDatabaseProxy extends KrollProxy
 {
 	private static final String TAG = "TiDB";
 
+	// Matches SQLiteDatabase's default prepared statement cache size. (Its max is 100.)
+	private static final int DEFAULT_STATEMENT_CACHE_SIZE = 25;
+	private static final int MAX_STATEMENT_CACHE_SIZE = 100;
+	private static final int MAX_READ_CONNECTION_COUNT = 8;
+
 	private Thread thread;
 	private final Lock dbLock = new ReentrantLock(true); // use a "fair" lock
 	private final BlockingQueue<Runnable> queue = new LinkedBlockingQueue<>();
 	private final AtomicBoolean executingQueue = new AtomicBoolean(false);
-	private boolean isClosed = false;
+	private final StatementCache statementCache = new StatementCache(DEFAULT_STATEMENT_CACHE_SIZE);
+	private volatile boolean isClosed = false;
+
+	// Write-ahead logging mode. Reads run in parallel on "readExecutor", writes on the query thread above.
+	// Reads and writes never hold "dbLock" together, so "closeLock" keeps the database open while either runs.
+	private boolean isWalEnabled = false;
+	private ExecutorService readExecutor;
+	private final ReentrantReadWriteLock closeLock = new ReentrantReadWriteLock();
+	private final Object scheduleLock = new Object();
+	private CompletableFuture<Void> lastWriteFuture = CompletableFuture.completedFuture(null);
+	private final List<CompletableFuture<Void>> readsSinceLastWrite = new ArrayList<>();
 
 	protected SQLiteDatabase db;
 	protected String name;
@@ -103,11 +130,62 @@ public class TiDatabaseProxy extends KrollProxy
 		this(db.getPath(), db);
 	}
 
+	/**
+	 * Enables write-ahead logging, allowing reads to run in parallel with each other and with one writer.
+	 * Must be called right after opening the database, before any queries are executed.
+	 * @param readConnectionCount Maximum number of asynchronous reads to run in parallel.
+	 * @return Returns true if enabled. Returns false if not supported, such as for in-memory databases.
+	 */
+	boolean enableWriteAheadLogging(int readConnectionCount)
+	{
+		if (isWalEnabled) {
+			return true;
+		}
+		if ((db == null) || !db.enableWriteAheadLogging()) {
+			return false;
+		}
+
+		final String threadNamePrefix = "TiDB-Read-";
+		final AtomicInteger threadCount = new AtomicInteger();
+		readConnectionCount = Math.max(1, Math.min(readConnectionCount, MAX_READ_CONNECTION_COUNT));
+		readExecutor = Executors.newFixedThreadPool(readConnectionCount, (runnable) -> {
+			Thread readThread = new Thread(runnable, threadNamePrefix + threadCount.incrementAndGet());
+			readThread.setDaemon(true);
+			return readThread;
+		});
+		isWalEnabled = true;
+		return true;
+	}
+
+	/**
+	 * Determines if write-ahead logging was enabled via Ti.Database.open() options.
+	 * @return Returns true if enabled.
+	 */
+	@Kroll.getProperty
+	public boolean getWriteAheadLogging()
+	{
+		return isWalEnabled;
+	}
+
 	/**
 	 * Wait for query queue when executing on main thread.
+	 * @param isRead Set true if the caller is about to read. In write-ahead logging mode, reads only wait
+	 *               for queued writes, while writes also wait for queued reads to preserve execution order.
 	 */
-	private void waitForQueue()
+	private void waitForQueue(boolean isRead)
 	{
+		if (isWalEnabled) {
+			if (Looper.getMainLooper() == Looper.myLooper()) {
+				CompletableFuture<Void> future;
+				synchronized (scheduleLock)
+				{
+					future = isRead ? lastWriteFuture : getPendingQueriesFuture();
+				}
+				awaitQuietly(future);
+			}
+			return;
+		}
+
 		// Wait for all queued queries.
 		if (Looper.getMainLooper() == Looper.myLooper()) {
 			try {
@@ -128,14 +206,103 @@ public class TiDatabaseProxy extends KrollProxy
 		}
 	}
 
+	/**
+	 * Returns a future which completes once all queued writes and all reads queued since them have completed.
+	 * Must be called while synchronized on "scheduleLock".
+	 */
+	private CompletableFuture<Void> getPendingQueriesFuture()
+	{
+		if (readsSinceLastWrite.isEmpty()) {
+			return lastWriteFuture;
+		}
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[readsSinceLastWrite.size() + 1];
+		readsSinceLastWrite.toArray(futures);
+		futures[futures.length - 1] = lastWriteFuture;
+		return CompletableFuture.allOf(futures);
+	}
+
+	/**
+	 * Blocks until the given future completes or the database gets closed.
+	 */
+	private void awaitQuietly(CompletableFuture<Void> future)
+	{
+		while (!future.isDone() && !isClosed) {
+			try {
+				future.get(50, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				// Check if closed and keep waiting.
+			} catch (Exception e) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Queue the given task to be executed on this database's query thread, after all previously queued queries.
+	 * @param task The task to execute.
+	 */
+	void enqueue(Runnable task) throws InterruptedException
+	{
+		enqueue(task, false);
+	}
+
+	/**
+	 * Queue the given task to be executed after all previously queued queries it depends on.
+	 * <p>
+	 * By default, all tasks run one at a time on the database's query thread. In write-ahead logging mode,
+	 * read tasks run in parallel on a reader thread once all previously queued writes have completed,
+	 * and write tasks run on the query thread once all previously queued reads and writes have completed.
+	 * @param task The task to execute.
+	 * @param isRead Set true if the task only reads from the database.
+	 */
+	void enqueue(Runnable task, boolean isRead) throws InterruptedException
+	{
+		if (isClosed) {
+			throw new IllegalStateException("database is closed");
+		}
+		if (!isWalEnabled) {
+			executingQueue.set(true);
+			queue.put(task);
+			return;
+		}
+
+		// Tasks must never complete exceptionally, otherwise tasks depending on them would be skipped.
+		Runnable safeTask = () -> {
+			try {
+				task.run();
+			} catch (Throwable t) {
+				Log.e(TAG, "Failed to execute queued database task", t);
+			}
+		};
+		synchronized (scheduleLock)
+		{
+			if (isRead) {
+				readsSinceLastWrite.add(lastWriteFuture.thenRunAsync(safeTask, readExecutor));
+			} else {
+				lastWriteFuture = getPendingQueriesFuture().thenRunAsync(safeTask, (runnable) -> {
+					if (isClosed) {
+						throw new RejectedExecutionException("database is closed");
+					}
+					queue.add(runnable);
+				});
+				readsSinceLastWrite.clear();
+			}
+		}
+	}
+
 	/**
 	 * Close database.
 	 */
 	@Kroll.method
 	public void close()
 	{
+		// Wait for in-flight parallel reads (if any) to finish before closing.
+		closeLock.writeLock().lock();
 		dbLock.lock();
 		try {
+			// Release all compiled statements before closing database.
+			statementCache.clear();
+
 			// Close database.
 			if (db != null && db.isOpen()) {
 				db.close();
@@ -144,6 +311,7 @@ public class TiDatabaseProxy extends KrollProxy
 			isClosed = true;
 		} finally {
 			dbLock.unlock();
+			closeLock.writeLock().unlock();
 		}
 
 		// Abort query queue execution.
@@ -151,15 +319,99 @@ public class TiDatabaseProxy extends KrollProxy
 			thread.interrupt();
 			thread = null;
 		}
+		if (readExecutor != null) {
+			readExecutor.shutdownNow();
+		}
 		executingQueue.set(false);
 		queue.clear();
 	}
 
-	private boolean expectResult(String query)
+	private static boolean expectResult(String query)
+	{
+		// Skip leading whitespace without allocating a trimmed/lower-cased copy of the query.
+		int length = query.length();
+		int offset = 0;
+		while ((offset < length) && Character.isWhitespace(query.charAt(offset))) {
+			offset++;
+		}
+		if (query.regionMatches(true, offset, "select", 0, 6)) {
+			return true;
+		}
+		return query.regionMatches(true, offset, "pragma", 0, 6) && (query.indexOf('=', offset) < 0);
+	}
+
+	/**
+	 * Binds the given parameter to the statement as a string or blob, matching the conversion done by execute().
+	 * @param statement The statement to bind to.
+	 * @param index The 1-based parameter index.
+	 * @param value The value to bind. Expected to be a String, byte[] or null.
+	 */
+	private static void bindParameter(SQLiteStatement statement, int index, Object value)
+	{
+		if (value == null) {
+			statement.bindNull(index);
+		} else if (value instanceof byte[]) {
+			statement.bindBlob(index, (byte[]) value);
+		} else {
+			statement.bindString(index, value.toString());
+		}
+	}
+
+	/**
+	 * Binds the given parameter to the statement using its native SQLite type.
+	 * Integral numbers are bound as integers, other numbers as reals, booleans as 0/1 and blobs as blobs.
+	 * @param statement The statement to bind to.
+	 * @param index The 1-based parameter index.
+	 * @param value The value to bind.
+	 */
+	private static void bindTypedParameter(SQLiteStatement statement, int index, Object value)
 	{
-		String lowerCaseQuery = query.toLowerCase().trim();
-		return lowerCaseQuery.startsWith("select")
-			|| (lowerCaseQuery.startsWith("pragma") && !lowerCaseQuery.contains("="));
+		if (value == null) {
+			statement.bindNull(index);
+		} else if ((value instanceof Long) || (value instanceof Integer)
+			|| (value instanceof Short) || (value instanceof Byte)) {
+			statement.bindLong(index, ((Number) value).longValue());
+		} else if (value instanceof Number) {
+			double doubleValue = ((Number) value).doubleValue();
+			long longValue = (long) doubleValue;
+			if ((longValue == doubleValue) && !Double.isInfinite(doubleValue)) {
+				// JavaScript only has doubles. Bind whole numbers as integers.
+				statement.bindLong(index, longValue);
+			} else {
+				statement.bindDouble(index, doubleValue);
+			}
+		} else if (value instanceof Boolean) {
+			statement.bindLong(index, ((Boolean) value) ? 1 : 0);
+		} else if (value instanceof TiBlob) {
+			statement.bindBlob(index, ((TiBlob) value).getBytes());
+		} else if (value instanceof byte[]) {
+			statement.bindBlob(index, (byte[]) value);
+		} else {
+			statement.bindString(index, TiConvert.toString(value));
+		}
+	}
+
+	/**
+	 * Fetches a compiled statement for the given query from the cache, compiling it on a cache miss.
+	 * Must be called while holding the "dbLock".
+	 * @param query SQL query to compile.
+	 * @return Returns a cached statement or null if the query cannot be cached (ie: ATTACH/DETACH or DDL).
+	 */
+	private SQLiteStatement getCachedStatement(String query)
+	{
+		SQLiteStatement statement = statementCache.get(query);
+		if (statement == null) {
+			// SQLiteDatabase.execSQL() toggles write-ahead logging for ATTACH statements and refreshes
+			// the schema of all pooled connections after DDL statements. Don't bypass that.
+			int statementType = DatabaseUtils.getSqlStatementType(query);
+			if ((statementType == DatabaseUtils.STATEMENT_ATTACH) || (statementType == DatabaseUtils.STATEMENT_DDL)) {
+				return null;
+			}
+			statement = db.compileStatement(query);
+			statementCache.put(query, statement);
+		}
+		statement.clearBindings();
+		return statement;
 	}
 
 	/**
@@ -182,20 +434,35 @@ public class TiDatabaseProxy extends KrollProxy
 		} else {
 			parameterObjects = new Object[0];
 		}
+		boolean isResultExpected = expectResult(query);
 
 		// If this is a synchronous call on the main thread, wait for all queued queries
 		// to maintain correct execution order and prevent write-locks.
-		waitForQueue();
+		waitForQueue(isResultExpected);
 
 		// lock on db proxy instance
-		dbLock.lockInterruptibly();
+		// In write-ahead logging mode, reads use their own connections and can run in parallel.
+		Lock lock = (isWalEnabled && isResultExpected) ? closeLock.readLock() : dbLock;
+		lock.lockInterruptibly();
 		try {
 			if (isClosed) {
 				throw new IllegalStateException("database is closed");
 			}
 
-			if (!expectResult(query)) {
-				db.execSQL(query, parameterObjects);
+			if (!isResultExpected) {
+				SQLiteStatement statement = getCachedStatement(query);
+				if (statement == null) {
+					db.execSQL(query, parameterObjects);
+					return null;
+				}
+				for (int i = 0; i < parameterObjects.length; i++) {
+					bindParameter(statement, i + 1, parameterObjects[i]);
+				}
+				try {
+					statement.executeUpdateDelete();
+				} finally {
+					statement.clearBindings();
+				}
 				return null;
 			}
 
@@ -212,7 +479,7 @@ public class TiDatabaseProxy extends KrollProxy
 			if (cursor != null) {
 				// Validate and set query result.
 				if (cursor.getColumnCount() > 0) {
-					TiResultSetProxy result = new TiResultSetProxy(cursor);
+					TiResultSetProxy result = new TiResultSetProxy(this, cursor);
 					if (result.isValidRow()) {
 						result.next();
 					}
@@ -229,7 +496,7 @@ public class TiDatabaseProxy extends KrollProxy
 
 			return null;
 		} finally {
-			dbLock.unlock();
+			lock.unlock();
 		}
 	}
 
@@ -287,9 +554,8 @@ public class TiDatabaseProxy extends KrollProxy
 		final Object[] parameters = possibleParameters;
 		final KrollObject callbackThisObject = getKrollObject();
 		return KrollPromise.create((promise) -> {
-			executingQueue.set(true);
 			try {
-				queue.put(new Runnable() {
+				enqueue(new Runnable() {
 					@Override
 					public void run()
 					{
@@ -309,8 +575,8 @@ public class TiDatabaseProxy extends KrollProxy
 						}
 						promise.resolve(result);
 					}
-				});
-			} catch (InterruptedException e) {
+				}, expectResult(query));
+			} catch (InterruptedException | IllegalStateException e) {
 				promise.reject(e);
 			}
 		});
@@ -356,9 +622,8 @@ public class TiDatabaseProxy extends KrollProxy
 
 		final KrollObject callbackThisObject = getKrollObject();
 		return KrollPromise.create((promise) -> {
-			executingQueue.set(true);
 			try {
-				queue.put(new Runnable() {
+				enqueue(new Runnable() {
 					@Override
 					public void run()
 					{
@@ -382,13 +647,170 @@ public class TiDatabaseProxy extends KrollProxy
 							promise.resolve(results.toArray());
 						}
 					}
-				});
-			} catch (InterruptedException e) {
+				}, false);
+			} catch (InterruptedException | IllegalStateException e) {
+				promise.reject(e);
+			}
+		});
+	}
+
+	/**
+	 * Synchronously execute the same SQL statement for every row of parameters within a single transaction.
+	 * @param query SQL statement to execute on database. Must not return a result.
+	 * @param rows Array of parameter arrays, one per execution of `query`.
+	 * @return Total number of rows changed.
+	 */
+	private int executeBatchSQL(String query, Object[] rows) throws InterruptedException, BatchQueryException
+	{
+		// If this is a synchronous call on the main thread, wait for all queued queries
+		// to maintain correct execution order and prevent write-locks.
+		waitForQueue(false);
+
+		// lock on db proxy instance
+		dbLock.lockInterruptibly();
+		try {
+			if (isClosed) {
+				throw new IllegalStateException("database is closed");
+			}
+			if (expectResult(query)) {
+				throw new InvalidParameterException("'query' parameter must not be a SELECT or PRAGMA read");
+			}
+
+			SQLiteStatement statement = getCachedStatement(query);
+			if (statement == null) {
+				throw new InvalidParameterException(
+					"'query' parameter does not support ATTACH/DETACH or schema statements");
+			}
+
+			int changeCount = 0;
+			int rowIndex = 0;
+			db.beginTransaction();
+			try {
+				for (; rowIndex < rows.length; rowIndex++) {
+					Object row = rows[rowIndex];
+					statement.clearBindings();
+					if (row instanceof Object[]) {
+						Object[] parameters = (Object[]) row;
+						for (int i = 0; i < parameters.length; i++) {
+							bindTypedParameter(statement, i + 1, parameters[i]);
+						}
+					} else if (row != null) {
+						bindTypedParameter(statement, 1, row);
+					}
+					changeCount += statement.executeUpdateDelete();
+				}
+				db.setTransactionSuccessful();
+			} catch (Throwable t) {
+				throw new BatchQueryException(t, rowIndex, null);
+			} finally {
+				statement.clearBindings();
+				db.endTransaction();
+			}
+			return changeCount;
+		} finally {
+			dbLock.unlock();
+		}
+	}
+
+	/**
+	 * Synchronously execute the same SQL statement for every row of parameters within a single transaction.
+	 * Parameters are bound using their native types. (ie: integer, real, blob, null)
+	 * @param query SQL statement to execute on database.
+	 * @param rows Array of parameter arrays, one per execution of `query`.
+	 * @return Total number of rows changed.
+	 */
+	@Kroll.method
+	public int executeBatch(String query, Object[] rows) throws InterruptedException, BatchQueryException
+	{
+		// Validate parameters.
+		if (query == null) {
+			throw new InvalidParameterException("'query' parameter is required");
+		}
+		if (rows == null) {
+			throw new InvalidParameterException("'rows' parameter is required");
+		}
+		return executeBatchSQL(query, rows);
+	}
+
+	/**
+	 * Asynchronously execute the same SQL statement for every row of parameters within a single transaction.
+	 * @param query SQL statement to execute on database.
+	 * @param rows Array of parameter arrays, one per execution of `query`.
+	 * @param callback Result callback for query execution.
+	 */
+	@Kroll.method
+	public KrollPromise<Integer> executeBatchAsync(final String query, final Object[] rows,
+		@Kroll.argument(optional = true) final KrollFunction callback)
+	{
+		// Validate parameters.
+		if (query == null) {
+			throw new InvalidParameterException("'query' parameter is required");
+		}
+		if (rows == null) {
+			throw new InvalidParameterException("'rows' parameter is required");
+		}
+
+		final KrollObject callbackThisObject = getKrollObject();
+		return KrollPromise.create((promise) -> {
+			try {
+				enqueue(new Runnable() {
+					@Override
+					public void run()
+					{
+						int changeCount;
+						try {
+							changeCount = executeBatchSQL(query, rows);
+						} catch (Throwable t) {
+							if (callback != null) {
+								callback.callAsync(callbackThisObject, new Object[] { t });
+							}
+							promise.reject(t);
+							return;
+						}
+
+						if (callback != null) {
+							callback.callAsync(callbackThisObject, new Object[] { null, changeCount });
+						}
+						promise.resolve(changeCount);
+					}
+				}, false);
+			} catch (InterruptedException | IllegalStateException e) {
 				promise.reject(e);
 			}
 		});
 	}
 
+	/**
+	 * Get the maximum number of compiled statements cached by this database.
+	 * @return Cache size.
+	 */
+	@Kroll.getProperty
+	public int getStatementCacheSize()
+	{
+		return statementCache.getMaxSize();
+	}
+
+	/**
+	 * Set the maximum number of compiled statements cached by this database.
+	 * @param size Cache size. Clamped between 1 and 100.
+	 */
+	@Kroll.setProperty
+	public void setStatementCacheSize(int size)
+	{
+		size = Math.max(1, Math.min(size, MAX_STATEMENT_CACHE_SIZE));
+
+		dbLock.lock();
+		try {
+			statementCache.setMaxSize(size);
+			if (!isClosed && (db != null)) {
+				// Keep SQLite's own per-connection prepared statement cache at least as large as ours.
+				db.setMaxSqlCacheSize(size);
+			}
+		} finally {
+			dbLock.unlock();
+		}
+	}
+
 	/**
 	 * Get database name.
 	 * @return Database name.
@@ -412,7 +834,7 @@ public class TiDatabaseProxy extends KrollProxy
 			if (isClosed) {
 				throw new IllegalStateException("database is closed");
 			}
-			return (int) DatabaseUtils.longForQuery(db, "select last_insert_rowid()", null);
+			return (int) longForConnectionQuery("select last_insert_rowid()");
 		} finally {
 			dbLock.unlock();
 		}
@@ -431,12 +853,34 @@ public class TiDatabaseProxy extends KrollProxy
 			if (isClosed) {
 				throw new IllegalStateException("database is closed");
 			}
-			return (int) DatabaseUtils.longForQuery(db, "select changes()", null);
+			return (int) longForConnectionQuery("select changes()");
 		} finally {
 			dbLock.unlock();
 		}
 	}
 
+	/**
+	 * Runs a query whose result depends on the connection it runs on, such as "last_insert_rowid()".
+	 * Must be called while holding the "dbLock".
+	 * @param query SQL query returning a single number.
+	 * @return The query's result.
+	 */
+	private long longForConnectionQuery(String query)
+	{
+		if (!isWalEnabled) {
+			return DatabaseUtils.longForQuery(db, query, null);
+		}
+
+		// In write-ahead logging mode, read-only queries may run on a secondary connection.
+		// A transaction always runs on the primary connection, which executes all writes.
+		db.beginTransactionNonExclusive();
+		try {
+			return DatabaseUtils.longForQuery(db, query, null);
+		} finally {
+			db.endTransaction();
+		}
+	}
+
 	/**
 	 * Remove database from device. This closes and deletes the database.
 	 */
@@ -486,6 +930,59 @@ public class TiDatabaseProxy extends KrollProxy
 		super.release();
 	}
 
+	/**
+	 * LRU cache of compiled statements keyed by SQL text. Evicted statements are closed.
+	 * Must only be accessed while holding the "dbLock".
+	 */
+	private static class StatementCache extends LinkedHashMap<String, SQLiteStatement>
+	{
+		private int maxSize;
+
+		StatementCache(int maxSize)
+		{
+			super(16, 0.75f, true);
+			this.maxSize = maxSize;
+		}
+
+		int getMaxSize()
+		{
+			return maxSize;
+		}
+
+		void setMaxSize(int maxSize)
+		{
+			this.maxSize = maxSize;
+			if (size() > maxSize) {
+				// Access-ordered, so the least recently used statements come first.
+				int removeCount = size() - maxSize;
+				Iterator<Map.Entry<String, SQLiteStatement>> iterator = entrySet().iterator();
+				while ((removeCount-- > 0) && iterator.hasNext()) {
+					iterator.next().getValue().close();
+					iterator.remove();
+				}
+			}
+		}
+
+		@Override
+		public void clear()
+		{
+			for (SQLiteStatement statement : values()) {
+				statement.close();
+			}
+			super.clear();
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, SQLiteStatement> eldest)
+		{
+			if (size() > maxSize) {
+				eldest.getValue().close();
+				return true;
+			}
+			return false;
+		}
+	}
+
 	private static class BatchQueryException extends Exception implements JSError
 	{
 		private final int index;
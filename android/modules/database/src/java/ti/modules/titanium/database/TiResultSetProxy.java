@@ -6,8 +6,13 @@
  */
 package ti.modules.titanium.database;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 
+import org.appcelerator.kroll.KrollDict;
+import org.appcelerator.kroll.KrollFunction;
+import org.appcelerator.kroll.KrollObject;
+import org.appcelerator.kroll.KrollPromise;
 import org.appcelerator.kroll.KrollProxy;
 import org.appcelerator.kroll.annotations.Kroll;
 import org.appcelerator.kroll.common.Log;
@@ -18,29 +23,50 @@ import android.database.AbstractWindowedCursor;
 import android.database.Cursor;
 import android.database.SQLException;
 
+/**
+ * Result set of a query. Asynchronous fetches read the cursor on a database thread, so all cursor access is
+ * synchronized on this proxy.
+ */
 @Kroll.proxy(parentModule = DatabaseModule.class)
 public class TiResultSetProxy extends KrollProxy
 {
 	private static final String TAG = "TiResultSet";
+	private static final String PROPERTY_COLUMNAR = "columnar";
 
 	protected Cursor rs;
 	protected String lastException;
 	protected HashMap<String, Integer> columnNames; // workaround case-sensitive matching in Google's implementation
+	protected String[] fieldNames;
+
+	private final TiDatabaseProxy database;
 
 	public TiResultSetProxy(Cursor rs)
+	{
+		this(null, rs);
+	}
+
+	public TiResultSetProxy(TiDatabaseProxy database, Cursor rs)
 	{
 		super();
 
+		this.database = database;
 		this.rs = rs;
-		String[] names = rs.getColumnNames();
-		this.columnNames = new HashMap<>(names.length);
-		for (int i = 0; i < names.length; i++) {
-			columnNames.put(names[i].toLowerCase(), i);
+		this.fieldNames = rs.getColumnNames();
+		this.columnNames = new HashMap<>(fieldNames.length * 2);
+		for (int i = 0; i < fieldNames.length; i++) {
+			columnNames.put(fieldNames[i].toLowerCase(), i);
+		}
+
+		// Also map the names as-is so that fieldByName() can usually skip lower-casing the requested name.
+		for (String fieldName : fieldNames) {
+			if (!columnNames.containsKey(fieldName)) {
+				columnNames.put(fieldName, columnNames.get(fieldName.toLowerCase()));
+			}
 		}
 	}
 
 	@Kroll.method
-	public void close()
+	public synchronized void close()
 	{
 		if (rs != null && !rs.isClosed()) {
 			Log.d(TAG, "Closing database cursor", Log.DEBUG_MODE);
@@ -90,7 +116,7 @@ public class TiResultSetProxy extends KrollProxy
 	}
 
 	@SuppressWarnings("deprecation")
-	private Object internalGetField(int index, int type)
+	private synchronized Object internalGetField(int index, int type)
 	{
 		if (rs == null) {
 			Log.w(TAG, "Attempted to get field value when no result set is available.");
@@ -192,12 +218,15 @@ public class TiResultSetProxy extends KrollProxy
 		return internalGetFieldByName(name, type);
 	}
 
-	private Object internalGetFieldByName(String fieldName, int type)
+	private synchronized Object internalGetFieldByName(String fieldName, int type)
 	{
 		Object result = null;
 		if (rs != null) {
 			try {
-				Integer ndx = columnNames.get(fieldName.toLowerCase());
+				Integer ndx = columnNames.get(fieldName);
+				if (ndx == null) {
+					ndx = columnNames.get(fieldName.toLowerCase());
+				}
 				if (ndx != null)
 					result = internalGetField(ndx, type);
 			} catch (SQLException e) {
@@ -211,7 +240,7 @@ public class TiResultSetProxy extends KrollProxy
 	}
 
 	@Kroll.getProperty
-	public int getFieldCount()
+	public synchronized int getFieldCount()
 	{
 		if (rs != null) {
 			try {
@@ -232,7 +261,7 @@ public class TiResultSetProxy extends KrollProxy
 	}
 
 	@Kroll.method
-	public String getFieldName(int index)
+	public synchronized String getFieldName(int index)
 	{
 		if (rs != null) {
 			try {
@@ -246,7 +275,7 @@ public class TiResultSetProxy extends KrollProxy
 	}
 
 	@Kroll.getProperty
-	public int getRowCount()
+	public synchronized int getRowCount()
 	{
 		if (rs != null) {
 			return rs.getCount();
@@ -257,7 +286,7 @@ public class TiResultSetProxy extends KrollProxy
 
 	@Kroll.method
 	@Kroll.getProperty
-	public boolean isValidRow()
+	public synchronized boolean isValidRow()
 	{
 		boolean valid = false;
 		if (rs != null && !rs.isClosed() && !rs.isAfterLast()) {
@@ -267,7 +296,7 @@ public class TiResultSetProxy extends KrollProxy
 	}
 
 	@Kroll.method
-	public boolean next()
+	public synchronized boolean next()
 	{
 		if (isValidRow()) {
 			return rs.moveToNext();
@@ -277,6 +306,235 @@ public class TiResultSetProxy extends KrollProxy
 		return false;
 	}
 
+	/**
+	 * Reads the value of a column in the current row using the column's SQLite storage class.
+	 * @param index The column index.
+	 * @return Returns a Long, Double, String, TiBlob or null.
+	 */
+	private Object readValue(int index)
+	{
+		switch (rs.getType(index)) {
+			case Cursor.FIELD_TYPE_INTEGER:
+				return rs.getLong(index);
+			case Cursor.FIELD_TYPE_FLOAT:
+				return rs.getDouble(index);
+			case Cursor.FIELD_TYPE_BLOB:
+				return TiBlob.blobFromData(rs.getBlob(index));
+			case Cursor.FIELD_TYPE_NULL:
+				return null;
+			default:
+				return rs.getString(index);
+		}
+	}
+
+	/**
+	 * Reads up to the given number of rows, starting with the current row, and moves past them.
+	 * @param maxRowCount Maximum number of rows to read. Negative to read all remaining rows.
+	 * @param isColumnar If true, returns a dictionary of column name to array of values.
+	 *                   Otherwise returns an array of row dictionaries keyed by column name.
+	 * @return Returns the fetched rows in the requested format.
+	 */
+	private synchronized Object fetchRows(int maxRowCount, boolean isColumnar)
+	{
+		int columnCount = fieldNames.length;
+		int rowCount = 0;
+		if (isValidRow()) {
+			int remainingRowCount = Math.max(rs.getCount() - rs.getPosition(), 0);
+			rowCount = (maxRowCount < 0) ? remainingRowCount : Math.min(maxRowCount, remainingRowCount);
+		}
+
+		if (isColumnar) {
+			ArrayList<Object[]> columns = new ArrayList<>(columnCount);
+			for (int column = 0; column < columnCount; column++) {
+				columns.add(new Object[rowCount]);
+			}
+			int row = 0;
+			for (; (row < rowCount) && !rs.isAfterLast(); row++, rs.moveToNext()) {
+				for (int column = 0; column < columnCount; column++) {
+					columns.get(column)[row] = readValue(column);
+				}
+			}
+			return createColumnarResult(columns, row);
+		}
+
+		Object[] rows = new Object[rowCount];
+		int row = 0;
+		for (; (row < rowCount) && !rs.isAfterLast(); row++, rs.moveToNext()) {
+			KrollDict rowDict = new KrollDict(columnCount);
+			for (int column = 0; column < columnCount; column++) {
+				rowDict.put(fieldNames[column], readValue(column));
+			}
+			rows[row] = rowDict;
+		}
+		if (row < rowCount) {
+			Object[] trimmedRows = new Object[row];
+			System.arraycopy(rows, 0, trimmedRows, 0, row);
+			rows = trimmedRows;
+		}
+		return rows;
+	}
+
+	/**
+	 * Creates a dictionary of column name to column values.
+	 * Columns holding only integers are converted to a long[] and columns holding only numbers to a double[],
+	 * which cross into JavaScript in one copy. Integers keep the same precision as when fetched per row.
+	 */
+	private KrollDict createColumnarResult(ArrayList<Object[]> columns, int rowCount)
+	{
+		KrollDict result = new KrollDict(fieldNames.length);
+		for (int column = 0; column < columns.size(); column++) {
+			Object[] values = columns.get(column);
+			Object columnValues = (rowCount > 0) ? toNumberArray(values, rowCount) : null;
+			if (columnValues == null) {
+				if (values.length != rowCount) {
+					Object[] trimmedValues = new Object[rowCount];
+					System.arraycopy(values, 0, trimmedValues, 0, rowCount);
+					values = trimmedValues;
+				}
+				columnValues = values;
+			}
+			result.put(fieldNames[column], columnValues);
+		}
+		return result;
+	}
+
+	/**
+	 * @return a long[] if all given values are Long, a double[] if all are numbers, otherwise null.
+	 */
+	private static Object toNumberArray(Object[] values, int count)
+	{
+		boolean isInteger = true;
+		for (int index = 0; index < count; index++) {
+			if (!(values[index] instanceof Number)) {
+				return null;
+			}
+			isInteger &= (values[index] instanceof Long);
+		}
+
+		if (isInteger) {
+			long[] integers = new long[count];
+			for (int index = 0; index < count; index++) {
+				integers[index] = (Long) values[index];
+			}
+			return integers;
+		}
+		double[] numbers = new double[count];
+		for (int index = 0; index < count; index++) {
+			numbers[index] = ((Number) values[index]).doubleValue();
+		}
+		return numbers;
+	}
+
+	private static boolean isColumnar(Object options)
+	{
+		if (options instanceof HashMap) {
+			return TiConvert.toBoolean((HashMap) options, PROPERTY_COLUMNAR, false);
+		}
+		return false;
+	}
+
+	/**
+	 * Fetches all remaining rows, starting with the current row, in a single call.
+	 * The result set is moved past the last row.
+	 * @param options Optional dictionary. Set "columnar" to true to receive values grouped by column.
+	 * @return Returns the fetched rows.
+	 */
+	@Kroll.method
+	public Object fetchAll(@Kroll.argument(optional = true) Object options)
+	{
+		return fetchRows(-1, isColumnar(options));
+	}
+
+	/**
+	 * Fetches up to the given number of rows, starting with the current row, and moves past them.
+	 * Call repeatedly to stream through a large result set in bounded-size pages.
+	 * @param count Maximum number of rows to fetch.
+	 * @param options Optional dictionary. Set "columnar" to true to receive values grouped by column.
+	 * @return Returns the fetched rows. Will be empty once all rows have been fetched.
+	 */
+	@Kroll.method
+	public Object fetchPage(int count, @Kroll.argument(optional = true) Object options)
+	{
+		if (count <= 0) {
+			throw new IllegalArgumentException("'count' parameter must be greater than zero");
+		}
+		return fetchRows(count, isColumnar(options));
+	}
+
+	/**
+	 * Asynchronously fetches all remaining rows on the database's query thread.
+	 * @param args Optional options dictionary followed by an optional callback.
+	 * @return Returns a promise resolved with the fetched rows.
+	 */
+	@Kroll.method
+	public KrollPromise<Object> fetchAllAsync(Object... args)
+	{
+		return fetchRowsAsync(-1, args);
+	}
+
+	/**
+	 * Asynchronously fetches up to the given number of rows on the database's query thread.
+	 * @param count Maximum number of rows to fetch.
+	 * @param args Optional options dictionary followed by an optional callback.
+	 * @return Returns a promise resolved with the fetched rows.
+	 */
+	@Kroll.method
+	public KrollPromise<Object> fetchPageAsync(int count, Object... args)
+	{
+		if (count <= 0) {
+			throw new IllegalArgumentException("'count' parameter must be greater than zero");
+		}
+		return fetchRowsAsync(count, args);
+	}
+
+	private KrollPromise<Object> fetchRowsAsync(final int maxRowCount, Object[] args)
+	{
+		Object options = null;
+		KrollFunction possibleCallback = null;
+		if (args != null) {
+			for (Object arg : args) {
+				if (arg instanceof KrollFunction) {
+					possibleCallback = (KrollFunction) arg;
+				} else if (arg instanceof HashMap) {
+					options = arg;
+				}
+			}
+		}
+
+		final boolean isColumnar = isColumnar(options);
+		final KrollFunction callback = possibleCallback;
+		final KrollObject callbackThisObject = getKrollObject();
+		return KrollPromise.create((promise) -> {
+			Runnable task = () -> {
+				Object result;
+				try {
+					result = fetchRows(maxRowCount, isColumnar);
+				} catch (Throwable t) {
+					if (callback != null) {
+						callback.callAsync(callbackThisObject, new Object[] { t });
+					}
+					promise.reject(t);
+					return;
+				}
+				if (callback != null) {
+					callback.callAsync(callbackThisObject, new Object[] { null, result });
+				}
+				promise.resolve(result);
+			};
+
+			// Drain the cursor in order with queued queries. (Parallel with other reads in write-ahead logging mode.)
+			try {
+				if (database != null) {
+					database.enqueue(task, true);
+				} else {
+					task.run();
+				}
+			} catch (Throwable t) {
+				promise.reject(t);
+			}
+		});
+	}
+
 	@Override
 	public String getApiName()
 	{
@@ -13,6 +13,7 @@ import org.appcelerator.kroll.KrollProxy;
 import org.appcelerator.kroll.annotations.Kroll;
 import org.appcelerator.titanium.TiBlob;
 import org.appcelerator.titanium.TiC;
+import org.appcelerator.titanium.io.TiStream;
 import org.appcelerator.titanium.util.TiConvert;
 
 import java.io.UnsupportedEncodingException;
@@ -41,6 +42,10 @@ public class HTTPClientProxy extends KrollProxy
 	@Kroll.constant
 	public static final int DONE = TiHTTPClient.READY_STATE_DONE;
 	public static final String PROPERTY_SECURITY_MANAGER = "securityManager";
+	public static final String PROPERTY_PRIORITY = "priority";
+	public static final String PROPERTY_STREAM_RESPONSE = "streamResponse";
+	public static final String PROPERTY_STREAM_ENCODING = "streamEncoding";
+	public static final String PROPERTY_STREAM_TARGET = "streamTarget";
 	private static final String TAG = "TiHTTPClientProxy";
 	private TiHTTPClient client;
 
@@ -69,6 +74,22 @@ public class HTTPClientProxy extends KrollProxy
 			client.setAutoRedirect(TiConvert.toBoolean((getProperty(TiC.PROPERTY_AUTO_REDIRECT)), true));
 		}
 
+		if (hasProperty(PROPERTY_PRIORITY)) {
+			client.setPriority(TiConvert.toInt(getProperty(PROPERTY_PRIORITY), 0));
+		}
+
+		if (hasProperty(PROPERTY_STREAM_RESPONSE)) {
+			client.setStreamResponse(TiConvert.toBoolean(getProperty(PROPERTY_STREAM_RESPONSE), false));
+		}
+
+		if (hasProperty(PROPERTY_STREAM_ENCODING)) {
+			client.setStreamEncoding(TiConvert.toString(getProperty(PROPERTY_STREAM_ENCODING)));
+		}
+
+		if (hasProperty(PROPERTY_STREAM_TARGET)) {
+			setStreamTarget(getProperty(PROPERTY_STREAM_TARGET));
+		}
+
 		if (hasProperty(TiC.PROPERTY_AUTO_ENCODE_URL)) {
 			client.setAutoEncodeUrl(TiConvert.toBoolean((getProperty(TiC.PROPERTY_AUTO_ENCODE_URL)), true));
 		}
@@ -316,6 +337,60 @@ public class HTTPClientProxy extends KrollProxy
 		client.setTlsVersion(tlsVersion);
 	}
 
+	@Kroll.getProperty
+	public int getPriority()
+	{
+		return client.getPriority();
+	}
+
+	@Kroll.setProperty
+	public void setPriority(int priority)
+	{
+		client.setPriority(priority);
+	}
+
+	@Kroll.getProperty
+	public boolean getStreamResponse()
+	{
+		return client.getStreamResponse();
+	}
+
+	@Kroll.setProperty
+	public void setStreamResponse(boolean value)
+	{
+		client.setStreamResponse(value);
+	}
+
+	@Kroll.getProperty
+	public String getStreamEncoding()
+	{
+		return client.getStreamEncoding();
+	}
+
+	@Kroll.setProperty
+	public void setStreamEncoding(String value)
+	{
+		client.setStreamEncoding(value);
+	}
+
+	@Kroll.getProperty
+	public Object getStreamTarget()
+	{
+		return client.getStreamTarget();
+	}
+
+	@Kroll.setProperty
+	public void setStreamTarget(Object value)
+	{
+		if ((value != null) && !(value instanceof TiStream)) {
+			throw new IllegalArgumentException("Invalid argument passed to streamTarget property. Must be a stream.");
+		}
+		if ((value != null) && !((TiStream) value).isWritable()) {
+			throw new IllegalArgumentException("Invalid argument passed to streamTarget property. Must be writable.");
+		}
+		client.setStreamTarget((TiStream) value);
+	}
+
 	@Override
 	public String getApiName()
 	{
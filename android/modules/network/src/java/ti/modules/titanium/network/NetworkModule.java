@@ -492,6 +492,17 @@ public class NetworkModule extends KrollModule
 		cookieStore.removeAll();
 	}
 
+	/**
+	 * Returns the state of the shared HTTP request dispatcher, such as the number of queued and in-flight
+	 * requests and how long requests to each host have waited for a worker thread.
+	 * @return Dictionary of metrics.
+	 */
+	@Kroll.method
+	public KrollDict getHTTPClientMetrics()
+	{
+		return TiHTTPDispatcher.getInstance().getMetrics();
+	}
+
 	/**
 	 * Returns true if push notifications are allowed in the app settings
 	 * @return boolean if push notifications are allowed in the app settings
@@ -33,13 +33,16 @@ import java.nio.CharBuffer;
 import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.zip.GZIPInputStream;
@@ -55,6 +58,7 @@ import javax.net.ssl.TrustManager;
 import android.util.Base64;
 import org.appcelerator.kroll.KrollDict;
 import org.appcelerator.kroll.common.Log;
+import org.appcelerator.kroll.common.TiMessenger;
 import org.appcelerator.titanium.TiApplication;
 import org.appcelerator.titanium.TiBlob;
 import org.appcelerator.titanium.TiC;
@@ -63,12 +67,14 @@ import org.appcelerator.titanium.io.TiBaseFile;
 import org.appcelerator.titanium.io.TiFile;
 import org.appcelerator.titanium.io.TiFileFactory;
 import org.appcelerator.titanium.io.TiResourceFile;
+import org.appcelerator.titanium.io.TiStream;
 import org.appcelerator.titanium.util.TiConvert;
 import org.appcelerator.titanium.util.TiMimeTypeHelper;
 import org.appcelerator.titanium.util.TiPlatformHelper;
 import org.appcelerator.titanium.util.TiUrl;
 import org.json.JSONObject;
 
+import ti.modules.titanium.BufferProxy;
 import ti.modules.titanium.network.httpurlconnection.ContentBody;
 import ti.modules.titanium.network.httpurlconnection.Entity;
 import ti.modules.titanium.network.httpurlconnection.FileEntity;
@@ -97,12 +103,13 @@ public class TiHTTPClient
 		+ "; Android API Level: " + Integer.toString(Build.VERSION.SDK_INT) + "; "
 		+ TiPlatformHelper.getInstance().getLocale() + ";)";
 	private static final String[] FALLBACK_CHARSETS = { "UTF_8", "ISO_8859_1" };
+	private static final int STREAM_CHUNK_SIZE = 64 * 1024;
+	private static final int MAX_PENDING_STREAM_CHUNKS = 4;
 
 	// Regular expressions for detecting charset information in response documents (ex: html, xml).
 	private static final String HTML_META_TAG_REGEX = "charset=([^\"\']*)";
 	private static final String XML_DECLARATION_TAG_REGEX = "encoding=[\"\']([^\"\']*)[\"\']";
 
-	private static AtomicInteger httpClientThreadCounter;
 	private HttpURLConnection client;
 	private HTTPClientProxy proxy;
 	private int readyState;
@@ -120,8 +127,15 @@ public class TiHTTPClient
 	private long maxBufferSize;
 	private Object data;
 	private boolean needMultipart;
-	private Thread clientThread;
-	private boolean aborted;
+	private TiHTTPDispatcher.Call clientCall;
+	private int priority = 0;
+	private boolean streamResponse = false;
+	private String streamEncoding;
+	private TiStream streamTarget;
+	private CharsetDecoder streamDecoder;
+	private ByteBuffer streamPendingBytes;
+	private final Semaphore streamChunkPermits = new Semaphore(MAX_PENDING_STREAM_CHUNKS);
+	private volatile boolean aborted;
 	private int timeout = -1;
 	private boolean autoEncodeUrl = true;
 	private boolean autoRedirect = true;
@@ -259,13 +273,26 @@ public class TiHTTPClient
 				
 				int count = 0;
 				long totalSize = 0;
-				byte[] buf = new byte[8192];
+				boolean isStreaming = isStreamingResponse();
+				byte[] buf = new byte[isStreaming ? STREAM_CHUNK_SIZE : 8192];
+				BufferProxy bufferProxy = null;
+				if (isStreaming) {
+					startStreamingEntityData();
+					if (streamTarget != null) {
+						// Wraps the read buffer as is. Chunks are piped to the target without being copied.
+						bufferProxy = new BufferProxy(buf);
+					}
+				}
 			
 				while ((count = is.read(buf)) != -1) {
 					if (aborted) {
 						break;
 					}
 					totalSize += count;
+					if (isStreaming) {
+						handleStreamedEntityData(buf, bufferProxy, count, totalSize, contentLength);
+						continue;
+					}
 					try {
 						handleEntityData(buf, count, totalSize, contentLength);
 					} catch (IOException e) {
@@ -273,9 +300,18 @@ public class TiHTTPClient
 					}
 				}
 
-				if (totalSize > 0) {
+				if (isStreaming) {
+					finishedStreamingEntityData(totalSize, contentLength);
+				} else if (totalSize > 0) {
 					finishedReceivingEntityData(totalSize);
 				}
+
+				// Closing the fully read stream releases the connection back to the keep-alive pool.
+				try {
+					is.close();
+				} catch (IOException e) {
+					// Ignore...
+				}
 			}
 		}
 	}
@@ -320,7 +356,7 @@ public class TiHTTPClient
 		BufferedInputStream bufferedInput = new BufferedInputStream(blob.getInputStream());
 		BufferedOutputStream bufferedOutput = new BufferedOutputStream(new FileOutputStream(file));
 
-		byte[] buffer = new byte[1024 * 1024 * 8]; // 8MB buffer
+		byte[] buffer = new byte[64 * 1024]; // 64KB buffer
 		int available = -1;
 		while ((available = bufferedInput.read(buffer)) > 0) {
 			bufferedOutput.write(buffer, 0, available);
@@ -366,6 +402,132 @@ public class TiHTTPClient
 		dispatchCallback(TiC.PROPERTY_ONDATASTREAM, callbackData);
 	}
 
+	/**
+	 * Determines if the response body is delivered in chunks to the "ondatastream" callback and/or the
+	 * "streamTarget" instead of being buffered into "responseData" and "responseText".
+	 */
+	private boolean isStreamingResponse()
+	{
+		return streamResponse || (streamTarget != null);
+	}
+
+	private void startStreamingEntityData()
+	{
+		streamChunkPermits.drainPermits();
+		streamChunkPermits.release(MAX_PENDING_STREAM_CHUNKS);
+		streamPendingBytes = null;
+		streamDecoder = null;
+		if ((streamTarget == null) && (streamEncoding != null)) {
+			Charset streamCharset;
+			try {
+				streamCharset = Charset.forName(streamEncoding);
+			} catch (IllegalArgumentException e) {
+				Log.w(TAG, "Unknown streamEncoding '" + streamEncoding + "'. Using UTF-8 instead.");
+				streamCharset = StandardCharsets.UTF_8;
+			}
+			streamDecoder = streamCharset.newDecoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		}
+	}
+
+	private void handleStreamedEntityData(
+		byte[] data, BufferProxy bufferProxy, int size, long totalSize, long contentLength) throws IOException
+	{
+		KrollDict callbackData = new KrollDict();
+		callbackData.put("totalCount", contentLength);
+		callbackData.put("totalSize", totalSize);
+		callbackData.put(TiC.PROPERTY_SIZE, size);
+
+		// return progress as -1 if it is outside the valid range
+		double progress = ((double) totalSize) / ((double) contentLength);
+		if (progress > 1 || progress < 0) {
+			progress = NetworkModule.PROGRESS_UNKNOWN;
+		}
+		callbackData.put("progress", progress);
+
+		if (streamTarget != null) {
+			// Pipe the chunk straight into the target stream. The callback only receives progress.
+			streamTarget.writeSync(bufferProxy, 0, size);
+		} else if (streamDecoder != null) {
+			callbackData.put("text", decodeStreamedData(data, size, false));
+		} else {
+			callbackData.put("data", new BufferProxy(Arrays.copyOf(data, size)));
+		}
+
+		dispatchStreamCallback(callbackData);
+	}
+
+	private void finishedStreamingEntityData(long totalSize, long contentLength)
+	{
+		// Flush any bytes left over from an incomplete multi-byte character.
+		if ((streamDecoder != null) && (streamPendingBytes != null) && !aborted) {
+			KrollDict callbackData = new KrollDict();
+			callbackData.put("totalCount", contentLength);
+			callbackData.put("totalSize", totalSize);
+			callbackData.put(TiC.PROPERTY_SIZE, 0);
+			callbackData.put("progress", 1.0);
+			callbackData.put("text", decodeStreamedData(new byte[0], 0, true));
+			dispatchStreamCallback(callbackData);
+		}
+		streamDecoder = null;
+		streamPendingBytes = null;
+	}
+
+	/**
+	 * Decodes the given chunk, holding back trailing bytes of a character split across chunks.
+	 */
+	private String decodeStreamedData(byte[] data, int size, boolean isEndOfInput)
+	{
+		ByteBuffer input;
+		if (streamPendingBytes != null) {
+			input = ByteBuffer.allocate(streamPendingBytes.remaining() + size);
+			input.put(streamPendingBytes).put(data, 0, size);
+			input.flip();
+		} else {
+			input = ByteBuffer.wrap(data, 0, size);
+		}
+
+		CharBuffer output = CharBuffer.allocate((int) (input.remaining() * streamDecoder.maxCharsPerByte()) + 2);
+		streamDecoder.decode(input, output, isEndOfInput);
+		if (isEndOfInput) {
+			streamDecoder.flush(output);
+		}
+		output.flip();
+
+		streamPendingBytes = null;
+		if (input.hasRemaining()) {
+			streamPendingBytes = ByteBuffer.allocate(input.remaining());
+			streamPendingBytes.put(input);
+			streamPendingBytes.flip();
+		}
+		return output.toString();
+	}
+
+	/**
+	 * Invokes the "ondatastream" callback with a streamed chunk, asynchronously like all other callbacks.
+	 * Blocks the calling network thread only while too many chunks are still waiting to be handled in
+	 * JavaScript, so a slow consumer throttles the download instead of buffering it in memory.
+	 */
+	private void dispatchStreamCallback(KrollDict data)
+	{
+		try {
+			while (!streamChunkPermits.tryAcquire(100, TimeUnit.MILLISECONDS)) {
+				if (aborted) {
+					return;
+				}
+			}
+		} catch (InterruptedException e) {
+			return;
+		}
+
+		data.put("source", proxy);
+		proxy.callPropertyAsync(TiC.PROPERTY_ONDATASTREAM, new Object[] { data });
+
+		// Runtime messages are handled in order, so the permit is released once the callback has run.
+		TiMessenger.postOnRuntime(streamChunkPermits::release);
+	}
+
 	private void finishedReceivingEntityData(long contentLength) throws IOException
 	{
 		if (responseOut == null) {
@@ -441,9 +603,6 @@ public class TiHTTPClient
 	public TiHTTPClient(HTTPClientProxy proxy)
 	{
 		this.proxy = proxy;
-		if (httpClientThreadCounter == null) {
-			httpClientThreadCounter = new AtomicInteger();
-		}
 		readyState = 0;
 		connected = false;
 		this.nvPairs = new ArrayList<>();
@@ -727,6 +886,13 @@ public class TiHTTPClient
 		if (readyState > READY_STATE_UNSENT && readyState < READY_STATE_DONE) {
 			aborted = true;
 
+			// If the request is still waiting to be executed, remove it from the dispatcher's queue.
+			if (TiHTTPDispatcher.getInstance().cancel(clientCall)) {
+				clientCall = null;
+				requestPending = false;
+				deleteTmpFiles();
+			}
+
 			try {
 				if (client != null) {
 					client.disconnect();
@@ -1237,9 +1403,8 @@ public class TiHTTPClient
 		Log.d(TAG, "Instantiating http request with method='" + method + "' and this url:", Log.DEBUG_MODE);
 		Log.d(TAG, this.url, Log.DEBUG_MODE);
 
-		clientThread = new Thread(new ClientRunnable(), "TiHttpClient-" + httpClientThreadCounter.incrementAndGet());
-		clientThread.setPriority(Thread.MIN_PRIORITY);
-		clientThread.start();
+		// Execute the request on the shared dispatcher's worker threads.
+		clientCall = TiHTTPDispatcher.getInstance().enqueue(uri.getHost(), priority, new ClientRunnable());
 
 		Log.d(TAG, "Leaving send()", Log.DEBUG_MODE);
 	}
@@ -1259,8 +1424,8 @@ public class TiHTTPClient
 
 		public void run()
 		{
+			boolean isConnectionReusable = false;
 			try {
-				Thread.sleep(10);
 				Log.d(TAG, "send()", Log.DEBUG_MODE);
 				//If there are any custom authentication factories registered with the client add them here
 				/*
@@ -1411,6 +1576,9 @@ public class TiHTTPClient
 						}
 					}
 					handleResponse(client);
+
+					// The response has been fully read. Leave the connection open so it can be kept alive.
+					isConnectionReusable = !aborted;
 				} catch (IOException e) {
 					if (!aborted) {
 						KrollDict data = new KrollDict();
@@ -1425,7 +1593,7 @@ public class TiHTTPClient
 						return;
 					}
 				} finally {
-					if (client != null) {
+					if ((client != null) && !isConnectionReusable) {
 						client.disconnect();
 					}
 				}
@@ -1468,10 +1636,10 @@ public class TiHTTPClient
 			} finally {
 				deleteTmpFiles();
 
-				//Clean up client and clientThread
+				//Clean up client and clientCall
 
 				client = null;
-				clientThread = null;
+				clientCall = null;
 				// Fire the disposehandle event if the request is finished successfully or the errors occur.
 				// And it will dispose the handle of the httpclient in the JS.
 				proxy.fireEvent(TiC.EVENT_DISPOSE_HANDLE, null);
@@ -1632,6 +1800,46 @@ public class TiHTTPClient
 		timeout = millis;
 	}
 
+	public int getPriority()
+	{
+		return priority;
+	}
+
+	public boolean getStreamResponse()
+	{
+		return streamResponse;
+	}
+
+	public void setStreamResponse(boolean streamResponse)
+	{
+		this.streamResponse = streamResponse;
+	}
+
+	public String getStreamEncoding()
+	{
+		return streamEncoding;
+	}
+
+	public void setStreamEncoding(String streamEncoding)
+	{
+		this.streamEncoding = streamEncoding;
+	}
+
+	public TiStream getStreamTarget()
+	{
+		return streamTarget;
+	}
+
+	public void setStreamTarget(TiStream streamTarget)
+	{
+		this.streamTarget = streamTarget;
+	}
+
+	public void setPriority(int priority)
+	{
+		this.priority = priority;
+	}
+
 	protected void setAutoEncodeUrl(boolean value)
 	{
 		autoEncodeUrl = value;
@@ -0,0 +1,284 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present. All Rights Reserved.
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package ti.modules.titanium.network;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.appcelerator.kroll.KrollDict;
+import org.appcelerator.kroll.common.Log;
+import org.appcelerator.titanium.TiApplication;
+
+import android.os.Process;
+import android.os.SystemClock;
+
+/**
+ * Runs HTTP requests on a shared pool of worker threads instead of one new thread per request.
+ * <p>
+ * At most "maxConcurrentRequests" requests run at the same time, and at most "maxRequestsPerHost" of them
+ * to the same host, which lets HttpURLConnection reuse its pooled keep-alive connections instead of opening
+ * new ones. Requests beyond these limits wait in a queue and are started in priority order, then in the
+ * order they were sent.
+ * <p>
+ * Limits can be configured via the "ti.android.httpclient.maxconcurrentrequests" and
+ * "ti.android.httpclient.maxrequestsperhost" application properties.
+ */
+public final class TiHTTPDispatcher
+{
+	private static final String TAG = "TiHTTPDispatcher";
+	private static final String PROPERTY_MAX_CONCURRENT_REQUESTS = "ti.android.httpclient.maxconcurrentrequests";
+	private static final String PROPERTY_MAX_REQUESTS_PER_HOST = "ti.android.httpclient.maxrequestsperhost";
+	private static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 16;
+	private static final int DEFAULT_MAX_REQUESTS_PER_HOST = 6;
+	private static final long IDLE_THREAD_TIMEOUT_SECONDS = 60;
+
+	private static TiHTTPDispatcher instance;
+
+	private final int maxConcurrentRequests;
+	private final int maxRequestsPerHost;
+	private final ExecutorService executor;
+	private final AtomicInteger threadCounter = new AtomicInteger();
+
+	// All fields below are guarded by "this".
+	private final PriorityQueue<Call> readyCalls = new PriorityQueue<>();
+	private final HashMap<String, HostInfo> hosts = new HashMap<>();
+	private long callCounter = 0;
+	private int runningCallCount = 0;
+	private long completedCallCount = 0;
+
+	/** A request waiting for, or running on, a worker thread. */
+	public static final class Call implements Comparable<Call>
+	{
+		private final String host;
+		private final int priority;
+		private final long sequence;
+		private final long enqueueTime;
+		private final Runnable task;
+
+		private Call(String host, int priority, long sequence, Runnable task)
+		{
+			this.host = host;
+			this.priority = priority;
+			this.sequence = sequence;
+			this.enqueueTime = SystemClock.elapsedRealtime();
+			this.task = task;
+		}
+
+		@Override
+		public int compareTo(Call other)
+		{
+			// Higher priorities first. Equal priorities in the order they were enqueued.
+			if (this.priority != other.priority) {
+				return (this.priority > other.priority) ? -1 : 1;
+			}
+			return Long.compare(this.sequence, other.sequence);
+		}
+	}
+
+	/** Per-host request counts and wait time statistics. */
+	private static final class HostInfo
+	{
+		int queuedCount;
+		int runningCount;
+		long startedCount;
+		long totalWaitTime;
+		long maxWaitTime;
+	}
+
+	private TiHTTPDispatcher(int maxConcurrentRequests, int maxRequestsPerHost)
+	{
+		this.maxConcurrentRequests = Math.max(1, maxConcurrentRequests);
+		this.maxRequestsPerHost = Math.max(1, Math.min(maxRequestsPerHost, this.maxConcurrentRequests));
+
+		// The number of running requests is limited by promoteCalls(), not by the thread pool.
+		// Threads are created on demand and terminated after being idle for a while.
+		this.executor = new ThreadPoolExecutor(
+			0, Integer.MAX_VALUE, IDLE_THREAD_TIMEOUT_SECONDS, TimeUnit.SECONDS, new SynchronousQueue<>(),
+			(runnable) -> {
+				Thread thread = new Thread(() -> {
+					Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+					runnable.run();
+				}, "TiHttpClient-" + threadCounter.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+	}
+
+	/**
+	 * @return the shared dispatcher used by all HTTP clients.
+	 */
+	public static synchronized TiHTTPDispatcher getInstance()
+	{
+		if (instance == null) {
+			int maxConcurrentRequests = DEFAULT_MAX_CONCURRENT_REQUESTS;
+			int maxRequestsPerHost = DEFAULT_MAX_REQUESTS_PER_HOST;
+			TiApplication application = TiApplication.getInstance();
+			if (application != null) {
+				maxConcurrentRequests = application.getAppProperties().getInt(
+					PROPERTY_MAX_CONCURRENT_REQUESTS, DEFAULT_MAX_CONCURRENT_REQUESTS);
+				maxRequestsPerHost = application.getAppProperties().getInt(
+					PROPERTY_MAX_REQUESTS_PER_HOST, DEFAULT_MAX_REQUESTS_PER_HOST);
+			}
+			instance = new TiHTTPDispatcher(maxConcurrentRequests, maxRequestsPerHost);
+		}
+		return instance;
+	}
+
+	/**
+	 * Queues the given task to run on a worker thread once the concurrency limits allow it.
+	 * @param host the host name the request is sent to. Used for per-host limits. Can be null.
+	 * @param priority requests with higher priorities are started first.
+	 * @param task the request to execute.
+	 * @return a handle which can be passed to {@link #cancel(Call)}.
+	 */
+	public Call enqueue(String host, int priority, Runnable task)
+	{
+		if (host == null) {
+			host = "";
+		}
+		Call call;
+		synchronized (this)
+		{
+			call = new Call(host, priority, callCounter++, task);
+			readyCalls.add(call);
+			getHostInfo(host).queuedCount++;
+		}
+		promoteCalls();
+		return call;
+	}
+
+	/**
+	 * Removes the given call from the queue if it has not started yet.
+	 * @param call the handle returned by {@link #enqueue(String, int, Runnable)}.
+	 * @return true if the call was removed and will never run. false if it is running or has already finished.
+	 */
+	public synchronized boolean cancel(Call call)
+	{
+		if ((call == null) || !readyCalls.remove(call)) {
+			return false;
+		}
+		getHostInfo(call.host).queuedCount--;
+		return true;
+	}
+
+	/**
+	 * @return the current queue depth, in-flight count and per-host wait times.
+	 */
+	public synchronized KrollDict getMetrics()
+	{
+		KrollDict hostMetrics = new KrollDict();
+		for (Map.Entry<String, HostInfo> entry : hosts.entrySet()) {
+			HostInfo info = entry.getValue();
+			KrollDict dict = new KrollDict();
+			dict.put("queued", info.queuedCount);
+			dict.put("inFlight", info.runningCount);
+			dict.put("started", info.startedCount);
+			dict.put("averageWaitTime", (info.startedCount > 0) ? (info.totalWaitTime / info.startedCount) : 0);
+			dict.put("maxWaitTime", info.maxWaitTime);
+			hostMetrics.put(entry.getKey(), dict);
+		}
+
+		KrollDict metrics = new KrollDict();
+		metrics.put("queued", readyCalls.size());
+		metrics.put("inFlight", runningCallCount);
+		metrics.put("completed", completedCallCount);
+		metrics.put("maxConcurrentRequests", maxConcurrentRequests);
+		metrics.put("maxRequestsPerHost", maxRequestsPerHost);
+		metrics.put("hosts", hostMetrics);
+		return metrics;
+	}
+
+	/** Must be called while synchronized on "this". */
+	private HostInfo getHostInfo(String host)
+	{
+		HostInfo info = hosts.get(host);
+		if (info == null) {
+			info = new HostInfo();
+			hosts.put(host, info);
+		}
+		return info;
+	}
+
+	/**
+	 * Starts as many queued calls as the concurrency limits allow, highest priority first.
+	 */
+	private void promoteCalls()
+	{
+		synchronized (this)
+		{
+			if (readyCalls.isEmpty() || (runningCallCount >= maxConcurrentRequests)) {
+				return;
+			}
+
+			// Calls blocked by their host's limit are skipped, letting calls to other hosts run meanwhile.
+			// A PriorityQueue's iterator is unordered, so poll in order and put skipped calls back afterwards.
+			PriorityQueue<Call> skippedCalls = null;
+			Call call;
+			while ((runningCallCount < maxConcurrentRequests) && ((call = readyCalls.poll()) != null)) {
+				HostInfo info = getHostInfo(call.host);
+				if (info.runningCount >= maxRequestsPerHost) {
+					if (skippedCalls == null) {
+						skippedCalls = new PriorityQueue<>();
+					}
+					skippedCalls.add(call);
+					continue;
+				}
+
+				long waitTime = SystemClock.elapsedRealtime() - call.enqueueTime;
+				info.queuedCount--;
+				info.runningCount++;
+				info.startedCount++;
+				info.totalWaitTime += waitTime;
+				info.maxWaitTime = Math.max(info.maxWaitTime, waitTime);
+				runningCallCount++;
+				execute(call);
+			}
+			if (skippedCalls != null) {
+				readyCalls.addAll(skippedCalls);
+			}
+		}
+	}
+
+	/** Must be called while synchronized on "this". */
+	private void execute(final Call call)
+	{
+		try {
+			executor.execute(() -> {
+				try {
+					call.task.run();
+				} catch (Throwable t) {
+					Log.e(TAG, "Unhandled exception while executing HTTP request", t);
+				} finally {
+					finished(call);
+				}
+			});
+		} catch (Exception e) {
+			// Should never happen since the executor has no thread limit. Count it as finished anyways.
+			Log.e(TAG, "Failed to start HTTP request", e);
+			HostInfo info = getHostInfo(call.host);
+			info.runningCount--;
+			runningCallCount--;
+		}
+	}
+
+	private void finished(Call call)
+	{
+		synchronized (this)
+		{
+			getHostInfo(call.host).runningCount--;
+			runningCallCount--;
+			completedCallCount++;
+		}
+		promoteCalls();
+	}
+}
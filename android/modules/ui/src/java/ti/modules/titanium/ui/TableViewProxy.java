@@ -7,6 +7,7 @@
 package ti.modules.titanium.ui;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 
@@ -72,6 +73,14 @@ public class TableViewProxy extends RecyclerViewProxy
 
 	private boolean shouldUpdate = true;
 
+	// Pending update of TableView, applied once after all changes made in the same JavaScript turn.
+	private final Runnable updateRunnable = this::flushUpdate;
+	private boolean isUpdatePending = false;
+	private boolean isFullUpdatePending = false;
+	private boolean isForceUpdatePending = false;
+	private TableViewSectionProxy appendedSection = null;
+	private final List<TableViewRowProxy> appendedRows = new ArrayList<>();
+
 	public TableViewProxy()
 	{
 		super();
@@ -158,6 +167,12 @@ public class TableViewProxy extends RecyclerViewProxy
 			return;
 		}
 
+		// Rows appended to an existing non-empty section can be inserted without updating other rows.
+		final TableViewSectionProxy lastSection =
+			this.sections.isEmpty() ? null : this.sections.get(this.sections.size() - 1);
+		final int lastSectionRowCount = lastSection != null ? lastSection.getRowCount() : 0;
+		boolean isAppendOnly = lastSectionRowCount > 0;
+
 		// Prevent updating rows during iteration.
 		shouldUpdate = false;
 
@@ -179,6 +194,7 @@ public class TableViewProxy extends RecyclerViewProxy
 
 				section.setParent(this);
 				this.sections.add(section);
+				isAppendOnly = false;
 			}
 
 			// Obtain last section.
@@ -198,7 +214,12 @@ public class TableViewProxy extends RecyclerViewProxy
 
 		// don't update when coming from setData loop
 		if (!internalUpdate) {
-			update();
+			if (isAppendOnly) {
+				final TableViewRowProxy[] sectionRows = lastSection.getRows();
+				update(lastSection, Arrays.asList(sectionRows).subList(lastSectionRowCount, sectionRows.length));
+			} else {
+				update();
+			}
 		}
 	}
 
@@ -295,7 +316,9 @@ public class TableViewProxy extends RecyclerViewProxy
 				// Allow updating rows after move operation.
 				shouldUpdate = true;
 
+				// Move the row in adapter immediately, as expected by the drag-and-drop gesture.
 				update();
+				flushUpdate();
 				return tableView.getAdapterIndex(fromItem);
 			}
 		}
@@ -547,6 +570,9 @@ public class TableViewProxy extends RecyclerViewProxy
 	 */
 	private TableViewRowProxy getRowByIndex(int index)
 	{
+		// Row indexes are assigned when updating TableView.
+		flushUpdate();
+
 		for (TableViewSectionProxy section : this.sections) {
 			for (TableViewRowProxy row : section.rows) {
 				if (row.index == index) {
@@ -607,6 +633,14 @@ public class TableViewProxy extends RecyclerViewProxy
 	 * @return TiTableView
 	 */
 	public TiTableView getTableView()
+	{
+		// Apply pending changes before accessing rows.
+		flushUpdate();
+
+		return peekTableView();
+	}
+
+	private TiTableView peekTableView()
 	{
 		final TiUITableView view = (TiUITableView) this.view;
 
@@ -1006,23 +1040,79 @@ public class TableViewProxy extends RecyclerViewProxy
 
 	/**
 	 * Notify TableView to update all adapter rows.
+	 * Updates are applied once after the current JavaScript turn, or when TableView is next accessed.
 	 */
 	public void update(boolean force)
 	{
-		if (!shouldUpdate) {
+		if (!shouldUpdate || peekTableView() == null) {
 			return;
 		}
-		final TiTableView tableView = getTableView();
-
-		if (tableView != null) {
-			tableView.update(force);
-		}
+		this.isFullUpdatePending = true;
+		this.isForceUpdatePending |= force;
+		scheduleUpdate();
 	}
 	public void update()
 	{
 		this.update(false);
 	}
 
+	/**
+	 * Notify TableView of rows appended to a section, which are inserted without updating other rows
+	 * unless other changes are made in the same JavaScript turn.
+	 *
+	 * @param section Section the rows were appended to.
+	 * @param rows    Appended rows.
+	 */
+	private void update(TableViewSectionProxy section, List<TableViewRowProxy> rows)
+	{
+		if (!shouldUpdate || peekTableView() == null) {
+			return;
+		}
+		if (this.appendedSection != null && this.appendedSection != section) {
+			this.isFullUpdatePending = true;
+		}
+		this.appendedSection = section;
+		this.appendedRows.addAll(rows);
+		scheduleUpdate();
+	}
+
+	private void scheduleUpdate()
+	{
+		if (!this.isUpdatePending) {
+			this.isUpdatePending = true;
+			getMainHandler().post(this.updateRunnable);
+		}
+	}
+
+	/**
+	 * Apply pending updates to TableView.
+	 */
+	private void flushUpdate()
+	{
+		if (!this.isUpdatePending) {
+			return;
+		}
+		final boolean isFullUpdate = this.isFullUpdatePending;
+		final boolean force = this.isForceUpdatePending;
+		final TableViewSectionProxy section = this.appendedSection;
+		final List<TableViewRowProxy> rows = new ArrayList<>(this.appendedRows);
+
+		this.isUpdatePending = false;
+		this.isFullUpdatePending = false;
+		this.isForceUpdatePending = false;
+		this.appendedSection = null;
+		this.appendedRows.clear();
+		getMainHandler().removeCallbacks(this.updateRunnable);
+
+		final TiTableView tableView = peekTableView();
+		if (tableView == null) {
+			return;
+		}
+		if (isFullUpdate || !tableView.appendRows(section, rows)) {
+			tableView.update(force);
+		}
+	}
+
 	/**
 	 * Update row at specified table index.
 	 *
@@ -6,18 +6,21 @@
  */
 package ti.modules.titanium.ui.android;
 
+import org.appcelerator.kroll.KrollDict;
 import org.appcelerator.kroll.KrollModule;
 import org.appcelerator.kroll.annotations.Kroll;
 import org.appcelerator.kroll.common.Log;
 
 import org.appcelerator.titanium.TiApplication;
 import org.appcelerator.titanium.proxy.ColorProxy;
+import org.appcelerator.titanium.util.TiBitmapCache;
 import org.appcelerator.titanium.util.TiColorHelper;
 import org.appcelerator.titanium.util.TiConvert;
 import org.appcelerator.titanium.util.TiUIHelper;
 import org.appcelerator.titanium.view.TiUIView;
 
 import ti.modules.titanium.ui.UIModule;
+import ti.modules.titanium.ui.widget.TiImageAnimationEngine;
 import ti.modules.titanium.ui.widget.TiUIProgressIndicator;
 import ti.modules.titanium.ui.widget.webview.TiUIWebView;
 
@@ -354,6 +357,18 @@ public class AndroidModule extends KrollModule
 		TiApplication.getAppRootOrCurrentActivity().moveTaskToBack(true);
 	}
 
+	@Kroll.method
+	public KrollDict getImageCacheStats()
+	{
+		return TiBitmapCache.getInstance().getStats();
+	}
+
+	@Kroll.method
+	public KrollDict getImageAnimationStats()
+	{
+		return new KrollDict(TiImageAnimationEngine.getInstance().getStats());
+	}
+
 	@Override
 	public String getApiName()
 	{
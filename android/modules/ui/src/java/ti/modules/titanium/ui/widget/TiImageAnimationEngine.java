@@ -0,0 +1,554 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present. All Rights Reserved.
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package ti.modules.titanium.ui.widget;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.appcelerator.kroll.common.Log;
+import org.appcelerator.titanium.util.TiBitmapCache;
+import org.appcelerator.titanium.util.TiExifOrientation;
+import org.appcelerator.titanium.view.TiDrawableReference;
+
+import android.graphics.Bitmap;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Process;
+import android.util.SparseArray;
+import android.view.Choreographer;
+import android.view.View;
+import android.view.ViewTreeObserver;
+import androidx.annotation.NonNull;
+
+/**
+ * Plays the frame sequences of all animated ImageViews from a single {@link Choreographer} callback.
+ * <p>
+ * Frames are decoded a few frames ahead on a small decoder pool shared by all sequences. Decoded frames are
+ * handed back to {@link TiBitmapCache} once replaced on screen, so that following frames are decoded into
+ * the same bitmaps. Sequences of views which are detached or hidden are suspended until shown again.
+ * <p>
+ * Sequences must be created and controlled on the main thread.
+ */
+public final class TiImageAnimationEngine implements Choreographer.FrameCallback
+{
+	public interface Listener {
+		/** Called once the first frames have been decoded. */
+		void onAnimationLoad();
+		/** Called when the frame at given index of the sequence is due to be shown. Bitmap can be null. */
+		void onAnimationFrame(Bitmap bitmap, int index);
+		/** Called when the last frame of the last repetition has been shown. */
+		void onAnimationFinished();
+	}
+
+	private static final String TAG = "TiImageAnimationEngine";
+	private static final int DECODE_AHEAD_COUNT = 3;
+	private static final int MAX_DECODER_COUNT = 2;
+
+	private final ThreadPoolExecutor decoderPool;
+	private final AtomicInteger decoderThreadCounter = new AtomicInteger();
+	private final Handler handler;
+	private final ArrayList<FrameSequence> sequences = new ArrayList<>();
+	private boolean isFrameCallbackPosted;
+
+	private final AtomicLong framesShown = new AtomicLong();
+	private final AtomicLong framesDropped = new AtomicLong();
+	private final AtomicLong suspensions = new AtomicLong();
+	private final AtomicLong decodeCount = new AtomicLong();
+	private final AtomicLong decodeTotalNanos = new AtomicLong();
+	private final AtomicLong decodeMaxNanos = new AtomicLong();
+
+	private static class InstanceHolder
+	{
+		private static final TiImageAnimationEngine INSTANCE = new TiImageAnimationEngine();
+	}
+
+	public static TiImageAnimationEngine getInstance()
+	{
+		return InstanceHolder.INSTANCE;
+	}
+
+	private TiImageAnimationEngine()
+	{
+		int decoderCount = Math.max(Math.min(Runtime.getRuntime().availableProcessors() - 1, MAX_DECODER_COUNT), 1);
+		handler = new Handler(Looper.getMainLooper());
+		decoderPool = new ThreadPoolExecutor(
+			decoderCount, decoderCount, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+			(runnable) -> {
+				Thread thread = new Thread(() -> {
+					Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+					runnable.run();
+				}, TAG + "-" + decoderThreadCounter.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+		decoderPool.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * @return frame, suspension and decode statistics of all sequences played so far.
+	 */
+	public HashMap<String, Object> getStats()
+	{
+		long decodes = this.decodeCount.get();
+		HashMap<String, Object> stats = new HashMap<>();
+		stats.put("framesShown", this.framesShown.get());
+		stats.put("framesDropped", this.framesDropped.get());
+		stats.put("suspensions", this.suspensions.get());
+		stats.put("decodes", decodes);
+		stats.put("averageDecodeTime", decodes > 0 ? this.decodeTotalNanos.get() / decodes / 1e6 : 0.0);
+		stats.put("maxDecodeTime", this.decodeMaxNanos.get() / 1e6);
+		stats.put("decoderQueueLength", this.decoderPool.getQueue().size());
+		return stats;
+	}
+
+	@Override
+	public void doFrame(long frameTimeNanos)
+	{
+		this.isFrameCallbackPosted = false;
+
+		// Listeners may start or stop sequences while ticking, so tick a snapshot.
+		FrameSequence[] snapshot = this.sequences.toArray(new FrameSequence[0]);
+		for (FrameSequence sequence : snapshot) {
+			sequence.tick(frameTimeNanos);
+		}
+
+		postFrameCallback();
+	}
+
+	private void schedule(FrameSequence sequence)
+	{
+		if (!this.sequences.contains(sequence)) {
+			this.sequences.add(sequence);
+		}
+		postFrameCallback();
+	}
+
+	private void unschedule(FrameSequence sequence)
+	{
+		this.sequences.remove(sequence);
+	}
+
+	private void postFrameCallback()
+	{
+		if (!this.isFrameCallbackPosted && !this.sequences.isEmpty()) {
+			this.isFrameCallbackPosted = true;
+			Choreographer.getInstance().postFrameCallback(this);
+		}
+	}
+
+	private void recordDecode(long nanos)
+	{
+		this.decodeCount.incrementAndGet();
+		this.decodeTotalNanos.addAndGet(nanos);
+		long max = this.decodeMaxNanos.get();
+		while ((nanos > max) && !this.decodeMaxNanos.compareAndSet(max, nanos)) {
+			max = this.decodeMaxNanos.get();
+		}
+	}
+
+	private static class Frame
+	{
+		final int index;
+		final Bitmap bitmap;
+		final boolean isReusable;
+
+		Frame(int index, Bitmap bitmap, boolean isReusable)
+		{
+			this.index = index;
+			this.bitmap = bitmap;
+			this.isReusable = isReusable;
+		}
+
+		void release()
+		{
+			if (this.isReusable) {
+				TiBitmapCache.getInstance().releaseBitmap(this.bitmap);
+			}
+		}
+	}
+
+	/**
+	 * Sequence of images played by one view.
+	 */
+	public static final class FrameSequence
+		implements View.OnAttachStateChangeListener, ViewTreeObserver.OnPreDrawListener
+	{
+		private final TiImageAnimationEngine engine = getInstance();
+		private final List<TiDrawableReference> frames;
+		private final int repeatCount;
+		private final boolean cacheFrames;
+		private final View view;
+		private Listener listener;
+
+		private boolean reverse;
+		private boolean isStarted;
+		private boolean isPaused;
+		private boolean isSuspended;
+		private boolean isHidden;
+		private boolean hasLoaded;
+		private long durationNanos;
+
+		// Decoded frames by playback position. Positions count frames across repetitions.
+		private final SparseArray<Frame> readyFrames = new SparseArray<>();
+		private int generation;
+		private int pendingDecodeCount;
+		private int nextDecodePosition;
+		private int nextShowPosition;
+		private long nextFrameTimeNanos;
+
+		// Reusable bitmaps of the shown frame and of the frame before, which may still be drawn.
+		private Frame shownFrame;
+		private Frame previousFrame;
+
+		/**
+		 * @param frames Images to be shown in order.
+		 * @param repeatCount Amount of times the sequence is played, or 0 to repeat forever.
+		 * @param reverse Whether to play images in reverse order.
+		 * @param cacheFrames Whether to keep decoded images in {@link TiBitmapCache} instead of reusing bitmaps.
+		 * @param view View the sequence is shown in. Suspends the sequence while detached or hidden.
+		 * @param listener Notified about frames of the sequence.
+		 */
+		public FrameSequence(@NonNull List<TiDrawableReference> frames, int repeatCount, boolean reverse,
+							 boolean cacheFrames, @NonNull View view, @NonNull Listener listener)
+		{
+			this.frames = new ArrayList<>(frames);
+			this.repeatCount = Math.max(repeatCount, 0);
+			this.reverse = reverse;
+			this.cacheFrames = cacheFrames;
+			this.view = view;
+			this.listener = listener;
+			this.isSuspended = !view.isAttachedToWindow();
+			view.addOnAttachStateChangeListener(this);
+			if (!this.isSuspended) {
+				this.isHidden = !view.isShown();
+				view.getViewTreeObserver().addOnPreDrawListener(this);
+			}
+		}
+
+		/**
+		 * Starts decoding the first frames, without showing them.
+		 */
+		public void prepare()
+		{
+			decodeAhead();
+		}
+
+		/**
+		 * Plays the sequence from its start. The first frame is shown after given duration.
+		 * @param durationMillis Duration of each frame.
+		 */
+		public void start(long durationMillis)
+		{
+			if (this.listener == null) {
+				return;
+			}
+			if (this.nextShowPosition > 0) {
+				reset();
+			}
+			this.durationNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(durationMillis, 1));
+			this.isStarted = true;
+			this.isPaused = false;
+			this.nextFrameTimeNanos = 0;
+			decodeAhead();
+			updateSchedule();
+		}
+
+		public void pause()
+		{
+			this.isPaused = true;
+			updateSchedule();
+		}
+
+		public void resume()
+		{
+			if (this.isPaused) {
+				// Show the next frame a full duration after resuming.
+				this.isPaused = false;
+				this.nextFrameTimeNanos = 0;
+				updateSchedule();
+			}
+		}
+
+		/**
+		 * Stops playing and discards decoded frames. The shown frame remains in the view.
+		 */
+		public void stop()
+		{
+			this.isStarted = false;
+			this.isPaused = false;
+			reset();
+			updateSchedule();
+		}
+
+		/**
+		 * Stops playing and detaches from the view. The sequence cannot be used afterwards.
+		 */
+		public void release()
+		{
+			stop();
+			this.view.removeOnAttachStateChangeListener(this);
+			removePreDrawListener();
+			this.listener = null;
+		}
+
+		public boolean isStarted()
+		{
+			return this.isStarted;
+		}
+
+		/**
+		 * Changes playback direction, continuing from the current position.
+		 * @param reverse Whether to play images in reverse order.
+		 */
+		public void setReverse(boolean reverse)
+		{
+			if (this.reverse == reverse) {
+				return;
+			}
+			this.reverse = reverse;
+
+			// Mirror the position of the shown frame within its repetition, so that the next frame shown
+			// is the shown frame's neighbour in the new direction.
+			if (this.nextShowPosition > 0) {
+				final int frameCount = this.frames.size();
+				final int shownPosition = this.nextShowPosition - 1;
+				final int shownOffset = shownPosition % frameCount;
+				final int mirroredPosition = shownPosition - shownOffset + (frameCount - 1 - shownOffset);
+				this.nextShowPosition = mirroredPosition + 1;
+			}
+			discardDecodedFrames();
+			decodeAhead();
+		}
+
+		@Override
+		public void onViewAttachedToWindow(@NonNull View view)
+		{
+			this.isSuspended = false;
+			this.isHidden = !view.isShown();
+			this.nextFrameTimeNanos = 0;
+			view.getViewTreeObserver().addOnPreDrawListener(this);
+			updateSchedule();
+		}
+
+		@Override
+		public void onViewDetachedFromWindow(@NonNull View view)
+		{
+			this.isSuspended = true;
+			this.engine.suspensions.incrementAndGet();
+			removePreDrawListener();
+			updateSchedule();
+		}
+
+		/**
+		 * Called before each traversal of the window, including those caused by visibility changes of the view
+		 * or its parents, which do not notify the view itself.
+		 */
+		@Override
+		public boolean onPreDraw()
+		{
+			updateVisibility();
+			return true;
+		}
+
+		private void removePreDrawListener()
+		{
+			ViewTreeObserver observer = this.view.getViewTreeObserver();
+			if (observer.isAlive()) {
+				observer.removeOnPreDrawListener(this);
+			}
+		}
+
+		private void updateVisibility()
+		{
+			boolean isHidden = !this.view.isShown();
+			if (this.isHidden == isHidden) {
+				return;
+			}
+			this.isHidden = isHidden;
+			this.nextFrameTimeNanos = 0;
+			if (isHidden) {
+				this.engine.suspensions.incrementAndGet();
+			}
+			updateSchedule();
+		}
+
+		private void updateSchedule()
+		{
+			boolean isPlaying = this.isStarted && !this.isPaused;
+			if (isPlaying && !this.isSuspended && !this.isHidden && (this.listener != null)) {
+				this.engine.schedule(this);
+			} else {
+				this.engine.unschedule(this);
+			}
+		}
+
+		private void reset()
+		{
+			discardDecodedFrames();
+			this.nextShowPosition = 0;
+			this.nextDecodePosition = 0;
+			this.nextFrameTimeNanos = 0;
+			this.hasLoaded = false;
+
+			// The shown frame remains in the view, only the one before can be reused.
+			if (this.previousFrame != null) {
+				this.previousFrame.release();
+				this.previousFrame = null;
+			}
+			this.shownFrame = null;
+		}
+
+		private void discardDecodedFrames()
+		{
+			// Decodes in progress are discarded when they complete.
+			this.generation++;
+			this.pendingDecodeCount = 0;
+			for (int i = 0; i < this.readyFrames.size(); i++) {
+				this.readyFrames.valueAt(i).release();
+			}
+			this.readyFrames.clear();
+			this.nextDecodePosition = this.nextShowPosition;
+		}
+
+		private int getPositionCount()
+		{
+			return this.repeatCount > 0 ? this.repeatCount * this.frames.size() : Integer.MAX_VALUE;
+		}
+
+		private int getFrameIndex(int position)
+		{
+			int offset = position % this.frames.size();
+			return this.reverse ? this.frames.size() - 1 - offset : offset;
+		}
+
+		private void decodeAhead()
+		{
+			if (this.frames.isEmpty() || (this.listener == null)) {
+				return;
+			}
+			while ((this.readyFrames.size() + this.pendingDecodeCount < DECODE_AHEAD_COUNT)
+				   && (this.nextDecodePosition < getPositionCount())) {
+				decode(this.nextDecodePosition++);
+			}
+		}
+
+		private void decode(int position)
+		{
+			final int decodeGeneration = this.generation;
+			final int index = getFrameIndex(position);
+			final TiDrawableReference imageRef = this.frames.get(index);
+			final boolean cacheFrames = this.cacheFrames;
+
+			this.pendingDecodeCount++;
+			this.engine.decoderPool.execute(() -> {
+				long startTime = System.nanoTime();
+				Bitmap bitmap = null;
+				try {
+					if (cacheFrames) {
+						TiBitmapCache bitmapCache = TiBitmapCache.getInstance();
+						TiBitmapCache.Key key = new TiBitmapCache.Key(imageRef.getKey());
+						bitmap = bitmapCache.getBitmap(key);
+						if (bitmap == null) {
+							bitmap = imageRef.getBitmap(true);
+							TiExifOrientation orientation = imageRef.getExifOrientation();
+							bitmapCache.put(key, bitmap, orientation);
+						}
+					} else {
+						bitmap = imageRef.getReusableBitmap();
+					}
+				} catch (Exception ex) {
+					Log.e(TAG, "Exception decoding frame: " + ex.getLocalizedMessage());
+				}
+				this.engine.recordDecode(System.nanoTime() - startTime);
+
+				final Frame frame = new Frame(index, bitmap, !cacheFrames);
+				this.engine.handler.post(() -> onFrameDecoded(decodeGeneration, position, frame));
+			});
+		}
+
+		private void onFrameDecoded(int decodeGeneration, int position, Frame frame)
+		{
+			if ((decodeGeneration != this.generation) || (this.listener == null)) {
+				frame.release();
+				return;
+			}
+			this.pendingDecodeCount--;
+			this.readyFrames.put(position, frame);
+
+			// Notify once all frames to be decoded ahead are available.
+			if (!this.hasLoaded && (this.pendingDecodeCount == 0)) {
+				this.hasLoaded = true;
+				this.listener.onAnimationLoad();
+			}
+			decodeAhead();
+		}
+
+		private void tick(long frameTimeNanos)
+		{
+			if (this.listener == null) {
+				return;
+			}
+
+			// Hidden views may not be traversed before this frame, e.g. within a parent hidden since the last one.
+			updateVisibility();
+			if (this.isHidden) {
+				return;
+			}
+			if (this.nextFrameTimeNanos == 0) {
+				this.nextFrameTimeNanos = frameTimeNanos + this.durationNanos;
+				return;
+			}
+			if (frameTimeNanos < this.nextFrameTimeNanos) {
+				return;
+			}
+
+			// Wait for the decoder if the frame is not ready yet. Counted as dropped once shown.
+			Frame frame = this.readyFrames.get(this.nextShowPosition);
+			if (frame == null) {
+				return;
+			}
+			this.readyFrames.remove(this.nextShowPosition);
+			this.nextShowPosition++;
+
+			// Keep pace with vsync. Frames shown later than one duration count as dropped.
+			long lateNanos = frameTimeNanos - this.nextFrameTimeNanos;
+			if (lateNanos >= this.durationNanos) {
+				this.engine.framesDropped.addAndGet(lateNanos / this.durationNanos);
+				this.nextFrameTimeNanos = frameTimeNanos + this.durationNanos;
+			} else {
+				this.nextFrameTimeNanos += this.durationNanos;
+			}
+
+			// Reuse the bitmap of the frame shown before last, as the last one may still be drawn.
+			if (this.previousFrame != null) {
+				this.previousFrame.release();
+			}
+			this.previousFrame = this.shownFrame;
+			this.shownFrame = frame;
+			this.engine.framesShown.incrementAndGet();
+			this.listener.onAnimationFrame(frame.bitmap, frame.index);
+			if (!this.isStarted || (this.listener == null)) {
+				// Stopped by listener.
+				return;
+			}
+
+			if (this.nextShowPosition >= getPositionCount()) {
+				this.isStarted = false;
+				updateSchedule();
+				this.listener.onAnimationFinished();
+				return;
+			}
+			decodeAhead();
+		}
+	}
+}
@@ -7,10 +7,6 @@
 package ti.modules.titanium.ui.widget;
 
 import java.util.ArrayList;
-import java.util.Timer;
-import java.util.TimerTask;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.appcelerator.kroll.KrollDict;
 import org.appcelerator.kroll.KrollProxy;
@@ -21,9 +17,9 @@ import org.appcelerator.titanium.TiBlob;
 import org.appcelerator.titanium.TiC;
 import org.appcelerator.titanium.TiLifecycle.OnLifecycleEvent;
 import org.appcelerator.titanium.proxy.TiViewProxy;
+import org.appcelerator.titanium.util.TiBitmapCache;
 import org.appcelerator.titanium.util.TiConvert;
 import org.appcelerator.titanium.util.TiExifOrientation;
-import org.appcelerator.titanium.util.TiImageCache;
 import org.appcelerator.titanium.util.TiImageInfo;
 import org.appcelerator.titanium.util.TiLoadImageManager;
 import org.appcelerator.titanium.view.TiDrawableReference;
@@ -45,19 +41,14 @@ import androidx.annotation.NonNull;
 public class TiUIImageView extends TiUIView implements OnLifecycleEvent, Handler.Callback
 {
 	private static final String TAG = "TiUIImageView";
-	private static final int FRAME_QUEUE_SIZE = 5;
 	public static final int MIN_DURATION = 30;
 	public static final int DEFAULT_DURATION = 200;
 
-	private Timer timer;
-	private Animator animator;
-	private Loader loader;
-	private Thread loaderThread;
-	private final AtomicBoolean animating = new AtomicBoolean(false);
-	private final AtomicBoolean isLoading = new AtomicBoolean(false);
-	private final AtomicBoolean isStopping = new AtomicBoolean(false);
-	private boolean reverse = false;
-	private boolean paused = false;
+	private TiImageAnimationEngine.FrameSequence frameSequence;
+	private TiImageAnimationEngine.Listener frameSequenceListener;
+	private volatile boolean animating = false;
+	private volatile boolean reverse = false;
+	private volatile boolean paused = false;
 	private boolean firedLoad;
 	private ImageViewProxy imageViewProxy;
 	private int currentDuration;
@@ -66,12 +57,13 @@ public class TiUIImageView extends TiUIView implements OnLifecycleEvent, Handler
 	private ArrayList<TiDrawableReference> imageSources;
 	private TiDrawableReference defaultImageSource;
 	private TiLoadImageManager.Listener loadImageListener;
-	private final Object releasedLock = new Object();
 
 	private final Handler mainHandler = new Handler(Looper.getMainLooper(), this);
 	private static final int START = 10002;
 	private static final int STOP = 10003;
 	private static final int SET_TINT = 10004;
+	private static final int PAUSE = 10005;
+	private static final int RESUME = 10006;
 
 	public TiUIImageView(final TiViewProxy proxy)
 	{
@@ -98,9 +90,7 @@ public class TiUIImageView extends TiUIView implements OnLifecycleEvent, Handler
 			@Override
 			public void onLoadImageFinished(@NonNull TiDrawableReference drawableRef, @NonNull TiImageInfo imageInfo)
 			{
-				// Cache the image.
-				TiImageCache.add(imageInfo);
-
+				// Note: The image has already been cached by TiLoadImageManager.
 				// Make sure proxy's "image" property matches the loaded image.
 				// Note: Handles the case where "image" property changes while last image was loading.
 				//       This commonly happens in ListView where ImageView is recycled while scrolling.
@@ -129,6 +119,33 @@ public class TiUIImageView extends TiUIView implements OnLifecycleEvent, Handler
 			}
 		};
 
+		frameSequenceListener = new TiImageAnimationEngine.Listener() {
+			@Override
+			public void onAnimationLoad()
+			{
+				if (!firedLoad) {
+					fireLoad(TiC.PROPERTY_IMAGES);
+					firedLoad = true;
+				}
+			}
+
+			@Override
+			public void onAnimationFrame(Bitmap bitmap, int index)
+			{
+				Log.debugf(TAG, "set image: {}", index);
+				setImage(bitmap, null);
+				fireChange(index);
+			}
+
+			@Override
+			public void onAnimationFinished()
+			{
+				animating = false;
+				firedLoad = false;
+				fireStop();
+			}
+		};
+
 		setNativeView(view);
 	}
 
@@ -202,6 +219,12 @@ public class TiUIImageView extends TiUIView implements OnLifecycleEvent, Handler
 			case SET_TINT:
 				handleTint((String) msg.obj);
 				return true;
+			case PAUSE:
+				handlePause();
+				return true;
+			case RESUME:
+				handleResume();
+				return true;
 			default:
 				return false;
 		}
@@ -223,191 +246,40 @@ public class TiUIImageView extends TiUIView implements OnLifecycleEvent, Handler
 		}
 	}
 
-	private static class BitmapWithIndex
-	{
-		public BitmapWithIndex(Bitmap b, int i)
-		{
-			this.bitmap = b;
-			this.index = i;
-		}
-
-		public Bitmap bitmap;
-		public int index;
-	}
-
-	private class Loader implements Runnable
+	private void setImages()
 	{
-		private ArrayBlockingQueue<BitmapWithIndex> bitmapQueue;
-		private int waitTime = 0;
-		private int sleepTime = 50; //ms
-		private int repeatIndex = 0;
-
-		public Loader()
-		{
-			bitmapQueue = new ArrayBlockingQueue<BitmapWithIndex>(FRAME_QUEUE_SIZE);
-		}
-
-		private boolean isRepeating()
-		{
-			int repeatCount = getRepeatCount();
-			if (repeatCount <= 0) {
-				return true;
-			}
-			return repeatIndex < repeatCount;
-		}
-
-		private int getStart()
-		{
-			if (imageSources == null) {
-				return 0;
-			}
-			if (reverse) {
-				return imageSources.size() - 1;
-			}
-			return 0;
-		}
-
-		private boolean isNotFinalFrame(int frame)
-		{
-			synchronized (releasedLock)
-			{
-				if (imageSources == null) {
-					return false;
-				}
-				if (reverse) {
-					return frame >= 0;
-				}
-				return frame < imageSources.size();
-			}
+		if (imageSources == null || imageSources.size() == 0) {
+			fireError("Missing Images", null);
+			return;
 		}
-
-		private int getCounter()
-		{
-			if (reverse) {
-				return -1;
-			}
-			return 1;
+		if (!TiApplication.isUIThread()) {
+			TiMessenger.postOnMain(this::setImages);
+			return;
 		}
 
-		public void run()
-		{
-			if (getProxy() == null) {
-				Log.d(TAG, "Multi-image loader exiting early because proxy has been gc'd");
-				return;
-			}
-			repeatIndex = 0;
-			isLoading.set(true);
-			firedLoad = false;
-			boolean shouldCache = getRepeatCount() >= 5 ? true : false;
-		topLoop:
-			while (isRepeating()) {
+		// Replace the previous sequence, continuing to animate if it was.
+		boolean wasAnimating = (frameSequence != null) && frameSequence.isStarted();
+		releaseFrameSequence();
+		firedLoad = false;
 
-				if (imageSources == null) {
-					break;
-				}
-				long time = System.currentTimeMillis();
-				for (int j = getStart(); imageSources != null && isNotFinalFrame(j); j += getCounter()) {
-					if (bitmapQueue.size() == FRAME_QUEUE_SIZE && !firedLoad) {
-						fireLoad(TiC.PROPERTY_IMAGES);
-						firedLoad = true;
-					}
-					if (paused && !Thread.currentThread().isInterrupted()) {
-						try {
-							Log.d(TAG, "Pausing", Log.DEBUG_MODE);
-							// User backed-out while animation running
-							if (loader == null) {
-								break;
-							}
-
-							synchronized (this)
-							{
-								wait();
-							}
-
-							Log.d(TAG, "Waking from pause.", Log.DEBUG_MODE);
-							// In the meantime, while paused, user could have backed out, which leads
-							// to release(), which in turn leads to nullified imageSources.
-							if (imageSources == null) {
-								break topLoop;
-							}
-						} catch (InterruptedException e) {
-							Log.w(TAG, "Interrupted from paused state.");
-						}
-					}
-
-					if (!isLoading.get() || isStopping.get()) {
-						break topLoop;
-					}
-
-					waitTime = 0;
-					synchronized (releasedLock)
-					{
-						if (imageSources == null || j >= imageSources.size()) {
-							break topLoop;
-						}
-						TiDrawableReference imageRef = imageSources.get(j);
-						Bitmap b = null;
-						if (shouldCache) {
-							var key = imageRef.getKey();
-							b = TiImageCache.getBitmap(key);
-							if (b == null) {
-								Log.i(TAG, "Image isn't cached");
-								b = imageRef.getBitmap(true);
-								TiExifOrientation orientation = imageRef.getExifOrientation();
-								TiImageCache.add(new TiImageInfo(key, b, orientation));
-							}
-						} else {
-							b = imageRef.getBitmap(true);
-						}
-						BitmapWithIndex bIndex = new BitmapWithIndex(b, j);
-						while (waitTime < getDuration() * imageSources.size()) {
-							try {
-								if (!bitmapQueue.offer(bIndex)) {
-									if (isStopping.get()) {
-										break;
-									}
-									Thread.sleep(sleepTime);
-									waitTime += sleepTime;
-
-								} else {
-									break;
-								}
-
-							} catch (InterruptedException e) {
-								Log.w(TAG, "Interrupted while adding Bitmap into bitmapQueue");
-								break;
-							}
-						}
-					}
-					repeatIndex++;
-				}
-
-				Log.d(TAG, "TIME TO LOAD FRAMES: " + (System.currentTimeMillis() - time) + "ms", Log.DEBUG_MODE);
+		// Keep frames in the image cache when repeated often, otherwise decode into reused bitmaps.
+		int repeatCount = getRepeatCount();
+		frameSequence = new TiImageAnimationEngine.FrameSequence(
+			imageSources, repeatCount, reverse, repeatCount >= 5, view, frameSequenceListener);
+		frameSequence.prepare();
+		if (wasAnimating) {
+			frameSequence.start(currentDuration);
+			if (paused) {
+				frameSequence.pause();
 			}
-			isLoading.set(false);
-		}
-
-		public ArrayBlockingQueue<BitmapWithIndex> getBitmapQueue()
-		{
-			return bitmapQueue;
 		}
 	}
 
-	private void setImages()
+	private void releaseFrameSequence()
 	{
-		if (imageSources == null || imageSources.size() == 0) {
-			fireError("Missing Images", null);
-			return;
-		}
-
-		if (loader == null) {
-			paused = false;
-			isStopping.set(false);
-			firedLoad = false;
-			loader = new Loader();
-			loaderThread = new Thread(loader);
-			Log.d(TAG, "STARTING LOADER THREAD " + loaderThread + " for " + this, Log.DEBUG_MODE);
-			loaderThread.start();
+		if (frameSequence != null) {
+			frameSequence.release();
+			frameSequence = null;
 		}
 	}
 
@@ -471,53 +343,6 @@ public class TiUIImageView extends TiUIView implements OnLifecycleEvent, Handler
 		fireEvent(TiC.EVENT_ERROR, data);
 	}
 
-	private class Animator extends TimerTask
-	{
-		private Loader loader;
-
-		public Animator(Loader loader)
-		{
-			this.loader = loader;
-		}
-
-		public void run()
-		{
-			boolean waitOnResume = false;
-			try {
-				if (paused) {
-					synchronized (this)
-					{
-						KrollDict data = new KrollDict();
-						fireEvent(TiC.EVENT_PAUSE, data);
-						waitOnResume = true;
-						wait();
-					}
-				}
-
-				ArrayBlockingQueue<BitmapWithIndex> bitmapQueue = loader.getBitmapQueue();
-				//Fire stop event when animation finishes
-				if (!isLoading.get() && bitmapQueue.isEmpty()) {
-					fireStop();
-				}
-				BitmapWithIndex b = bitmapQueue.take();
-				Log.d(TAG, "set image: " + b.index, Log.DEBUG_MODE);
-				setImage(b.bitmap, null);
-				fireChange(b.index);
-
-				// When the animation is paused, the timer will pause in the middle of a period.
-				// When the animation resumes, the timer resumes from where it left off. As a result, it will look like
-				// one frame is left out when resumed (TIMOB-10207).
-				// To avoid this, we force the thread to wait for one period on resume.
-				if (waitOnResume) {
-					Thread.sleep(currentDuration);
-					waitOnResume = false;
-				}
-			} catch (InterruptedException e) {
-				Log.e(TAG, "Loader interrupted");
-			}
-		}
-	}
-
 	public void start()
 	{
 		if (!TiApplication.isUIThread()) {
@@ -530,52 +355,62 @@ public class TiUIImageView extends TiUIView implements OnLifecycleEvent, Handler
 
 	public void handleStart()
 	{
-		if (animator == null) {
-			timer = new Timer();
-
-			if (loader == null) {
-				loader = new Loader();
-				loaderThread = new Thread(loader);
-				Log.d(TAG, "STARTING LOADER THREAD " + loaderThread + " for " + this, Log.DEBUG_MODE);
-			}
-
-			animator = new Animator(loader);
-			if (!animating.get() && !loaderThread.isAlive()) {
-				isStopping.set(false);
-				loaderThread.start();
+		if (frameSequence == null) {
+			setImages();
+			if (frameSequence == null) {
+				return;
 			}
+		}
 
+		if (!frameSequence.isStarted()) {
 			currentDuration = (int) getDuration();
-
-			animating.set(true);
+			paused = false;
+			animating = true;
+			frameSequence.start(currentDuration);
 			fireStart();
-			timer.schedule(animator, currentDuration, currentDuration);
 		} else {
-			resume();
+			handleResume();
 		}
 	}
 
 	public void pause()
 	{
 		paused = true;
+
+		if (!TiApplication.isUIThread()) {
+			Message message = mainHandler.obtainMessage(PAUSE);
+			message.sendToTarget();
+		} else {
+			handlePause();
+		}
+	}
+
+	private void handlePause()
+	{
+		if (!paused || (frameSequence == null) || !frameSequence.isStarted()) {
+			return;
+		}
+		frameSequence.pause();
+		fireEvent(TiC.EVENT_PAUSE, new KrollDict());
 	}
 
 	public void resume()
 	{
 		paused = false;
 
-		if (animator != null) {
-			synchronized (animator)
-			{
-				animator.notify();
-			}
+		if (!TiApplication.isUIThread()) {
+			Message message = mainHandler.obtainMessage(RESUME);
+			message.sendToTarget();
+		} else {
+			handleResume();
 		}
+	}
 
-		if (loader != null) {
-			synchronized (loader)
-			{
-				loader.notify();
-			}
+	private void handleResume()
+	{
+		paused = false;
+		if (frameSequence != null) {
+			frameSequence.resume();
 		}
 	}
 
@@ -590,30 +425,11 @@ public class TiUIImageView extends TiUIView implements OnLifecycleEvent, Handler
 	}
 	public void handleStop()
 	{
-		if (timer != null) {
-			timer.cancel();
-		}
-		animating.set(false);
-		isStopping.set(true);
-
-		if (loaderThread != null) {
-			try {
-				loaderThread.join();
-			} catch (InterruptedException e) {
-				Log.e(TAG, "LoaderThread termination interrupted");
-			}
-			loaderThread = null;
-		}
-		if (loader != null) {
-			synchronized (loader)
-			{
-				loader.notify();
-			}
+		if (frameSequence != null) {
+			frameSequence.stop();
+			firedLoad = false;
 		}
-
-		loader = null;
-		timer = null;
-		animator = null;
+		animating = false;
 		paused = false;
 
 		fireStop();
@@ -662,6 +478,12 @@ public class TiUIImageView extends TiUIView implements OnLifecycleEvent, Handler
 
 	private void setImageInternal()
 	{
+		// A single image replaces the animated images.
+		if ((imageSources != null) && (imageSources.size() == 1)) {
+			releaseFrameSequence();
+			animating = false;
+		}
+
 		// Set default image or clear previous image first.
 		if (defaultImageSource != null) {
 			setDefaultImage();
@@ -678,10 +500,10 @@ public class TiUIImageView extends TiUIView implements OnLifecycleEvent, Handler
 			TiDrawableReference imageref = imageSources.get(0);
 
 			// Check if the image is cached in memory
-			var key = imageref.getKey();
-			Bitmap bitmap = TiImageCache.getBitmap(key);
+			var key = new TiBitmapCache.Key(imageref.getKey());
+			Bitmap bitmap = TiBitmapCache.getInstance().getBitmap(key);
 			if (bitmap != null) {
-				setImage(bitmap, isAutoRotateEnabled() ? TiImageCache.getOrientation(key) : null);
+				setImage(bitmap, isAutoRotateEnabled() ? TiBitmapCache.getInstance().getOrientation(key) : null);
 				if (!firedLoad) {
 					fireLoad(TiC.PROPERTY_IMAGE);
 					firedLoad = true;
@@ -802,45 +624,55 @@ public class TiUIImageView extends TiUIView implements OnLifecycleEvent, Handler
 			return;
 		}
 
-		if (key.equals(TiC.PROPERTY_ENABLE_ZOOM_CONTROLS)) {
-			view.setEnableZoomControls(TiConvert.toBoolean(newValue));
-		} else if (key.equals(TiC.PROPERTY_SCALING_MODE)) {
-			view.setScalingMode(TiConvert.toInt(newValue, MediaModule.IMAGE_SCALING_AUTO));
-		} else if (key.equals(TiC.PROPERTY_IMAGE_TOUCH_FEEDBACK)) {
-			view.setIsImageRippleEnabled(TiConvert.toBoolean(newValue, false));
-		} else if (key.equals(TiC.PROPERTY_IMAGE_TOUCH_FEEDBACK_COLOR)) {
-			if (newValue == null) {
-				view.setImageRippleColor(view.getDefaultRippleColor());
-			} else {
-				view.setImageRippleColor(TiConvert.toColor(newValue, proxy.getActivity()));
-			}
-		} else if (key.equals(TiC.PROPERTY_IMAGE)) {
-			if ((oldValue == null && newValue != null) || (oldValue != null && !oldValue.equals(newValue))) {
-				TiDrawableReference source = TiDrawableReference.fromObject(getProxy(), newValue);
-				if (proxy.hasProperty(TiC.PROPERTY_DECODE_RETRIES)) {
-					source.setDecodeRetries(TiConvert.toInt(proxy.getProperty(TiC.PROPERTY_DECODE_RETRIES),
-															TiDrawableReference.DEFAULT_DECODE_RETRIES));
+		switch (key) {
+			case TiC.PROPERTY_ENABLE_ZOOM_CONTROLS:
+				view.setEnableZoomControls(TiConvert.toBoolean(newValue));
+				break;
+			case TiC.PROPERTY_SCALING_MODE:
+				view.setScalingMode(TiConvert.toInt(newValue, MediaModule.IMAGE_SCALING_AUTO));
+				break;
+			case TiC.PROPERTY_IMAGE_TOUCH_FEEDBACK:
+				view.setIsImageRippleEnabled(TiConvert.toBoolean(newValue, false));
+				break;
+			case TiC.PROPERTY_IMAGE_TOUCH_FEEDBACK_COLOR:
+				if (newValue == null) {
+					view.setImageRippleColor(view.getDefaultRippleColor());
+				} else {
+					view.setImageRippleColor(TiConvert.toColor(newValue, proxy.getActivity()));
 				}
-				setImageSource(source);
-				firedLoad = false;
-				setImageInternal();
-			}
-		} else if (key.equals(TiC.PROPERTY_IMAGES)) {
-			if (newValue instanceof Object[]) {
-				if (oldValue == null || !oldValue.equals(newValue)) {
-					setImageSource(newValue);
-					setImages();
+				break;
+			case TiC.PROPERTY_IMAGE:
+				if ((oldValue == null && newValue != null) || (oldValue != null && !oldValue.equals(newValue))) {
+					TiDrawableReference source = TiDrawableReference.fromObject(getProxy(), newValue);
+					if (proxy.hasProperty(TiC.PROPERTY_DECODE_RETRIES)) {
+						source.setDecodeRetries(TiConvert.toInt(proxy.getProperty(TiC.PROPERTY_DECODE_RETRIES),
+																TiDrawableReference.DEFAULT_DECODE_RETRIES));
+					}
+					setImageSource(source);
+					firedLoad = false;
+					setImageInternal();
 				}
-			}
-		} else {
-			if (key.equals(TiC.PROPERTY_WIDTH)) {
-				String widthProperty = TiConvert.toString(newValue);
-				view.setWidthDefined(!TiC.LAYOUT_SIZE.equals(widthProperty) && !TiC.SIZE_AUTO.equals(widthProperty));
-			} else if (key.equals(TiC.PROPERTY_HEIGHT)) {
-				String heightProperty = TiConvert.toString(newValue);
-				view.setHeightDefined(!TiC.LAYOUT_SIZE.equals(heightProperty) && !TiC.SIZE_AUTO.equals(heightProperty));
-			}
-			super.propertyChanged(key, oldValue, newValue, proxy);
+				break;
+			case TiC.PROPERTY_IMAGES:
+				if (newValue instanceof Object[]) {
+					if (oldValue == null || !oldValue.equals(newValue)) {
+						setImageSource(newValue);
+						setImages();
+					}
+				}
+				break;
+			default:
+				if (key.equals(TiC.PROPERTY_WIDTH)) {
+					String widthProperty = TiConvert.toString(newValue);
+					view.setWidthDefined(
+						!TiC.LAYOUT_SIZE.equals(widthProperty) && !TiC.SIZE_AUTO.equals(widthProperty));
+				} else if (key.equals(TiC.PROPERTY_HEIGHT)) {
+					String heightProperty = TiConvert.toString(newValue);
+					view.setHeightDefined(
+						!TiC.LAYOUT_SIZE.equals(heightProperty) && !TiC.SIZE_AUTO.equals(heightProperty));
+				}
+				super.propertyChanged(key, oldValue, newValue, proxy);
+				break;
 		}
 	}
 
@@ -873,7 +705,7 @@ public class TiUIImageView extends TiUIView implements OnLifecycleEvent, Handler
 
 	public boolean isAnimating()
 	{
-		return animating.get() && !paused;
+		return animating && !paused;
 	}
 
 	public boolean isPaused()
@@ -889,15 +721,19 @@ public class TiUIImageView extends TiUIView implements OnLifecycleEvent, Handler
 	public void setReverse(boolean reverse)
 	{
 		this.reverse = reverse;
+		if (frameSequence != null) {
+			frameSequence.setReverse(reverse);
+		}
 	}
 
 	public TiBlob toBlob()
 	{
 		TiDrawableReference imageReference =
 			imageSources != null && imageSources.size() == 1 ? imageSources.get(0) : null;
-		Bitmap cachedBitmap = imageReference != null ? TiImageCache.getBitmap(imageReference.getKey()) : null;
+		TiBitmapCache.Key cacheKey = imageReference != null ? new TiBitmapCache.Key(imageReference.getKey()) : null;
+		Bitmap cachedBitmap = cacheKey != null ? TiBitmapCache.getInstance().getBitmap(cacheKey) : null;
 
-		if (cachedBitmap != null && !cachedBitmap.isRecycled()) {
+		if (cachedBitmap != null) {
 			return TiBlob.blobFromImage(cachedBitmap);
 
 		} else {
@@ -907,11 +743,14 @@ public class TiUIImageView extends TiUIView implements OnLifecycleEvent, Handler
 				if (bitmap == null && imageSources != null && imageSources.size() == 1) {
 					bitmap = imageSources.get(0).getBitmap(true);
 				}
+				if ((bitmap != null) && (frameSequence != null) && bitmap.isMutable()) {
+					// Frames of an animation are decoded into reused bitmaps. Copy the shown frame.
+					bitmap = bitmap.copy(bitmap.getConfig(), false);
+				}
 				if (bitmap != null) {
-					if (imageReference != null) {
-						var key = imageReference.getKey();
+					if (cacheKey != null) {
 						TiExifOrientation orientation = imageReference.getExifOrientation();
-						TiImageCache.add(new TiImageInfo(key, bitmap, orientation));
+						TiBitmapCache.getInstance().put(cacheKey, bitmap, orientation);
 					}
 					return TiBlob.blobFromImage(bitmap);
 				}
@@ -947,17 +786,12 @@ public class TiUIImageView extends TiUIView implements OnLifecycleEvent, Handler
 	public void release()
 	{
 		handleStop();
-		synchronized (releasedLock)
-		{
-			if (imageSources != null) {
-				imageSources.clear();
-				imageSources = null;
-			}
-		}
-		if (timer != null) {
-			timer.cancel();
-			timer = null;
+		releaseFrameSequence();
+		if (imageSources != null) {
+			imageSources.clear();
+			imageSources = null;
 		}
+		frameSequenceListener = null;
 		defaultImageSource = null;
 		imageViewProxy = null;
 		loadImageListener = null;
@@ -515,154 +515,185 @@ public class TiUILabel extends TiUIView
 	public void propertyChanged(String key, Object oldValue, Object newValue, KrollProxy proxy)
 	{
 		MaterialTextView tv = (MaterialTextView) getNativeView();
-		if (key.equals(TiC.PROPERTY_ATTRIBUTED_STRING) || key.equals(TiC.PROPERTY_HTML) || key.equals(TiC.PROPERTY_TEXT)
-			|| key.equals(TiC.PROPERTY_TITLE)) {
-			CharSequence newText = null;
-			if (key.equals(TiC.PROPERTY_ATTRIBUTED_STRING)) {
-				if (newValue instanceof AttributedStringProxy) {
-					newText = AttributedStringProxy.toSpannable((AttributedStringProxy) newValue,
-																TiApplication.getAppCurrentActivity());
+		switch (key) {
+			case TiC.PROPERTY_ATTRIBUTED_STRING:
+			case TiC.PROPERTY_HTML:
+			case TiC.PROPERTY_TEXT:
+			case TiC.PROPERTY_TITLE: {
+				CharSequence newText = null;
+				if (key.equals(TiC.PROPERTY_ATTRIBUTED_STRING)) {
+					if (newValue instanceof AttributedStringProxy) {
+						newText = AttributedStringProxy.toSpannable((AttributedStringProxy) newValue,
+																	TiApplication.getAppCurrentActivity());
+					}
+					if (newText == null) {
+						newText = "";
+					}
+				} else if (key.equals(TiC.PROPERTY_HTML)) {
+					newText = Html.fromHtml(TiConvert.toString(newValue, ""));
+				} else {
+					newText = TiConvert.toString(newValue, "");
 				}
-				if (newText == null) {
-					newText = "";
+				if ((newText != null) && !newText.equals(this.originalText)) {
+					this.originalText = newText;
+					updateLabelText();
+					tv.requestLayout();
 				}
-			} else if (key.equals(TiC.PROPERTY_HTML)) {
-				newText = Html.fromHtml(TiConvert.toString(newValue, ""));
-			} else {
-				newText = TiConvert.toString(newValue, "");
+				break;
 			}
-			if ((newText != null) && !newText.equals(this.originalText)) {
-				this.originalText = newText;
-				updateLabelText();
+			case TiC.PROPERTY_INCLUDE_FONT_PADDING:
+				tv.setIncludeFontPadding(TiConvert.toBoolean(newValue, true));
+				break;
+			case TiC.PROPERTY_COLOR:
+				if (newValue == null) {
+					tv.setTextColor(defaultColor);
+				} else {
+					tv.setTextColor(TiConvert.toColor(newValue, proxy.getActivity()));
+				}
+				break;
+			case TiC.PROPERTY_HIGHLIGHTED_COLOR:
+				// TODO: reset to default value when property is null
+				tv.setHighlightColor(TiConvert.toColor(newValue, proxy.getActivity()));
+				break;
+			case TiC.PROPERTY_TEXT_ALIGN:
+				TiUIHelper.setAlignment(tv, TiConvert.toString(newValue), null);
 				tv.requestLayout();
-			}
-		} else if (key.equals(TiC.PROPERTY_INCLUDE_FONT_PADDING)) {
-			tv.setIncludeFontPadding(TiConvert.toBoolean(newValue, true));
-		} else if (key.equals(TiC.PROPERTY_COLOR)) {
-			if (newValue == null) {
-				tv.setTextColor(defaultColor);
-			} else {
-				tv.setTextColor(TiConvert.toColor(newValue, proxy.getActivity()));
-			}
-		} else if (key.equals(TiC.PROPERTY_HIGHLIGHTED_COLOR)) {
-			// TODO: reset to default value when property is null
-			tv.setHighlightColor(TiConvert.toColor(newValue, proxy.getActivity()));
-		} else if (key.equals(TiC.PROPERTY_TEXT_ALIGN)) {
-			TiUIHelper.setAlignment(tv, TiConvert.toString(newValue), null);
-			tv.requestLayout();
-		} else if (key.equals(TiC.PROPERTY_VERTICAL_ALIGN)) {
-			TiUIHelper.setAlignment(tv, null, TiConvert.toString(newValue));
-			tv.requestLayout();
-		} else if (key.equals(TiC.PROPERTY_MINIMUM_FONT_SIZE)) {
-			setMinimumFontSize(TiConvert.toString(newValue));
-		} else if (key.equals(TiC.PROPERTY_FONT)) {
-			TiUIHelper.styleText(tv, (HashMap) newValue);
-			this.unscaledFontSizeInPixels = tv.getTextSize();
-			tv.requestLayout();
-		} else if (key.equals(TiC.PROPERTY_ELLIPSIZE)) {
-			if (newValue instanceof Boolean) {
-				ellipsize = (Boolean) newValue ? TruncateAt.END : null;
-			} else if (newValue instanceof Integer) {
-				switch ((Integer) newValue) {
-					case UIModule.TEXT_ELLIPSIZE_TRUNCATE_START:
-						ellipsize = TruncateAt.START;
-						break;
-					case UIModule.TEXT_ELLIPSIZE_TRUNCATE_MIDDLE:
-						ellipsize = TruncateAt.MIDDLE;
-						break;
-					case UIModule.TEXT_ELLIPSIZE_TRUNCATE_END:
-						ellipsize = TruncateAt.END;
-						break;
-					case UIModule.TEXT_ELLIPSIZE_TRUNCATE_MARQUEE:
-						ellipsize = TruncateAt.MARQUEE;
-						break;
-					default:
-						ellipsize = null;
+				break;
+			case TiC.PROPERTY_VERTICAL_ALIGN:
+				TiUIHelper.setAlignment(tv, null, TiConvert.toString(newValue));
+				tv.requestLayout();
+				break;
+			case TiC.PROPERTY_MINIMUM_FONT_SIZE:
+				setMinimumFontSize(TiConvert.toString(newValue));
+				break;
+			case TiC.PROPERTY_FONT:
+				TiUIHelper.styleText(tv, (HashMap) newValue);
+				this.unscaledFontSizeInPixels = tv.getTextSize();
+				tv.requestLayout();
+				break;
+			case TiC.PROPERTY_ELLIPSIZE:
+				if (newValue instanceof Boolean) {
+					ellipsize = (Boolean) newValue ? TruncateAt.END : null;
+				} else if (newValue instanceof Integer) {
+					switch ((Integer) newValue) {
+						case UIModule.TEXT_ELLIPSIZE_TRUNCATE_START:
+							ellipsize = TruncateAt.START;
+							break;
+						case UIModule.TEXT_ELLIPSIZE_TRUNCATE_MIDDLE:
+							ellipsize = TruncateAt.MIDDLE;
+							break;
+						case UIModule.TEXT_ELLIPSIZE_TRUNCATE_END:
+							ellipsize = TruncateAt.END;
+							break;
+						case UIModule.TEXT_ELLIPSIZE_TRUNCATE_MARQUEE:
+							ellipsize = TruncateAt.MARQUEE;
+							break;
+						default:
+							ellipsize = null;
+					}
 				}
-			}
-			updateLabelText();
-		} else if (key.equals(TiC.PROPERTY_AUTO_LINK)) {
-			this.autoLinkFlags = TiConvert.toInt(newValue, 0) & Linkify.ALL;
-			updateLabelText();
-		} else if (key.equals(TiC.PROPERTY_SHADOW_OFFSET)) {
-			if (newValue instanceof HashMap) {
-				HashMap dict = (HashMap) newValue;
-				shadowX = TiConvert.toFloat(dict.get(TiC.PROPERTY_X), 0);
-				shadowY = TiConvert.toFloat(dict.get(TiC.PROPERTY_Y), 0);
-				tv.setShadowLayer(shadowRadius, shadowX, shadowY, shadowColor);
-			}
-		} else if (key.equals(TiC.PROPERTY_SHADOW_RADIUS)) {
-			shadowRadius = TiConvert.toFloat(newValue, DEFAULT_SHADOW_RADIUS);
-			tv.setShadowLayer(shadowRadius, shadowX, shadowY, shadowColor);
-		} else if (key.equals(TiC.PROPERTY_SHADOW_COLOR)) {
-			shadowColor = TiConvert.toColor(newValue, proxy.getActivity());
-			tv.setShadowLayer(shadowRadius, shadowX, shadowY, shadowColor);
-		} else if (key.equals(TiC.PROPERTY_LINES)) {
-			this.viewHeightInLines = TiConvert.toInt(newValue, 0);
-			updateLabelText();
-		} else if (key.equals(TiC.PROPERTY_MAX_LINES)) {
-			int value = TiConvert.toInt(newValue, Integer.MAX_VALUE);
-			if (value < 1) {
-				value = Integer.MAX_VALUE;
-			}
-			if (value != this.maxLines) {
-				this.maxLines = value;
 				updateLabelText();
-			}
-		} else if (key.equals(TiC.PROPERTY_LINE_SPACING)) {
-			if (newValue instanceof HashMap) {
-				HashMap dict = (HashMap) newValue;
-				tv.setLineSpacing(TiConvert.toFloat(dict.get(TiC.PROPERTY_ADD), 0),
-					TiConvert.toFloat(dict.get(TiC.PROPERTY_MULTIPLY), 0));
-			}
-		} else if (key.equals(TiC.PROPERTY_LETTER_SPACING)) {
-			float val = TiConvert.toFloat(newValue);
-			tv.setLetterSpacing(val);
-		} else if (key.equals(TiC.PROPERTY_HEIGHT)) {
-			// Update the view's height.
-			// Note: We may need to update lines/maxLines settings when switching to an auto-sized height.
-			boolean hadFixedSize = (this.layoutParams != null)
-								   && ((this.layoutParams.optionHeight != null) || this.layoutParams.autoFillsHeight);
-			super.propertyChanged(key, oldValue, newValue, proxy);
-			boolean isAutoSized = (this.layoutParams != null) && (this.layoutParams.optionHeight == null)
-								  && !this.layoutParams.autoFillsHeight;
-			if (hadFixedSize && isAutoSized) {
+				break;
+			case TiC.PROPERTY_AUTO_LINK:
+				this.autoLinkFlags = TiConvert.toInt(newValue, 0) & Linkify.ALL;
 				updateLabelText();
-			}
-		} else if (key.equals(TiC.PROPERTY_AUTOSIZE)) {
-			if (TiConvert.toBoolean(newValue, false)) {
-				oldFontSize = tv.getTextSize();
-				TextViewCompat.setAutoSizeTextTypeWithDefaults(tv, TextViewCompat.AUTO_SIZE_TEXT_TYPE_UNIFORM);
-			} else {
-				TextViewCompat.setAutoSizeTextTypeWithDefaults(tv, TextViewCompat.AUTO_SIZE_TEXT_TYPE_NONE);
-				if (oldFontSize != -1) {
-					tv.setTextSize(TypedValue.COMPLEX_UNIT_PX, oldFontSize);
-					tv.requestLayout();
+				break;
+			case TiC.PROPERTY_SHADOW_OFFSET:
+				if (newValue instanceof HashMap) {
+					HashMap dict = (HashMap) newValue;
+					shadowX = TiConvert.toFloat(dict.get(TiC.PROPERTY_X), 0);
+					shadowY = TiConvert.toFloat(dict.get(TiC.PROPERTY_Y), 0);
+					tv.setShadowLayer(shadowRadius, shadowX, shadowY, shadowColor);
+				}
+				break;
+			case TiC.PROPERTY_SHADOW_RADIUS:
+				shadowRadius = TiConvert.toFloat(newValue, DEFAULT_SHADOW_RADIUS);
+				tv.setShadowLayer(shadowRadius, shadowX, shadowY, shadowColor);
+				break;
+			case TiC.PROPERTY_SHADOW_COLOR:
+				shadowColor = TiConvert.toColor(newValue, proxy.getActivity());
+				tv.setShadowLayer(shadowRadius, shadowX, shadowY, shadowColor);
+				break;
+			case TiC.PROPERTY_LINES:
+				this.viewHeightInLines = TiConvert.toInt(newValue, 0);
+				updateLabelText();
+				break;
+			case TiC.PROPERTY_MAX_LINES: {
+				int value = TiConvert.toInt(newValue, Integer.MAX_VALUE);
+				if (value < 1) {
+					value = Integer.MAX_VALUE;
+				}
+				if (value != this.maxLines) {
+					this.maxLines = value;
+					updateLabelText();
 				}
+				break;
 			}
-
-		} else if (key.equals(TiC.PROPERTY_BREAK_STRATEGY)) {
-			if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.M) {
-				tv.setBreakStrategy(TiConvert.toInt(newValue));
+			case TiC.PROPERTY_LINE_SPACING:
+				if (newValue instanceof HashMap) {
+					HashMap dict = (HashMap) newValue;
+					tv.setLineSpacing(TiConvert.toFloat(dict.get(TiC.PROPERTY_ADD), 0),
+						TiConvert.toFloat(dict.get(TiC.PROPERTY_MULTIPLY), 0));
+				}
+				break;
+			case TiC.PROPERTY_LETTER_SPACING: {
+				float val = TiConvert.toFloat(newValue);
+				tv.setLetterSpacing(val);
+				break;
 			}
-		} else if (key.equals(TiC.PROPERTY_HYPHENATION_FREQUENCY)) {
-			if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.M) {
-				tv.setHyphenationFrequency(TiConvert.toInt(newValue));
+			case TiC.PROPERTY_HEIGHT: {
+				// Update the view's height.
+				// Note: We may need to update lines/maxLines settings when switching to an auto-sized height.
+				boolean hadFixedSize = (this.layoutParams != null)
+					&& ((this.layoutParams.optionHeight != null) || this.layoutParams.autoFillsHeight);
+				super.propertyChanged(key, oldValue, newValue, proxy);
+				boolean isAutoSized = (this.layoutParams != null) && (this.layoutParams.optionHeight == null)
+					&& !this.layoutParams.autoFillsHeight;
+				if (hadFixedSize && isAutoSized) {
+					updateLabelText();
+				}
+				break;
 			}
-		} else if (key.equals(TiC.PROPERTY_TEXT_TRANSFORM)) {
-			String transformName = TiConvert.toString(newValue);
-			if (transformName.equals("uppercase")) {
-				textFilter = TEXT_FILTER_UPPERCASE;
-			} else if (transformName.equals("lowercase")) {
-				textFilter = TEXT_FILTER_LOWERCASE;
-			} else if (transformName.equals("none")) {
-				textFilter = TEXT_FILTER_DEFAULT;
+			case TiC.PROPERTY_AUTOSIZE:
+				if (TiConvert.toBoolean(newValue, false)) {
+					oldFontSize = tv.getTextSize();
+					TextViewCompat.setAutoSizeTextTypeWithDefaults(tv, TextViewCompat.AUTO_SIZE_TEXT_TYPE_UNIFORM);
+				} else {
+					TextViewCompat.setAutoSizeTextTypeWithDefaults(tv, TextViewCompat.AUTO_SIZE_TEXT_TYPE_NONE);
+					if (oldFontSize != -1) {
+						tv.setTextSize(TypedValue.COMPLEX_UNIT_PX, oldFontSize);
+						tv.requestLayout();
+					}
+				}
+				break;
+			case TiC.PROPERTY_BREAK_STRATEGY:
+				if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.M) {
+					tv.setBreakStrategy(TiConvert.toInt(newValue));
+				}
+				break;
+			case TiC.PROPERTY_HYPHENATION_FREQUENCY:
+				if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.M) {
+					tv.setHyphenationFrequency(TiConvert.toInt(newValue));
+				}
+				break;
+			case TiC.PROPERTY_TEXT_TRANSFORM: {
+				String transformName = TiConvert.toString(newValue);
+				if (transformName.equals("uppercase")) {
+					textFilter = TEXT_FILTER_UPPERCASE;
+				} else if (transformName.equals("lowercase")) {
+					textFilter = TEXT_FILTER_LOWERCASE;
+				} else if (transformName.equals("none")) {
+					textFilter = TEXT_FILTER_DEFAULT;
+				}
+				updateLabelText();
+				break;
 			}
-			updateLabelText();
-		} else if (key.equals(TiC.PROPERTY_PADDING)) {
-			setTextPadding((HashMap) newValue);
-		} else {
-			super.propertyChanged(key, oldValue, newValue, proxy);
+			case TiC.PROPERTY_PADDING:
+				setTextPadding((HashMap) newValue);
+				break;
+			default:
+				super.propertyChanged(key, oldValue, newValue, proxy);
+				break;
 		}
 	}
 
@@ -267,6 +267,13 @@ public class TiUIListView extends TiUIView
 			this.listView.update(true);
 		}
 
+		if (name.equals(TiC.PROPERTY_TEMPLATES)
+			|| name.equals(TiC.PROPERTY_DEFAULT_ITEM_TEMPLATE)
+			|| name.equals(TiC.PROPERTY_RECYCLE_POOL_SIZE)
+			|| name.equals(TiC.PROPERTY_PREWARM_COUNT)) {
+			this.listView.updateRecyclePool();
+		}
+
 		if (name.equals(TiC.PROPERTY_CLIP_VIEWS)) {
 			this.listView.getRecyclerView().setClipToPadding(TiConvert.toBoolean(value, true));
 		}
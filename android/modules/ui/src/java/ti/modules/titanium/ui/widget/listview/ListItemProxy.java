@@ -6,10 +6,9 @@
  */
 package ti.modules.titanium.ui.widget.listview;
 
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
-import java.util.TreeSet;
+import java.util.HashSet;
+import java.util.Map;
 
 import org.appcelerator.kroll.KrollDict;
 import org.appcelerator.kroll.KrollEventCallback;
@@ -29,6 +28,7 @@ import android.view.View;
 import androidx.annotation.NonNull;
 
 import ti.modules.titanium.ui.UIModule;
+import ti.modules.titanium.ui.ViewProxy;
 import ti.modules.titanium.ui.widget.TiView;
 
 @Kroll.proxy(
@@ -47,14 +47,18 @@ public class ListItemProxy extends TiViewProxy
 
 	private final HashMap<String, TiViewProxy> binds = new HashMap<>();
 	private final HashMap<String, Object> childProperties = new HashMap<>();
-	private final List<String> ignoredTemplateKeys = new ArrayList<>();
+	private final HashSet<String> ignoredTemplateKeys = new HashSet<>();
 
 	public int index;
 
+	// Position of item in its template's recycle pool, or -1 if not recyclable.
+	int recycleIndex = -1;
+
 	private int filteredIndex = -1;
 	private ListViewHolder holder;
-	private KrollDict template;
+	private ListItemTemplate template;
 	private String templateId;
+	private int templateType = 0;
 	private boolean placeholder = false;
 	private boolean hasAddedItemEvents = false;
 	private boolean selected = false;
@@ -95,12 +99,10 @@ public class ListItemProxy extends TiViewProxy
 		}
 
 		// Apply template defined properties to this ListItem.
-		final KrollDict templateProperties = this.template.getKrollDict(TiC.PROPERTY_PROPERTIES);
-		if (templateProperties != null) {
-			for (KrollDict.Entry<String, Object> entry : templateProperties.entrySet()) {
-				if (!this.ignoredTemplateKeys.contains(entry.getKey())) {
-					setProperty(entry.getKey(), entry.getValue());
-				}
+		for (int i = 0; i < this.template.getPropertyCount(); i++) {
+			final String key = this.template.getPropertyKey(i);
+			if (!this.ignoredTemplateKeys.contains(key)) {
+				setProperty(key, this.template.getPropertyValue(i));
 			}
 		}
 
@@ -123,6 +125,12 @@ public class ListItemProxy extends TiViewProxy
 		// Inject row data into events.
 		final ListViewProxy listViewProxy = getListViewProxy();
 		if (listViewProxy != null) {
+			// Item indexes must match the sections, which already hold the items of a pending update.
+			final TiListView listView = listViewProxy.getListView();
+			if (listView != null) {
+				listView.applyPendingUpdate();
+			}
+
 			final KrollDict payload = data instanceof HashMap
 				? new KrollDict((HashMap<String, Object>) data) : new KrollDict();
 			final Object sourceObject = payload.containsKeyAndNotNull(TiC.EVENT_PROPERTY_SOURCE)
@@ -202,20 +210,21 @@ public class ListItemProxy extends TiViewProxy
 	 * @param template Template to generate views from.
 	 * @return Generated TiViewProxy.
 	 */
-	protected TiViewProxy generateViewFromTemplate(TiViewProxy parent, KrollDict template)
+	protected TiViewProxy generateViewFromTemplate(TiViewProxy parent, ListItemTemplate template)
 	{
-		final TiViewProxy tiProxy = (TiViewProxy) template.get("tiProxy");
-		final KrollDict templateProperties = template.getKrollDict(TiC.PROPERTY_PROPERTIES);
-		final Object[] childTemplates = (Object[]) template.get(TiC.PROPERTY_CHILD_TEMPLATES);
-		final String bindId = template.getString(TiC.PROPERTY_BIND_ID);
+		final String bindId = template.getBindId();
 
 		if (parent == null) {
 			try {
 
 				// Parent undefined, create new proxy instance.
-				parent = tiProxy.getClass().newInstance();
+				parent = template.newProxy();
+				if (parent == null) {
+					return null;
+				}
 
-				final KrollDict properties = new KrollDict(tiProxy.getProperties());
+				final KrollDict properties = new KrollDict();
+				template.putProperties(properties);
 
 				if (this.childProperties.containsKey(bindId)) {
 					final Object childPropertiesObj = this.childProperties.get(bindId);
@@ -234,6 +243,9 @@ public class ListItemProxy extends TiViewProxy
 			} catch (Exception e) {
 				Log.w(TAG, "Failed to create child proxy instance from template.");
 			}
+			if (parent == null) {
+				return null;
+			}
 		}
 		if (bindId != null) {
 
@@ -244,33 +256,39 @@ public class ListItemProxy extends TiViewProxy
 		// Fetch event listeners from template and add them to the proxy.
 		addTemplateEventListeners(parent, template);
 
-		if (childTemplates != null) {
-
-			// Recursively process child templates.
-			for (Object o : childTemplates) {
-				if (o instanceof HashMap) {
-					final KrollDict childTemplate = new KrollDict((HashMap) o);
-					final TiViewProxy childView = generateViewFromTemplate(null, childTemplate);
-					if (childView != null) {
-						parent.add(childView);
-					}
-				}
+		// Recursively process child templates.
+		for (final ListItemTemplate childTemplate : template.getChildren()) {
+			TiViewProxy childView = generateViewFromTemplate(null, childTemplate);
+			if (childView == null) {
+				// Keep the index of the following children, which the template's bind paths refer to.
+				childView = createPlaceholderProxy();
 			}
+			parent.add(childView);
 		}
 
 		return parent;
 	}
 
-	private void addTemplateEventListeners(final TiViewProxy proxy, KrollDict template)
+	/**
+	 * Create a hidden view taking the place of a child view which could not be created.
+	 *
+	 * @return TiViewProxy
+	 */
+	private TiViewProxy createPlaceholderProxy()
 	{
-		// Validate arguments.
-		if ((proxy == null) || (template == null)) {
-			return;
-		}
+		final KrollDict properties = new KrollDict();
+		properties.put(TiC.PROPERTY_VISIBLE, false);
+
+		final TiViewProxy proxy = new ViewProxy();
+		proxy.setActivity(getActivity());
+		proxy.handleCreationArgs(null, new Object[] { properties });
+		return proxy;
+	}
 
-		// Fetch events assigned to given template.
-		final KrollDict eventDictionary = template.getKrollDict(TiC.PROPERTY_EVENTS);
-		if (eventDictionary == null) {
+	private void addTemplateEventListeners(final TiViewProxy proxy, ListItemTemplate template)
+	{
+		// Validate arguments.
+		if ((proxy == null) || (template == null) || (template.getEventCount() == 0)) {
 			return;
 		}
 
@@ -284,11 +302,9 @@ public class ListItemProxy extends TiViewProxy
 		}
 
 		// Add event listeners to given proxy.
-		for (KrollDict.Entry<String, Object> entry : eventDictionary.entrySet()) {
-			if (!(entry.getValue() instanceof KrollFunction callback)) {
-				continue;
-			}
-			final String eventName = entry.getKey();
+		for (int i = 0; i < template.getEventCount(); i++) {
+			final String eventName = template.getEventName(i);
+			final KrollFunction callback = template.getEventCallback(i);
 			final KrollObject krollObject = proxy.getKrollObject();
 			proxy.addEventListener(eventName, new KrollEventCallback() {
 				@Override
@@ -347,24 +363,48 @@ public class ListItemProxy extends TiViewProxy
 			return;
 		}
 
-		// Move this proxy's children to given proxy and overwrite their properties.
+		// Move this proxy's children to given proxy.
 		// Note: This also moves their native views. Updating properties will also update the native views.
 		proxy.loadTemplate();
-		proxy.copyChildPropertiesTo(childProxies, proxy.template);
 		proxy.add(childProxies);
 
 		// Now that this proxy has no children, release this proxy's 1 native view container.
 		// We do this to reduce memory footprint of all offscreen list items.
 		releaseViews();
 
+		// Bind given proxy's new children using the template's binding index, then overwrite their properties.
+		proxy.binds.clear();
+		if (proxy.template != null) {
+			for (final Map.Entry<String, int[]> entry : proxy.template.getBindPaths().entrySet()) {
+				final TiViewProxy boundProxy = proxy.getDescendant(entry.getValue());
+				if (boundProxy != null) {
+					proxy.binds.put(entry.getKey(), boundProxy);
+				}
+			}
+			proxy.copyChildPropertiesToBoundProxies();
+		}
+
 		// Remove all child binding IDs from this proxy except for the ListItem itself.
-		final String bindId = this.template.getString(TiC.PROPERTY_BIND_ID);
+		final String bindId = this.template.getBindId();
 		this.binds.clear();
 		if (bindId != null) {
 			this.binds.put(bindId, this);
 		}
 	}
 
+	private TiViewProxy getDescendant(int[] path)
+	{
+		TiViewProxy proxy = this;
+		for (final int index : path) {
+			final TiViewProxy[] children = proxy.getChildren();
+			if (index >= children.length) {
+				return null;
+			}
+			proxy = children[index];
+		}
+		return proxy;
+	}
+
 	private void copyChildPropertiesFromProxies()
 	{
 		for (HashMap.Entry<String, TiViewProxy> bindsEntry : this.binds.entrySet()) {
@@ -391,88 +431,69 @@ public class ListItemProxy extends TiViewProxy
 		}
 	}
 
-	private void copyChildPropertiesTo(TiViewProxy[] proxies, KrollDict template)
+	/**
+	 * Assign template and item properties to each bound child view.
+	 * Child views without a `bindId` cannot be changed by the item, so they keep their template properties.
+	 */
+	private void copyChildPropertiesToBoundProxies()
 	{
-		// Validate arguments.
-		if ((proxies == null) || (proxies.length <= 0) || (template == null)) {
-			return;
-		}
-
-		// Fetch child templates nested under given template.
-		final Object[] childTemplates = (Object[]) template.get(TiC.PROPERTY_CHILD_TEMPLATES);
-
-		// Update all child proxies.
-		var excludeKeys = new TreeSet<String>();
-		for (int index = 0; index < proxies.length; index++) {
-			// Fetch child's template.
-			KrollDict childTemplate = null;
-			if ((childTemplates != null) && (index < childTemplates.length)) {
-				Object objectTemplate = childTemplates[index];
-				if (objectTemplate instanceof KrollDict) {
-					childTemplate = (KrollDict) objectTemplate;
-				} else if (objectTemplate instanceof HashMap) {
-					childTemplate = new KrollDict((HashMap) objectTemplate);
-				}
-			}
-
-			// Fetch child's assigned configuration.
-			TiViewProxy tiProxy = null;
-			String bindId = null;
-			KrollDict events = null;
-			if (childTemplate != null) {
-				tiProxy = (TiViewProxy) childTemplate.get("tiProxy");
-				bindId = childTemplate.getString(TiC.PROPERTY_BIND_ID);
-				events = childTemplate.getKrollDict(TiC.PROPERTY_EVENTS);
-			}
-
-			// Fetch child's properties.
-			TiViewProxy proxy = proxies[index];
-			final KrollDict properties = new KrollDict();
-			if (tiProxy != null) {
-				properties.putAll(tiProxy.getProperties());
+		final HashSet<String> excludeKeys = new HashSet<>();
+		for (final Map.Entry<String, TiViewProxy> bindsEntry : this.binds.entrySet()) {
+			// Skip the root ListItemProxy object.
+			final TiViewProxy proxy = bindsEntry.getValue();
+			if (proxy == this) {
+				continue;
 			}
+			final String bindId = bindsEntry.getKey();
+			final ListItemTemplate childTemplate = this.template.getBoundTemplate(bindId);
 			final Object childPropertiesObj = this.childProperties.get(bindId);
-			if (childPropertiesObj instanceof HashMap) {
-				properties.putAll((HashMap) childPropertiesObj);
-			}
+			final HashMap<String, Object> properties =
+				childPropertiesObj instanceof HashMap ? (HashMap<String, Object>) childPropertiesObj : null;
 
-			// Assign properties to child proxy.
+			// Assign template properties not overridden by the item, then the item's properties.
 			excludeKeys.clear();
-			for (var entry : properties.entrySet()) {
-				// Skip property if in exclusion set. We do this for localized properties.
-				if (excludeKeys.contains(entry.getKey())) {
-					continue;
+			if (childTemplate != null) {
+				for (int i = 0; i < childTemplate.getPropertyCount(); i++) {
+					final String key = childTemplate.getPropertyKey(i);
+					if ((properties == null) || !properties.containsKey(key)) {
+						copyChildPropertyTo(proxy, key, childTemplate.getPropertyValue(i), excludeKeys);
+					}
 				}
-
-				// Skip copying property if value isn't changing. (This drastically improves performance.)
-				if (!proxy.shouldFireChange(proxy.getProperty(entry.getKey()), entry.getValue())) {
-					continue;
+			}
+			if (properties != null) {
+				for (final Map.Entry<String, Object> entry : properties.entrySet()) {
+					copyChildPropertyTo(proxy, entry.getKey(), entry.getValue(), excludeKeys);
 				}
+			}
+		}
+	}
 
-				// Do special handling for localized properties, such as "textid" or "titleid".
-				// Returned "pair" provides property key/value that should be changed, such as "text" or "title".
-				if (proxy.isLocaleProperty(entry.getKey())) {
-					var pair = proxy.updateLocaleProperty(entry.getKey(), TiConvert.toString(entry.getValue()));
-					if (pair != null) {
-						excludeKeys.add(pair.first);
-						proxy.setProperty(entry.getKey(), entry.getValue());
-						proxy.firePropertyChanged(pair.first, proxy.getProperty(pair.first), pair.second);
-						continue;
-					}
-				}
+	private static void copyChildPropertyTo(TiViewProxy proxy, String key, Object value, HashSet<String> excludeKeys)
+	{
+		// Skip property if in exclusion set. We do this for localized properties.
+		if (excludeKeys.contains(key)) {
+			return;
+		}
 
-				// Update property value and invoke onPropetyChanged() callback.
-				proxy.setPropertyAndFire(entry.getKey(), entry.getValue());
-			}
+		// Skip copying property if value isn't changing. (This drastically improves performance.)
+		if (!proxy.shouldFireChange(proxy.getProperty(key), value)) {
+			return;
+		}
 
-			// Add child's binding ID to main dictionary.
-			if (bindId != null) {
-				this.binds.put(bindId, proxy);
+		// Do special handling for localized properties, such as "textid" or "titleid".
+		// Returned "pair" provides property key/value that should be changed, such as "text" or "title".
+		if (proxy.isLocaleProperty(key)) {
+			var pair = proxy.updateLocaleProperty(key, TiConvert.toString(value));
+			if (pair != null) {
+				excludeKeys.add(pair.first);
+				proxy.setProperty(key, value);
+				proxy.firePropertyChanged(pair.first, proxy.getProperty(pair.first), pair.second);
+				return;
 			}
-
-			// Update child's children. (This is recursive.)
-			copyChildPropertiesTo(proxy.getChildren(), childTemplate);
 		}
+
+		// Update property value and invoke onPropetyChanged() callback.
+		proxy.setPropertyAndFire(key, value);
 	}
 
 	@Override
@@ -599,6 +620,22 @@ public class ListItemProxy extends TiViewProxy
 		return this.templateId;
 	}
 
+	/**
+	 * Get interned integer identifier of template associated with item.
+	 *
+	 * @return Template type, or 0 if item has no template.
+	 */
+	public int getTemplateType()
+	{
+		if (this.templateType == 0) {
+			final String templateId = getTemplateId();
+			if (templateId != null) {
+				this.templateType = ListViewAdapter.getTemplateType(templateId);
+			}
+		}
+		return this.templateType;
+	}
+
 	/**
 	 * Determine if item is currently selected.
 	 *
@@ -655,6 +692,7 @@ public class ListItemProxy extends TiViewProxy
 
 		// Set item template.
 		this.templateId = options.getString(TiC.PROPERTY_TEMPLATE);
+		this.templateType = 0;
 
 		// Process item properties.
 		handleCreationDict(properties);
@@ -845,17 +883,14 @@ public class ListItemProxy extends TiViewProxy
 
 		// Fetch template that this ListItem should use, if not done already.
 		final KrollDict listViewProperties = listViewProxy.getProperties();
-		final KrollDict listViewTemplates = listViewProperties.getKrollDict(TiC.PROPERTY_TEMPLATES);
 		if (this.templateId == null) {
 			// Attempt to obtain ListItem `template` identifier. If not set, then use default template.
 			final String defaultTemplateId = listViewProperties.optString(
 				TiC.PROPERTY_DEFAULT_ITEM_TEMPLATE, UIModule.LIST_ITEM_TEMPLATE_DEFAULT);
 			this.templateId = properties.optString(TiC.PROPERTY_TEMPLATE, defaultTemplateId);
 		}
-		if ((listViewTemplates != null) && listViewTemplates.containsKey(this.templateId)) {
-			// Obtain specified template for item.
-			this.template = listViewTemplates.getKrollDict(this.templateId);
-		}
+		// Obtain specified template for item, compiled by the ListView.
+		this.template = listViewProxy.getTemplate(this.templateId);
 	}
 
 	/**
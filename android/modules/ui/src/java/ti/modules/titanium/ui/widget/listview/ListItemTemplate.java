@@ -0,0 +1,238 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present. All Rights Reserved.
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package ti.modules.titanium.ui.widget.listview;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.appcelerator.kroll.KrollDict;
+import org.appcelerator.kroll.KrollFunction;
+import org.appcelerator.titanium.TiC;
+import org.appcelerator.titanium.proxy.TiViewProxy;
+
+/**
+ * Immutable form of a ListView item template, compiled once from its dictionary.
+ * <p>
+ * Creating the views of an item walks this tree instead of the template dictionary, avoiding
+ * copying dictionaries for every item. Each node provides the proxy class and properties of a view,
+ * the event listeners to add to it, and its child templates.
+ */
+public final class ListItemTemplate
+{
+	private static final String[] EMPTY_KEYS = new String[0];
+	private static final Object[] EMPTY_VALUES = new Object[0];
+	private static final KrollFunction[] EMPTY_CALLBACKS = new KrollFunction[0];
+	private static final ListItemTemplate[] EMPTY_CHILDREN = new ListItemTemplate[0];
+
+	private final Class<? extends TiViewProxy> proxyClass;
+	private final String bindId;
+	private final String[] propertyKeys;
+	private final Object[] propertyValues;
+	private final String[] eventNames;
+	private final KrollFunction[] eventCallbacks;
+	private final ListItemTemplate[] children;
+
+	// Path of child indexes to each `bindId`, and template bound to it. Only provided by the root template.
+	private final Map<String, int[]> bindPaths;
+	private final Map<String, ListItemTemplate> boundTemplates;
+
+	private ListItemTemplate(KrollDict template, KrollDict properties, boolean isRoot)
+	{
+		final Object tiProxy = template.get(TiC.PROPERTY_TI_PROXY);
+		this.proxyClass = tiProxy instanceof TiViewProxy ? ((TiViewProxy) tiProxy).getClass() : null;
+		this.bindId = template.getString(TiC.PROPERTY_BIND_ID);
+
+		// Properties.
+		if (properties != null && !properties.isEmpty()) {
+			this.propertyKeys = new String[properties.size()];
+			this.propertyValues = new Object[properties.size()];
+			int index = 0;
+			for (final Map.Entry<String, Object> entry : properties.entrySet()) {
+				this.propertyKeys[index] = entry.getKey();
+				this.propertyValues[index] = entry.getValue();
+				index++;
+			}
+		} else {
+			this.propertyKeys = EMPTY_KEYS;
+			this.propertyValues = EMPTY_VALUES;
+		}
+
+		// Event listeners.
+		final KrollDict events = template.getKrollDict(TiC.PROPERTY_EVENTS);
+		final ArrayList<String> eventNameList = new ArrayList<>();
+		final ArrayList<KrollFunction> eventCallbackList = new ArrayList<>();
+		if (events != null) {
+			for (final Map.Entry<String, Object> entry : events.entrySet()) {
+				if (entry.getValue() instanceof KrollFunction callback) {
+					eventNameList.add(entry.getKey());
+					eventCallbackList.add(callback);
+				}
+			}
+		}
+		this.eventNames = eventNameList.toArray(EMPTY_KEYS);
+		this.eventCallbacks = eventCallbackList.toArray(EMPTY_CALLBACKS);
+
+		// Child templates. Those without a view class are skipped, as no view can be created for them.
+		final Object childTemplates = template.get(TiC.PROPERTY_CHILD_TEMPLATES);
+		final ArrayList<ListItemTemplate> childList = new ArrayList<>();
+		if (childTemplates instanceof Object[]) {
+			for (final Object o : (Object[]) childTemplates) {
+				if (o instanceof HashMap) {
+					final KrollDict childTemplate = new KrollDict((HashMap) o);
+					final Object childProxy = childTemplate.get(TiC.PROPERTY_TI_PROXY);
+					if (childProxy instanceof TiViewProxy viewProxy) {
+						childList.add(new ListItemTemplate(childTemplate, viewProxy.getProperties(), false));
+					}
+				}
+			}
+		}
+		this.children = childList.isEmpty() ? EMPTY_CHILDREN : childList.toArray(EMPTY_CHILDREN);
+
+		// Index binding identifiers of the whole tree.
+		if (isRoot) {
+			final HashMap<String, int[]> paths = new HashMap<>();
+			final HashMap<String, ListItemTemplate> templates = new HashMap<>();
+			addBindPaths(this, new int[0], paths, templates);
+			this.bindPaths = Collections.unmodifiableMap(paths);
+			this.boundTemplates = Collections.unmodifiableMap(templates);
+		} else {
+			this.bindPaths = null;
+			this.boundTemplates = null;
+		}
+	}
+
+	/**
+	 * Compile template dictionary of a ListView.
+	 *
+	 * @param template Template dictionary, as provided by the `templates` property.
+	 * @return Compiled template.
+	 */
+	public static ListItemTemplate compile(KrollDict template)
+	{
+		return new ListItemTemplate(template, template.getKrollDict(TiC.PROPERTY_PROPERTIES), true);
+	}
+
+	private static void addBindPaths(ListItemTemplate template, int[] path, HashMap<String, int[]> paths,
+		HashMap<String, ListItemTemplate> templates)
+	{
+		if (template.bindId != null) {
+			paths.put(template.bindId, path);
+			templates.put(template.bindId, template);
+		}
+		for (int i = 0; i < template.children.length; i++) {
+			final int[] childPath = new int[path.length + 1];
+			System.arraycopy(path, 0, childPath, 0, path.length);
+			childPath[path.length] = i;
+			addBindPaths(template.children[i], childPath, paths, templates);
+		}
+	}
+
+	/**
+	 * Create a proxy instance of this template's view class.
+	 *
+	 * @return TiViewProxy, or null if template has no view class.
+	 */
+	public TiViewProxy newProxy() throws ReflectiveOperationException
+	{
+		return this.proxyClass != null ? this.proxyClass.getDeclaredConstructor().newInstance() : null;
+	}
+
+	/**
+	 * Get binding identifier of template.
+	 *
+	 * @return String, or null if none.
+	 */
+	public String getBindId()
+	{
+		return this.bindId;
+	}
+
+	/**
+	 * Get amount of template properties.
+	 *
+	 * @return Integer
+	 */
+	public int getPropertyCount()
+	{
+		return this.propertyKeys.length;
+	}
+
+	public String getPropertyKey(int index)
+	{
+		return this.propertyKeys[index];
+	}
+
+	public Object getPropertyValue(int index)
+	{
+		return this.propertyValues[index];
+	}
+
+	/**
+	 * Copy template properties into dictionary.
+	 *
+	 * @param properties Dictionary to copy properties into.
+	 */
+	public void putProperties(KrollDict properties)
+	{
+		for (int i = 0; i < this.propertyKeys.length; i++) {
+			properties.put(this.propertyKeys[i], this.propertyValues[i]);
+		}
+	}
+
+	/**
+	 * Get amount of event listeners of template.
+	 *
+	 * @return Integer
+	 */
+	public int getEventCount()
+	{
+		return this.eventNames.length;
+	}
+
+	public String getEventName(int index)
+	{
+		return this.eventNames[index];
+	}
+
+	public KrollFunction getEventCallback(int index)
+	{
+		return this.eventCallbacks[index];
+	}
+
+	/**
+	 * Get child templates.
+	 *
+	 * @return Array of child templates. Must not be modified.
+	 */
+	public ListItemTemplate[] getChildren()
+	{
+		return this.children;
+	}
+
+	/**
+	 * Get path of child indexes from the root template to each binding identifier.
+	 *
+	 * @return Map of paths by binding identifier, or null if not a root template.
+	 */
+	public Map<String, int[]> getBindPaths()
+	{
+		return this.bindPaths;
+	}
+
+	/**
+	 * Get template of view with given binding identifier.
+	 *
+	 * @param bindId Binding identifier.
+	 * @return ListItemTemplate, or null if not found or not a root template.
+	 */
+	public ListItemTemplate getBoundTemplate(String bindId)
+	{
+		return this.boundTemplates != null ? this.boundTemplates.get(bindId) : null;
+	}
+}
@@ -7,6 +7,7 @@
 package ti.modules.titanium.ui.widget.listview;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 
@@ -32,7 +33,6 @@ public class ListSectionProxy extends TiViewProxy
 	protected List<ListItemProxy> items = new ArrayList<>();
 
 	private int filteredItemCount = -1;
-	private boolean shouldUpdate = true;
 
 	public ListSectionProxy()
 	{
@@ -49,12 +49,13 @@ public class ListSectionProxy extends TiViewProxy
 	public void appendItems(Object dataItems, @Kroll.argument(optional = true) KrollDict animation)
 	{
 		final List<ListItemProxy> items = processItems(dataItems);
+		final int index = this.items.size();
 
 		// Add to current items.
 		this.items.addAll(items);
 
 		// Notify ListView of new items.
-		update();
+		update(index, Collections.emptyList(), items);
 	}
 
 	@Override
@@ -75,16 +76,17 @@ public class ListSectionProxy extends TiViewProxy
 	@Kroll.method
 	public void deleteItemsAt(int index, int count, @Kroll.argument(optional = true) KrollDict animation)
 	{
-		for (int i = 0; i < count; i++) {
-			final ListItemProxy item = this.items.get(index);
+		final List<ListItemProxy> range = this.items.subList(index, index + count);
+		final List<ListItemProxy> oldItems = new ArrayList<>(range);
 
-			// Remove item.
+		// Remove items.
+		for (final ListItemProxy item : oldItems) {
 			item.setParent(null);
-			this.items.remove(item);
 		}
+		range.clear();
 
 		// Notify ListView of deleted items.
-		update();
+		update(index, oldItems, Collections.emptyList());
 	}
 
 	@Override
@@ -267,7 +269,7 @@ public class ListSectionProxy extends TiViewProxy
 		this.items.addAll(index, items);
 
 		// Notify ListView of new items.
-		update();
+		update(index, Collections.emptyList(), items);
 	}
 
 	/**
@@ -419,15 +421,20 @@ public class ListSectionProxy extends TiViewProxy
 	public void replaceItemsAt(int index, int count, Object dataItems,
 							   @Kroll.argument(optional = true) KrollDict animation)
 	{
-		// Prevent items from updating during operations.
-		shouldUpdate = false;
+		final List<ListItemProxy> range = this.items.subList(index, index + count);
+		final List<ListItemProxy> oldItems = new ArrayList<>(range);
 
-		deleteItemsAt(index, count, null);
-		insertItemsAt(index, dataItems, null);
+		// Remove replaced items before processing new items, which may include some of the replaced items.
+		for (final ListItemProxy item : oldItems) {
+			item.setParent(null);
+		}
+		range.clear();
+
+		final List<ListItemProxy> newItems = processItems(dataItems);
+		this.items.addAll(index, newItems);
 
-		// Allow items to update after operations.
-		shouldUpdate = true;
-		update();
+		// Notify ListView of replaced items.
+		update(index, oldItems, newItems);
 	}
 
 	/**
@@ -439,13 +446,17 @@ public class ListSectionProxy extends TiViewProxy
 	@Kroll.method
 	public void setItems(Object dataItems, @Kroll.argument(optional = true) KrollDict animation)
 	{
+		final List<ListItemProxy> oldItems = new ArrayList<>(this.items);
 		final List<ListItemProxy> newItems = processItems(dataItems);
 
 		removeAllItems();
+		for (final ListItemProxy item : newItems) {
+			item.setParent(this);
+		}
 		this.items.addAll(newItems);
 
-		// Notify ListView of new items.
-		update();
+		// Notify ListView of replaced items.
+		update(0, oldItems, newItems);
 	}
 
 	/**
@@ -472,23 +483,20 @@ public class ListSectionProxy extends TiViewProxy
 	}
 
 	/**
-	 * Notify ListView to update all adapter items.
+	 * Notify ListView to update a range of adapter items.
+	 *
+	 * @param index    Index of the first changed item.
+	 * @param oldItems Items removed at index.
+	 * @param newItems Items now at index.
 	 */
-	private void update(boolean force)
+	private void update(int index, List<ListItemProxy> oldItems, List<ListItemProxy> newItems)
 	{
-		if (!shouldUpdate) {
-			return;
-		}
 		final ListViewProxy listViewProxy = getListViewProxy();
 
 		if (listViewProxy != null) {
-			listViewProxy.update(force);
+			listViewProxy.update(this, index, oldItems, newItems);
 		}
 	}
-	private void update()
-	{
-		this.update(false);
-	}
 
 	/**
 	 * Update item at specified index.
@@ -503,10 +511,10 @@ public class ListSectionProxy extends TiViewProxy
 		final ListItemProxy item = processItem(dataItem);
 
 		if (item != null) {
-			this.items.set(index, item);
+			final ListItemProxy oldItem = this.items.set(index, item);
 
 			// Notify ListView of new items.
-			update();
+			update(index, Collections.singletonList(oldItem), Collections.singletonList(item));
 		}
 	}
 }
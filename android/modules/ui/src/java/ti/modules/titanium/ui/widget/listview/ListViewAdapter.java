@@ -6,15 +6,18 @@
  */
 package ti.modules.titanium.ui.widget.listview;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.appcelerator.kroll.KrollDict;
 import org.appcelerator.kroll.common.Log;
 import org.appcelerator.titanium.proxy.TiViewProxy;
 import org.appcelerator.titanium.util.TiRHelper;
 
 import android.content.Context;
+import android.util.SparseArray;
 import android.view.ViewGroup;
 import android.view.animation.Animation;
 import android.view.animation.AnimationUtils;
@@ -26,7 +29,19 @@ public class ListViewAdapter extends TiRecyclerViewAdapter<ListViewHolder, ListI
 {
 	private static final String TAG = "ListViewAdapter";
 
-	private final TreeMap<String, LinkedList<ListItemProxy>> recyclableItemsMap = new TreeMap<>();
+	// Interned template identifiers. Type 0 is reserved for items without template.
+	private static final ConcurrentHashMap<String, Integer> templateTypes = new ConcurrentHashMap<>();
+	private static final AtomicInteger lastTemplateType = new AtomicInteger(0);
+
+	private final SparseArray<RecyclePool> recyclePools = new SparseArray<>();
+	private int recyclePoolSize = -1;
+
+	// Statistics.
+	private long hitCount = 0;
+	private long missCount = 0;
+	private long inflateCount = 0;
+	private long prewarmCount = 0;
+	private long releaseCount = 0;
 
 	public ListViewAdapter(@NonNull Context context, @NonNull List<ListItemProxy> models)
 	{
@@ -42,6 +57,56 @@ public class ListViewAdapter extends TiRecyclerViewAdapter<ListViewHolder, ListI
 		}
 	}
 
+	/**
+	 * Get interned integer identifier of a template.
+	 * Unlike a hash code, it is unique to the template identifier.
+	 *
+	 * @param templateId Template identifier.
+	 * @return Template type, greater than 0.
+	 */
+	public static int getTemplateType(@NonNull String templateId)
+	{
+		return templateTypes.computeIfAbsent(templateId, (key) -> lastTemplateType.incrementAndGet());
+	}
+
+	/**
+	 * Set maximum amount of recyclable items kept per template.
+	 *
+	 * @param size Maximum amount of items, or -1 for no limit.
+	 */
+	public void setRecyclePoolSize(int size)
+	{
+		this.recyclePoolSize = size;
+
+		if (size >= 0) {
+			for (int i = 0; i < this.recyclePools.size(); i++) {
+				this.releaseCount += this.recyclePools.valueAt(i).trim(size);
+			}
+		}
+	}
+
+	/**
+	 * Obtain statistics of items and holders reuse.
+	 *
+	 * @return Dictionary of the hit, miss, inflate, prewarm and release counts, and of the pooled item count.
+	 */
+	public KrollDict getStats()
+	{
+		int pooledCount = 0;
+		for (int i = 0; i < this.recyclePools.size(); i++) {
+			pooledCount += this.recyclePools.valueAt(i).size();
+		}
+
+		final KrollDict stats = new KrollDict();
+		stats.put("hits", this.hitCount);
+		stats.put("misses", this.missCount);
+		stats.put("inflates", this.inflateCount);
+		stats.put("prewarmed", this.prewarmCount);
+		stats.put("released", this.releaseCount);
+		stats.put("pooled", pooledCount);
+		return stats;
+	}
+
 	/**
 	 * Get unique integer identifier of the template the item uses.
 	 * This tells the RecyclerView to only bind scrolled-in items to holders of the same type/template.
@@ -53,10 +118,7 @@ public class ListViewAdapter extends TiRecyclerViewAdapter<ListViewHolder, ListI
 	{
 		ListItemProxy proxy = this.models.get(position);
 		if (proxy != null) {
-			String templateId = proxy.getTemplateId();
-			if (templateId != null) {
-				return templateId.hashCode();
-			}
+			return proxy.getTemplateType();
 		}
 		return 0;
 	}
@@ -76,21 +138,28 @@ public class ListViewAdapter extends TiRecyclerViewAdapter<ListViewHolder, ListI
 		final boolean selected = this.tracker != null ? this.tracker.isSelected(item) : false;
 
 		// Check if we have any recyclable items for the current template.
-		LinkedList<ListItemProxy> recyclableItems = this.recyclableItemsMap.get(item.getTemplateId());
+		final RecyclePool recyclableItems = this.recyclePools.get(item.getTemplateType());
 		if (recyclableItems != null) {
 			// If item is in recycle collection, then remove it.
 			recyclableItems.remove(item);
+		}
 
-			// If item has no child proxies/views, then take the children from a recyclable item.
-			// This significantly boosts scroll performance by avoiding creating new views.
-			if (!item.hasChildren()) {
-				while (!recyclableItems.isEmpty()) {
-					ListItemProxy oldItem = recyclableItems.poll();
-					if ((oldItem != null) && (oldItem.getHolder() == null) && oldItem.hasChildren()) {
-						oldItem.moveChildrenTo(item);
-						break;
-					}
+		// If item has no child proxies/views, then take the children from a recyclable item.
+		// This significantly boosts scroll performance by avoiding creating new views.
+		if (!item.hasChildren()) {
+			ListItemProxy oldItem = null;
+			while (recyclableItems != null && !recyclableItems.isEmpty()) {
+				oldItem = recyclableItems.poll();
+				if ((oldItem.getHolder() == null) && oldItem.hasChildren()) {
+					break;
 				}
+				oldItem = null;
+			}
+			if (oldItem != null) {
+				oldItem.moveChildrenTo(item);
+				this.hitCount++;
+			} else if (!item.isPlaceholder()) {
+				this.missCount++;
 			}
 		}
 
@@ -117,6 +186,8 @@ public class ListViewAdapter extends TiRecyclerViewAdapter<ListViewHolder, ListI
 	@Override
 	public ListViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType)
 	{
+		this.inflateCount++;
+
 		// Create new TableViewHolder instance.
 		final ConstraintLayout layout = (ConstraintLayout) inflater.inflate(id_holder, null);
 		return new ListViewHolder(parent.getContext(), layout);
@@ -137,15 +208,21 @@ public class ListViewAdapter extends TiRecyclerViewAdapter<ListViewHolder, ListI
 		if (view instanceof ListItemProxy item) {
 			// Add item to recycle list so that it's child proxies/views can be re-used by another item.
 			if (item.hasChildren() && (item.getHolder() == holder)) {
-				LinkedList<ListItemProxy> recyclableItems = this.recyclableItemsMap.get(item.getTemplateId());
+				RecyclePool recyclableItems = this.recyclePools.get(item.getTemplateType());
 				if (recyclableItems == null) {
-					recyclableItems = new LinkedList<>();
-					this.recyclableItemsMap.put(item.getTemplateId(), recyclableItems);
+					recyclableItems = new RecyclePool();
+					this.recyclePools.put(item.getTemplateType(), recyclableItems);
 				}
 				if (!recyclableItems.contains(item)) {
 					item.setSelected(false);
 					item.setHolder(null);
-					recyclableItems.add(item);
+					if (this.recyclePoolSize < 0 || recyclableItems.size() < this.recyclePoolSize) {
+						recyclableItems.add(item);
+					} else {
+						// Pool is full, release the item's views instead of keeping them.
+						item.releaseViews();
+						this.releaseCount++;
+					}
 				}
 			}
 		} else if (view != null) {
@@ -153,4 +230,104 @@ public class ListViewAdapter extends TiRecyclerViewAdapter<ListViewHolder, ListI
 			view.releaseViews();
 		}
 	}
+
+	/**
+	 * Release views of an item removed from the list.
+	 * Items still bound to a holder are reused or released once their holder is recycled.
+	 *
+	 * @param item Removed item.
+	 */
+	public void releaseItem(@NonNull ListItemProxy item)
+	{
+		if (item.getHolder() != null) {
+			return;
+		}
+		final RecyclePool recyclableItems = this.recyclePools.get(item.getTemplateType());
+		if (recyclableItems != null) {
+			recyclableItems.remove(item);
+		}
+		item.releaseViews();
+	}
+
+	/**
+	 * Create holder ahead of time, to be added to the RecyclerView's pool.
+	 *
+	 * @param parent Parent view.
+	 * @param viewType Template type of holder.
+	 * @return ListViewHolder.
+	 */
+	public ListViewHolder prewarmViewHolder(@NonNull ViewGroup parent, int viewType)
+	{
+		this.prewarmCount++;
+		return createViewHolder(parent, viewType);
+	}
+
+	/**
+	 * Recyclable items of a template.
+	 * Items store their position in the pool, allowing constant time removal.
+	 */
+	private static class RecyclePool
+	{
+		private final ArrayList<ListItemProxy> items = new ArrayList<>();
+
+		public void add(ListItemProxy item)
+		{
+			item.recycleIndex = this.items.size();
+			this.items.add(item);
+		}
+
+		public boolean contains(ListItemProxy item)
+		{
+			final int index = item.recycleIndex;
+			return index >= 0 && index < this.items.size() && this.items.get(index) == item;
+		}
+
+		public void remove(ListItemProxy item)
+		{
+			if (!contains(item)) {
+				return;
+			}
+
+			// Move last item into the removed item's position.
+			final int index = item.recycleIndex;
+			final ListItemProxy lastItem = this.items.remove(this.items.size() - 1);
+			if (lastItem != item) {
+				this.items.set(index, lastItem);
+				lastItem.recycleIndex = index;
+			}
+			item.recycleIndex = -1;
+		}
+
+		public ListItemProxy poll()
+		{
+			final ListItemProxy item = this.items.remove(this.items.size() - 1);
+			item.recycleIndex = -1;
+			return item;
+		}
+
+		/**
+		 * Release the views of items exceeding the given size.
+		 *
+		 * @return Amount of items released.
+		 */
+		public int trim(int size)
+		{
+			int count = 0;
+			while (this.items.size() > size) {
+				poll().releaseViews();
+				count++;
+			}
+			return count;
+		}
+
+		public boolean isEmpty()
+		{
+			return this.items.isEmpty();
+		}
+
+		public int size()
+		{
+			return this.items.size();
+		}
+	}
 }
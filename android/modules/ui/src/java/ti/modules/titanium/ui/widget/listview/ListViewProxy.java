@@ -49,6 +49,8 @@ import ti.modules.titanium.ui.widget.TiUIListView;
 		TiC.PROPERTY_FOOTER_VIEW,
 		TiC.PROPERTY_HEADER_TITLE,
 		TiC.PROPERTY_HEADER_VIEW,
+		TiC.PROPERTY_PREWARM_COUNT,
+		TiC.PROPERTY_RECYCLE_POOL_SIZE,
 		TiC.PROPERTY_REFRESH_CONTROL,
 		TiC.PROPERTY_REQUIRES_EDITING_TO_MOVE,
 		TiC.PROPERTY_SEARCH_TEXT,
@@ -71,6 +73,7 @@ public class ListViewProxy extends RecyclerViewProxy
 
 	private List<ListSectionProxy> sections = new ArrayList<>();
 	private HashMap<Integer, Set<Integer>> markers = new HashMap<>();
+	private final HashMap<String, ListItemTemplate> compiledTemplates = new HashMap<>();
 	private KrollDict contentOffset = null;
 	private final MoveEventInfo moveEventInfo = new MoveEventInfo();
 	private boolean shouldUpdate = true;
@@ -328,6 +331,26 @@ public class ListViewProxy extends RecyclerViewProxy
 		return this.sections.indexOf(section);
 	}
 
+	/**
+	 * Get template of list items, compiled once from the `templates` property.
+	 *
+	 * @param templateId Template identifier.
+	 * @return ListItemTemplate, or null if not found.
+	 */
+	public ListItemTemplate getTemplate(String templateId)
+	{
+		ListItemTemplate template = this.compiledTemplates.get(templateId);
+		if (template == null) {
+			final KrollDict templates = getProperties().getKrollDict(TiC.PROPERTY_TEMPLATES);
+			final KrollDict templateDict = templates != null ? templates.getKrollDict(templateId) : null;
+			if (templateDict != null) {
+				template = ListItemTemplate.compile(templateDict);
+				this.compiledTemplates.put(templateId, template);
+			}
+		}
+		return template;
+	}
+
 	/**
 	 * Get native ListView implementation.
 	 *
@@ -447,6 +470,18 @@ public class ListViewProxy extends RecyclerViewProxy
 		}
 	}
 
+	@Kroll.getProperty
+	public KrollDict getRecycleStats()
+	{
+		final TiListView listView = getListView();
+
+		if (listView != null) {
+			return listView.getAdapter().getStats();
+		}
+
+		return new KrollDict();
+	}
+
 	@Kroll.getProperty
 	public KrollDict getContentOffset()
 	{
@@ -540,6 +575,11 @@ public class ListViewProxy extends RecyclerViewProxy
 			// Set list sections.
 			setSections((Object[]) value);
 
+		} else if (name.equals(TiC.PROPERTY_TEMPLATES)) {
+
+			// Templates are compiled again when next used.
+			this.compiledTemplates.clear();
+
 		} else if (name.equals(TiC.PROPERTY_EDITING) || name.equals(TiC.PROPERTY_REQUIRES_EDITING_TO_MOVE)
 			|| name.equals(TiC.PROPERTY_VISIBLE)) {
 			final TiViewProxy parent = getParent();
@@ -831,6 +871,8 @@ public class ListViewProxy extends RecyclerViewProxy
 				final ListItemProxy item = section.getListItemAt(itemIndex);
 
 				if (item != null) {
+					// Assigns the list index of items of a pending update.
+					listView.applyPendingUpdate();
 					final int itemAdapterIndex = listView.getAdapterIndex(item.index);
 					final Runnable action = () -> {
 						if (animated) {
@@ -1020,6 +1062,26 @@ public class ListViewProxy extends RecyclerViewProxy
 		this.update(false);
 	}
 
+	/**
+	 * Notify ListView to update a range of items in a section.
+	 *
+	 * @param section  Section whose items have changed.
+	 * @param index    Index in section of the first changed item.
+	 * @param oldItems Items removed from the section at index.
+	 * @param newItems Items now in the section at index.
+	 */
+	public void update(ListSectionProxy section, int index, List<ListItemProxy> oldItems, List<ListItemProxy> newItems)
+	{
+		if (!shouldUpdate) {
+			return;
+		}
+		final TiListView listView = getListView();
+
+		if (listView != null) {
+			listView.update(section, index, oldItems, newItems);
+		}
+	}
+
 	/** Stores starting position info of an item being dragged-and-dropped. */
 	private static class MoveEventInfo
 	{
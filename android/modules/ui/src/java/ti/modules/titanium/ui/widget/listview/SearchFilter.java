@@ -0,0 +1,196 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present. All Rights Reserved.
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package ti.modules.titanium.ui.widget.listview;
+
+import java.text.Normalizer;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Process;
+
+/**
+ * Matches ListView items and TableView rows against a search query.
+ * <p>
+ * When case insensitive, texts are lower-cased and stripped of diacritics so that "cafe" matches "Café".
+ * Normalized texts are cached, so that each keystroke does not normalize every item again.
+ * Filtering for a search bar query is done on a background thread, only testing the previous results
+ * when the query extends the previous query.
+ *
+ * @param <V> Type of items to filter.
+ */
+public class SearchFilter<V>
+{
+	private static final int MAX_CACHE_SIZE = 32768;
+	private static final Pattern DIACRITICS_PATTERN = Pattern.compile("\\p{M}+");
+	private static final ExecutorService filterExecutor = Executors.newSingleThreadExecutor((runnable) -> {
+		Thread thread = new Thread(() -> {
+			Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+			runnable.run();
+		}, "SearchFilter");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+	// Normalized texts by original text. Accessed from main and filter threads.
+	private final ConcurrentHashMap<String, String> normalizedTexts = new ConcurrentHashMap<>();
+
+	// Generation of the last filter request. Only accessed from main thread.
+	private int generation = 0;
+
+	// Last filter results. Only accessed from filter thread.
+	private List<V> lastItems;
+	private List<String> lastTexts;
+	private String lastQuery;
+	private boolean lastCaseInsensitive;
+	private boolean lastAnchored;
+	private Set<V> lastResults;
+
+	/**
+	 * Normalize a search query to be passed to {@link #matches(String, String, boolean, boolean)}.
+	 *
+	 * @param query           Search query.
+	 * @param caseInsensitive Ignore case and diacritics.
+	 * @return Normalized query.
+	 */
+	public static String normalizeQuery(String query, boolean caseInsensitive)
+	{
+		return caseInsensitive ? fold(query) : query;
+	}
+
+	private static String fold(String text)
+	{
+		final String lowerCaseText = text.toLowerCase();
+		for (int i = 0; i < lowerCaseText.length(); i++) {
+			if (lowerCaseText.charAt(i) >= 0x80) {
+
+				// Decompose accented characters, then remove their accents.
+				final String decomposedText = Normalizer.normalize(lowerCaseText, Normalizer.Form.NFD);
+				return DIACRITICS_PATTERN.matcher(decomposedText).replaceAll("");
+			}
+		}
+		return lowerCaseText;
+	}
+
+	/**
+	 * Determine if text matches a search query.
+	 *
+	 * @param text            Text to match.
+	 * @param normalizedQuery Query returned by {@link #normalizeQuery(String, boolean)}.
+	 * @param caseInsensitive Ignore case and diacritics.
+	 * @param anchored        Match start of text only.
+	 * @return Boolean
+	 */
+	public boolean matches(String text, String normalizedQuery, boolean caseInsensitive, boolean anchored)
+	{
+		if (caseInsensitive) {
+			String normalizedText = this.normalizedTexts.get(text);
+			if (normalizedText == null) {
+				normalizedText = fold(text);
+				if (this.normalizedTexts.size() >= MAX_CACHE_SIZE) {
+					this.normalizedTexts.clear();
+				}
+				this.normalizedTexts.put(text, normalizedText);
+			}
+			text = normalizedText;
+		}
+		return anchored ? text.startsWith(normalizedQuery) : text.contains(normalizedQuery);
+	}
+
+	/**
+	 * Filter items on a background thread. Discards any pending filter request.
+	 *
+	 * @param items           Items to filter.
+	 * @param texts           Text of each item to match, or null for items to always include.
+	 * @param query           Search query.
+	 * @param caseInsensitive Ignore case and diacritics.
+	 * @param anchored        Match start of text only.
+	 * @param callback        Invoked on main thread with matching items, unless discarded.
+	 */
+	public void filter(List<V> items, List<String> texts, String query, boolean caseInsensitive, boolean anchored,
+					   Consumer<Set<V>> callback)
+	{
+		final int requestGeneration = ++this.generation;
+
+		filterExecutor.execute(() -> {
+			final Set<V> results = filter(items, texts, query, caseInsensitive, anchored);
+
+			this.mainHandler.post(() -> {
+				if (requestGeneration == this.generation) {
+					callback.accept(results);
+				}
+			});
+		});
+	}
+
+	/**
+	 * Discard pending filter request.
+	 */
+	public void cancel()
+	{
+		this.generation++;
+	}
+
+	private Set<V> filter(List<V> items, List<String> texts, String query, boolean caseInsensitive,
+						  boolean anchored)
+	{
+		final String normalizedQuery = normalizeQuery(query, caseInsensitive);
+
+		// Items not matching the previous query do not match a query starting with it.
+		final boolean isNarrowing = this.lastResults != null
+			&& caseInsensitive == this.lastCaseInsensitive
+			&& anchored == this.lastAnchored
+			&& normalizedQuery.startsWith(this.lastQuery)
+			&& isSameItems(items, texts);
+
+		final Set<V> results = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (int i = 0; i < items.size(); i++) {
+			final V item = items.get(i);
+			final String text = texts.get(i);
+
+			if (text == null) {
+				results.add(item);
+			} else if (isNarrowing && !this.lastResults.contains(item)) {
+				continue;
+			} else if (matches(text, normalizedQuery, caseInsensitive, anchored)) {
+				results.add(item);
+			}
+		}
+
+		this.lastItems = items;
+		this.lastTexts = texts;
+		this.lastQuery = normalizedQuery;
+		this.lastCaseInsensitive = caseInsensitive;
+		this.lastAnchored = anchored;
+		this.lastResults = results;
+		return results;
+	}
+
+	private boolean isSameItems(List<V> items, List<String> texts)
+	{
+		if (this.lastItems == null || this.lastItems.size() != items.size()) {
+			return false;
+		}
+		for (int i = 0; i < items.size(); i++) {
+			if (this.lastItems.get(i) != items.get(i) || !Objects.equals(this.lastTexts.get(i), texts.get(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
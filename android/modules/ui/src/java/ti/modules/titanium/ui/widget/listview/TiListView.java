@@ -7,8 +7,13 @@
 package ti.modules.titanium.ui.widget.listview;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.appcelerator.kroll.KrollDict;
 import org.appcelerator.titanium.TiApplication;
@@ -22,6 +27,7 @@ import android.graphics.Color;
 import android.graphics.drawable.Drawable;
 import android.graphics.drawable.ShapeDrawable;
 import android.graphics.drawable.shapes.RectShape;
+import android.os.Looper;
 import android.os.Parcelable;
 import android.view.MotionEvent;
 import android.view.View;
@@ -32,10 +38,12 @@ import androidx.recyclerview.selection.ItemKeyProvider;
 import androidx.recyclerview.selection.SelectionPredicates;
 import androidx.recyclerview.selection.SelectionTracker;
 import androidx.recyclerview.selection.StorageStrategy;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.ItemTouchHelper;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 
+import ti.modules.titanium.ui.UIModule;
 import ti.modules.titanium.ui.widget.TiSwipeRefreshLayout;
 import ti.modules.titanium.ui.widget.searchbar.TiUISearchBar.OnSearchChangeListener;
 
@@ -43,6 +51,13 @@ public class TiListView extends TiSwipeRefreshLayout implements OnSearchChangeLi
 {
 	private static final String TAG = "TiListView";
 
+	// Replacements of more items than this are diffed on a background thread.
+	private static final int ASYNC_DIFF_THRESHOLD = 256;
+	private static final ExecutorService diffExecutor = Executors.newSingleThreadExecutor();
+
+	// Default maximum amount of holders kept per template by RecyclerView.
+	private static final int DEFAULT_HOLDER_POOL_SIZE = 5;
+
 	private final ListViewAdapter adapter;
 	private final ListDividerItemDecoration decoration;
 	private final List<ListItemProxy> items = new ArrayList<>(128);
@@ -62,6 +77,13 @@ public class TiListView extends TiSwipeRefreshLayout implements OnSearchChangeLi
 	private int lastVisibleItem = -1;
 	private int lastVisibleSection = -1;
 	private String filterQuery;
+	private final SearchFilter<ListItemProxy> searchFilter = new SearchFilter<>();
+	private Set<ListItemProxy> filterResults;
+	private String filterResultsQuery;
+	private int diffGeneration = 0;
+	private boolean isDiffPending = false;
+	private Runnable pendingUpdate;
+	private int prewarmGeneration = 0;
 
 	public TiListView(ListViewProxy proxy)
 	{
@@ -364,7 +386,33 @@ public class TiListView extends TiSwipeRefreshLayout implements OnSearchChangeLi
 	public void filterBy(String query)
 	{
 		this.filterQuery = query;
-		update(true);
+
+		final KrollDict properties = this.proxy.getProperties();
+		final String searchQuery = properties.optString(TiC.PROPERTY_SEARCH_TEXT, query);
+		if (searchQuery == null || searchQuery.isEmpty()) {
+			update(true);
+			return;
+		}
+		final boolean caseInsensitive = properties.optBoolean(TiC.PROPERTY_CASE_INSENSITIVE_SEARCH, true);
+
+		// Obtain searchable text of items, to be matched on a background thread.
+		final List<ListItemProxy> searchItems = new ArrayList<>();
+		final List<String> searchTexts = new ArrayList<>();
+		for (final ListSectionProxy section : this.proxy.getSections()) {
+			for (final ListItemProxy item : section.getListItems()) {
+				final KrollDict itemProperties = item.getProperties();
+
+				searchItems.add(item);
+				searchTexts.add(itemProperties.optBoolean(TiC.PROPERTY_FILTER_ALWAYS_INCLUDE, false)
+					? null : itemProperties.optString(TiC.PROPERTY_SEARCHABLE_TEXT, null));
+			}
+		}
+
+		this.searchFilter.filter(searchItems, searchTexts, searchQuery, caseInsensitive, false, (results) -> {
+			this.filterResults = results;
+			this.filterResultsQuery = searchQuery;
+			update(true);
+		});
 	}
 
 	/**
@@ -422,6 +470,58 @@ public class TiListView extends TiSwipeRefreshLayout implements OnSearchChangeLi
 		return this.adapter;
 	}
 
+	/**
+	 * Apply recycle pool size and prewarm count to the templates of the list.
+	 * Prewarmed holders are created while the main thread is idle, one at a time.
+	 */
+	public void updateRecyclePool()
+	{
+		final KrollDict properties = this.proxy.getProperties();
+		final int poolSize = properties.optInt(TiC.PROPERTY_RECYCLE_POOL_SIZE, -1);
+		final int prewarmCount = properties.optInt(TiC.PROPERTY_PREWARM_COUNT, 0);
+
+		// Register templates of the list.
+		final List<Integer> templateTypes = new ArrayList<>();
+		templateTypes.add(ListViewAdapter.getTemplateType(
+			properties.optString(TiC.PROPERTY_DEFAULT_ITEM_TEMPLATE, UIModule.LIST_ITEM_TEMPLATE_DEFAULT)));
+		final KrollDict templates = properties.getKrollDict(TiC.PROPERTY_TEMPLATES);
+		if (templates != null) {
+			for (final String templateId : templates.keySet()) {
+				final int templateType = ListViewAdapter.getTemplateType(templateId);
+				if (!templateTypes.contains(templateType)) {
+					templateTypes.add(templateType);
+				}
+			}
+		}
+
+		// Limit recyclable items and holders per template.
+		final RecyclerView.RecycledViewPool viewPool = this.recyclerView.getRecycledViewPool();
+		final int maxHolderCount = poolSize >= 0 ? poolSize : DEFAULT_HOLDER_POOL_SIZE;
+		this.adapter.setRecyclePoolSize(poolSize);
+		for (final int templateType : templateTypes) {
+			viewPool.setMaxRecycledViews(templateType, maxHolderCount);
+		}
+
+		// Create holders of each template ahead of time, so that they are not inflated while scrolling.
+		final int generation = ++this.prewarmGeneration;
+		final int holderCount = Math.min(prewarmCount, maxHolderCount);
+		if (holderCount <= 0) {
+			return;
+		}
+		Looper.myQueue().addIdleHandler(() -> {
+			if (generation != this.prewarmGeneration) {
+				return false;
+			}
+			for (final int templateType : templateTypes) {
+				if (viewPool.getRecycledViewCount(templateType) < holderCount) {
+					viewPool.putRecycledView(this.adapter.prewarmViewHolder(this.recyclerView, templateType));
+					return true;
+				}
+			}
+			return false;
+		});
+	}
+
 	/**
 	 * Get status of child layouts.
 	 *
@@ -460,6 +560,7 @@ public class TiListView extends TiSwipeRefreshLayout implements OnSearchChangeLi
 	 */
 	public ListItemProxy getRowByIndex(int index)
 	{
+		applyPendingUpdate();
 		for (ListItemProxy item : this.items) {
 			if (item.index == index) {
 				return item;
@@ -518,6 +619,7 @@ public class TiListView extends TiSwipeRefreshLayout implements OnSearchChangeLi
 	 */
 	public int getAdapterIndex(int index)
 	{
+		applyPendingUpdate();
 		for (ListItemProxy item : this.items) {
 			if (item.index == index) {
 				return this.items.indexOf(item);
@@ -534,6 +636,7 @@ public class TiListView extends TiSwipeRefreshLayout implements OnSearchChangeLi
 	 */
 	public int getAdapterIndex(ListItemProxy itemProxy)
 	{
+		applyPendingUpdate();
 		return this.items.indexOf(itemProxy);
 	}
 
@@ -545,6 +648,7 @@ public class TiListView extends TiSwipeRefreshLayout implements OnSearchChangeLi
 	 */
 	public ListItemProxy getAdapterItem(int index)
 	{
+		applyPendingUpdate();
 		return this.items.get(index);
 	}
 
@@ -590,6 +694,7 @@ public class TiListView extends TiSwipeRefreshLayout implements OnSearchChangeLi
 	 */
 	public ListItemProxy getItemAtAdapterPosition(int position)
 	{
+		applyPendingUpdate();
 		if (position > -1 && position < this.items.size()) {
 			return this.items.get(position);
 		}
@@ -637,6 +742,11 @@ public class TiListView extends TiSwipeRefreshLayout implements OnSearchChangeLi
 			item.releaseViews();
 		}
 		this.items.clear();
+
+		// Discard pending diff.
+		this.diffGeneration++;
+		this.isDiffPending = false;
+		this.pendingUpdate = null;
 	}
 
 	/**
@@ -684,6 +794,11 @@ public class TiListView extends TiSwipeRefreshLayout implements OnSearchChangeLi
 		final KrollDict properties = this.proxy.getProperties();
 		int filterResultsCount = 0;
 		final boolean firstUpdate = this.items.size() == 0;
+
+		// Rebuilding all items includes changes of any pending diff.
+		this.diffGeneration++;
+		this.isDiffPending = false;
+		this.pendingUpdate = null;
 		int index = 0;
 
 		final boolean hasHeader = properties.containsKeyAndNotNull(TiC.PROPERTY_HEADER_TITLE)
@@ -694,10 +809,21 @@ public class TiListView extends TiSwipeRefreshLayout implements OnSearchChangeLi
 		String query = properties.optString(TiC.PROPERTY_SEARCH_TEXT, filterQuery);
 		filterQuery = query;
 		final boolean caseInsensitive = properties.optBoolean(TiC.PROPERTY_CASE_INSENSITIVE_SEARCH, true);
-		if (query != null && caseInsensitive) {
-			query = query.toLowerCase();
+		if (query != null && query.isEmpty()) {
+
+			// An empty query matches all items.
+			query = null;
 		}
 
+		// Use results of background filtering if they are for this query.
+		// Otherwise, discard any pending filtering as items may have changed since.
+		final Set<ListItemProxy> results = query != null && query.equals(this.filterResultsQuery)
+			? this.filterResults : null;
+		this.filterResults = null;
+		this.filterResultsQuery = null;
+		this.searchFilter.cancel();
+		final String normalizedQuery = query != null ? SearchFilter.normalizeQuery(query, caseInsensitive) : null;
+
 		// Clear current items.
 		this.items.clear();
 
@@ -724,12 +850,15 @@ public class TiListView extends TiSwipeRefreshLayout implements OnSearchChangeLi
 					.optBoolean(TiC.PROPERTY_FILTER_ALWAYS_INCLUDE, false);
 				// Handle search query.
 				if (query != null && !alwaysInclude) {
-					String searchableText = item.getProperties().optString(TiC.PROPERTY_SEARCHABLE_TEXT, null);
-					if (searchableText != null) {
-						if (caseInsensitive) {
-							searchableText = searchableText.toLowerCase();
+					if (results != null) {
+						if (!results.contains(item)) {
+							continue;
 						}
-						if (!searchableText.contains(query)) {
+					} else {
+						final String searchableText =
+							item.getProperties().optString(TiC.PROPERTY_SEARCHABLE_TEXT, null);
+						if (searchableText != null
+							&& !this.searchFilter.matches(searchableText, normalizedQuery, caseInsensitive, false)) {
 							continue;
 						}
 					}
@@ -843,6 +972,265 @@ public class TiListView extends TiSwipeRefreshLayout implements OnSearchChangeLi
 		});
 	}
 
+	/**
+	 * Update a range of items in a section, notifying the adapter of that range only.
+	 * Falls back to updating all items when the change can not be applied incrementally,
+	 * such as while a search filter is active or a section header/footer placeholder is affected.
+	 *
+	 * @param section  Section whose items have changed.
+	 * @param index    Index in section of the first changed item.
+	 * @param oldItems Items removed from the section at index.
+	 * @param newItems Items now in the section at index.
+	 */
+	public void update(ListSectionProxy section, int index, List<ListItemProxy> oldItems, List<ListItemProxy> newItems)
+	{
+		final int oldCount = oldItems.size();
+		final int newCount = newItems.size();
+		final int sectionCount = section.getItemCount();
+		final int oldSectionCount = sectionCount - newCount + oldCount;
+		final int sectionPosition = getSectionPosition(section);
+		final int position = sectionPosition + index;
+
+		// Section header/footer placeholders are shown for empty sections only. Filtering is applied on rebuild.
+		final boolean placeholderChanged = (oldSectionCount == 0 || sectionCount == 0) && hasHeaderOrFooter(section);
+		final boolean isValid = sectionPosition >= 0 && position + oldCount <= this.items.size()
+			&& (oldCount == 0 || this.items.get(position) == oldItems.get(0));
+		if (this.items.isEmpty() || this.isDiffPending || isFiltered() || placeholderChanged
+			|| !isValid) {
+			update();
+			return;
+		}
+
+		// Remember the section's first and last items, which display its header and footer.
+		final ListItemProxy oldFirstItem = oldSectionCount > 0 ? this.items.get(sectionPosition) : null;
+		final ListItemProxy oldLastItem =
+			oldSectionCount > 0 ? this.items.get(sectionPosition + oldSectionCount - 1) : null;
+
+		// Insertions and deletions need no diff. Neither do replacements without any item in common.
+		final ListItemDiffCallback callback =
+			oldCount > 0 && newCount > 0 ? new ListItemDiffCallback(oldItems, newItems) : null;
+		if (callback == null || !callback.hasCommonItems()) {
+			applyUpdate(section, position, oldItems, newItems, null, oldFirstItem, oldLastItem);
+			return;
+		}
+		if (oldCount + newCount <= ASYNC_DIFF_THRESHOLD) {
+			applyUpdate(section, position, oldItems, newItems, DiffUtil.calculateDiff(callback), oldFirstItem,
+				oldLastItem);
+			return;
+		}
+
+		// Diff large replacements on a background thread. Items are left unchanged until the diff is applied,
+		// any other change in the meantime rebuilds all items instead. Index based calls apply the update
+		// right away, see applyPendingUpdate().
+		final int generation = ++this.diffGeneration;
+		this.isDiffPending = true;
+		this.pendingUpdate = () ->
+			applyUpdate(section, position, oldItems, newItems, null, oldFirstItem, oldLastItem);
+		diffExecutor.execute(() -> {
+			final DiffUtil.DiffResult diffResult = DiffUtil.calculateDiff(callback);
+
+			this.proxy.getMainHandler().post(() -> {
+				if (generation != this.diffGeneration) {
+					return;
+				}
+				this.isDiffPending = false;
+				this.pendingUpdate = null;
+				applyUpdate(section, position, oldItems, newItems, diffResult, oldFirstItem, oldLastItem);
+			});
+		});
+	}
+
+	/**
+	 * Apply an update waiting for its background diff right away, without animating it.
+	 * Until applied, items and adapter still hold the replaced items while sections hold the new ones,
+	 * so this must be called before looking up items by index.
+	 */
+	public void applyPendingUpdate()
+	{
+		// Adapter can not be notified while laying out, the diff is applied afterwards instead.
+		if (!this.isDiffPending || this.recyclerView.isComputingLayout()) {
+			return;
+		}
+		final Runnable update = this.pendingUpdate;
+		this.diffGeneration++;
+		this.isDiffPending = false;
+		this.pendingUpdate = null;
+		update.run();
+	}
+
+	/**
+	 * Apply a range update to items and adapter.
+	 */
+	private void applyUpdate(ListSectionProxy section, int position, List<ListItemProxy> oldItems,
+							 List<ListItemProxy> newItems, DiffUtil.DiffResult diffResult,
+							 ListItemProxy oldFirstItem, ListItemProxy oldLastItem)
+	{
+		final List<ListItemProxy> range = this.items.subList(position, position + oldItems.size());
+		range.clear();
+		range.addAll(newItems);
+
+		// Update list index of items following the first changed item.
+		int index = 0;
+		for (int i = position - 1; i >= 0; i--) {
+			final ListItemProxy item = this.items.get(i);
+			if (!item.isPlaceholder()) {
+				index = item.index + 1;
+				break;
+			}
+		}
+		for (int i = position; i < this.items.size(); i++) {
+			final ListItemProxy item = this.items.get(i);
+			if (i < position + newItems.size()) {
+				item.setFilteredIndex(-1);
+			}
+			if (!item.isPlaceholder()) {
+				item.index = index++;
+			}
+		}
+
+		this.adapter.update(position, oldItems.size(), newItems, diffResult);
+
+		// Release views of removed items, unless still shown while animating out.
+		final Set<ListItemProxy> remainingItems = new HashSet<>(newItems);
+		for (final ListItemProxy item : oldItems) {
+			if (!remainingItems.contains(item)) {
+				this.adapter.releaseItem(item);
+			}
+		}
+
+		// Rebind items which gained or lost the section header/footer.
+		final int sectionPosition = getSectionPosition(section);
+		final int sectionCount = section.getItemCount();
+		if (sectionPosition < 0 || sectionCount == 0) {
+			return;
+		}
+		final int lastPosition = sectionPosition + sectionCount - 1;
+		final ListItemProxy firstItem = this.items.get(sectionPosition);
+		final ListItemProxy lastItem = this.items.get(lastPosition);
+		if (firstItem != oldFirstItem) {
+			this.adapter.notifyItemChanged(sectionPosition);
+			rebindItem(oldFirstItem, sectionPosition, lastPosition);
+		}
+		if (lastItem != oldLastItem) {
+			this.adapter.notifyItemChanged(lastPosition);
+			rebindItem(oldLastItem, sectionPosition, lastPosition);
+		}
+	}
+
+	/**
+	 * Rebind item if it is still within the given adapter range.
+	 */
+	private void rebindItem(ListItemProxy item, int fromPosition, int toPosition)
+	{
+		if (item == null || item.getParent() == null) {
+			return;
+		}
+		final int indexInSection = item.getIndexInSection();
+		if (indexInSection >= 0 && fromPosition + indexInSection <= toPosition) {
+			this.adapter.notifyItemChanged(fromPosition + indexInSection);
+		}
+	}
+
+	/**
+	 * Obtain adapter position of the first item in a section.
+	 *
+	 * @param section Section to obtain position of.
+	 * @return Integer of adapter position, or -1 if section is not in list.
+	 */
+	private int getSectionPosition(ListSectionProxy section)
+	{
+		final KrollDict properties = this.proxy.getProperties();
+		int position = properties.containsKeyAndNotNull(TiC.PROPERTY_HEADER_TITLE)
+			|| properties.containsKeyAndNotNull(TiC.PROPERTY_HEADER_VIEW) ? 1 : 0;
+
+		for (final ListSectionProxy currentSection : this.proxy.getSections()) {
+			if (currentSection == section) {
+				return position;
+			}
+			final int itemCount = currentSection.getItemCount();
+			position += itemCount > 0 ? itemCount : (hasHeaderOrFooter(currentSection) ? 1 : 0);
+		}
+		return -1;
+	}
+
+	/**
+	 * Determine if section has a header or footer.
+	 */
+	private static boolean hasHeaderOrFooter(ListSectionProxy section)
+	{
+		final KrollDict properties = section.getProperties();
+		return properties.containsKeyAndNotNull(TiC.PROPERTY_HEADER_TITLE)
+			|| properties.containsKeyAndNotNull(TiC.PROPERTY_HEADER_VIEW)
+			|| properties.containsKeyAndNotNull(TiC.PROPERTY_FOOTER_TITLE)
+			|| properties.containsKeyAndNotNull(TiC.PROPERTY_FOOTER_VIEW);
+	}
+
+	/**
+	 * Diff of a replaced item range, matching items by identity or by `itemId`.
+	 * Item identifiers are obtained up front so that the diff can be calculated on a background thread.
+	 */
+	private static class ListItemDiffCallback extends DiffUtil.Callback
+	{
+		private final Object[] oldKeys;
+		private final Object[] newKeys;
+		private final ListItemProxy[] oldItems;
+		private final ListItemProxy[] newItems;
+
+		public ListItemDiffCallback(List<ListItemProxy> oldItems, List<ListItemProxy> newItems)
+		{
+			this.oldItems = oldItems.toArray(new ListItemProxy[0]);
+			this.newItems = newItems.toArray(new ListItemProxy[0]);
+			this.oldKeys = getKeys(this.oldItems);
+			this.newKeys = getKeys(this.newItems);
+		}
+
+		public boolean hasCommonItems()
+		{
+			final HashSet<Object> keys = new HashSet<>(Arrays.asList(this.oldKeys));
+			for (final Object key : this.newKeys) {
+				if (keys.contains(key)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private static Object[] getKeys(ListItemProxy[] items)
+		{
+			final Object[] keys = new Object[items.length];
+			for (int i = 0; i < items.length; i++) {
+				final Object itemId = items[i].getProperties().get(TiC.PROPERTY_ITEM_ID);
+				keys[i] = itemId != null ? itemId : items[i];
+			}
+			return keys;
+		}
+
+		@Override
+		public int getOldListSize()
+		{
+			return this.oldItems.length;
+		}
+
+		@Override
+		public int getNewListSize()
+		{
+			return this.newItems.length;
+		}
+
+		@Override
+		public boolean areItemsTheSame(int oldItemPosition, int newItemPosition)
+		{
+			return this.oldKeys[oldItemPosition].equals(this.newKeys[newItemPosition]);
+		}
+
+		@Override
+		public boolean areContentsTheSame(int oldItemPosition, int newItemPosition)
+		{
+			// Replacement items with the same `itemId` are new proxies which need to be bound.
+			return this.oldItems[oldItemPosition] == this.newItems[newItemPosition];
+		}
+	}
+
 	public void setContinousUpdate(boolean value)
 	{
 		continuousUpdate = value;
@@ -12,6 +12,7 @@ import android.view.LayoutInflater;
 import androidx.annotation.NonNull;
 import androidx.recyclerview.selection.SelectionTracker;
 import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListUpdateCallback;
 import androidx.recyclerview.widget.RecyclerView;
 
 import org.appcelerator.kroll.KrollDict;
@@ -126,6 +127,61 @@ public abstract class TiRecyclerViewAdapter<VH extends TiRecyclerViewHolder<V>,
 		diffResult.dispatchUpdatesTo(this);
 	}
 
+	/**
+	 * Replace a range of models, notifying the adapter of changes within that range only.
+	 *
+	 * @param position   Position of the first model to replace.
+	 * @param oldCount   Number of models to replace.
+	 * @param newModels  Replacement models.
+	 * @param diffResult Difference between the replaced and replacement models. If null, the models are
+	 *                   treated as removed and inserted.
+	 */
+	public void update(int position, int oldCount, List<V> newModels, DiffUtil.DiffResult diffResult)
+	{
+		final List<V> range = this.models.subList(position, position + oldCount);
+		range.clear();
+		range.addAll(newModels);
+
+		if (diffResult != null) {
+
+			// Offset diff positions, which are relative to the replaced range.
+			diffResult.dispatchUpdatesTo(new ListUpdateCallback()
+			{
+				@Override
+				public void onInserted(int index, int count)
+				{
+					notifyItemRangeInserted(position + index, count);
+				}
+
+				@Override
+				public void onRemoved(int index, int count)
+				{
+					notifyItemRangeRemoved(position + index, count);
+				}
+
+				@Override
+				public void onMoved(int fromIndex, int toIndex)
+				{
+					notifyItemMoved(position + fromIndex, position + toIndex);
+				}
+
+				@Override
+				public void onChanged(int index, int count, Object payload)
+				{
+					notifyItemRangeChanged(position + index, count, payload);
+				}
+			});
+			return;
+		}
+
+		if (oldCount > 0) {
+			notifyItemRangeRemoved(position, oldCount);
+		}
+		if (!newModels.isEmpty()) {
+			notifyItemRangeInserted(position, newModels.size());
+		}
+	}
+
 	/**
 	 * Define DiffUtil.Callback to optimize updating the adapter.
 	 */
@@ -183,6 +239,12 @@ public abstract class TiRecyclerViewAdapter<VH extends TiRecyclerViewHolder<V>,
 				return false;
 			}
 
+			// Same instance, its properties and children are the same on both sides.
+			// Avoids hashing the properties of every unchanged item.
+			if (oldView == newView) {
+				return true;
+			}
+
 			final KrollDict oldProperties = oldView.getProperties();
 			final KrollDict newProperties = newView.getProperties();
 
@@ -9,6 +9,7 @@ package ti.modules.titanium.ui.widget.tableview;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import org.appcelerator.kroll.KrollDict;
 import org.appcelerator.titanium.TiApplication;
@@ -44,6 +45,7 @@ import ti.modules.titanium.ui.TableViewRowProxy;
 import ti.modules.titanium.ui.TableViewSectionProxy;
 import ti.modules.titanium.ui.widget.TiSwipeRefreshLayout;
 import ti.modules.titanium.ui.widget.listview.ItemTouchHandler;
+import ti.modules.titanium.ui.widget.listview.SearchFilter;
 import ti.modules.titanium.ui.widget.listview.TiNestedRecyclerView;
 import ti.modules.titanium.ui.widget.searchbar.TiUISearchBar.OnSearchChangeListener;
 
@@ -68,6 +70,9 @@ public class TiTableView extends TiSwipeRefreshLayout implements OnSearchChangeL
 	private int scrollOffsetY = 0;
 	private int totalRowCount;
 	private String filterQuery;
+	private final SearchFilter<TableViewRowProxy> searchFilter = new SearchFilter<>();
+	private Set<TableViewRowProxy> filterResults;
+	private String filterResultsQuery;
 
 	public TiTableView(TableViewProxy proxy)
 	{
@@ -323,7 +328,36 @@ public class TiTableView extends TiSwipeRefreshLayout implements OnSearchChangeL
 	public void filterBy(String query)
 	{
 		this.filterQuery = query;
-		update(true);
+		if (query == null || query.isEmpty()) {
+			update(true);
+			return;
+		}
+
+		final KrollDict properties = this.proxy.getProperties();
+		final boolean caseInsensitive = properties.optBoolean(TiC.PROPERTY_FILTER_CASE_INSENSITIVE, true);
+		final boolean filterAnchored = properties.optBoolean(TiC.PROPERTY_FILTER_ANCHORED, false);
+		final String filterAttribute = properties.optString(TiC.PROPERTY_FILTER_ATTRIBUTE, TiC.PROPERTY_TITLE);
+
+		// Obtain filter attribute of rows, to be matched on a background thread.
+		final List<TableViewRowProxy> searchRows = new ArrayList<>();
+		final List<String> searchTexts = new ArrayList<>();
+		for (final Object entry : this.proxy.getData()) {
+			if (entry instanceof TableViewSectionProxy section) {
+				for (final TableViewRowProxy row : section.getRows()) {
+					final KrollDict rowProperties = row.getProperties();
+
+					searchRows.add(row);
+					searchTexts.add(rowProperties.optBoolean(TiC.PROPERTY_FILTER_ALWAYS_INCLUDE, false)
+						? null : rowProperties.optString(filterAttribute, null));
+				}
+			}
+		}
+
+		this.searchFilter.filter(searchRows, searchTexts, query, caseInsensitive, filterAnchored, (results) -> {
+			this.filterResults = results;
+			this.filterResultsQuery = query;
+			update(true);
+		});
 	}
 
 	/**
@@ -629,10 +663,16 @@ public class TiTableView extends TiSwipeRefreshLayout implements OnSearchChangeL
 		int filterResultsCount = 0;
 		int index = 0;
 
-		String query = this.filterQuery;
-		if (query != null && caseInsensitive) {
-			query = query.toLowerCase();
-		}
+		final String query = this.filterQuery;
+
+		// Use results of background filtering if they are for this query.
+		// Otherwise, discard any pending filtering as rows may have changed since.
+		final Set<TableViewRowProxy> results = query != null && query.equals(this.filterResultsQuery)
+			? this.filterResults : null;
+		this.filterResults = null;
+		this.filterResultsQuery = null;
+		this.searchFilter.cancel();
+		final String normalizedQuery = query != null ? SearchFilter.normalizeQuery(query, caseInsensitive) : null;
 
 		// Clear current models.
 		this.rows.clear();
@@ -676,15 +716,15 @@ public class TiTableView extends TiSwipeRefreshLayout implements OnSearchChangeL
 
 					// Handle search query.
 					if (query != null && !alwaysInclude) {
-						String attribute = row.getProperties().optString(filterAttribute, null);
-
-						if (attribute != null) {
-							if (caseInsensitive) {
-								attribute = attribute.toLowerCase();
+						if (results != null) {
+							if (!results.contains(row)) {
+								continue;
 							}
+						} else {
+							final String attribute = row.getProperties().optString(filterAttribute, null);
 
-							if (!((filterAnchored && attribute.startsWith(query))
-								|| (!filterAnchored && attribute.contains(query)))) {
+							if (attribute != null && !this.searchFilter.matches(attribute, normalizedQuery,
+								caseInsensitive, filterAnchored)) {
 								continue;
 							}
 						}
@@ -801,4 +841,53 @@ public class TiTableView extends TiSwipeRefreshLayout implements OnSearchChangeL
 	{
 		this.update(false);
 	}
+
+	/**
+	 * Insert rows appended to a section, notifying the adapter of the inserted range only.
+	 *
+	 * @param section Section the rows were appended to, which already had rows.
+	 * @param newRows Rows appended to the section.
+	 * @return Returns true if inserted. Returns false if all rows must be updated instead,
+	 *         such as while a search filter is active.
+	 */
+	public boolean appendRows(TableViewSectionProxy section, List<TableViewRowProxy> newRows)
+	{
+		if (section == null || newRows.isEmpty() || this.rows.isEmpty() || isFiltered()) {
+			return false;
+		}
+
+		// Rows are inserted after the section's previous last row.
+		final TableViewRowProxy[] sectionRows = section.getRows();
+		final int previousCount = sectionRows.length - newRows.size();
+		if (previousCount <= 0 || sectionRows[previousCount] != newRows.get(0)) {
+			return false;
+		}
+		final TableViewRowProxy previousRow = sectionRows[previousCount - 1];
+		final int previousPosition = this.rows.lastIndexOf(previousRow);
+		if (previousPosition < 0) {
+			return false;
+		}
+		final int position = previousPosition + 1;
+
+		// Update true row index of appended rows and following rows.
+		int index = previousRow.index + 1;
+		for (final TableViewRowProxy row : newRows) {
+			row.index = index++;
+			row.setFilteredIndex(-1);
+		}
+		for (int i = position; i < this.rows.size(); i++) {
+			final TableViewRowProxy row = this.rows.get(i);
+			if (!row.isPlaceholder()) {
+				row.index = index++;
+			}
+		}
+		this.rows.addAll(position, newRows);
+		this.totalRowCount += newRows.size();
+
+		this.adapter.update(position, 0, newRows, null);
+
+		// Rebind previous last row, which no longer displays the section footer.
+		this.adapter.notifyItemChanged(previousPosition);
+		return true;
+	}
 }
@@ -8,8 +8,19 @@ public interface KrollPromise<V> {
 		void onExecute(KrollPromise<V> promise);
 	}
 
+	/**
+	 * Resolves the promise with the given value. When called from another thread than the KrollRuntime thread,
+	 * returns without waiting for the promise to be resolved. Promises resolved or rejected from the same thread
+	 * are still settled in the order of these calls.
+	 * @param value the value to resolve the promise with.
+	 */
 	void resolve(V value);
 
+	/**
+	 * Rejects the promise with the given value. Does not wait for the promise to be rejected,
+	 * see {@link #resolve(Object)}.
+	 * @param value the value to reject the promise with, typically an error.
+	 */
 	void reject(Object value);
 
 	static <V> KrollPromise<V> create(OnExecuteCallback<V> callback)
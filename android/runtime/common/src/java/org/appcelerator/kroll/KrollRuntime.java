@@ -13,6 +13,7 @@ import java.util.HashMap;
 import org.appcelerator.kroll.KrollExceptionHandler.ExceptionMessage;
 import org.appcelerator.kroll.common.Log;
 import org.appcelerator.kroll.common.TiMessenger;
+import org.appcelerator.kroll.common.TiStartupTimeline;
 import org.appcelerator.kroll.util.KrollAssetHelper;
 
 import android.content.Context;
@@ -89,6 +90,7 @@ public abstract class KrollRuntime implements Handler.Callback
 		if (runtimeState == State.INITIALIZED) {
 			return;
 		}
+		final long startTime = TiStartupTimeline.begin();
 
 		// Keep a reference to the given runtime.
 		// Must be done before calling doInit() below.
@@ -110,6 +112,7 @@ public abstract class KrollRuntime implements Handler.Callback
 
 		// Initialize the given runtime.
 		runtime.doInit();
+		TiStartupTimeline.end("KrollRuntime.init", startTime);
 	}
 
 	@Nullable
@@ -214,8 +217,10 @@ public abstract class KrollRuntime implements Handler.Callback
 		}
 
 		// Initialize the JavaScript runtime.
+		final long startTime = TiStartupTimeline.begin();
 		initRuntime();
 		runtimeState = State.INITIALIZED;
+		TiStartupTimeline.end("KrollRuntime.doInit", startTime);
 	}
 
 	public void dispose()
@@ -475,6 +480,34 @@ public abstract class KrollRuntime implements Handler.Callback
 		// No-op V8 should override.
 	}
 
+	/**
+	 * Obtains statistics about the conversion of JavaScript objects into Java objects.
+	 * @return map of statistics, empty if not supported by the runtime.
+	 */
+	public HashMap<String, Object> getConversionStats()
+	{
+		return new HashMap<>();
+	}
+
+	/**
+	 * Determines if the elements of large arrays of objects are converted into Java objects on first access.
+	 * @return true if conversion is deferred, false if not supported by the runtime.
+	 */
+	public boolean isLazyConversionEnabled()
+	{
+		return false;
+	}
+
+	/**
+	 * Enables or disables the deferred conversion of the elements of large arrays of objects.
+	 * Must be called on the runtime thread.
+	 * @param enabled true to convert elements on first access, false to convert them immediately.
+	 */
+	public void setLazyConversionEnabled(boolean enabled)
+	{
+		// No-op V8 should override.
+	}
+
 	public State getRuntimeState()
 	{
 		return runtimeState;
@@ -6,22 +6,60 @@
  */
 package org.appcelerator.kroll.common;
 
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
 /**
  * API to send log output. Supported severity-levels include: 'debug', 'warn', 'info' and 'error'.
  * Refer to <a href="http://developer.android.com/reference/android/util/Log.html">Android Log documentation</a> for more information.
+ * <p>
+ * The last {@link #RECENT_ENTRY_COUNT} processed messages are also kept in memory,
+ * see {@link #getRecentEntries()}.
  */
 public class Log
 {
-	private static long lastLog = System.currentTimeMillis();
-	private static long firstLog = lastLog;
+	private static final AtomicLong lastLog = new AtomicLong(System.currentTimeMillis());
+	private static volatile long firstLog = lastLog.get();
 
-	public static synchronized void checkpoint(String tag, String msg)
+	public static void checkpoint(String tag, String msg)
 	{
-		lastLog = System.currentTimeMillis();
-		firstLog = lastLog;
+		long currentMillis = System.currentTimeMillis();
+		lastLog.set(currentMillis);
+		firstLog = currentMillis;
 		i(tag, msg);
 	}
 
+	/**
+	 * The number of processed messages kept in memory. Must be a power of two.
+	 */
+	public static final int RECENT_ENTRY_COUNT = 256;
+
+	private static final AtomicReferenceArray<Entry> recentEntries = new AtomicReferenceArray<>(RECENT_ENTRY_COUNT);
+	private static final AtomicLong recentEntrySequence = new AtomicLong();
+
+	private static final class Entry
+	{
+		final long sequence;
+		final long time;
+		final int severity;
+		final String tag;
+		final String msg;
+
+		Entry(long sequence, int severity, String tag, String msg)
+		{
+			this.sequence = sequence;
+			this.time = System.currentTimeMillis();
+			this.severity = severity;
+			this.tag = tag;
+			this.msg = msg;
+		}
+	}
+
 	// We use modes in case we want to add other modes like 'developer' in the future
 
 	/**
@@ -346,6 +384,134 @@ public class Log
 		return e(tag, msg, t, RELEASE_MODE);
 	}
 
+	/**
+	 * Sends a 'debug' log message in {@link #DEBUG_MODE}, formatted by replacing each "{}" in the format by
+	 * the next argument. The message is only built if debug mode is enabled, so that this method does not
+	 * allocate otherwise. For more information regarding formatting, refer to {@link #w(String, String)}.
+	 * This method is thread safe.
+	 * @param tag    used to identify the source of the message.
+	 * @param format the message to log, with a "{}" for each argument.
+	 * @param arg    the argument to format.
+	 */
+	public static void debugf(String tag, String format, Object arg)
+	{
+		if (isDebugModeEnabled()) {
+			processLog(DEBUG, tag, format(format, arg, null, 1), DEBUG_MODE);
+		}
+	}
+
+	/**
+	 * Sends a 'debug' log message in {@link #DEBUG_MODE}. See {@link #debugf(String, String, Object)}.
+	 * @param tag    used to identify the source of the message.
+	 * @param format the message to log, with a "{}" for each argument.
+	 * @param arg1   the first argument to format.
+	 * @param arg2   the second argument to format.
+	 */
+	public static void debugf(String tag, String format, Object arg1, Object arg2)
+	{
+		if (isDebugModeEnabled()) {
+			processLog(DEBUG, tag, format(format, arg1, arg2, 2), DEBUG_MODE);
+		}
+	}
+
+	/**
+	 * Sends a 'debug' log message in {@link #DEBUG_MODE}, without boxing the argument if debug mode is disabled.
+	 * See {@link #debugf(String, String, Object)}.
+	 * @param tag    used to identify the source of the message.
+	 * @param format the message to log, with a "{}" for the argument.
+	 * @param arg    the argument to format.
+	 */
+	public static void debugf(String tag, String format, long arg)
+	{
+		if (isDebugModeEnabled()) {
+			processLog(DEBUG, tag, format(format, arg, null, 1), DEBUG_MODE);
+		}
+	}
+
+	/**
+	 * Sends a 'debug' log message in {@link #DEBUG_MODE}, without boxing the arguments if debug mode is disabled.
+	 * See {@link #debugf(String, String, Object)}.
+	 * @param tag    used to identify the source of the message.
+	 * @param format the message to log, with a "{}" for each argument.
+	 * @param arg1   the first argument to format.
+	 * @param arg2   the second argument to format.
+	 */
+	public static void debugf(String tag, String format, Object arg1, long arg2)
+	{
+		if (isDebugModeEnabled()) {
+			processLog(DEBUG, tag, format(format, arg1, arg2, 2), DEBUG_MODE);
+		}
+	}
+
+	/**
+	 * Sends a 'debug' log message in {@link #DEBUG_MODE}, without boxing the arguments if debug mode is disabled.
+	 * See {@link #debugf(String, String, Object)}.
+	 * @param tag    used to identify the source of the message.
+	 * @param format the message to log, with a "{}" for each argument.
+	 * @param arg1   the first argument to format.
+	 * @param arg2   the second argument to format.
+	 */
+	public static void debugf(String tag, String format, long arg1, long arg2)
+	{
+		if (isDebugModeEnabled()) {
+			processLog(DEBUG, tag, format(format, arg1, arg2, 2), DEBUG_MODE);
+		}
+	}
+
+	/**
+	 * Replaces the first "{}" placeholders of the given format by the given arguments.
+	 * Placeholders without an argument are kept as is.
+	 */
+	private static String format(String format, Object arg1, Object arg2, int argCount)
+	{
+		if (format == null) {
+			return null;
+		}
+		StringBuilder sb = new StringBuilder(format.length() + 32);
+		int start = 0;
+		for (int argIndex = 0; argIndex < argCount; argIndex++) {
+			int index = format.indexOf("{}", start);
+			if (index < 0) {
+				break;
+			}
+			sb.append(format, start, index).append((argIndex == 0) ? arg1 : arg2);
+			start = index + 2;
+		}
+		return sb.append(format, start, format.length()).toString();
+	}
+
+	/**
+	 * Obtains the last {@link #RECENT_ENTRY_COUNT} processed messages, oldest first, such as to be included in a
+	 * crash report. Each is formatted like "10-16 14:02:11.250 W/tag: (thread-name) [elapsed time, total time] msg".
+	 * This method is thread safe and does not block logging threads.
+	 * @return list of formatted messages.
+	 */
+	public static List<String> getRecentEntries()
+	{
+		final long endSequence = recentEntrySequence.get();
+		final long startSequence = Math.max(0, endSequence - RECENT_ENTRY_COUNT);
+		final SimpleDateFormat dateFormat = new SimpleDateFormat("MM-dd HH:mm:ss.SSS", Locale.US);
+		final Date date = new Date();
+		ArrayList<String> entries = new ArrayList<>((int) (endSequence - startSequence));
+		for (long sequence = startSequence; sequence < endSequence; sequence++) {
+			// Skip entries not written yet, or already overwritten by a newer message.
+			Entry entry = recentEntries.get((int) sequence & (RECENT_ENTRY_COUNT - 1));
+			if ((entry == null) || (entry.sequence != sequence)) {
+				continue;
+			}
+			date.setTime(entry.time);
+			entries.add(dateFormat.format(date) + " " + "?DIWEV".charAt(entry.severity) + "/" + entry.tag + ": "
+				+ entry.msg);
+		}
+		return entries;
+	}
+
+	private static void addRecentEntry(int severity, String tag, String msg)
+	{
+		final long sequence = recentEntrySequence.getAndIncrement();
+		recentEntries.set((int) sequence & (RECENT_ENTRY_COUNT - 1), new Entry(sequence, severity, tag, msg));
+	}
+
 	public static boolean isDebugModeEnabled()
 	{
 		return TiConfig.DEBUG;
@@ -357,6 +523,7 @@ public class Log
 			return 0;
 		}
 		msg = onThread(msg);
+		addRecentEntry(severity, tag, msg);
 		switch (severity) {
 			case DEBUG:
 				return android.util.Log.d(tag, msg);
@@ -378,6 +545,7 @@ public class Log
 			return 0;
 		}
 		msg = onThread(msg);
+		addRecentEntry(severity, tag, (t != null) ? msg + ": " + t : msg);
 		switch (severity) {
 			case DEBUG:
 				return android.util.Log.d(tag, msg, t);
@@ -393,12 +561,11 @@ public class Log
 		}
 	}
 
-	private static synchronized String onThread(String msg)
+	private static String onThread(String msg)
 	{
 		long currentMillis = System.currentTimeMillis();
-		long elapsed = currentMillis - lastLog;
+		long elapsed = currentMillis - lastLog.getAndSet(currentMillis);
 		long total = currentMillis - firstLog;
-		lastLog = currentMillis;
 
 		StringBuilder sb = new StringBuilder(256);
 		sb.append("(")
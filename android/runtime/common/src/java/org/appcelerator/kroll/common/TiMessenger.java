@@ -6,7 +6,12 @@
  */
 package org.appcelerator.kroll.common;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -14,6 +19,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import android.os.Handler;
 import android.os.Looper;
 import android.os.Message;
+import android.os.SystemClock;
 
 /**
  * A messenger interface that maintains a {@link android.os.MessageQueue}, and
@@ -37,6 +43,10 @@ import android.os.Message;
  *
  * To process and dispatch a single message from the message queue, see {@link
  * #dispatchMessage()}.
+ *
+ * To run work on the main thread without blocking the current thread, see {@link
+ * #callOnMain(Callable)}, {@link #runOnMain(List)} and {@link #sendAsyncMainMessage(Message, Object)}.
+ * Blocking durations and hand-off latencies are reported by {@link #getStats()}.
  */
 public class TiMessenger implements Handler.Callback
 {
@@ -78,6 +88,64 @@ public class TiMessenger implements Handler.Callback
 
 	public static final int DEFAULT_TIMEOUT = 50;
 
+	// Blocking messages taking longer than this are logged along with the blocked thread.
+	private static final long SLOW_BLOCKING_THRESHOLD = 100; // ms
+
+	private static final LatencyStats blockingStats = new LatencyStats();
+	private static final LatencyStats handOffStats = new LatencyStats();
+	private static volatile String lastSlowBlockedThread;
+
+	/**
+	 * Keeps the latencies of the last {@link #SAMPLE_COUNT} operations to compute their percentiles.
+	 */
+	private static final class LatencyStats
+	{
+		private static final int SAMPLE_COUNT = 1024;
+
+		private final long[] samples = new long[SAMPLE_COUNT]; // ns
+		private long count = 0;
+		private long maxLatency = 0;
+
+		synchronized void add(long latency)
+		{
+			samples[(int) (count % SAMPLE_COUNT)] = latency;
+			count++;
+			maxLatency = Math.max(maxLatency, latency);
+		}
+
+		void putStats(HashMap<String, Object> stats, String prefix)
+		{
+			long[] sortedSamples;
+			long sampleCount;
+			long max;
+			synchronized (this)
+			{
+				sampleCount = count;
+				max = maxLatency;
+				sortedSamples = Arrays.copyOf(samples, (int) Math.min(count, SAMPLE_COUNT));
+			}
+			Arrays.sort(sortedSamples);
+			stats.put(prefix + "Count", sampleCount);
+			stats.put(prefix + "P50", toMillis(percentile(sortedSamples, 50)));
+			stats.put(prefix + "P99", toMillis(percentile(sortedSamples, 99)));
+			stats.put(prefix + "Max", toMillis(max));
+		}
+
+		private static long percentile(long[] sortedSamples, int percent)
+		{
+			if (sortedSamples.length == 0) {
+				return 0;
+			}
+			int index = (int) Math.ceil(sortedSamples.length * percent / 100.0) - 1;
+			return sortedSamples[Math.max(0, index)];
+		}
+
+		private static double toMillis(long nanos)
+		{
+			return nanos / 1000000.0;
+		}
+	}
+
 	public static TiMessenger getMessenger()
 	{
 		return threadLocalMessenger.get();
@@ -125,6 +193,152 @@ public class TiMessenger implements Handler.Callback
 		postOnMain(runnable);
 	}
 
+	/**
+	 * Calls the given callable on the main thread without blocking the current thread.
+	 * It is called immediately if already on the main thread.
+	 * @param callable the work to run on the main thread.
+	 * @return future completed with the callable's result, or exceptionally if it has thrown.
+	 */
+	public static <T> CompletableFuture<T> callOnMain(Callable<T> callable)
+	{
+		final CompletableFuture<T> future = new CompletableFuture<>();
+		final long sendTime = SystemClock.elapsedRealtimeNanos();
+		Runnable runnable = () -> {
+			handOffStats.add(SystemClock.elapsedRealtimeNanos() - sendTime);
+			try {
+				future.complete(callable.call());
+			} catch (Throwable t) {
+				future.completeExceptionally(t);
+			}
+		};
+
+		TiMessenger messenger = getMainMessenger();
+		if (messenger == null) {
+			future.completeExceptionally(new IllegalStateException("Main messenger is null"));
+		} else if (Looper.myLooper() == messenger.looper) {
+			runnable.run();
+		} else {
+			messenger.post(runnable);
+		}
+		return future;
+	}
+
+	/**
+	 * Calls the given callable on the KrollRuntime thread without blocking the current thread.
+	 * See {@link #callOnMain(Callable)} for more details.
+	 * @param callable the work to run on the KrollRuntime thread.
+	 * @return future completed with the callable's result, or exceptionally if it has thrown.
+	 */
+	public static <T> CompletableFuture<T> callOnRuntime(Callable<T> callable)
+	{
+		return callOnMain(callable);
+	}
+
+	/**
+	 * Runs the given tasks in order on the main thread, in a single message instead of one message per task.
+	 * Does not block the current thread. A task throwing an exception does not prevent the next tasks from running.
+	 * @param tasks the work to run on the main thread.
+	 * @return future completed once all tasks have run, or exceptionally with the first exception thrown.
+	 */
+	public static CompletableFuture<Void> runOnMain(List<Runnable> tasks)
+	{
+		final Runnable[] taskArray = tasks.toArray(new Runnable[0]);
+		return callOnMain(() -> {
+			Throwable exception = null;
+			for (Runnable task : taskArray) {
+				try {
+					task.run();
+				} catch (Throwable t) {
+					if (exception == null) {
+						exception = t;
+					} else {
+						exception.addSuppressed(t);
+					}
+				}
+			}
+			if (exception != null) {
+				throw (exception instanceof Exception) ? (Exception) exception : new RuntimeException(exception);
+			}
+			return null;
+		});
+	}
+
+	/**
+	 * Sends a message to the main thread without blocking the current thread. Like with
+	 * {@link #sendBlockingMainMessage(Message, Object)}, the message's handler receives an {@link AsyncResult}
+	 * as the message's "obj" and is expected to call its setResult() or setException() method.
+	 * @param message   the message to send.
+	 * @param asyncArg  argument to be added to the AsyncResult.
+	 * @return future completed with the value passed to setResult(), or exceptionally if setException() is called.
+	 */
+	public static CompletableFuture<Object> sendAsyncMainMessage(Message message, Object asyncArg)
+	{
+		final CompletableFuture<Object> future = new CompletableFuture<>();
+		final long sendTime = SystemClock.elapsedRealtimeNanos();
+		@SuppressWarnings("serial")
+		AsyncResult asyncResult = new AsyncResult(asyncArg) {
+			@Override
+			public void setResult(Object result)
+			{
+				super.setResult(result);
+				future.complete(result);
+			}
+
+			@Override
+			public void setException(Throwable exception)
+			{
+				super.setException(exception);
+				future.completeExceptionally(exception);
+			}
+		};
+		message.obj = asyncResult;
+
+		// Dispatch the message from a runnable, so that the hand-off ends when its handler starts.
+		TiMessenger messenger = getMainMessenger();
+		Handler target = message.getTarget();
+		if (messenger == null) {
+			future.completeExceptionally(new IllegalStateException("Main messenger is null"));
+		} else if (target == null) {
+			future.completeExceptionally(new IllegalArgumentException("Message has no target"));
+		} else {
+			messenger.post(() -> {
+				handOffStats.add(SystemClock.elapsedRealtimeNanos() - sendTime);
+				target.dispatchMessage(message);
+			});
+		}
+		return future;
+	}
+
+	/**
+	 * Sends a message to the KrollRuntime thread without blocking the current thread.
+	 * See {@link #sendAsyncMainMessage(Message, Object)} for more details.
+	 * @param message   the message to send.
+	 * @param asyncArg  argument to be added to the AsyncResult.
+	 * @return future completed with the value passed to setResult(), or exceptionally if setException() is called.
+	 */
+	public static CompletableFuture<Object> sendAsyncRuntimeMessage(Message message, Object asyncArg)
+	{
+		return sendAsyncMainMessage(message, asyncArg);
+	}
+
+	/**
+	 * Obtains statistics about messages sent to other threads. Latencies are in milliseconds and cover the
+	 * last 1024 messages of each kind:
+	 * <ul>
+	 *   <li>"blocking*": time threads spent blocked in sendBlockingMainMessage() and sendBlockingRuntimeMessage().</li>
+	 *   <li>"handOff*": time until work sent via callOnMain(), runOnMain() or sendAsyncMainMessage() was run.</li>
+	 * </ul>
+	 * @return map of statistics.
+	 */
+	public static HashMap<String, Object> getStats()
+	{
+		HashMap<String, Object> stats = new HashMap<>();
+		blockingStats.putStats(stats, "blocking");
+		handOffStats.putStats(stats, "handOff");
+		stats.put("lastSlowBlockedThread", lastSlowBlockedThread);
+		return stats;
+	}
+
 	/**
 	 * Sends a message to an {@link java.util.concurrent.ArrayBlockingQueue#ArrayBlockingQueue(int) ArrayBlockingQueue},
 	 * and dispatch messages on the current
@@ -266,6 +480,7 @@ public class TiMessenger implements Handler.Callback
 			}
 		};
 
+		final long startTime = SystemClock.elapsedRealtimeNanos();
 		blockingMessageCount.incrementAndGet();
 		message.obj = wrappedAsyncResult;
 		targetMessenger.sendMessage(message);
@@ -274,6 +489,16 @@ public class TiMessenger implements Handler.Callback
 		blockingMessageCount.decrementAndGet();
 		dispatchPendingMessages();
 
+		// Report threads blocked for long, such as background threads waiting for a busy main thread.
+		final long duration = SystemClock.elapsedRealtimeNanos() - startTime;
+		blockingStats.add(duration);
+		if (duration > TimeUnit.MILLISECONDS.toNanos(SLOW_BLOCKING_THRESHOLD)) {
+			final String threadName = Thread.currentThread().getName();
+			lastSlowBlockedThread = threadName;
+			Log.debugf(TAG, "Thread '{}' was blocked for {} ms waiting on another thread", threadName,
+				TimeUnit.NANOSECONDS.toMillis(duration));
+		}
+
 		return messageResult;
 	}
 
@@ -386,7 +611,7 @@ public class TiMessenger implements Handler.Callback
 		try {
 			Message message = messageQueue.poll(timeout, timeUnit);
 			if (message != null) {
-				Log.d(TAG, "Dispatching message: " + message, Log.DEBUG_MODE);
+				Log.debugf(TAG, "Dispatching message: {}", message);
 
 				if (message.getTarget() != null) {
 					message.getTarget().dispatchMessage(message);
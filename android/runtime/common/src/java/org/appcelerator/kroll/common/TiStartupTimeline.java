@@ -0,0 +1,157 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package org.appcelerator.kroll.common;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import android.os.Process;
+import android.os.SystemClock;
+
+/**
+ * Records the phases of app startup with their timestamps and threads, in the form of
+ * <a href="https://docs.google.com/document/d/1CvAClvFfyA5R-PhYUmn5OOQtYMH4h6I0nSsKchNAySU">
+ * Chrome trace events</a>.
+ * <p>
+ * A phase is timed by calling {@link #begin()} when it starts and {@link #end(String, long)} when it ends:
+ * <pre>
+ * final long startTime = TiStartupTimeline.begin();
+ * doSomething();
+ * TiStartupTimeline.end("doSomething", startTime);
+ * </pre>
+ * Timestamps are based on {@link SystemClock#elapsedRealtimeNanos()} and reported relative to process start.
+ * This class is thread safe.
+ */
+public final class TiStartupTimeline
+{
+	private static final int MAX_EVENT_COUNT = 1024;
+	private static final String CATEGORY = "startup";
+
+	private static final ArrayList<Event> events = new ArrayList<>();
+
+	private static final class Event
+	{
+		final String name;
+		final long startTime;
+		final long duration;
+		final int threadId;
+		final String threadName;
+
+		Event(String name, long startTime, long duration)
+		{
+			this.name = name;
+			this.startTime = startTime;
+			this.duration = duration;
+			this.threadId = Process.myTid();
+			this.threadName = Thread.currentThread().getName();
+		}
+	}
+
+	private TiStartupTimeline()
+	{
+	}
+
+	/**
+	 * Obtains the start time of a phase.
+	 * @return the start time to be passed to {@link #end(String, long)}.
+	 */
+	public static long begin()
+	{
+		return SystemClock.elapsedRealtimeNanos();
+	}
+
+	/**
+	 * Records a phase which started at the given time and ends now, on the current thread.
+	 * @param name the phase's name.
+	 * @param startTime the value returned by {@link #begin()} when the phase started.
+	 */
+	public static void end(String name, long startTime)
+	{
+		add(new Event(name, startTime, Math.max(0, SystemClock.elapsedRealtimeNanos() - startTime)));
+	}
+
+	/**
+	 * Records the current point in time, such as a milestone reached by the current thread.
+	 * @param name the milestone's name.
+	 */
+	public static void mark(String name)
+	{
+		mark(name, SystemClock.elapsedRealtimeNanos());
+	}
+
+	/**
+	 * Records a point in time, such as a milestone reached by the current thread.
+	 * @param name the milestone's name.
+	 * @param time the milestone's time as per {@link SystemClock#elapsedRealtimeNanos()}.
+	 */
+	public static void mark(String name, long time)
+	{
+		add(new Event(name, time, -1));
+	}
+
+	private static void add(Event event)
+	{
+		synchronized (events)
+		{
+			if (events.size() < MAX_EVENT_COUNT) {
+				events.add(event);
+			}
+		}
+	}
+
+	/**
+	 * Obtains the recorded phases as Chrome trace events, followed by the names of their threads.
+	 * Timestamps and durations are in microseconds since process start.
+	 * @return list of trace events, in the order they were recorded.
+	 */
+	public static List<Map<String, Object>> getTraceEvents()
+	{
+		ArrayList<Event> eventsCopy;
+		synchronized (events)
+		{
+			eventsCopy = new ArrayList<>(events);
+		}
+
+		final int processId = Process.myPid();
+		final long processStartTime = Process.getStartElapsedRealtime() * 1000000;
+		List<Map<String, Object>> traceEvents = new ArrayList<>(eventsCopy.size() + 4);
+		HashMap<Integer, String> threadNames = new HashMap<>();
+		for (Event event : eventsCopy) {
+			LinkedHashMap<String, Object> traceEvent = new LinkedHashMap<>();
+			traceEvent.put("name", event.name);
+			traceEvent.put("cat", CATEGORY);
+			traceEvent.put("ph", (event.duration >= 0) ? "X" : "i");
+			traceEvent.put("ts", (event.startTime - processStartTime) / 1000);
+			if (event.duration >= 0) {
+				traceEvent.put("dur", event.duration / 1000);
+			} else {
+				traceEvent.put("s", "t");
+			}
+			traceEvent.put("pid", processId);
+			traceEvent.put("tid", event.threadId);
+			traceEvents.add(traceEvent);
+			threadNames.put(event.threadId, event.threadName);
+		}
+
+		// Metadata events naming the threads.
+		for (Map.Entry<Integer, String> entry : threadNames.entrySet()) {
+			HashMap<String, Object> args = new HashMap<>();
+			args.put("name", entry.getValue());
+			LinkedHashMap<String, Object> traceEvent = new LinkedHashMap<>();
+			traceEvent.put("name", "thread_name");
+			traceEvent.put("ph", "M");
+			traceEvent.put("pid", processId);
+			traceEvent.put("tid", entry.getKey());
+			traceEvent.put("args", args);
+			traceEvents.add(traceEvent);
+		}
+		return traceEvents;
+	}
+}
@@ -6,94 +6,337 @@
  */
 package org.appcelerator.kroll.util;
 
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import android.content.Context;
-import android.os.AsyncTask;
+import android.os.Handler;
+import android.os.Looper;
 import android.util.Log;
 
+import org.appcelerator.kroll.common.TiStartupTimeline;
 import org.json.JSONArray;
+import org.json.JSONObject;
 
+/**
+ * Prefetches assets read during app startup on background threads.
+ * <p>
+ * Assets read during the first seconds after launch are recorded in order and persisted as a profile in the
+ * app's cache directory. On the next launch, the profiled assets are read in parallel before the app requests
+ * them. If no profile exists yet, or the app has been updated since, the assets listed in "cache.json" are
+ * prefetched instead.
+ * <p>
+ * Prefetched assets are handed out once and bounded by a total byte size. Readers of an asset still being
+ * prefetched wait for it instead of reading it a second time. This class is thread safe.
+ */
 public class KrollAssetCache
 {
 	private static final String TAG = "TiAssetCache";
+	private static final String CACHE_JSON_PATH = "cache.json";
+	private static final String PROFILE_FILE_NAME = "ti_asset_profile.json";
+	private static final long PROFILE_DURATION = 10 * 1000; // ms
+	private static final int MAX_PROFILE_ASSETS = 512;
+	private static final long MAX_CACHE_BYTES = 8 * 1024 * 1024;
+	private static final int MAX_THREAD_COUNT = 4;
+
+	private static final ConcurrentHashMap<String, FutureTask<byte[]>> cache = new ConcurrentHashMap<>();
+	private static final AtomicLong cachedBytes = new AtomicLong();
+	private static ThreadPoolExecutor executor;
 
-	private static final HashMap<String, byte[]> cache = new HashMap<>();
+	// Profile of the current launch. Guarded by "profileLock".
+	private static final Object profileLock = new Object();
+	private static final LinkedHashSet<String> profile = new LinkedHashSet<>();
+	private static boolean isProfiling = false;
+	private static File profileFile;
+	private static String profileSignature;
+	private static List<String> loadedProfile;
+
+	// Statistics.
+	private static final AtomicLong prefetchCount = new AtomicLong();
+	private static final AtomicLong hitCount = new AtomicLong();
+	private static final AtomicLong waitCount = new AtomicLong();
+	private static final AtomicLong missCount = new AtomicLong();
+	private static final AtomicLong droppedCount = new AtomicLong();
+	private static final AtomicLong unusedCount = new AtomicLong();
+	private static final AtomicLong bytesSaved = new AtomicLong();
 
 	/**
-     * Asynchronous task to load specified assets into cache.
-     */
-	private static class CacheTask extends AsyncTask<String[], Void, Void>
+	 * Initialize KrollAssetCache class by loading the asset profile of the last launch, or 'cache.json'
+	 * if not available, then prefetching the listed assets on background threads.
+	 * @param context Application context.
+	 */
+	public static void init(Context context)
 	{
-		protected Void doInBackground(String[]... args)
+		final long startTime = TiStartupTimeline.begin();
+
+		// Make sure KrollAssetHelper is initialized.
+		KrollAssetHelper.init(context);
+
+		synchronized (profileLock)
 		{
-			final String[] paths = args[0];
-			for (String path : paths) {
-				byte[] bytes = KrollAssetHelper.readAssetBytes(path);
-				if (bytes != null) {
-					cache.put(path, bytes);
-				}
+			// Do not continue if already initialized.
+			if (executor != null) {
+				return;
 			}
+
+			final AtomicInteger threadCounter = new AtomicInteger();
+			executor = new ThreadPoolExecutor(
+				MAX_THREAD_COUNT, MAX_THREAD_COUNT, 5, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+				(runnable) -> {
+					Thread thread = new Thread(runnable, "TiAssetCache-" + threadCounter.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+			executor.allowCoreThreadTimeOut(true);
+
+			// Profiles are only valid for the APK they were recorded with.
+			profileFile = new File(KrollAssetHelper.getCacheDir(), PROFILE_FILE_NAME);
+			profileSignature = Long.toString(new File(context.getApplicationInfo().sourceDir).lastModified());
+			isProfiling = true;
+		}
+
+		List<String> assets = readProfile();
+		if (assets == null) {
+			assets = readCacheJson();
+		}
+		loadedProfile = assets;
+		if (assets != null) {
+			for (String path : assets) {
+				prefetch(path);
+			}
+		}
+
+		new Handler(Looper.getMainLooper()).postDelayed(KrollAssetCache::finishProfiling, PROFILE_DURATION);
+		TiStartupTimeline.end("KrollAssetCache.init", startTime);
+	}
+
+	/**
+	 * Read asset paths recorded on the last launch.
+	 * @return list of asset paths, or null if no valid profile exists.
+	 */
+	private static List<String> readProfile()
+	{
+		if (!profileFile.isFile()) {
 			return null;
 		}
+		try (FileInputStream in = new FileInputStream(profileFile)) {
+			String json = new String(KrollAssetHelper.readInputStream(in).toByteArray(), StandardCharsets.UTF_8);
+			JSONObject profileJson = new JSONObject(json);
+			if (!profileSignature.equals(profileJson.optString("signature"))) {
+				return null;
+			}
+			return toList(profileJson.getJSONArray("assets"));
+		} catch (Exception e) {
+			Log.w(TAG, "Failed to read asset profile.");
+		}
+		return null;
 	}
 
-	private static final CacheTask task = new CacheTask();
+	/**
+	 * Read asset paths from 'cache.json', which lists assets to preload on first launch.
+	 * @return list of asset paths, or null if not available.
+	 */
+	private static List<String> readCacheJson()
+	{
+		try {
+			byte[] bytes = KrollAssetHelper.readAssetBytesUncached(CACHE_JSON_PATH);
+			if (bytes != null) {
+				return toList(new JSONArray(new String(bytes, StandardCharsets.UTF_8)));
+			}
+		} catch (Exception e) {
+			Log.e(TAG, "Failed to parse 'cache.json'.");
+		}
+		return null;
+	}
+
+	private static List<String> toList(JSONArray jsonArray) throws Exception
+	{
+		ArrayList<String> list = new ArrayList<>(jsonArray.length());
+		for (int i = 0; i < jsonArray.length(); i++) {
+			list.add(jsonArray.getString(i));
+		}
+		return list;
+	}
 
 	/**
-     * Initialize KrollAssetCache class by parsing 'cache.json'
-     * then loading the asset cache from a background thread.
-     * @param context Application context.
-     */
-	public static void init(Context context)
+	 * Read specified asset on a background thread, unless already cached or in the process of being read.
+	 * @param path Asset to read.
+	 */
+	private static void prefetch(final String path)
 	{
-		// Make sure KrollAssetHelper is initialized.
-		KrollAssetHelper.init(context);
+		if (!KrollAssetHelper.assetExists(path)) {
+			return;
+		}
+		FutureTask<byte[]> task = new FutureTask<>(() -> {
+			byte[] bytes = KrollAssetHelper.readAssetBytesUncached(path);
+			if (bytes == null) {
+				return null;
+			}
 
-		String[] assets = null;
-		try {
+			// Drop assets exceeding the byte limit. They are read on demand instead.
+			if (cachedBytes.addAndGet(bytes.length) > MAX_CACHE_BYTES) {
+				cachedBytes.addAndGet(-bytes.length);
+				droppedCount.incrementAndGet();
+				return null;
+			}
+			return bytes;
+		});
+		if (cache.putIfAbsent(path, task) == null) {
+			prefetchCount.incrementAndGet();
+			executor.execute(task);
+		}
+	}
 
-			// Attempt to read and parse 'cache.json'.
-			String cacheJsonString = KrollAssetHelper.readAsset("cache.json");
-			if (cacheJsonString != null) {
-				JSONArray cacheJsonArray = new JSONArray(cacheJsonString);
-				assets = new String[cacheJsonArray.length()];
-
-				// Add entries to assets array.
-				for (int i = 0; i < assets.length; i++) {
-					assets[i] = cacheJsonArray.getString(i);
-				}
-
-				// Execute cache task on background thread.
-				if (assets != null) {
-					task.execute(assets);
-				}
+	/**
+	 * Stop recording asset reads, persist the recorded profile and release prefetched assets
+	 * which have not been read.
+	 */
+	private static void finishProfiling()
+	{
+		final ArrayList<String> assets;
+		synchronized (profileLock)
+		{
+			if (!isProfiling) {
+				return;
+			}
+			isProfiling = false;
+			assets = new ArrayList<>(profile);
+			profile.clear();
+		}
+
+		for (String path : new ArrayList<>(cache.keySet())) {
+			final FutureTask<byte[]> task = cache.remove(path);
+			if (task != null) {
+				unusedCount.incrementAndGet();
+
+				// Tasks run in the order they were queued, so this never waits for a task which has not started.
+				executor.execute(() -> releaseBytes(task));
+			}
+		}
+
+		// Only write the profile if it has changed.
+		if (assets.isEmpty() || assets.equals(loadedProfile)) {
+			return;
+		}
+		executor.execute(() -> {
+			File tempFile = new File(profileFile.getPath() + ".tmp");
+			try (FileOutputStream out = new FileOutputStream(tempFile)) {
+				JSONObject profileJson = new JSONObject();
+				profileJson.put("signature", profileSignature);
+				profileJson.put("assets", new JSONArray(assets));
+				out.write(profileJson.toString().getBytes(StandardCharsets.UTF_8));
+			} catch (Exception e) {
+				Log.w(TAG, "Failed to write asset profile.");
+				tempFile.delete();
+				return;
+			}
+			if (!tempFile.renameTo(profileFile)) {
+				tempFile.delete();
+			}
+		});
+	}
+
+	/**
+	 * Record an asset read into the profile of this launch.
+	 * @param path Asset being read.
+	 * @return true if still recording, false if the profiling period has ended.
+	 */
+	private static boolean record(String path)
+	{
+		synchronized (profileLock)
+		{
+			if (isProfiling && (profile.size() < MAX_PROFILE_ASSETS)) {
+				profile.add(path);
 			}
+			return isProfiling;
+		}
+	}
+
+	private static byte[] releaseBytes(FutureTask<byte[]> task)
+	{
+		byte[] bytes = null;
+		try {
+			bytes = task.get();
 		} catch (Exception e) {
-			Log.e(TAG, "Failed to parse 'cache.json'.");
+			Log.w(TAG, "Failed to prefetch asset.", e);
+		}
+		if (bytes != null) {
+			cachedBytes.addAndGet(-bytes.length);
 		}
+		return bytes;
 	}
 
 	/**
-     * Determine if cache contains specified asset.
-     * @param path Asset to check.
-     * @return boolean of result.
-     */
+	 * Determine if cache contains specified asset.
+	 * @param path Asset to check.
+	 * @return boolean of result.
+	 */
 	public static boolean has(String path)
 	{
 		return cache.containsKey(path);
 	}
 
 	/**
-     * Obtain cached byte array for specified asset.
-     * Cache is relieved after first call.
-     * @param path Asset to obtain.
-     * @return byte array of asset.
-     */
+	 * Obtain cached byte array for specified asset, waiting for it if it is still being prefetched.
+	 * Cache is relieved after first call. Also records the read into this launch's profile.
+	 * @param path Asset to obtain.
+	 * @return byte array of asset, or null if not cached.
+	 */
 	public static byte[] get(String path)
 	{
-		byte[] bytes = cache.get(path);
-		cache.remove(path);
+		// Only count misses during startup, when assets are expected to be cached.
+		final boolean isStartup = record(path);
+
+		FutureTask<byte[]> task = cache.remove(path);
+		if (task == null) {
+			if (isStartup) {
+				missCount.incrementAndGet();
+			}
+			return null;
+		}
+		if (!task.isDone()) {
+			waitCount.incrementAndGet();
+		}
+
+		byte[] bytes = releaseBytes(task);
+		if (bytes == null) {
+			missCount.incrementAndGet();
+			return null;
+		}
+		hitCount.incrementAndGet();
+		bytesSaved.addAndGet(bytes.length);
 		return bytes;
 	}
+
+	/**
+	 * Obtain cache statistics.
+	 * @return map of statistics.
+	 */
+	public static HashMap<String, Object> getStats()
+	{
+		HashMap<String, Object> stats = new HashMap<>();
+		stats.put("prefetched", prefetchCount.get());
+		stats.put("hits", hitCount.get());
+		stats.put("waits", waitCount.get());
+		stats.put("misses", missCount.get());
+		stats.put("dropped", droppedCount.get());
+		stats.put("unused", unusedCount.get());
+		stats.put("bytesSaved", bytesSaved.get());
+		stats.put("cachedBytes", cachedBytes.get());
+		stats.put("maxCachedBytes", MAX_CACHE_BYTES);
+		return stats;
+	}
 }
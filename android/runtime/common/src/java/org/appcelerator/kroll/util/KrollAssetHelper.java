@@ -161,22 +161,36 @@ public class KrollAssetHelper
 
 	public static byte[] readAssetBytes(String path)
 	{
-		if (KrollAssetCache.has(path)) {
-			return KrollAssetCache.get(path);
+		byte[] bytes = KrollAssetCache.get(path);
+		if (bytes != null) {
+			return bytes;
 		}
+		return readAssetBytesUncached(path);
+	}
+
+	/**
+	 * Read asset without going through KrollAssetCache.
+	 * @param path Asset to read.
+	 * @return byte array of asset, or null if it could not be read.
+	 */
+	static byte[] readAssetBytesUncached(String path)
+	{
 		try {
 			if (assetCrypt != null) {
 				InputStream in = assetCrypt.openAsset(path);
 				if (in != null) {
-					return readInputStream(in).toByteArray();
+					try (InputStream stream = in) {
+						return readInputStream(stream).toByteArray();
+					}
 				}
 			}
 			if (assetManager == null) {
 				Log.e(TAG, "AssetManager is null, can't read asset: " + path);
 				return null;
 			}
-			InputStream in = assetManager.open(path);
-			return readInputStream(in).toByteArray();
+			try (InputStream in = assetManager.open(path)) {
+				return readInputStream(in).toByteArray();
+			}
 		} catch (IOException e) {
 			Log.e(TAG, "Error while reading asset \"" + path + "\":", e);
 		}
@@ -7,30 +7,110 @@
 package org.appcelerator.kroll.runtime.v8;
 
 import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
 import java.lang.ref.SoftReference;
 import java.lang.ref.WeakReference;
-import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.appcelerator.kroll.KrollProxySupport;
 import org.appcelerator.kroll.KrollObject;
 import org.appcelerator.kroll.common.Log;
 
+/**
+ * Holds strong/weak/soft references to the Java objects we have paired/wrapped in native
+ * titanium::Proxy/JavaObject instances.
+ * <p>
+ * References are stored in a slot table indexed by primitive keys. A key encodes the slot index in its lower
+ * 32 bits and the slot's generation in its upper bits, so a stale key can never resolve to a recycled slot.
+ * Lookups never lock. Mutations are serialized on a private lock and swap the entry's state in place.
+ * Weak and soft references are registered with a {@link ReferenceQueue} so that slots of collected objects
+ * are swept and recycled without waiting for an explicit {@link #destroyReference(long)}.
+ */
 public final class ReferenceTable
 {
 	private static final String TAG = "ReferenceTable";
 
-	/**
-	 * A simple Map used to hold strong/weak reference to the Java objects we have paired/wrapped in native
-	 * titanium::Proxy/JavaObject instances.
-	 */
-	private static final HashMap<Long, Object> references = new HashMap<>(1024);
+	private static final int INITIAL_CAPACITY = 1024;
+	private static final long SLOT_MASK = 0xFFFFFFFFL;
+	private static final int GENERATION_MASK = 0x7FFFFFFF;
+
+	/** Serializes all mutations of the table. Reads do not acquire this lock. */
+	private static final Object lock = new Object();
+
+	/** Receives weak/soft references whose objects have been garbage collected. */
+	private static final ReferenceQueue<Object> collectedQueue = new ReferenceQueue<>();
+
+	/** Table of entries indexed by slot. Replaced with a larger copy (under lock) when full. */
+	private static volatile AtomicReferenceArray<Entry> entries = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+
+	/** Generation of each slot, incremented whenever the slot is released. Guarded by lock. */
+	private static int[] generations = new int[INITIAL_CAPACITY];
+
+	/** Stack of released slot indexes available for reuse. Guarded by lock. */
+	private static int[] freeSlots = new int[64];
+	private static int freeSlotCount = 0;
+
+	/** Number of slots handed out so far, which is also the next never-used slot index. Guarded by lock. */
+	private static int usedSlotCount = 0;
+
+	/** Number of live entries in the table. Guarded by lock. */
+	private static int size = 0;
 
 	/**
-	 * Incrementing key, used to generate new keys when a new strong reference is created. FIXME Handle "wrapping" the
-	 * value around to Long.MIN_VALUE when Long.MAX_VALUE is reached? What if we ever reach back up to 0 - we need to
-	 * skip it!
+	 * A single table entry. The key never changes, while the referenced object moves between the "strong" field
+	 * and a weak/soft reference as the native side changes its state.
 	 */
-	private static long lastKey = 1;
+	private static final class Entry
+	{
+		final long key;
+		volatile Object strong;
+		volatile Reference<Object> reference;
+
+		Entry(long key, Object object)
+		{
+			this.key = key;
+			this.strong = object;
+		}
+
+		Object get()
+		{
+			Object object = this.strong;
+			if (object != null) {
+				return object;
+			}
+			Reference<Object> ref = this.reference;
+			if (ref == null) {
+				// Entry may have been made strong again between reads. The strong field is always assigned
+				// before the reference is cleared, so re-reading it here is guaranteed to see the new value.
+				return this.strong;
+			}
+			return ref.get();
+		}
+	}
+
+	/** Weak reference which remembers the table key it was created for. */
+	private static final class KeyedWeakReference extends WeakReference<Object>
+	{
+		final long key;
+
+		KeyedWeakReference(Object object, long key)
+		{
+			super(object, collectedQueue);
+			this.key = key;
+		}
+	}
+
+	/** Soft reference which remembers the table key it was created for. */
+	private static final class KeyedSoftReference extends SoftReference<Object>
+	{
+		final long key;
+
+		KeyedSoftReference(Object object, long key)
+		{
+			super(object, collectedQueue);
+			this.key = key;
+		}
+	}
 
 	/**
 	 * Creates a new strong reference. Done when attaching a native Proxy to a Java object.
@@ -38,11 +118,19 @@ public final class ReferenceTable
 	 * @param object the object to reference and retain
 	 * @return an unique key for this reference
 	 */
-	public static synchronized long createReference(Object object)
+	public static long createReference(Object object)
 	{
-		long key = lastKey++;
-		Log.d(TAG, "Creating strong reference for key: " + key, Log.DEBUG_MODE);
-		references.put(key, object);
+		long key;
+		synchronized (lock)
+		{
+			purgeCollectedReferences();
+
+			int slot = acquireSlot();
+			key = toKey(slot, generations[slot]);
+			entries.set(slot, new Entry(key, object));
+			size++;
+		}
+		Log.debugf(TAG, "Creating strong reference for key: {}", key);
 		return key;
 	}
 
@@ -51,10 +139,20 @@ public final class ReferenceTable
 	 *
 	 * @param key the key for the reference to destroy.
 	 */
-	public static synchronized void destroyReference(long key)
+	public static void destroyReference(long key)
 	{
-		Log.d(TAG, "Destroying reference under key: " + key, Log.DEBUG_MODE);
-		Object obj = getReference(key);
+		Log.debugf(TAG, "Destroying reference under key: {}", key);
+		Object obj;
+		synchronized (lock)
+		{
+			Entry entry = findEntry(key);
+			if (entry == null) {
+				return;
+			}
+			obj = entry.get();
+			releaseSlot(entry);
+		}
+
 		// If it's an V8Object, set the ptr to 0, because the proxy is dead on C++ side
 		// This *should* prevent the native code from trying to reconstruct the proxy for any reason
 		if (obj instanceof KrollProxySupport proxy) {
@@ -63,7 +161,6 @@ public final class ReferenceTable
 				v8.setPointer(0);
 			}
 		}
-		references.remove(key);
 	}
 
 	/**
@@ -71,11 +168,19 @@ public final class ReferenceTable
 	 *
 	 * @param key the key for the reference to weaken.
 	 */
-	public static synchronized void makeWeakReference(long key)
+	public static void makeWeakReference(long key)
 	{
-		Log.d(TAG, "Downgrading to weak reference for key: " + key, Log.DEBUG_MODE);
-		Object ref = getReference(key);
-		references.put(key, new WeakReference<>(ref));
+		Log.debugf(TAG, "Downgrading to weak reference for key: {}", key);
+		synchronized (lock)
+		{
+			Entry entry = findEntry(key);
+			if (entry == null) {
+				return;
+			}
+			Object object = entry.get();
+			entry.reference = (object != null) ? new KeyedWeakReference(object, key) : null;
+			entry.strong = null;
+		}
 	}
 
 	/**
@@ -83,11 +188,19 @@ public final class ReferenceTable
 	 *
 	 * @param key the key for the reference to soften.
 	 */
-	public static synchronized void makeSoftReference(long key)
+	public static void makeSoftReference(long key)
 	{
-		Log.d(TAG, "Downgrading to soft reference for key: " + key, Log.DEBUG_MODE);
-		Object ref = getReference(key);
-		references.put(key, new SoftReference<>(ref));
+		Log.debugf(TAG, "Downgrading to soft reference for key: {}", key);
+		synchronized (lock)
+		{
+			Entry entry = findEntry(key);
+			if (entry == null) {
+				return;
+			}
+			Object object = entry.get();
+			entry.reference = (object != null) ? new KeyedSoftReference(object, key) : null;
+			entry.strong = null;
+		}
 	}
 
 	/**
@@ -97,12 +210,20 @@ public final class ReferenceTable
 	 * @param key the key for the reference.
 	 * @return the referenced object if the reference is still valid.
 	 */
-	public static synchronized Object clearReference(long key)
+	public static Object clearReference(long key)
 	{
-		Log.d(TAG, "Upgrading reference to strong for key: " + key, Log.DEBUG_MODE);
-		Object ref = getReference(key);
-		references.put(key, ref);
-		return ref;
+		Log.debugf(TAG, "Upgrading reference to strong for key: {}", key);
+		synchronized (lock)
+		{
+			Entry entry = findEntry(key);
+			if (entry == null) {
+				return null;
+			}
+			Object object = entry.get();
+			entry.strong = object;
+			entry.reference = null;
+			return object;
+		}
 	}
 
 	/**
@@ -112,25 +233,138 @@ public final class ReferenceTable
 	 * @param key the key of the reference.
 	 * @return the object if the reference is still valid, otherwise null.
 	 */
-	public static synchronized Object getReference(long key)
+	public static Object getReference(long key)
 	{
-		Object ref = references.get(key);
-		if (ref instanceof Reference) {
-			ref = ((Reference<?>) ref).get();
-		}
-		return ref;
+		Entry entry = findEntry(key);
+		return (entry != null) ? entry.get() : null;
 	}
 
 	/**
 	 * Determines if the reference is strong
 	 *
 	 * @param key the key for the reference.
-	 * @return returns true if the reference is strong
+	 * @return returns true if the reference is strong, false if it is weak/soft or the key is unknown
+	 */
+	public static boolean isStrongReference(long key)
+	{
+		Entry entry = findEntry(key);
+		if (entry == null) {
+			// Destroyed or purged after its weak/soft reference was collected.
+			return false;
+		}
+		// Don't unwrap weak references - just check the state directly
+		return entry.reference == null;
+	}
+
+	/**
+	 * Gets the number of references currently held by the table, including weak/soft references whose objects
+	 * have been collected but not swept yet.
+	 *
+	 * @return the number of entries in the table.
+	 */
+	public static int size()
+	{
+		synchronized (lock)
+		{
+			return size;
+		}
+	}
+
+	/**
+	 * Releases the slots of all weak/soft references whose objects have been garbage collected.
+	 * This is also done automatically whenever a new reference is created.
 	 */
-	public static synchronized boolean isStrongReference(long key)
+	public static void purgeCollectedReferences()
+	{
+		synchronized (lock)
+		{
+			Reference<?> ref;
+			while ((ref = collectedQueue.poll()) != null) {
+				long key;
+				if (ref instanceof KeyedWeakReference weakRef) {
+					key = weakRef.key;
+				} else if (ref instanceof KeyedSoftReference softRef) {
+					key = softRef.key;
+				} else {
+					continue;
+				}
+
+				// Only release the slot if the entry still owns this exact reference.
+				// It may have been made strong again, destroyed, or re-weakened since.
+				Entry entry = findEntry(key);
+				if ((entry != null) && (entry.reference == ref) && (entry.strong == null)) {
+					releaseSlot(entry);
+				}
+			}
+		}
+	}
+
+	private static long toKey(int slot, int generation)
 	{
-		Object ref = references.get(key);
-		// Don't unwrap weak references - just check the type directly
-		return !(ref instanceof Reference);
+		return (((long) generation) << 32) | (slot & SLOT_MASK);
+	}
+
+	private static Entry findEntry(long key)
+	{
+		if (key <= 0) {
+			return null;
+		}
+		long slot = key & SLOT_MASK;
+		AtomicReferenceArray<Entry> table = entries;
+		if (slot >= table.length()) {
+			return null;
+		}
+		Entry entry = table.get((int) slot);
+		if ((entry == null) || (entry.key != key)) {
+			return null;
+		}
+		return entry;
+	}
+
+	/** Must be called while holding the lock. */
+	private static int acquireSlot()
+	{
+		if (freeSlotCount > 0) {
+			return freeSlots[--freeSlotCount];
+		}
+
+		AtomicReferenceArray<Entry> table = entries;
+		int capacity = table.length();
+		if (usedSlotCount >= capacity) {
+			int newCapacity = capacity * 2;
+			AtomicReferenceArray<Entry> newTable = new AtomicReferenceArray<>(newCapacity);
+			for (int index = 0; index < capacity; index++) {
+				newTable.set(index, table.get(index));
+			}
+			int[] newGenerations = new int[newCapacity];
+			System.arraycopy(generations, 0, newGenerations, 0, capacity);
+			generations = newGenerations;
+			entries = newTable;
+		}
+
+		int slot = usedSlotCount++;
+		generations[slot] = 1;
+		return slot;
+	}
+
+	/** Must be called while holding the lock. */
+	private static void releaseSlot(Entry entry)
+	{
+		int slot = (int) (entry.key & SLOT_MASK);
+		entries.set(slot, null);
+		entry.strong = null;
+		entry.reference = null;
+		size--;
+
+		// Bump the generation so that keys handed out for this slot become invalid.
+		int generation = (generations[slot] + 1) & GENERATION_MASK;
+		generations[slot] = (generation != 0) ? generation : 1;
+
+		if (freeSlotCount >= freeSlots.length) {
+			int[] newFreeSlots = new int[freeSlots.length * 2];
+			System.arraycopy(freeSlots, 0, newFreeSlots, 0, freeSlotCount);
+			freeSlots = newFreeSlots;
+		}
+		freeSlots[freeSlotCount++] = slot;
 	}
 }
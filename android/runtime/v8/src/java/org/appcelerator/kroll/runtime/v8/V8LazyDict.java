@@ -0,0 +1,306 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package org.appcelerator.kroll.runtime.v8;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.appcelerator.kroll.KrollDict;
+import org.appcelerator.kroll.KrollRuntime;
+import org.appcelerator.kroll.common.AsyncResult;
+import org.appcelerator.kroll.common.Log;
+import org.appcelerator.kroll.common.TiMessenger;
+
+import android.os.Handler;
+import android.os.Looper;
+
+/**
+ * A KrollDict whose entries are converted from a JavaScript object when first accessed.
+ * <p>
+ * Created by the native TypeConverter for the elements of large arrays of plain objects, such as
+ * ListView items, where most elements are only read once or not at all before being discarded.
+ * The JavaScript object is read when any method of this map is first called. Changes made to the
+ * JavaScript object before then are seen by this map. This class is thread safe until converted,
+ * after which it behaves like a HashMap.
+ * <p>
+ * The JavaScript object can only be read on the runtime thread. When first accessed from another
+ * thread, such as the ListView's background filter thread, that thread is blocked until the
+ * runtime thread has converted it. Callers must therefore never access an unconverted map from a
+ * background thread which the runtime thread is itself waiting on, or both threads deadlock.
+ */
+public class V8LazyDict extends KrollDict
+{
+	private static final String TAG = "V8LazyDict";
+	private static final long serialVersionUID = 1L;
+	private static final int MSG_MATERIALIZE = 100;
+
+	private static final Handler handler = new Handler(Looper.getMainLooper(), (message) -> {
+		if (message.what == MSG_MATERIALIZE) {
+			AsyncResult asyncResult = (AsyncResult) message.obj;
+			((V8LazyDict) asyncResult.getArg()).materializeSync();
+			asyncResult.setResult(null);
+			return true;
+		}
+		return false;
+	});
+
+	private transient volatile long ptr;
+
+	public V8LazyDict(long ptr)
+	{
+		super();
+		this.ptr = ptr;
+	}
+
+	/**
+	 * Determines if the JavaScript object has been converted into this map's entries.
+	 * @return true if converted, false if still pending.
+	 */
+	public boolean isMaterialized()
+	{
+		return (this.ptr == 0);
+	}
+
+	private void materialize()
+	{
+		if (this.ptr == 0) {
+			return;
+		}
+		KrollRuntime runtime = KrollRuntime.getInstance();
+		if ((runtime == null) || KrollRuntime.isDisposed() || runtime.isRuntimeThread()) {
+			// Without a runtime, the object is released without converting it.
+			materializeSync();
+		} else {
+			TiMessenger.sendBlockingRuntimeMessage(handler.obtainMessage(MSG_MATERIALIZE), this);
+		}
+	}
+
+	private synchronized void materializeSync()
+	{
+		if (this.ptr == 0) {
+			return;
+		}
+		if (KrollRuntime.isDisposed()) {
+			Log.w(TAG, "Runtime disposed, cannot convert object.");
+		} else {
+			Object value = nativeMaterialize(this.ptr);
+			if (value instanceof Map) {
+				super.putAll((Map<String, Object>) value);
+			}
+		}
+		this.ptr = 0;
+	}
+
+	@Override
+	public int size()
+	{
+		materialize();
+		return super.size();
+	}
+
+	@Override
+	public boolean isEmpty()
+	{
+		materialize();
+		return super.isEmpty();
+	}
+
+	@Override
+	public Object get(Object key)
+	{
+		materialize();
+		return super.get(key);
+	}
+
+	@Override
+	public Object getOrDefault(Object key, Object defaultValue)
+	{
+		materialize();
+		return super.getOrDefault(key, defaultValue);
+	}
+
+	@Override
+	public boolean containsKey(Object key)
+	{
+		materialize();
+		return super.containsKey(key);
+	}
+
+	@Override
+	public boolean containsValue(Object value)
+	{
+		materialize();
+		return super.containsValue(value);
+	}
+
+	@Override
+	public Object put(String key, Object value)
+	{
+		materialize();
+		return super.put(key, value);
+	}
+
+	@Override
+	public void putAll(Map<? extends String, ?> map)
+	{
+		materialize();
+		super.putAll(map);
+	}
+
+	@Override
+	public Object putIfAbsent(String key, Object value)
+	{
+		materialize();
+		return super.putIfAbsent(key, value);
+	}
+
+	@Override
+	public Object remove(Object key)
+	{
+		materialize();
+		return super.remove(key);
+	}
+
+	@Override
+	public boolean remove(Object key, Object value)
+	{
+		materialize();
+		return super.remove(key, value);
+	}
+
+	@Override
+	public boolean replace(String key, Object oldValue, Object newValue)
+	{
+		materialize();
+		return super.replace(key, oldValue, newValue);
+	}
+
+	@Override
+	public Object replace(String key, Object value)
+	{
+		materialize();
+		return super.replace(key, value);
+	}
+
+	@Override
+	public void replaceAll(BiFunction<? super String, ? super Object, ?> function)
+	{
+		materialize();
+		super.replaceAll(function);
+	}
+
+	@Override
+	public Object computeIfAbsent(String key, Function<? super String, ?> mappingFunction)
+	{
+		materialize();
+		return super.computeIfAbsent(key, mappingFunction);
+	}
+
+	@Override
+	public Object computeIfPresent(String key, BiFunction<? super String, ? super Object, ?> remappingFunction)
+	{
+		materialize();
+		return super.computeIfPresent(key, remappingFunction);
+	}
+
+	@Override
+	public Object compute(String key, BiFunction<? super String, ? super Object, ?> remappingFunction)
+	{
+		materialize();
+		return super.compute(key, remappingFunction);
+	}
+
+	@Override
+	public Object merge(String key, Object value, BiFunction<? super Object, ? super Object, ?> remappingFunction)
+	{
+		materialize();
+		return super.merge(key, value, remappingFunction);
+	}
+
+	@Override
+	public void clear()
+	{
+		materialize();
+		super.clear();
+	}
+
+	@Override
+	public Set<String> keySet()
+	{
+		materialize();
+		return super.keySet();
+	}
+
+	@Override
+	public Collection<Object> values()
+	{
+		materialize();
+		return super.values();
+	}
+
+	@Override
+	public Set<Map.Entry<String, Object>> entrySet()
+	{
+		materialize();
+		return super.entrySet();
+	}
+
+	@Override
+	public void forEach(BiConsumer<? super String, ? super Object> action)
+	{
+		materialize();
+		super.forEach(action);
+	}
+
+	@Override
+	public Object clone()
+	{
+		materialize();
+		return new KrollDict(this);
+	}
+
+	@Override
+	public boolean equals(Object object)
+	{
+		materialize();
+		return super.equals(object);
+	}
+
+	@Override
+	public int hashCode()
+	{
+		materialize();
+		return super.hashCode();
+	}
+
+	@Override
+	public String toString()
+	{
+		materialize();
+		return super.toString();
+	}
+
+	@Override
+	protected void finalize() throws Throwable
+	{
+		// Release the JavaScript object if it was never converted.
+		final long pointer = this.ptr;
+		if ((pointer != 0) && !KrollRuntime.isDisposed()) {
+			TiMessenger.postOnRuntime(() -> nativeRelease(pointer));
+		}
+		super.finalize();
+	}
+
+	// JNI method prototypes
+	private static native Object nativeMaterialize(long ptr);
+
+	private static native void nativeRelease(long ptr);
+}
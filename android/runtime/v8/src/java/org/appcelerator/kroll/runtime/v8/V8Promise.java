@@ -42,7 +42,8 @@ public class V8Promise<V extends Object> extends V8Object implements KrollPromis
 		if (KrollRuntime.getInstance().isRuntimeThread()) {
 			nativeResolve(getPointer(), value);
 		} else {
-			TiMessenger.sendBlockingRuntimeMessage(handler.obtainMessage(MSG_RESOLVE), value);
+			// Does not wait for the promise to settle, see KrollPromise.
+			TiMessenger.sendAsyncRuntimeMessage(handler.obtainMessage(MSG_RESOLVE), value);
 		}
 	}
 
@@ -59,7 +60,8 @@ public class V8Promise<V extends Object> extends V8Object implements KrollPromis
 		if (KrollRuntime.getInstance().isRuntimeThread()) {
 			nativeReject(getPointer(), value);
 		} else {
-			TiMessenger.sendBlockingRuntimeMessage(handler.obtainMessage(MSG_REJECT), value);
+			// Does not wait for the promise to settle, see KrollPromise.
+			TiMessenger.sendAsyncRuntimeMessage(handler.obtainMessage(MSG_REJECT), value);
 		}
 	}
 
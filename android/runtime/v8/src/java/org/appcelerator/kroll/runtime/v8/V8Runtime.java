@@ -6,6 +6,7 @@
  */
 package org.appcelerator.kroll.runtime.v8;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -22,12 +23,15 @@ import org.appcelerator.kroll.KrollRuntime;
 import org.appcelerator.kroll.common.KrollSourceCodeProvider;
 import org.appcelerator.kroll.common.Log;
 import org.appcelerator.kroll.common.TiDeployData;
+import org.appcelerator.kroll.common.TiStartupTimeline;
+import org.appcelerator.kroll.util.KrollAssetHelper;
 import org.appcelerator.titanium.TiApplication;
 
 import android.os.Build;
 import android.os.Handler;
 import android.os.Looper;
 import android.os.MessageQueue.IdleHandler;
+import android.os.Process;
 
 import androidx.annotation.NonNull;
 
@@ -36,6 +40,10 @@ public final class V8Runtime extends KrollRuntime implements Handler.Callback
 	private static final String TAG = "KrollV8Runtime";
 	private static final String NAME = "v8";
 	private static final int MAX_V8_IDLE_INTERVAL = 5 * 1000; // ms
+	private static final String PROPERTY_CODE_CACHE = "ti.android.v8.codecache";
+	private static final String CODE_CACHE_DIRECTORY = "v8codecache";
+	private static final String PROPERTY_LAZY_CONVERSION = "ti.android.v8.lazyconversion";
+	private static final int LAZY_CONVERSION_MIN_LENGTH = 64;
 
 	private boolean libLoaded = false;
 
@@ -44,6 +52,8 @@ public final class V8Runtime extends KrollRuntime implements Handler.Callback
 	private final ArrayList<String> loadedLibs = new ArrayList<>();
 	private final AtomicBoolean shouldGC = new AtomicBoolean(false);
 	private long lastV8Idle;
+	private boolean isStartupLogged = false;
+	private boolean isLazyConversionEnabled = false;
 
 	/**
 	 * Setup JVM garbage collection watcher to initiate V8 garbage collections
@@ -69,14 +79,18 @@ public final class V8Runtime extends KrollRuntime implements Handler.Callback
 	@Override
 	public void initRuntime()
 	{
+		final long startTime = TiStartupTimeline.begin();
 		KrollApplication application = getKrollApplication();
 		TiDeployData deployData = application.getDeployData();
 
 		if (!libLoaded) {
+			long phaseStartTime = TiStartupTimeline.begin();
 			System.loadLibrary("c++_shared");
 			System.loadLibrary("kroll-v8");
+			TiStartupTimeline.end("V8Runtime.loadLibrary", phaseStartTime);
 
 			// TIMOB-16810 Add a delay to allow symbols to load before calling nativeInit (For HTC One Devices)
+			phaseStartTime = TiStartupTimeline.begin();
 			List<String> devices = Arrays.asList("htc one", "optimus l5");
 			for (String model : devices) {
 				if (Build.MODEL.toLowerCase(Locale.ENGLISH).contains(model)) {
@@ -86,6 +100,7 @@ public final class V8Runtime extends KrollRuntime implements Handler.Callback
 					}
 				}
 			}
+			TiStartupTimeline.end("V8Runtime.deviceDelay", phaseStartTime);
 
 			libLoaded = true;
 		}
@@ -102,14 +117,24 @@ public final class V8Runtime extends KrollRuntime implements Handler.Callback
 			jsDebugger = new JSDebugger(deployData.getDebuggerPort(), application.getSDKVersion());
 		}
 
-		nativeInit(jsDebugger, DBG, false);
+		isStartupLogged = false;
+		long phaseStartTime = TiStartupTimeline.begin();
+		nativeInit(jsDebugger, DBG, false, getCodeCacheDirectory(application, jsDebugger != null));
+		TiStartupTimeline.end("V8Runtime.nativeInit", phaseStartTime);
+
+		// Elements of large arrays of objects are converted on first access, see V8LazyDict.
+		TiApplication tiApp = TiApplication.getInstance();
+		setLazyConversionEnabled(
+			(tiApp != null) && tiApp.getAppProperties().getBool(PROPERTY_LAZY_CONVERSION, false));
 
 		if (jsDebugger != null) {
 			jsDebugger.start();
 		}
 
+		phaseStartTime = TiStartupTimeline.begin();
 		loadExternalModules();
 		loadExternalCommonJsModules();
+		TiStartupTimeline.end("V8Runtime.loadExternalModules", phaseStartTime);
 
 		Looper.myQueue().addIdleHandler(new IdleHandler() {
 			@Override
@@ -125,6 +150,74 @@ public final class V8Runtime extends KrollRuntime implements Handler.Callback
 				return true;
 			}
 		});
+		TiStartupTimeline.end("V8Runtime.initRuntime", startTime);
+	}
+
+	/**
+	 * Obtains the directory to store V8 code caches in, deleting the caches of other SDK versions.
+	 * @param application the application whose cache directory to use.
+	 * @param isDebugging true if the JavaScript debugger is enabled.
+	 * @return the directory's absolute path, or null if code caching is disabled.
+	 */
+	private String getCodeCacheDirectory(KrollApplication application, boolean isDebugging)
+	{
+		TiApplication tiApp = TiApplication.getInstance();
+		String cacheDirPath = KrollAssetHelper.getCacheDir();
+		if (isDebugging || (tiApp == null) || (cacheDirPath == null)
+			|| !tiApp.getAppProperties().getBool(PROPERTY_CODE_CACHE, true)) {
+			return null;
+		}
+
+		File rootDir = new File(cacheDirPath, CODE_CACHE_DIRECTORY);
+		File dir = new File(rootDir, application.getSDKVersion());
+		File[] versionDirs = rootDir.listFiles();
+		if (versionDirs != null) {
+			for (File versionDir : versionDirs) {
+				if (!versionDir.equals(dir)) {
+					deleteDirectory(versionDir);
+				}
+			}
+		}
+		if (!dir.isDirectory() && !dir.mkdirs()) {
+			Log.w(TAG, "Unable to create code cache directory: " + dir);
+			return null;
+		}
+		return dir.getAbsolutePath();
+	}
+
+	private static void deleteDirectory(File dir)
+	{
+		File[] files = dir.listFiles();
+		if (files != null) {
+			for (File file : files) {
+				file.delete();
+			}
+		}
+		dir.delete();
+	}
+
+	/**
+	 * Logs how long after process start the app's main script started to run, and the time spent
+	 * compiling scripts until then. Used to measure the effect of the code cache on startup time.
+	 */
+	private void logStartupStats()
+	{
+		if (isStartupLogged) {
+			return;
+		}
+		isStartupLogged = true;
+
+		// See nativeGetStartupStats() in "V8Runtime.cpp" for the order of values.
+		long[] stats = nativeGetStartupStats();
+		if ((stats == null) || (stats[0] <= 0)) {
+			return;
+		}
+		TiStartupTimeline.mark("V8Runtime.mainScriptStart", stats[0] * 1000000);
+		long startTime = stats[0] - Process.getStartElapsedRealtime();
+		Log.i(TAG, String.format(Locale.ENGLISH,
+			"Main script started %d ms after process start. Compiled %d scripts in %d ms."
+				+ " Code cache hits: %d, misses: %d, rejected: %d",
+			startTime, stats[1], stats[2] / 1000, stats[3], stats[4], stats[5]));
 	}
 
 	private void loadExternalModules()
@@ -166,12 +259,14 @@ public final class V8Runtime extends KrollRuntime implements Handler.Callback
 	public void doRunModuleBytes(byte[] source, String filename, KrollProxySupport activityProxy)
 	{
 		nativeRunModuleBytes(source, filename, activityProxy);
+		logStartupStats();
 	}
 
 	@Override
 	public void doRunModule(String source, String filename, KrollProxySupport activityProxy)
 	{
 		nativeRunModule(source, filename, activityProxy);
+		logStartupStats();
 	}
 
 	@Override
@@ -208,6 +303,41 @@ public final class V8Runtime extends KrollRuntime implements Handler.Callback
 		}
 	}
 
+	@Override
+	public HashMap<String, Object> getConversionStats()
+	{
+		HashMap<String, Object> result = new HashMap<>();
+		if (KrollRuntime.isDisposed()) {
+			return result;
+		}
+
+		// See nativeGetConversionStats() in "V8Runtime.cpp" for the order of values.
+		long[] stats = nativeGetConversionStats();
+		if ((stats != null) && (stats.length >= 7)) {
+			result.put("internedKeys", stats[0]);
+			result.put("keyHits", stats[1]);
+			result.put("keyMisses", stats[2]);
+			result.put("lazyObjects", stats[3]);
+			result.put("lazyMaterialized", stats[4]);
+			result.put("lazyReleased", stats[5]);
+			result.put("lazyPending", stats[6]);
+		}
+		return result;
+	}
+
+	@Override
+	public boolean isLazyConversionEnabled()
+	{
+		return isLazyConversionEnabled;
+	}
+
+	@Override
+	public void setLazyConversionEnabled(boolean enabled)
+	{
+		isLazyConversionEnabled = enabled;
+		nativeSetLazyConversion(enabled ? LAZY_CONVERSION_MIN_LENGTH : 0);
+	}
+
 	@Override
 	public void setGCFlag()
 	{
@@ -266,7 +396,7 @@ public final class V8Runtime extends KrollRuntime implements Handler.Callback
 	}
 
 	// JNI method prototypes
-	private native void nativeInit(JSDebugger jsDebugger, boolean DBG, boolean profilerEnabled);
+	private native void nativeInit(JSDebugger jsDebugger, boolean DBG, boolean profilerEnabled, String codeCacheDir);
 
 	private native void nativeRunModuleBytes(byte[] source, String filename, KrollProxySupport activityProxy);
 
@@ -276,6 +406,12 @@ public final class V8Runtime extends KrollRuntime implements Handler.Callback
 
 	private native boolean nativeIdle();
 
+	private native long[] nativeGetStartupStats();
+
+	private native void nativeSetLazyConversion(int minArrayLength);
+
+	private native long[] nativeGetConversionStats();
+
 	private native void nativeDispose();
 
 	private native void nativeAddExternalCommonJsModule(String moduleName, KrollSourceCodeProvider sourceProvider);
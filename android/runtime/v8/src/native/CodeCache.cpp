@@ -0,0 +1,242 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+#include <stdio.h>
+#include <sys/stat.h>
+#include <time.h>
+#include <atomic>
+#include <cstring>
+#include <deque>
+#include <memory>
+#include <mutex>
+#include <thread>
+#include <utility>
+#include <vector>
+
+#include <v8.h>
+
+#include "AndroidUtil.h"
+#include "CodeCache.h"
+
+#define TAG "CodeCache"
+
+// Scripts smaller than this are compiled faster than their cache can be read.
+#define MIN_SOURCE_LENGTH 1024
+
+#define HEADER_MAGIC 0x54494343 // "TICC"
+
+namespace titanium {
+using namespace v8;
+
+namespace {
+
+struct Header
+{
+	uint32_t magic;
+	uint32_t dataLength;
+	uint64_t sourceHash;
+};
+
+std::atomic<uint32_t> tempFileCounter(0);
+
+int64_t currentTimeMicros()
+{
+	struct timespec now;
+	clock_gettime(CLOCK_MONOTONIC, &now);
+	return static_cast<int64_t>(now.tv_sec) * 1000000 + now.tv_nsec / 1000;
+}
+
+// 64-bit FNV-1a.
+uint64_t hashBytes(uint64_t hash, const uint8_t* bytes, size_t length)
+{
+	for (size_t i = 0; i < length; i++) {
+		hash ^= bytes[i];
+		hash *= 0x100000001b3ULL;
+	}
+	return hash;
+}
+
+uint64_t hashString(Isolate* isolate, Local<String> string)
+{
+	// Hash UTF-16 code units in chunks to avoid copying large sources in full.
+	const int chunkLength = 4096;
+	uint16_t buffer[chunkLength];
+	uint64_t hash = 0xcbf29ce484222325ULL;
+	const int length = string->Length();
+	for (int start = 0; start < length; start += chunkLength) {
+		const int count = string->Write(isolate, buffer, start, chunkLength, String::NO_NULL_TERMINATION);
+		hash = hashBytes(hash, reinterpret_cast<const uint8_t*>(buffer), count * sizeof(uint16_t));
+	}
+	return hash;
+}
+
+ScriptCompiler::CachedData* readCache(const CodeCache::Entry& entry)
+{
+	FILE* file = fopen(entry.path.c_str(), "rb");
+	if (!file) {
+		return nullptr;
+	}
+
+	// Reject truncated files before allocating a buffer for their claimed length.
+	struct stat fileStat;
+	Header header;
+	uint8_t* data = nullptr;
+	if (fstat(fileno(file), &fileStat) == 0 && fileStat.st_size >= static_cast<off_t>(sizeof(header))
+		&& fread(&header, sizeof(header), 1, file) == 1 && header.magic == HEADER_MAGIC
+		&& header.sourceHash == entry.sourceHash && header.dataLength > 0
+		&& header.dataLength <= static_cast<uint64_t>(fileStat.st_size) - sizeof(header)) {
+		data = new uint8_t[header.dataLength];
+		if (fread(data, 1, header.dataLength, file) != header.dataLength) {
+			delete[] data;
+			data = nullptr;
+		}
+	}
+	fclose(file);
+
+	if (!data) {
+		return nullptr;
+	}
+	return new ScriptCompiler::CachedData(data, header.dataLength, ScriptCompiler::CachedData::BufferOwned);
+}
+
+void writeCache(const std::string& path, const std::vector<uint8_t>& bytes)
+{
+	// Write to a temporary file first, so that readers never see a partially written cache.
+	const std::string tempPath = path + "." + std::to_string(tempFileCounter++) + ".tmp";
+	FILE* file = fopen(tempPath.c_str(), "wb");
+	if (!file) {
+		LOGW(TAG, "Unable to create code cache file: %s", tempPath.c_str());
+		return;
+	}
+	const bool written = fwrite(bytes.data(), 1, bytes.size(), file) == bytes.size();
+	const bool closed = fclose(file) == 0;
+	if (!written || !closed || rename(tempPath.c_str(), path.c_str()) != 0) {
+		LOGW(TAG, "Unable to write code cache file: %s", path.c_str());
+		remove(tempPath.c_str());
+	}
+}
+
+// Cache files are written in order by a single background thread, which exits once the queue is empty.
+std::mutex writeMutex;
+std::deque<std::pair<std::string, std::vector<uint8_t>>> writeQueue;
+bool isWriterRunning = false;
+
+void runWriter()
+{
+	std::unique_lock<std::mutex> lock(writeMutex);
+	while (!writeQueue.empty()) {
+		std::pair<std::string, std::vector<uint8_t>> write = std::move(writeQueue.front());
+		writeQueue.pop_front();
+		lock.unlock();
+		writeCache(write.first, write.second);
+		lock.lock();
+	}
+	isWriterRunning = false;
+}
+
+void queueWrite(const std::string& path, std::vector<uint8_t> bytes)
+{
+	std::lock_guard<std::mutex> lock(writeMutex);
+	writeQueue.emplace_back(path, std::move(bytes));
+	if (!isWriterRunning) {
+		isWriterRunning = true;
+		std::thread(runWriter).detach();
+	}
+}
+
+} // namespace
+
+std::string CodeCache::directory;
+int64_t CodeCache::compileCount = 0;
+int64_t CodeCache::compileTime = 0;
+int64_t CodeCache::hits = 0;
+int64_t CodeCache::misses = 0;
+int64_t CodeCache::rejections = 0;
+
+void CodeCache::setDirectory(const char* directory)
+{
+	CodeCache::directory = directory ? directory : "";
+}
+
+void CodeCache::resetStats()
+{
+	compileCount = 0;
+	compileTime = 0;
+	hits = 0;
+	misses = 0;
+	rejections = 0;
+}
+
+MaybeLocal<Script> CodeCache::compile(Local<Context> context, Local<String> source, Local<Value> filename,
+	Entry* entry)
+{
+	Isolate* isolate = context->GetIsolate();
+	const int64_t startTime = currentTimeMicros();
+	ScriptOrigin origin(filename);
+
+	entry->needsUpdate = false;
+	if (directory.empty() || source->Length() < MIN_SOURCE_LENGTH || !filename->IsString()) {
+		MaybeLocal<Script> maybeScript = Script::Compile(context, source, &origin);
+		compileCount++;
+		compileTime += currentTimeMicros() - startTime;
+		return maybeScript;
+	}
+
+	// Name cache files after the hash of the script's filename.
+	v8::String::Utf8Value filenameValue(isolate, filename);
+	char name[24];
+	snprintf(name, sizeof(name), "%016llx",
+		static_cast<unsigned long long>(hashBytes(0xcbf29ce484222325ULL,
+			reinterpret_cast<const uint8_t*>(*filenameValue), filenameValue.length())));
+	entry->path = directory + "/" + name;
+	entry->sourceHash = hashString(isolate, source);
+
+	// ScriptCompiler::Source takes ownership of the cached data.
+	ScriptCompiler::CachedData* cachedData = readCache(*entry);
+	ScriptCompiler::Source scriptSource(source, origin, cachedData);
+	MaybeLocal<Script> maybeScript = ScriptCompiler::Compile(context, &scriptSource,
+		cachedData ? ScriptCompiler::kConsumeCodeCache : ScriptCompiler::kNoCompileOptions);
+
+	if (!cachedData) {
+		misses++;
+		entry->needsUpdate = true;
+	} else if (scriptSource.GetCachedData()->rejected) {
+		rejections++;
+		entry->needsUpdate = true;
+		LOGD(TAG, "Code cache rejected: %s", *filenameValue);
+	} else {
+		hits++;
+	}
+	compileCount++;
+	compileTime += currentTimeMicros() - startTime;
+	return maybeScript;
+}
+
+void CodeCache::update(Isolate* isolate, Local<Script> script, const Entry& entry)
+{
+	if (!entry.needsUpdate) {
+		return;
+	}
+
+	std::unique_ptr<ScriptCompiler::CachedData> cachedData(ScriptCompiler::CreateCodeCache(script->GetUnboundScript()));
+	if (!cachedData || cachedData->length <= 0) {
+		return;
+	}
+
+	Header header;
+	header.magic = HEADER_MAGIC;
+	header.dataLength = static_cast<uint32_t>(cachedData->length);
+	header.sourceHash = entry.sourceHash;
+
+	std::vector<uint8_t> bytes(sizeof(header) + cachedData->length);
+	memcpy(bytes.data(), &header, sizeof(header));
+	memcpy(bytes.data() + sizeof(header), cachedData->data, cachedData->length);
+
+	// Write on a background thread to keep disk I/O off the startup path.
+	queueWrite(entry.path, std::move(bytes));
+}
+
+} // namespace titanium
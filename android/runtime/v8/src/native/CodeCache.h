@@ -0,0 +1,66 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+
+#ifndef TI_KROLL_CODE_CACHE_H
+#define TI_KROLL_CODE_CACHE_H
+
+#include <stdint.h>
+#include <string>
+
+#include <v8.h>
+
+namespace titanium {
+
+/*
+ * Persists V8 code caches of compiled scripts to disk, so that
+ * scripts only need to be parsed and compiled from source on their
+ * first launch. Cache files are named after the script's filename
+ * and store a hash of the script's source. Caches of modified
+ * scripts and caches rejected by V8 (ex: after a V8 or V8 flag change)
+ * are regenerated. The cache directory is versioned by the SDK
+ * version, see V8Runtime.java.
+ */
+class CodeCache
+{
+public:
+	// Describes the cache file of a compiled script.
+	struct Entry
+	{
+		std::string path;
+		uint64_t sourceHash = 0;
+		bool needsUpdate = false;
+	};
+
+	// Enables caching to the given directory. Caching is disabled if null or empty.
+	static void setDirectory(const char* directory);
+
+	// Compiles the given script, consuming its cached code if valid.
+	// The "entry" is set up to be passed to update() once the script has been run.
+	static v8::MaybeLocal<v8::Script> compile(v8::Local<v8::Context> context, v8::Local<v8::String> source,
+		v8::Local<v8::Value> filename, Entry* entry);
+
+	// Writes the code cache of a script compiled via compile() if it had no valid cache.
+	// Should be called after running the script, which includes its eagerly run functions in the cache.
+	static void update(v8::Isolate* isolate, v8::Local<v8::Script> script, const Entry& entry);
+
+	// Resets all statistics back to zero.
+	static void resetStats();
+
+	// Statistics.
+	static int64_t compileCount;
+	static int64_t compileTime; // microseconds
+	static int64_t hits;
+	static int64_t misses;
+	static int64_t rejections;
+
+private:
+	static std::string directory;
+};
+
+} // namespace titanium
+
+#endif
@@ -37,6 +37,7 @@ jclass JNIUtil::longArrayClass = NULL;
 jclass JNIUtil::floatArrayClass = NULL;
 jclass JNIUtil::doubleArrayClass = NULL;
 jclass JNIUtil::booleanArrayClass = NULL;
+jclass JNIUtil::byteBufferClass = NULL;
 jclass JNIUtil::arrayListClass = NULL;
 jclass JNIUtil::hashMapClass = NULL;
 jclass JNIUtil::dateClass = NULL;
@@ -49,6 +50,7 @@ jclass JNIUtil::stackTraceElementClass = NULL;
 jclass JNIUtil::v8PromiseClass = NULL;
 jclass JNIUtil::v8ObjectClass = NULL;
 jclass JNIUtil::v8FunctionClass = NULL;
+jclass JNIUtil::v8LazyDictClass = NULL;
 jclass JNIUtil::v8RuntimeClass = NULL;
 jclass JNIUtil::krollRuntimeClass = NULL;
 jclass JNIUtil::krollInvocationClass = NULL;
@@ -94,6 +96,7 @@ jfieldID JNIUtil::v8ObjectPtrField = NULL;
 jmethodID JNIUtil::v8PromiseInitMethod = NULL;
 jmethodID JNIUtil::v8ObjectInitMethod = NULL;
 jmethodID JNIUtil::v8FunctionInitMethod = NULL;
+jmethodID JNIUtil::v8LazyDictInitMethod = NULL;
 
 jmethodID JNIUtil::referenceTableCreateReferenceMethod = NULL;
 jmethodID JNIUtil::referenceTableDestroyReferenceMethod = NULL;
@@ -325,6 +328,7 @@ void JNIUtil::initCache()
 	floatArrayClass = findClass("[F");
 	doubleArrayClass = findClass("[D");
 	booleanArrayClass = findClass("[Z");
+	byteBufferClass = findClass("java/nio/ByteBuffer");
 	stringArrayClass = findClass("[Ljava/lang/String;");
 	objectArrayClass = findClass("[Ljava/lang/Object;");
 	arrayListClass = findClass("java/util/ArrayList");
@@ -339,6 +343,7 @@ void JNIUtil::initCache()
 	v8PromiseClass = findClass("org/appcelerator/kroll/runtime/v8/V8Promise");
 	v8ObjectClass = findClass("org/appcelerator/kroll/runtime/v8/V8Object");
 	v8FunctionClass = findClass("org/appcelerator/kroll/runtime/v8/V8Function");
+	v8LazyDictClass = findClass("org/appcelerator/kroll/runtime/v8/V8LazyDict");
 	v8RuntimeClass = findClass("org/appcelerator/kroll/runtime/v8/V8Runtime");
 	krollRuntimeClass = findClass("org/appcelerator/kroll/runtime/v8/V8Runtime");
 	krollInvocationClass = findClass("org/appcelerator/kroll/KrollInvocation");
@@ -383,6 +388,7 @@ void JNIUtil::initCache()
 	v8PromiseInitMethod = getMethodID(v8PromiseClass, "<init>", "(J)V", false);
 	v8ObjectInitMethod = getMethodID(v8ObjectClass, "<init>", "(J)V", false);
 	v8FunctionInitMethod = getMethodID(v8FunctionClass, "<init>", "(J)V", false);
+	v8LazyDictInitMethod = getMethodID(v8LazyDictClass, "<init>", "(J)V", false);
 
 	krollDictInitMethod = getMethodID(krollDictClass, "<init>", "(I)V", false);
 	krollDictPutMethod = getMethodID(krollDictClass, "put", "(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;",
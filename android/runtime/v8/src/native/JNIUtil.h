@@ -85,6 +85,7 @@ public:
 	static jclass floatArrayClass;
 	static jclass doubleArrayClass;
 	static jclass booleanArrayClass;
+	static jclass byteBufferClass;
 
 	static jclass arrayListClass;
 	static jclass hashMapClass;
@@ -99,6 +100,7 @@ public:
 	static jclass v8PromiseClass;
 	static jclass v8ObjectClass;
 	static jclass v8FunctionClass;
+	static jclass v8LazyDictClass;
 	static jclass v8RuntimeClass;
 	static jclass krollRuntimeClass;
 	static jclass krollInvocationClass;
@@ -141,6 +143,7 @@ public:
 	static jmethodID v8PromiseInitMethod;
 	static jmethodID v8ObjectInitMethod;
 	static jmethodID v8FunctionInitMethod;
+	static jmethodID v8LazyDictInitMethod;
 
 	// KrollDict
 	static jmethodID krollDictInitMethod;
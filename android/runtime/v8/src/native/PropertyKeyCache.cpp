@@ -0,0 +1,73 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+#include <jni.h>
+#include <v8.h>
+
+#include "PropertyKeyCache.h"
+#include "TypeConverter.h"
+
+// Bounds the cache when objects are used as maps of arbitrary keys.
+// The cache is cleared once full, so that keys used since then are interned again.
+#define MAX_KEY_COUNT 4096
+#define MAX_KEY_LENGTH 64
+
+namespace titanium {
+using namespace v8;
+
+int64_t PropertyKeyCache::size = 0;
+int64_t PropertyKeyCache::hits = 0;
+int64_t PropertyKeyCache::misses = 0;
+std::unordered_map<int, std::vector<PropertyKeyCache::Entry>> PropertyKeyCache::entries;
+
+jstring PropertyKeyCache::get(Isolate* isolate, JNIEnv* env, Local<Value> key)
+{
+	if (!key->IsString() || key.As<String>()->Length() > MAX_KEY_LENGTH) {
+		return TypeConverter::jsValueToJavaString(isolate, env, key);
+	}
+
+	// Property names are internalized by V8, so their identity hash is stable.
+	Local<String> name = key.As<String>();
+	const int hash = name->GetIdentityHash();
+	auto it = entries.find(hash);
+	if (it != entries.end()) {
+		for (const Entry& entry : it->second) {
+			if (entry.name.Get(isolate)->StrictEquals(name)) {
+				hits++;
+				// Return a local reference, so that the caller's key stays valid if the cache is cleared
+				// while converting the key's value.
+				return static_cast<jstring>(env->NewLocalRef(entry.javaName));
+			}
+		}
+	}
+
+	misses++;
+	jstring javaName = TypeConverter::jsStringToJavaString(isolate, env, name);
+	if (javaName == NULL) {
+		return javaName;
+	}
+	if (size >= MAX_KEY_COUNT) {
+		clear(env);
+	}
+
+	entries[hash].emplace_back(isolate, name, static_cast<jstring>(env->NewGlobalRef(javaName)));
+	size++;
+	return javaName;
+}
+
+void PropertyKeyCache::clear(JNIEnv* env)
+{
+	for (auto& bucket : entries) {
+		for (Entry& entry : bucket.second) {
+			env->DeleteGlobalRef(entry.javaName);
+			entry.name.Reset();
+		}
+	}
+	entries.clear();
+	size = 0;
+}
+
+} // namespace titanium
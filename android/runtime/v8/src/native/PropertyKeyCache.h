@@ -0,0 +1,59 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+
+#ifndef TI_KROLL_PROPERTY_KEY_CACHE_H
+#define TI_KROLL_PROPERTY_KEY_CACHE_H
+
+#include <stdint.h>
+#include <unordered_map>
+#include <vector>
+
+#include <jni.h>
+#include <v8.h>
+
+namespace titanium {
+
+/*
+ * Interns the Java strings of property names used when converting
+ * JS objects to Java maps. Objects of the same shape, such as the
+ * items of a ListView, share the same property names. Their keys
+ * are then converted once instead of once per object, and share
+ * the same Java string instances along with their cached hash codes.
+ */
+class PropertyKeyCache
+{
+public:
+	// Obtains the Java string of a property key as a local reference, which the caller must delete.
+	static jstring get(v8::Isolate* isolate, JNIEnv* env, v8::Local<v8::Value> key);
+
+	// Releases all interned strings. Also done once the cache is full.
+	static void clear(JNIEnv* env);
+
+	// Statistics.
+	static int64_t size;
+	static int64_t hits;
+	static int64_t misses;
+
+private:
+	struct Entry
+	{
+		Entry(v8::Isolate* isolate, v8::Local<v8::String> name, jstring javaName)
+			: name(isolate, name), javaName(javaName)
+		{
+		}
+
+		v8::Global<v8::String> name;
+		jstring javaName;
+	};
+
+	// Entries by identity hash of their property name.
+	static std::unordered_map<int, std::vector<Entry>> entries;
+};
+
+} // namespace titanium
+
+#endif
@@ -7,6 +7,7 @@
 #include <cstring>
 #include <sstream>
 #include <limits>
+#include <memory>
 
 #include <jni.h>
 #include <stdio.h>
@@ -15,6 +16,7 @@
 #include "AndroidUtil.h"
 #include "TypeConverter.h"
 #include "JNIUtil.h"
+#include "PropertyKeyCache.h"
 #include "Proxy.h"
 #include "ProxyFactory.h"
 #include "V8Runtime.h"
@@ -33,6 +35,13 @@ std::map<int64_t, Persistent<Function, CopyablePersistentTraits<Function>>> Type
 int64_t TypeConverter::resolverIndex = std::numeric_limits<int64_t>::min();
 std::map<int64_t, Persistent<Promise::Resolver, CopyablePersistentTraits<Promise::Resolver>>> TypeConverter::resolvers;
 
+int64_t TypeConverter::lazyObjectIndex = 1;
+std::map<int64_t, Persistent<Object, CopyablePersistentTraits<Object>>> TypeConverter::lazyObjects;
+int TypeConverter::lazyConversionMinLength = 0;
+int64_t TypeConverter::lazyObjectCount = 0;
+int64_t TypeConverter::lazyMaterializedCount = 0;
+int64_t TypeConverter::lazyReleasedCount = 0;
+
 /****************************** public methods ******************************/
 jshort TypeConverter::jsNumberToJavaShort(Local<Number> jsNumber)
 {
@@ -390,6 +399,9 @@ jarray TypeConverter::jsArrayToJavaArray(Isolate* isolate, JNIEnv *env, Local<Ar
 		return NULL;
 	}
 
+	// Defer converting the objects of large arrays, such as ListView items, until Java uses them.
+	const bool isLazy = lazyConversionMinLength > 0 && arrayLength >= lazyConversionMinLength;
+
 	Local<Context> context = isolate->GetCurrentContext();
 	for (int i = 0; i < arrayLength; i++) {
 		MaybeLocal<Value> element = jsArray->Get(context, i);
@@ -397,8 +409,11 @@ jarray TypeConverter::jsArrayToJavaArray(Isolate* isolate, JNIEnv *env, Local<Ar
 			LOGE(TAG, "Failed to get element at index %d, inserting null", i);
 			env->SetObjectArrayElement(javaArray, i, NULL);
 		} else {
-			bool isNew;
-			jobject javaObject = jsValueToJavaObject(isolate, element.ToLocalChecked(), &isNew);
+			bool isNew = true;
+			Local<Value> jsElement = element.ToLocalChecked();
+			jobject javaObject = (isLazy && isLazyConvertible(isolate, jsElement))
+				? jsObjectToJavaLazyDict(isolate, env, jsElement.As<Object>())
+				: jsValueToJavaObject(isolate, env, jsElement, &isNew);
 			env->SetObjectArrayElement(javaArray, i, javaObject);
 			if (isNew) {
 				env->DeleteLocalRef(javaObject);
@@ -607,6 +622,46 @@ Local<ArrayBuffer> TypeConverter::javaByteArrayToJsArrayBuffer(Isolate* isolate,
 	return jsArray;
 }
 
+// Releases the Java buffer backing an ArrayBuffer once V8 no longer uses it. May be called on any thread.
+static void releaseJavaByteBuffer(void* data, size_t length, void* deleterData)
+{
+	jobject javaByteBuffer = static_cast<jobject>(deleterData);
+	JNIEnv *env = JNIUtil::getJNIEnv();
+	if (env) {
+		env->DeleteGlobalRef(javaByteBuffer);
+	} else if (JNIUtil::javaVm->AttachCurrentThread(&env, NULL) == JNI_OK) {
+		env->DeleteGlobalRef(javaByteBuffer);
+		JNIUtil::javaVm->DetachCurrentThread();
+	}
+}
+
+Local<ArrayBuffer> TypeConverter::javaByteBufferToJsArrayBuffer(Isolate* isolate, jobject javaByteBuffer)
+{
+	JNIEnv *env = JNIScope::getEnv();
+	if (env == NULL) {
+		return Local<ArrayBuffer>();
+	}
+	return TypeConverter::javaByteBufferToJsArrayBuffer(isolate, env, javaByteBuffer);
+}
+
+Local<ArrayBuffer> TypeConverter::javaByteBufferToJsArrayBuffer(Isolate* isolate, JNIEnv *env, jobject javaByteBuffer)
+{
+	void* data = env->GetDirectBufferAddress(javaByteBuffer);
+	jlong byteCount = env->GetDirectBufferCapacity(javaByteBuffer);
+	if (data == NULL || byteCount <= 0) {
+		if (byteCount < 0) {
+			LOGW(TAG, "Unable to share memory of a non-direct ByteBuffer, returning an empty ArrayBuffer");
+		}
+		return ArrayBuffer::New(isolate, 0);
+	}
+
+	// The global reference keeps the buffer's memory alive until the ArrayBuffer is collected.
+	jobject globalByteBuffer = env->NewGlobalRef(javaByteBuffer);
+	std::shared_ptr<BackingStore> backingStore =
+		ArrayBuffer::NewBackingStore(data, static_cast<size_t>(byteCount), releaseJavaByteBuffer, globalByteBuffer);
+	return ArrayBuffer::New(isolate, std::move(backingStore));
+}
+
 jlongArray TypeConverter::jsArrayToJavaLongArray(Isolate* isolate, Local<Array> jsArray)
 {
 	JNIEnv *env = JNIScope::getEnv();
@@ -870,7 +925,7 @@ jobject TypeConverter::jsValueToJavaObject(Isolate* isolate, JNIEnv *env, Local<
 				// FIXME Handle when empty!
 				Local<Value> jsObjectPropertyKey = objectKeys->Get(context, (uint32_t) i).ToLocalChecked();
 				bool valueIsNew;
-				jstring javaStringPropertyKey = TypeConverter::jsValueToJavaString(isolate, env, jsObjectPropertyKey);
+				jstring javaStringPropertyKey = PropertyKeyCache::get(isolate, env, jsObjectPropertyKey);
 				// FIXME Handle when empty!
 				Local<Value> jsObjectPropertyValue = jsObject->Get(context, jsObjectPropertyKey).ToLocalChecked();
 				jobject javaObjectPropertyValue = TypeConverter::jsValueToJavaObject(isolate, env, jsObjectPropertyValue, &valueIsNew);
@@ -924,7 +979,7 @@ jobject TypeConverter::jsObjectToJavaKrollDict(Isolate* isolate, JNIEnv *env, Lo
 			// FIXME Handle when empty!
 			Local<Value> jsObjectPropertyKey = objectKeys->Get(context, (uint32_t) i).ToLocalChecked();
 			bool valueIsNew;
-			jstring javaStringPropertyKey = TypeConverter::jsValueToJavaString(isolate, env, jsObjectPropertyKey);
+			jstring javaStringPropertyKey = PropertyKeyCache::get(isolate, env, jsObjectPropertyKey);
 			// FIXME Handle when empty!
 			Local<Value> jsObjectPropertyValue = jsObject->Get(context, jsObjectPropertyKey).ToLocalChecked();
 			jobject javaObjectPropertyValue = TypeConverter::jsValueToJavaObject(isolate, env, jsObjectPropertyValue, &valueIsNew);
@@ -951,6 +1006,19 @@ jobject TypeConverter::jsObjectToJavaKrollDict(Isolate* isolate, JNIEnv *env, Lo
 }
 
 
+jobject TypeConverter::jsObjectToJavaLazyDict(Isolate* isolate, JNIEnv *env, Local<Object> jsObject)
+{
+	Persistent<Object, CopyablePersistentTraits<Object>> persistentObject(isolate, jsObject);
+
+	// Same as functions, the "pointer" is the index of the persistent in a global map.
+	jlong ptr = (jlong) lazyObjectIndex;
+	TypeConverter::lazyObjects[lazyObjectIndex] = persistentObject;
+	lazyObjectIndex++;
+	lazyObjectCount++;
+
+	return env->NewObject(JNIUtil::v8LazyDictClass, JNIUtil::v8LazyDictInitMethod, ptr);
+}
+
 // converts JS value to Java error
 jobject TypeConverter::jsValueToJavaError(Isolate* isolate, Local<Value> jsValue, bool* isNew)
 {
@@ -1103,6 +1171,9 @@ Local<Value> TypeConverter::javaObjectToJsValue(Isolate* isolate, JNIEnv *env, j
 	} else if (env->IsInstanceOf(javaObject, JNIUtil::byteArrayClass)) {
 		return javaByteArrayToJsArrayBuffer(isolate, (jbyteArray) javaObject);
 
+	} else if (env->IsInstanceOf(javaObject, JNIUtil::byteBufferClass)) {
+		return javaByteBufferToJsArrayBuffer(isolate, env, javaObject);
+
 	} else if (env->IsInstanceOf(javaObject, JNIUtil::shortArrayClass)) {
 		return javaArrayToJsArray(isolate, (jshortArray) javaObject);
 
@@ -1173,6 +1244,22 @@ jobjectArray TypeConverter::jsObjectIndexPropsToJavaArray(Isolate* isolate, JNIE
 
 /****************************** private methods ******************************/
 
+// Plain objects which jsValueToJavaObject() would convert to a HashMap can be converted lazily
+bool TypeConverter::isLazyConvertible(Isolate* isolate, Local<Value> jsValue)
+{
+	if (!jsValue->IsObject() || jsValue->IsArray() || jsValue->IsFunction() || jsValue->IsDate()) {
+		return false;
+	}
+	Local<Object> jsObject = jsValue.As<Object>();
+	if (JavaObject::isJavaObject(jsObject)) {
+		return false;
+	}
+
+	// Hyperloop wrappers are unwrapped to their native proxy
+	Local<String> nativeString = STRING_NEW(isolate, "$native");
+	return !jsObject->HasOwnProperty(isolate->GetCurrentContext(), nativeString).FromMaybe(true);
+}
+
 // used mainly by the array conversion methods when converting Java numeric types
 // arrays to to the generic JS number type
 Local<Array> TypeConverter::javaDoubleArrayToJsNumberArray(Isolate* isolate, jdoubleArray javaDoubleArray)
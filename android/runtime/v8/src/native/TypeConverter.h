@@ -28,6 +28,17 @@ public:
 	// The incrementing key to store the persistent functions
 	static int64_t resolverIndex;
 
+	// Our global map of "pointers" to persistent objects awaiting conversion by a V8LazyDict
+	static std::map<int64_t, v8::Persistent<v8::Object, v8::CopyablePersistentTraits<v8::Object>>> lazyObjects;
+	// The incrementing key to store the persistent objects
+	static int64_t lazyObjectIndex;
+	// The objects of arrays with at least this many elements are converted lazily. Disabled when 0.
+	static int lazyConversionMinLength;
+	// Number of lazily converted objects created, converted on first access and released unconverted
+	static int64_t lazyObjectCount;
+	static int64_t lazyMaterializedCount;
+	static int64_t lazyReleasedCount;
+
 	// short convert methods
 	static jshort jsNumberToJavaShort(v8::Local<v8::Number> jsNumber);
 	static v8::Local<v8::Number> javaShortToJsNumber(v8::Isolate* isolate, jshort javaShort);
@@ -154,6 +165,7 @@ public:
 	static jshortArray jsArrayToJavaShortArray(v8::Isolate* isolate, v8::Local<v8::Array> jsArray);
 	static v8::Local<v8::Array> javaArrayToJsArray(v8::Isolate* isolate, jshortArray javaShortArray);
 	static v8::Local<v8::ArrayBuffer> javaByteArrayToJsArrayBuffer(v8::Isolate* isolate, jbyteArray javaByteArray);
+	static v8::Local<v8::ArrayBuffer> javaByteBufferToJsArrayBuffer(v8::Isolate* isolate, jobject javaByteBuffer);
 	static jintArray jsArrayToJavaIntArray(v8::Isolate* isolate, v8::Local<v8::Array> jsArray);
 	static v8::Local<v8::Array> javaArrayToJsArray(v8::Isolate* isolate, jintArray javaIntArray);
 	static jlongArray jsArrayToJavaLongArray(v8::Isolate* isolate, v8::Local<v8::Array> jsArray);
@@ -168,6 +180,8 @@ public:
 	static jobjectArray jsArrayToJavaStringArray(v8::Isolate* isolate, JNIEnv *env, v8::Local<v8::Array> jsArray);
 	static v8::Local<v8::Array> javaArrayToJsArray(v8::Isolate* isolate, JNIEnv *env, jbooleanArray javaBooleanArray);
 	static v8::Local<v8::ArrayBuffer> javaByteArrayToJsArrayBuffer(v8::Isolate* isolate, JNIEnv *env, jbyteArray javaByteArray);
+	// Shares the memory of a direct java.nio.ByteBuffer without copying it
+	static v8::Local<v8::ArrayBuffer> javaByteBufferToJsArrayBuffer(v8::Isolate* isolate, JNIEnv *env, jobject javaByteBuffer);
 	static jshortArray jsArrayToJavaShortArray(v8::Isolate* isolate, JNIEnv *env, v8::Local<v8::Array> jsArray);
 	static v8::Local<v8::Array> javaArrayToJsArray(v8::Isolate* isolate, JNIEnv *env, jshortArray javaShortArray);
 	static jintArray jsArrayToJavaIntArray(v8::Isolate* isolate, JNIEnv *env, v8::Local<v8::Array> jsArray);
@@ -204,6 +218,8 @@ public:
 	static v8::Local<v8::Object> javaHashMapToJsValue(v8::Isolate* isolate, JNIEnv *env, jobject javaObject);
 	static v8::Local<v8::Value> javaObjectToJsValue(v8::Isolate* isolate, JNIEnv *env, jobject javaObject);
 	static jobject jsObjectToJavaKrollDict(v8::Isolate* isolate, JNIEnv *env, v8::Local<v8::Value> jsValue, bool *isNew);
+	// Wraps a JS object in a V8LazyDict, which converts its properties on first access
+	static jobject jsObjectToJavaLazyDict(v8::Isolate* isolate, JNIEnv *env, v8::Local<v8::Object> jsObject);
 
 	// Convert a JS object's indexed properties to a Java object array.
 	// Starts at index zero and continues until length is reached.
@@ -213,6 +229,8 @@ public:
 
 private:
 	// utility methods
+	static bool isLazyConvertible(v8::Isolate* isolate, v8::Local<v8::Value> jsValue);
+
 	static v8::Local<v8::Array> javaDoubleArrayToJsNumberArray(v8::Isolate* isolate, jdoubleArray javaDoubleArray);
 	static v8::Local<v8::Array> javaLongArrayToJsNumberArray(v8::Isolate* isolate, jlongArray javaLongArray);
 	static v8::Local<v8::Array> javaFloatArrayToJsNumberArray(v8::Isolate* isolate, jfloatArray javaFloatArray);
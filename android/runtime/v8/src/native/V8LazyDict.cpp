@@ -0,0 +1,73 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+
+#include <jni.h>
+#include <v8.h>
+
+#include "AndroidUtil.h"
+#include "JNIUtil.h"
+#include "TypeConverter.h"
+#include "V8Runtime.h"
+
+#define TAG "V8LazyDict"
+
+using namespace titanium;
+using namespace v8;
+
+#ifdef __cplusplus
+extern "C" {
+#endif
+
+/*
+ * Class:     org_appcelerator_kroll_runtime_v8_V8LazyDict
+ * Method:    nativeMaterialize
+ * Signature: (J)Ljava/lang/Object;
+ */
+JNIEXPORT jobject JNICALL
+Java_org_appcelerator_kroll_runtime_v8_V8LazyDict_nativeMaterialize
+	(JNIEnv *env, jclass clazz, jlong ptr)
+{
+	HandleScope scope(V8Runtime::v8_isolate);
+	titanium::JNIScope jniScope(env);
+
+	auto it = TypeConverter::lazyObjects.find(ptr);
+	if (it == TypeConverter::lazyObjects.end()) {
+		LOGE(TAG, "!!!Received a bad 'pointer' to the V8LazyDict, unable to find an entry for it. Returning null.");
+		return NULL;
+	}
+
+	// The object is converted once, then no longer needed.
+	Local<Object> jsObject = it->second.Get(V8Runtime::v8_isolate);
+	it->second.Reset();
+	TypeConverter::lazyObjects.erase(it);
+	TypeConverter::lazyMaterializedCount++;
+
+	bool isNew;
+	return TypeConverter::jsValueToJavaObject(V8Runtime::v8_isolate, env, jsObject, &isNew);
+}
+
+/*
+ * Class:     org_appcelerator_kroll_runtime_v8_V8LazyDict
+ * Method:    nativeRelease
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL
+Java_org_appcelerator_kroll_runtime_v8_V8LazyDict_nativeRelease
+	(JNIEnv *env, jclass clazz, jlong ptr)
+{
+	// Release the JS object so it can be collected, without converting it.
+	auto it = TypeConverter::lazyObjects.find(ptr);
+	if (it != TypeConverter::lazyObjects.end()) {
+		it->second.Reset();
+		TypeConverter::lazyObjects.erase(it);
+		TypeConverter::lazyReleasedCount++;
+	}
+}
+
+#ifdef __cplusplus
+}
+#endif
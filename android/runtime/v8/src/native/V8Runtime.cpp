@@ -5,6 +5,7 @@
  * Please see the LICENSE included with this distribution for details.
  */
 #include <stdio.h>
+#include <time.h>
 #include <cstring>
 #include <string>
 
@@ -12,12 +13,14 @@
 #include <libplatform/libplatform.h>
 
 #include "AndroidUtil.h"
+#include "CodeCache.h"
 #include "EventEmitter.h"
 #include "Proxy.h"
 #include "JNIUtil.h"
 #include "JSDebugger.h"
 #include "JSException.h"
 #include "KrollBindings.h"
+#include "PropertyKeyCache.h"
 #include "ProxyFactory.h"
 #include "ScriptsModule.h"
 #include "TypeConverter.h"
@@ -44,6 +47,8 @@ Isolate* V8Runtime::v8_isolate = nullptr;
 bool V8Runtime::debuggerEnabled = false;
 bool V8Runtime::DBG = false;
 bool V8Runtime::initialized = false;
+bool V8Runtime::mainScriptPending = false;
+jlong V8Runtime::mainScriptStartTime = 0;
 
 typedef std::unique_ptr<v8::ArrayBuffer::Allocator> V8ArrayBufferAllocator;
 V8ArrayBufferAllocator v8Allocator;
@@ -56,6 +61,18 @@ void V8Runtime::collectWeakRef(Persistent<Value> ref, void *parameter)
 	JNIScope::getEnv()->DeleteGlobalRef(v8Object);
 }
 
+/* static */
+void V8Runtime::onScriptRun()
+{
+	if (mainScriptPending) {
+		mainScriptPending = false;
+
+		struct timespec now;
+		clock_gettime(CLOCK_BOOTTIME, &now);
+		mainScriptStartTime = static_cast<jlong>(now.tv_sec) * 1000 + now.tv_nsec / 1000000;
+	}
+}
+
 Local<Object> V8Runtime::Global()
 {
 	// FIXME: This isn't the global, it's the global.kroll instance!
@@ -298,7 +315,7 @@ using namespace titanium;
  * Method:    nativeInit
  * Signature: (Lorg/appcelerator/kroll/runtime/v8/V8Runtime;)J
  */
-JNIEXPORT void JNICALL Java_org_appcelerator_kroll_runtime_v8_V8Runtime_nativeInit(JNIEnv *env, jobject self, jobject debugger, jboolean DBG, jboolean profilerEnabled)
+JNIEXPORT void JNICALL Java_org_appcelerator_kroll_runtime_v8_V8Runtime_nativeInit(JNIEnv *env, jobject self, jobject debugger, jboolean DBG, jboolean profilerEnabled, jstring codeCacheDir)
 {
 	if (!V8Runtime::initialized) {
 		// Initialize V8.
@@ -314,6 +331,18 @@ JNIEXPORT void JNICALL Java_org_appcelerator_kroll_runtime_v8_V8Runtime_nativeIn
 
 	V8Runtime::DBG = DBG;
 
+	// Set up code cache before bootstrapping, which compiles "kroll.js".
+	if (codeCacheDir != nullptr) {
+		const char* codeCacheDirChars = env->GetStringUTFChars(codeCacheDir, nullptr);
+		CodeCache::setDirectory(codeCacheDirChars);
+		env->ReleaseStringUTFChars(codeCacheDir, codeCacheDirChars);
+	} else {
+		CodeCache::setDirectory(nullptr);
+	}
+	CodeCache::resetStats();
+	V8Runtime::mainScriptPending = false;
+	V8Runtime::mainScriptStartTime = 0;
+
 	V8Runtime::javaInstance = env->NewGlobalRef(self);
 	JNIUtil::initCache();
 
@@ -400,9 +429,13 @@ JNIEXPORT void JNICALL Java_org_appcelerator_kroll_runtime_v8_V8Runtime_nativeRu
 	Local<Value> jsFilename = TypeConverter::javaStringToJsString(V8Runtime::v8_isolate, env, filename);
 	Local<Value> jsActivity = TypeConverter::javaObjectToJsValue(V8Runtime::v8_isolate, env, activityProxy);
 
+	// Record when the first module's script starts to run.
+	V8Runtime::mainScriptPending = (V8Runtime::mainScriptStartTime == 0);
+
 	Local<Value> args[] = { jsSource, jsFilename, jsActivity };
 	TryCatch tryCatch(V8Runtime::v8_isolate);
 	V8Runtime::RunModuleFunction()->Call(context, V8Runtime::ModuleObject(), 3, args);
+	V8Runtime::mainScriptPending = false;
 
 	if (tryCatch.HasCaught()) {
 		V8Util::openJSErrorDialog(V8Runtime::v8_isolate, tryCatch);
@@ -452,9 +485,13 @@ JNIEXPORT void JNICALL Java_org_appcelerator_kroll_runtime_v8_V8Runtime_nativeRu
 	Local<Value> jsFilename = TypeConverter::javaStringToJsString(V8Runtime::v8_isolate, env, filename);
 	Local<Value> jsActivity = TypeConverter::javaObjectToJsValue(V8Runtime::v8_isolate, env, activityProxy);
 
+	// Record when the first module's script starts to run.
+	V8Runtime::mainScriptPending = (V8Runtime::mainScriptStartTime == 0);
+
 	Local<Value> args[] = { jsSource, jsFilename, jsActivity };
 	TryCatch tryCatch(V8Runtime::v8_isolate);
 	V8Runtime::RunModuleFunction()->Call(context, V8Runtime::ModuleObject(), 3, args);
+	V8Runtime::mainScriptPending = false;
 
 	if (tryCatch.HasCaught()) {
 		V8Util::openJSErrorDialog(V8Runtime::v8_isolate, tryCatch);
@@ -496,6 +533,66 @@ JNIEXPORT jobject JNICALL Java_org_appcelerator_kroll_runtime_v8_V8Runtime_nativ
 	return TypeConverter::jsValueToJavaObject(V8Runtime::v8_isolate, env, result.ToLocalChecked());
 }
 
+/*
+ * Class:     org_appcelerator_kroll_runtime_v8_V8Runtime
+ * Method:    nativeGetStartupStats
+ * Signature: ()[J
+ */
+JNIEXPORT jlongArray JNICALL Java_org_appcelerator_kroll_runtime_v8_V8Runtime_nativeGetStartupStats
+	(JNIEnv *env, jobject self)
+{
+	const jlong stats[] = {
+		V8Runtime::mainScriptStartTime,
+		CodeCache::compileCount,
+		CodeCache::compileTime,
+		CodeCache::hits,
+		CodeCache::misses,
+		CodeCache::rejections
+	};
+	const jsize length = sizeof(stats) / sizeof(stats[0]);
+	jlongArray javaStats = env->NewLongArray(length);
+	if (javaStats != nullptr) {
+		env->SetLongArrayRegion(javaStats, 0, length, stats);
+	}
+	return javaStats;
+}
+
+/*
+ * Class:     org_appcelerator_kroll_runtime_v8_V8Runtime
+ * Method:    nativeSetLazyConversion
+ * Signature: (I)V
+ */
+JNIEXPORT void JNICALL Java_org_appcelerator_kroll_runtime_v8_V8Runtime_nativeSetLazyConversion
+	(JNIEnv *env, jobject self, jint minArrayLength)
+{
+	TypeConverter::lazyConversionMinLength = minArrayLength;
+}
+
+/*
+ * Class:     org_appcelerator_kroll_runtime_v8_V8Runtime
+ * Method:    nativeGetConversionStats
+ * Signature: ()[J
+ */
+JNIEXPORT jlongArray JNICALL Java_org_appcelerator_kroll_runtime_v8_V8Runtime_nativeGetConversionStats
+	(JNIEnv *env, jobject self)
+{
+	const jlong stats[] = {
+		PropertyKeyCache::size,
+		PropertyKeyCache::hits,
+		PropertyKeyCache::misses,
+		TypeConverter::lazyObjectCount,
+		TypeConverter::lazyMaterializedCount,
+		TypeConverter::lazyReleasedCount,
+		static_cast<jlong>(TypeConverter::lazyObjects.size())
+	};
+	const jsize length = sizeof(stats) / sizeof(stats[0]);
+	jlongArray javaStats = env->NewLongArray(length);
+	if (javaStats != nullptr) {
+		env->SetLongArrayRegion(javaStats, 0, length, stats);
+	}
+	return javaStats;
+}
+
 JNIEXPORT jboolean JNICALL Java_org_appcelerator_kroll_runtime_v8_V8Runtime_nativeIdle(JNIEnv *env, jobject self)
 {
 	// If we're closing up shop, return true, which is equivalent to V8 GC saying there's no more work to do
@@ -577,6 +674,13 @@ JNIEXPORT void JNICALL Java_org_appcelerator_kroll_runtime_v8_V8Runtime_nativeDi
 	// Dispose of each class' static cache / resources
 	V8Util::dispose();
 	ProxyFactory::dispose();
+	PropertyKeyCache::clear(env);
+
+	// Lazily converted objects can no longer be converted, see V8LazyDict.java
+	for (auto& lazyObject : TypeConverter::lazyObjects) {
+		lazyObject.second.Reset();
+	}
+	TypeConverter::lazyObjects.clear();
 
 	V8Runtime::moduleObject.Reset();
 	V8Runtime::runModuleFunction.Reset();
@@ -31,6 +31,12 @@ public:
 	static bool DBG;
 	static bool initialized;
 
+	// Set while running the app's main module, until its script is about to run.
+	static bool mainScriptPending;
+	// Time the main script started to run at. In milliseconds since boot, like SystemClock.elapsedRealtime().
+	static jlong mainScriptStartTime;
+	static void onScriptRun();
+
 	static Persistent<Object> moduleObject;
 	static Persistent<Function> runModuleFunction;
 
@@ -7,6 +7,7 @@
 #include <cstring>
 #include <sstream>
 
+#include "CodeCache.h"
 #include "V8Util.h"
 #include "JNIUtil.h"
 #include "TypeConverter.h"
@@ -41,8 +42,8 @@ Local<Value> V8Util::executeString(Isolate* isolate, Local<String> source, Local
 	EscapableHandleScope scope(isolate);
 	TryCatch tryCatch(isolate);
 
-	ScriptOrigin origin(filename);
-	MaybeLocal<Script> maybeScript = Script::Compile(context, source, &origin);
+	CodeCache::Entry cacheEntry;
+	MaybeLocal<Script> maybeScript = CodeCache::compile(context, source, filename, &cacheEntry);
 	if (maybeScript.IsEmpty()) {
 		LOGF(TAG, "Script source is empty");
 		reportException(isolate, tryCatch, true);
@@ -56,6 +57,7 @@ Local<Value> V8Util::executeString(Isolate* isolate, Local<String> source, Local
 		reportException(isolate, tryCatch, true);
 		return scope.Escape(Undefined(isolate));
 	}
+	CodeCache::update(isolate, script, cacheEntry);
 
 	return scope.Escape(result.ToLocalChecked());
 }
@@ -8,6 +8,7 @@
 #include <jni.h>
 
 #include "AndroidUtil.h"
+#include "CodeCache.h"
 #include "NativeObject.h"
 #include "ScriptsModule.h"
 #include "V8Runtime.h"
@@ -273,12 +274,12 @@ void WrappedScript::EvalMachine(const FunctionCallbackInfo<Value>& args)
 
 	Local<Value> result;
 	Local<Script> script;
+	CodeCache::Entry cacheEntry;
 
 	if (input_flag == compileCode) {
 		// well, here WrappedScript::New would suffice in all cases, but maybe
 		// Compile has a little better performance where possible
-		ScriptOrigin origin(filename);
-		MaybeLocal<Script> maybeScript = Script::Compile(contextToUse, code, &origin);
+		MaybeLocal<Script> maybeScript = CodeCache::compile(contextToUse, code, filename, &cacheEntry);
 		if (maybeScript.IsEmpty()) {
 			// Hack because I can't get a proper stacktrace on SyntaxError
 			args.GetReturnValue().Set(v8::Undefined(isolate));
@@ -300,6 +301,7 @@ void WrappedScript::EvalMachine(const FunctionCallbackInfo<Value>& args)
 	}
 
 	if (output_flag == returnResult) {
+		V8Runtime::onScriptRun();
 		MaybeLocal<Value> maybeResult = script->Run(contextToUse);
 		if (maybeResult.IsEmpty()) {
 			if (context_flag == newContext) {
@@ -311,6 +313,7 @@ void WrappedScript::EvalMachine(const FunctionCallbackInfo<Value>& args)
 			return;
 		}
 		result = maybeResult.ToLocalChecked();
+		CodeCache::update(isolate, script, cacheEntry);
 	} else {
 		WrappedScript *n_script = NativeObject::Unwrap<WrappedScript>(args.Holder());
 		if (!n_script) {
@@ -319,6 +322,7 @@ void WrappedScript::EvalMachine(const FunctionCallbackInfo<Value>& args)
 		}
 		n_script->script_.Reset(isolate, script);
 		result = args.This();
+		CodeCache::update(isolate, script, cacheEntry);
 	}
 
 	if (context_flag == newContext) {
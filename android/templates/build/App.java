@@ -9,6 +9,7 @@ import org.appcelerator.kroll.runtime.v8.V8Runtime;
 
 import org.appcelerator.kroll.KrollExternalModule;
 import org.appcelerator.kroll.common.KrollSourceCodeProvider;
+import org.appcelerator.kroll.common.TiStartupTimeline;
 import org.appcelerator.kroll.KrollModule;
 import org.appcelerator.kroll.KrollModuleInfo;
 import org.appcelerator.kroll.KrollRuntime;
@@ -93,6 +94,7 @@ public final class <%= classname %>Application extends TiApplication
 		{
 			String className = "<%- module.className %>";
 			String methodName = "<%- module.onAppCreate %>";
+			final long startTime = TiStartupTimeline.begin();
 			try {
 				Class moduleClass = Class.forName(className);
 				Method moduleMethod = moduleClass.getMethod(methodName, TiApplication.class);
@@ -106,6 +108,8 @@ public final class <%= classname %>Application extends TiApplication
 					ex = new RuntimeException(ex);
 				}
 				throw (RuntimeException) ex;
+			} finally {
+				TiStartupTimeline.end(className + "." + methodName, startTime);
 			}
 		}
 		<% } %>
@@ -0,0 +1,222 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package org.appcelerator.kroll;
+
+import java.util.ArrayList;
+import java.util.Map;
+
+import org.appcelerator.kroll.common.Log;
+import org.appcelerator.titanium.TiApplication;
+import org.appcelerator.titanium.TiC;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.view.Choreographer;
+
+/**
+ * Limits how often a proxy's event is delivered to JavaScript, so that high frequency events
+ * (ex: "scroll", "touchmove", "location") do not queue up while the JavaScript thread is busy.
+ * <p>
+ * Supported modes are:
+ * <ul>
+ *   <li>{@link #MODE_LATEST}: Events fired before the pending one is delivered replace its data.</li>
+ *   <li>{@link #MODE_FRAME}: Same as {@link #MODE_LATEST}, but delivered at most once per display frame.</li>
+ *   <li>{@link #MODE_BATCH}: Events fired before the pending one is delivered are appended to it. The
+ *       delivered event has an "events" property providing the data of each fired event in order, and
+ *       the "bubbles" and "source" properties of the first fired event.</li>
+ * </ul>
+ * Synchronous events are not coalesced, since their listeners must have run when they return.
+ * A maximum rate in Hz further delays delivery so that it happens at most that often.
+ * <p>
+ * This class is thread safe. Events can be posted from any thread and are delivered on the runtime thread.
+ */
+public final class KrollEventCoalescer implements Choreographer.FrameCallback
+{
+	private static final String TAG = "KrollEventCoalescer";
+
+	public static final String MODE_LATEST = "latest";
+	public static final String MODE_FRAME = "frame";
+	public static final String MODE_BATCH = "batch";
+
+	private static final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+	private final KrollProxy proxy;
+	private final String event;
+	private final String mode;
+	private final long minInterval; // ms
+	private final Runnable deliverRunnable = this::deliver;
+
+	// Guarded by "this".
+	private Object pendingData;
+	private ArrayList<Object> pendingBatch;
+	private boolean isScheduled = false;
+	private long lastDeliveryTime = 0;
+
+	// Statistics. Guarded by "this".
+	private long postedCount = 0;
+	private long deliveredCount = 0;
+	private long droppedCount = 0;
+	private long mergedCount = 0;
+
+	private KrollEventCoalescer(KrollProxy proxy, String event, String mode, double maxRate)
+	{
+		this.proxy = proxy;
+		this.event = event;
+		this.mode = mode;
+		this.minInterval = (maxRate > 0) ? Math.round(1000.0 / maxRate) : 0;
+	}
+
+	/**
+	 * Creates a coalescer for the given proxy's event.
+	 * @param proxy the proxy firing the event.
+	 * @param event the event's name.
+	 * @param mode one of {@link #MODE_LATEST}, {@link #MODE_FRAME} or {@link #MODE_BATCH}.
+	 *             Defaults to {@link #MODE_LATEST} if null.
+	 * @param maxRate the maximum number of deliveries per second. Unlimited if zero or less.
+	 * @return the coalescer, or null if given an unknown mode.
+	 */
+	public static KrollEventCoalescer create(KrollProxy proxy, String event, String mode, double maxRate)
+	{
+		if (mode == null) {
+			mode = MODE_LATEST;
+		}
+		if (!MODE_LATEST.equals(mode) && !MODE_FRAME.equals(mode) && !MODE_BATCH.equals(mode)) {
+			Log.w(TAG, "Unknown coalesce mode '" + mode + "' for event '" + event + "'");
+			return null;
+		}
+		return new KrollEventCoalescer(proxy, event, mode.intern(), maxRate);
+	}
+
+	/**
+	 * Queues the event to be delivered, merging it with the pending event if any.
+	 * @param data the event's data.
+	 */
+	public void post(Object data)
+	{
+		long delay;
+		synchronized (this)
+		{
+			postedCount++;
+			if (mode == MODE_BATCH) {
+				if (pendingBatch == null) {
+					pendingBatch = new ArrayList<>();
+				}
+				pendingBatch.add((data != null) ? data : new KrollDict());
+				if (isScheduled) {
+					mergedCount++;
+				}
+			} else {
+				if (isScheduled) {
+					droppedCount++;
+				}
+				pendingData = data;
+			}
+			if (isScheduled) {
+				return;
+			}
+			isScheduled = true;
+			delay = Math.max(0, lastDeliveryTime + minInterval - SystemClock.uptimeMillis());
+		}
+
+		if (mode == MODE_FRAME) {
+			// Frame callbacks must be registered on the main thread.
+			Runnable scheduleFrameRunnable = () -> Choreographer.getInstance().postFrameCallbackDelayed(this, delay);
+			if (TiApplication.isUIThread()) {
+				scheduleFrameRunnable.run();
+			} else {
+				mainHandler.post(scheduleFrameRunnable);
+			}
+		} else {
+			proxy.getRuntimeHandler().postDelayed(deliverRunnable, delay);
+		}
+	}
+
+	@Override
+	public void doFrame(long frameTimeNanos)
+	{
+		if (KrollRuntime.getInstance().isRuntimeThread()) {
+			deliver();
+		} else {
+			proxy.getRuntimeHandler().post(deliverRunnable);
+		}
+	}
+
+	private void deliver()
+	{
+		Object data;
+		synchronized (this)
+		{
+			if (!isScheduled) {
+				return;
+			}
+			isScheduled = false;
+			lastDeliveryTime = SystemClock.uptimeMillis();
+			if (mode == MODE_BATCH) {
+				KrollDict batchData = new KrollDict();
+				Object firstData = pendingBatch.get(0);
+				if (firstData instanceof Map) {
+					Map<?, ?> firstDataMap = (Map<?, ?>) firstData;
+					if (firstDataMap.containsKey(TiC.PROPERTY_BUBBLES)) {
+						batchData.put(TiC.PROPERTY_BUBBLES, firstDataMap.get(TiC.PROPERTY_BUBBLES));
+					}
+					if (firstDataMap.containsKey(TiC.EVENT_PROPERTY_SOURCE)) {
+						batchData.put(TiC.EVENT_PROPERTY_SOURCE, firstDataMap.get(TiC.EVENT_PROPERTY_SOURCE));
+					}
+				}
+				batchData.put(TiC.PROPERTY_EVENTS, pendingBatch.toArray());
+				data = batchData;
+				pendingBatch = null;
+			} else {
+				data = pendingData;
+				pendingData = null;
+			}
+			deliveredCount++;
+		}
+		proxy.doFireEvent(event, data);
+	}
+
+	/**
+	 * Discards the pending event, if any.
+	 */
+	public void cancel()
+	{
+		synchronized (this)
+		{
+			if (!isScheduled) {
+				return;
+			}
+			isScheduled = false;
+			if (mode == MODE_BATCH) {
+				droppedCount += pendingBatch.size();
+				pendingBatch = null;
+			} else {
+				droppedCount++;
+				pendingData = null;
+			}
+		}
+		proxy.getRuntimeHandler().removeCallbacks(deliverRunnable);
+	}
+
+	/**
+	 * Obtains this coalescer's statistics.
+	 * @return dictionary of the posted, delivered, dropped and merged event counts.
+	 */
+	public KrollDict getStats()
+	{
+		KrollDict stats = new KrollDict();
+		synchronized (this)
+		{
+			stats.put("mode", mode);
+			stats.put("posted", postedCount);
+			stats.put("delivered", deliveredCount);
+			stats.put("dropped", droppedCount);
+			stats.put("merged", mergedCount);
+		}
+		return stats;
+	}
+}
@@ -0,0 +1,239 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package org.appcelerator.kroll;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.appcelerator.titanium.TiApplication;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.view.Choreographer;
+
+/**
+ * Collects property changes destined for {@link KrollProxyListener model listeners} and delivers them once per
+ * display frame via {@link Choreographer}, instead of posting one main thread message per change.
+ * <p>
+ * Changes are grouped per proxy. Writing the same key more than once before the next frame replaces the pending
+ * new value while keeping the original old value. On flush, each proxy's listener receives a single
+ * {@link KrollProxyListener#propertiesChanged(java.util.List, KrollProxy)} call for all of its changes.
+ * <p>
+ * This class is thread safe. Changes can be added from any thread and are always delivered on the main thread.
+ * Changes dispatched directly on the main thread must first {@link #flush(KrollProxy) flush} the proxy's pending
+ * changes, so that an older buffered value never overwrites a newer one.
+ */
+public final class KrollPropertyChangeBuffer implements Choreographer.FrameCallback
+{
+	private static final KrollPropertyChangeBuffer instance = new KrollPropertyChangeBuffer();
+
+	private final Object lock = new Object();
+	private final Handler mainHandler = new Handler(Looper.getMainLooper());
+	private final Runnable scheduleFrameRunnable = () -> Choreographer.getInstance().postFrameCallback(this);
+	private LinkedHashMap<KrollProxy, LinkedHashMap<String, KrollPropertyChange>> pendingChanges =
+		new LinkedHashMap<>();
+	private boolean isFrameScheduled = false;
+
+	// Statistics. Guarded by lock.
+	private long changesQueued = 0;
+	private long messagesAvoided = 0;
+	private long keysCoalesced = 0;
+	private long framesFlushed = 0;
+	private long batchesDelivered = 0;
+
+	private KrollPropertyChangeBuffer()
+	{
+	}
+
+	/**
+	 * @return the shared property change buffer.
+	 */
+	public static KrollPropertyChangeBuffer getInstance()
+	{
+		return instance;
+	}
+
+	/**
+	 * Queues a property change to be delivered to the given proxy's model listener on the next frame.
+	 * @param proxy the proxy whose property has changed.
+	 * @param name the property name.
+	 * @param oldValue the property's value before the change.
+	 * @param newValue the property's new value.
+	 */
+	public void add(KrollProxy proxy, String name, Object oldValue, Object newValue)
+	{
+		if ((proxy == null) || (name == null)) {
+			return;
+		}
+
+		boolean isSchedulingNeeded;
+		synchronized (lock)
+		{
+			LinkedHashMap<String, KrollPropertyChange> changes = pendingChanges.get(proxy);
+			if (changes == null) {
+				changes = new LinkedHashMap<>();
+				pendingChanges.put(proxy, changes);
+			}
+
+			// Later writes to the same key replace earlier ones, but the listener still needs the original value.
+			KrollPropertyChange change = changes.get(name);
+			if (change != null) {
+				change.newValue = newValue;
+				keysCoalesced++;
+			} else {
+				changes.put(name, new KrollPropertyChange(name, oldValue, newValue));
+			}
+
+			changesQueued++;
+			isSchedulingNeeded = !isFrameScheduled;
+			if (isSchedulingNeeded) {
+				isFrameScheduled = true;
+			} else {
+				messagesAvoided++;
+			}
+		}
+
+		if (isSchedulingNeeded) {
+			if (TiApplication.isUIThread()) {
+				scheduleFrameRunnable.run();
+			} else {
+				mainHandler.post(scheduleFrameRunnable);
+			}
+		}
+	}
+
+	/**
+	 * Immediately delivers all pending changes to their model listeners. Must be called on the main thread.
+	 */
+	public void flush()
+	{
+		LinkedHashMap<KrollProxy, LinkedHashMap<String, KrollPropertyChange>> changesToDeliver;
+		synchronized (lock)
+		{
+			if (pendingChanges.isEmpty()) {
+				return;
+			}
+			changesToDeliver = pendingChanges;
+			pendingChanges = new LinkedHashMap<>();
+		}
+
+		long batchCount = 0;
+		for (Map.Entry<KrollProxy, LinkedHashMap<String, KrollPropertyChange>> entry : changesToDeliver.entrySet()) {
+			if (deliver(entry.getKey(), entry.getValue())) {
+				batchCount++;
+			}
+		}
+
+		synchronized (lock)
+		{
+			batchesDelivered += batchCount;
+		}
+	}
+
+	/**
+	 * Immediately delivers the pending changes of the given proxy to its model listener.
+	 * Must be called on the main thread.
+	 * @param proxy the proxy whose pending changes should be delivered.
+	 */
+	public void flush(KrollProxy proxy)
+	{
+		LinkedHashMap<String, KrollPropertyChange> changesToDeliver;
+		synchronized (lock)
+		{
+			if (pendingChanges.isEmpty()) {
+				return;
+			}
+			changesToDeliver = pendingChanges.remove(proxy);
+		}
+		if ((changesToDeliver != null) && deliver(proxy, changesToDeliver)) {
+			synchronized (lock)
+			{
+				batchesDelivered++;
+			}
+		}
+	}
+
+	/**
+	 * Delivers the given changes of a proxy to its model listener.
+	 * @return true if the listener was notified.
+	 */
+	private boolean deliver(KrollProxy proxy, LinkedHashMap<String, KrollPropertyChange> pending)
+	{
+		KrollProxyListener listener = proxy.modelListener;
+		if (listener == null) {
+			// Nothing to notify. The proxy's properties already hold the new values and will be
+			// applied via processProperties() once a listener (ie: a view) gets attached.
+			return false;
+		}
+
+		ArrayList<KrollPropertyChange> changes = new ArrayList<>(pending.size());
+		for (KrollPropertyChange change : pending.values()) {
+			// Skip keys which were set back to their original value within the same frame.
+			if (proxy.shouldFireChange(change.oldValue, change.newValue)) {
+				changes.add(change);
+			}
+		}
+		if (changes.isEmpty()) {
+			return false;
+		}
+
+		try {
+			if (changes.size() == 1) {
+				changes.get(0).fireEvent(proxy, listener);
+			} else {
+				listener.propertiesChanged(changes, proxy);
+			}
+		} catch (Throwable t) {
+			TiApplication.handleInternalException(t);
+		}
+		return true;
+	}
+
+	@Override
+	public void doFrame(long frameTimeNanos)
+	{
+		synchronized (lock)
+		{
+			isFrameScheduled = false;
+			framesFlushed++;
+		}
+		flush();
+	}
+
+	/**
+	 * Adds this buffer's statistics to the given map.
+	 * @param stats the map to add the statistics to.
+	 */
+	public void putStats(HashMap<String, Object> stats)
+	{
+		synchronized (lock)
+		{
+			stats.put("propertyChangesQueued", changesQueued);
+			stats.put("propertyMessagesAvoided", messagesAvoided);
+			stats.put("propertyKeysCoalesced", keysCoalesced);
+			stats.put("propertyFramesFlushed", framesFlushed);
+			stats.put("propertyBatchesDelivered", batchesDelivered);
+		}
+	}
+
+	/**
+	 * Resets all statistics back to zero.
+	 */
+	public void resetStats()
+	{
+		synchronized (lock)
+		{
+			changesQueued = 0;
+			messagesAvoided = 0;
+			keysCoalesced = 0;
+			framesFlushed = 0;
+			batchesDelivered = 0;
+		}
+	}
+}
@@ -14,6 +14,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.appcelerator.kroll.annotations.Kroll;
@@ -75,6 +76,7 @@ public class KrollProxy implements Handler.Callback, KrollProxySupport, OnLifecy
 	protected AtomicInteger listenerIdGenerator;
 
 	protected Map<String, HashMap<Integer, KrollEventCallback>> eventListeners;
+	protected final Map<String, KrollEventCoalescer> eventCoalescers = new ConcurrentHashMap<>();
 	protected KrollObject krollObject;
 	protected WeakReference<Activity> activity;
 	protected String proxyId;
@@ -593,6 +595,7 @@ public class KrollProxy implements Handler.Callback, KrollProxySupport, OnLifecy
 			return;
 		}
 
+		flushBufferedPropertyChanges();
 		int changesLength = changes.length;
 		for (int i = 0; i < changesLength; ++i) {
 			Object[] change = changes[i];
@@ -820,8 +823,8 @@ public class KrollProxy implements Handler.Callback, KrollProxySupport, OnLifecy
 			return;
 		}
 
-		// Off-thread processing with deduplication
-		KrollPropertyChangeSet changes = new KrollPropertyChangeSet(props.size());
+		// Off-thread processing with deduplication, delivered with the next frame's property change batch
+		KrollPropertyChangeBuffer changeBuffer = KrollPropertyChangeBuffer.getInstance();
 		for (Object key : props.keySet()) {
 			String name = TiConvert.toString(key);
 			Object value = props.get(key);
@@ -830,12 +833,9 @@ public class KrollProxy implements Handler.Callback, KrollProxySupport, OnLifecy
 			// Only process if value has actually changed
 			if (shouldFireChange(current, value)) {
 				setProperty(name, value);
-				changes.addChange(name, current, value);
+				changeBuffer.add(this, name, current, value);
 			}
 		}
-		if (changes.entryCount > 0) {
-			getMainHandler().obtainMessage(MSG_MODEL_PROPERTY_CHANGE, changes).sendToTarget();
-		}
 	}
 
 	// Chunked processing for UI thread
@@ -949,6 +949,7 @@ public class KrollProxy implements Handler.Callback, KrollProxySupport, OnLifecy
 	private void fireBatchPropertyChanged(List<KrollPropertyChange> changes)
 	{
 		if (modelListener != null) {
+			flushBufferedPropertyChanges();
 			// For single changes, use direct call
 			if (changes.size() == 1) {
 				KrollPropertyChange change = changes.get(0);
@@ -969,22 +970,19 @@ public class KrollProxy implements Handler.Callback, KrollProxySupport, OnLifecy
 		}
 	}
 
-	// Off main thread processing with batch model listener calls
+	// Off main thread processing with batch model listener calls on the next frame
 	private void applyPropertiesOffMainThread(HashMap props)
 	{
-		KrollPropertyChangeSet changes = new KrollPropertyChangeSet(props.size());
+		KrollPropertyChangeBuffer changeBuffer = KrollPropertyChangeBuffer.getInstance();
 		for (Object key : props.keySet()) {
 			String name = TiConvert.toString(key);
 			Object value = props.get(key);
 			Object current = getProperty(name);
 			setProperty(name, value);
 			if (shouldFireChange(current, value)) {
-				changes.addChange(name, current, value);
+				changeBuffer.add(this, name, current, value);
 			}
 		}
-		if (changes.entryCount > 0) {
-			getMainHandler().obtainMessage(MSG_MODEL_PROPERTY_CHANGE, changes).sendToTarget();
-		}
 	}
 
 	// Determine if a property requires UI thread processing
@@ -1079,6 +1077,12 @@ public class KrollProxy implements Handler.Callback, KrollProxySupport, OnLifecy
 	public boolean fireEvent(String event, Object data)
 	{
 		if (hierarchyHasListener(event)) {
+			KrollEventCoalescer coalescer = eventCoalescers.get(event);
+			if (coalescer != null) {
+				coalescer.post(data);
+				return true;
+			}
+
 			Message message = getRuntimeHandler().obtainMessage(MSG_FIRE_EVENT, data);
 			message.getData().putString(PROPERTY_NAME, event);
 			message.sendToTarget();
@@ -1088,6 +1092,61 @@ public class KrollProxy implements Handler.Callback, KrollProxySupport, OnLifecy
 		return false;
 	}
 
+	/**
+	 * Sets how often the given event is delivered to JavaScript while it is fired repeatedly.
+	 * See {@link KrollEventCoalescer} for the supported modes.
+	 * @param event the event's name.
+	 * @param mode the coalesce mode, or null to stop coalescing the event if "maxRate" is zero or less.
+	 * @param maxRate the maximum number of deliveries per second. Unlimited if zero or less.
+	 */
+	public void setEventCoalescing(String event, String mode, double maxRate)
+	{
+		if (event == null) {
+			return;
+		}
+		KrollEventCoalescer coalescer = null;
+		if ((mode != null) || (maxRate > 0)) {
+			coalescer = KrollEventCoalescer.create(this, event, mode, maxRate);
+		}
+		KrollEventCoalescer oldCoalescer;
+		if (coalescer != null) {
+			oldCoalescer = eventCoalescers.put(event, coalescer);
+		} else {
+			oldCoalescer = eventCoalescers.remove(event);
+		}
+		if (oldCoalescer != null) {
+			oldCoalescer.cancel();
+		}
+	}
+
+	@Kroll.method(name = "_setEventCoalescing")
+	public void setEventCoalescing(String event, @Kroll.argument(optional = true) KrollDict options)
+	{
+		String mode = null;
+		double maxRate = 0;
+		if (options != null) {
+			mode = TiConvert.toString(options, TiC.PROPERTY_COALESCE);
+			if (options.containsKeyAndNotNull(TiC.PROPERTY_MAX_RATE)) {
+				maxRate = TiConvert.toDouble(options, TiC.PROPERTY_MAX_RATE);
+			}
+		}
+		setEventCoalescing(event, mode, maxRate);
+	}
+
+	/**
+	 * Obtains the statistics of the events this proxy coalesces.
+	 * @return dictionary of event names to the statistics provided by {@link KrollEventCoalescer#getStats()}.
+	 */
+	@Kroll.method
+	public KrollDict getEventCoalescingStats()
+	{
+		KrollDict stats = new KrollDict();
+		for (Map.Entry<String, KrollEventCoalescer> entry : eventCoalescers.entrySet()) {
+			stats.put(entry.getKey(), entry.getValue().getStats());
+		}
+		return stats;
+	}
+
 	/**
 	 * Send an event to the view who is next to receive the event.
 	 *
@@ -1288,16 +1347,25 @@ public class KrollProxy implements Handler.Callback, KrollProxySupport, OnLifecy
 	public void firePropertyChanged(String name, Object oldValue, Object newValue)
 	{
 		if (modelListener != null) {
-			if (TiApplication.isUIThread()) {
+			if (TiApplication.isUIThread() && !highPerformanceMode) {
+				flushBufferedPropertyChanges();
 				modelListener.propertyChanged(name, oldValue, newValue, this);
 
 			} else {
-				KrollPropertyChange pch = new KrollPropertyChange(name, oldValue, newValue);
-				getMainHandler().obtainMessage(MSG_MODEL_PROPERTY_CHANGE, pch).sendToTarget();
+				KrollPropertyChangeBuffer.getInstance().add(this, name, oldValue, newValue);
 			}
 		}
 	}
 
+	/**
+	 * Delivers changes buffered off the main thread before dispatching a change directly,
+	 * so that an older buffered value cannot be applied after a newer one.
+	 */
+	private void flushBufferedPropertyChanges()
+	{
+		KrollPropertyChangeBuffer.getInstance().flush(this);
+	}
+
 	public void onHasListenersChanged(String event, boolean hasListeners)
 	{
 		Message msg = getMainHandler().obtainMessage(hasListeners ? MSG_LISTENER_ADDED : MSG_LISTENER_REMOVED);
@@ -1374,7 +1442,7 @@ public class KrollProxy implements Handler.Callback, KrollProxySupport, OnLifecy
 		Object newValue = value;
 
 		if (isLocaleProperty(name)) {
-			Log.d(TAG, "Updating locale: " + name, Log.DEBUG_MODE);
+			Log.debugf(TAG, "Updating locale: {}", name);
 			Pair<String, String> update = updateLocaleProperty(name, TiConvert.toString(value));
 			if (update != null) {
 				propertyName = update.first;
@@ -1394,7 +1462,10 @@ public class KrollProxy implements Handler.Callback, KrollProxySupport, OnLifecy
 		}
 
 		int changesLength = changes.length;
-		boolean isUiThread = TiApplication.isUIThread();
+		boolean isDirectDispatch = TiApplication.isUIThread() && !highPerformanceMode;
+		if (isDirectDispatch) {
+			flushBufferedPropertyChanges();
+		}
 
 		for (int i = 0; i < changesLength; ++i) {
 			Object[] change = changes[i];
@@ -1411,17 +1482,14 @@ public class KrollProxy implements Handler.Callback, KrollProxySupport, OnLifecy
 			Object value = change[INDEX_VALUE];
 
 			properties.put(nameString, change[INDEX_VALUE]);
-			if (isUiThread && modelListener != null) {
-				modelListener.propertyChanged(nameString, change[INDEX_OLD_VALUE], value, this);
+			if (modelListener != null) {
+				if (isDirectDispatch) {
+					modelListener.propertyChanged(nameString, change[INDEX_OLD_VALUE], value, this);
+				} else {
+					KrollPropertyChangeBuffer.getInstance().add(this, nameString, change[INDEX_OLD_VALUE], value);
+				}
 			}
 		}
-
-		if (isUiThread || modelListener == null) {
-			return;
-		}
-
-		Message message = getMainHandler().obtainMessage(MSG_MODEL_PROPERTIES_CHANGED, changes);
-		message.sendToTarget();
 	}
 
 	public ActivityProxy getActivityProxy()
@@ -1632,9 +1700,7 @@ public class KrollProxy implements Handler.Callback, KrollProxySupport, OnLifecy
 				eventListeners.put(eventName, listeners);
 			}
 
-			if (Log.isDebugModeEnabled()) {
-				Log.d(TAG, "Added for eventName '" + eventName + "' with id " + listenerId, Log.DEBUG_MODE);
-			}
+			Log.debugf(TAG, "Added for eventName '{}' with id {}", eventName, listenerId);
 			listenerId = listenerIdGenerator.incrementAndGet();
 			listeners.put(listenerId, callback);
 		}
@@ -1653,7 +1719,7 @@ public class KrollProxy implements Handler.Callback, KrollProxySupport, OnLifecy
 			HashMap<Integer, KrollEventCallback> listeners = eventListeners.get(eventName);
 			if (listeners != null) {
 				if (listeners.remove(listenerId) == null) {
-					Log.d(TAG, "listenerId " + listenerId + " not for eventName '" + eventName + "'", Log.DEBUG_MODE);
+					Log.debugf(TAG, "listenerId {} not for eventName '{}'", listenerId, eventName);
 				}
 				if (listeners.isEmpty()) {
 					eventListeners.remove(eventName);
@@ -1781,6 +1847,10 @@ public class KrollProxy implements Handler.Callback, KrollProxySupport, OnLifecy
 		// Track proxy destruction for debugging
 		KrollLifecycleTracker.trackProxyDestroyed(this);
 		
+		for (KrollEventCoalescer coalescer : eventCoalescers.values()) {
+			coalescer.cancel();
+		}
+		eventCoalescers.clear();
 		if (eventListeners != null) {
 			eventListeners.clear();
 			eventListeners = null;
@@ -1880,6 +1950,8 @@ public class KrollProxy implements Handler.Callback, KrollProxySupport, OnLifecy
 	/**
 	 * Enable high performance mode for property setting.
 	 * In this mode, property changes are batched and listener notifications are minimized.
+	 * Changes made on the main thread are coalesced with all other pending changes and delivered
+	 * to the model listener once per frame via {@link KrollPropertyChangeBuffer}.
 	 */
 	@Kroll.method
 	public void setHighPerformanceMode(boolean enabled)
@@ -1908,6 +1980,7 @@ public class KrollProxy implements Handler.Callback, KrollProxySupport, OnLifecy
 		stats.put("consecutiveSlowProcessing", consecutiveSlowProcessing);
 		stats.put("defaultThreshold", CHUNKED_PROCESSING_THRESHOLD);
 		stats.put("defaultChunkSize", CHUNK_SIZE);
+		KrollPropertyChangeBuffer.getInstance().putStats(stats);
 		return stats;
 	}
 
@@ -1923,5 +1996,6 @@ public class KrollProxy implements Handler.Callback, KrollProxySupport, OnLifecy
 		lastProcessingTime = 0;
 		consecutiveFastProcessing = 0;
 		consecutiveSlowProcessing = 0;
+		KrollPropertyChangeBuffer.getInstance().resetStats();
 	}
 }
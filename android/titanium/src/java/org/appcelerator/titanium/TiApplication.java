@@ -33,12 +33,12 @@ import org.appcelerator.kroll.common.Log;
 import org.appcelerator.kroll.common.TiConfig;
 import org.appcelerator.kroll.common.TiDeployData;
 import org.appcelerator.kroll.common.TiMessenger;
+import org.appcelerator.kroll.common.TiStartupTimeline;
 import org.appcelerator.kroll.util.KrollAssetHelper;
 import org.appcelerator.titanium.util.TiSession;
 import org.appcelerator.titanium.util.TiSessionMeta;
-import org.appcelerator.titanium.util.TiBlobLruCache;
+import org.appcelerator.titanium.util.TiBitmapCache;
 import org.appcelerator.titanium.util.TiFileHelper;
-import org.appcelerator.titanium.util.TiImageCache;
 import org.appcelerator.titanium.util.TiLocaleManager;
 import org.appcelerator.titanium.util.TiResponseCache;
 import org.appcelerator.titanium.util.TiUIHelper;
@@ -332,6 +332,8 @@ public abstract class TiApplication extends Application implements KrollApplicat
 	@Override
 	public void loadAppProperties()
 	{
+		final long startTime = TiStartupTimeline.begin();
+
 		// Load the JSON file:
 		String appPropertiesString = KrollAssetHelper.readAsset("Resources/_app_props_.json");
 		if (appPropertiesString != null) {
@@ -341,6 +343,7 @@ public abstract class TiApplication extends Application implements KrollApplicat
 				Log.e(TAG, "Unable to load app properties.");
 			}
 		}
+		TiStartupTimeline.end("TiApplication.loadAppProperties", startTime);
 	}
 
 	public static void handleInternalException(Throwable throwable)
@@ -354,6 +357,7 @@ public abstract class TiApplication extends Application implements KrollApplicat
 	@Override
 	public void onCreate()
 	{
+		final long startTime = TiStartupTimeline.begin();
 		super.onCreate();
 		Log.d(TAG, "Application onCreate", Log.DEBUG_MODE);
 
@@ -397,7 +401,9 @@ public abstract class TiApplication extends Application implements KrollApplicat
 		registerActivityLifecycleCallbacks(new TiApplicationLifecycle());
 
 		// Delete all Titanium temp files created from previous app execution.
+		final long deleteStartTime = TiStartupTimeline.begin();
 		deleteTiTempFiles();
+		TiStartupTimeline.end("TiApplication.deleteTiTempFiles", deleteStartTime);
 
 		// Set up a listener to be invoked just before Titanium's JavaScript runtime gets terminated.
 		// Note: Runtime will be terminated once all Titanium activities have been destroyed.
@@ -420,6 +426,7 @@ public abstract class TiApplication extends Application implements KrollApplicat
 		});
 
 		TiLocaleManager.init();
+		TiStartupTimeline.end("TiApplication.onCreate", startTime);
 	}
 
 	@Override
@@ -434,8 +441,7 @@ public abstract class TiApplication extends Application implements KrollApplicat
 	public void onLowMemory()
 	{
 		// Release all the cached images
-		TiBlobLruCache.getInstance().evictAll();
-		TiImageCache.clear();
+		TiBitmapCache.getInstance().evictAll();
 
 		// Perform hard garbage collection to reclaim memory.
 		if (KrollRuntime.getInstance() != null) {
@@ -451,8 +457,7 @@ public abstract class TiApplication extends Application implements KrollApplicat
 	{
 		if (level >= TRIM_MEMORY_RUNNING_LOW) {
 			// Release all the cached images
-			TiBlobLruCache.getInstance().evictAll();
-			TiImageCache.clear();
+			TiBitmapCache.getInstance().evictAll();
 
 			// Perform soft garbage collection to reclaim memory.
 			if (KrollRuntime.getInstance() != null) {
@@ -482,6 +487,7 @@ public abstract class TiApplication extends Application implements KrollApplicat
 
 	public void postOnCreate()
 	{
+		final long startTime = TiStartupTimeline.begin();
 		KrollRuntime runtime = KrollRuntime.getInstance();
 		if (runtime != null) {
 			Log.i(TAG, "Titanium Javascript runtime: " + runtime.getRuntimeName());
@@ -501,6 +507,7 @@ public abstract class TiApplication extends Application implements KrollApplicat
 
 		// Set up an unhandled exception handler.
 		KrollRuntime.setPrimaryExceptionHandler(new TiExceptionHandler());
+		TiStartupTimeline.end("TiApplication.postOnCreate", startTime);
 	}
 
 	/**
@@ -871,6 +878,7 @@ public abstract class TiApplication extends Application implements KrollApplicat
 		}
 		appPath = "Resources/" + appPath;
 
+		final long startTime = TiStartupTimeline.begin();
 		final KrollRuntime runtime = KrollRuntime.getInstance();
 		final boolean hasSnapshot = runtime.evalString("global._startSnapshot") != null;
 		if (hasSnapshot) {
@@ -884,6 +892,7 @@ public abstract class TiApplication extends Application implements KrollApplicat
 			runtime.doRunModuleBytes(KrollAssetHelper.readAssetBytes(appPath), appPath,
 									 rootActivity.getActivityProxy());
 		}
+		TiStartupTimeline.end("TiApplication.launch", startTime);
 	}
 
 	public void softRestart()
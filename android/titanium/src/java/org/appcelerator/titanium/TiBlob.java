@@ -27,7 +27,7 @@ import org.appcelerator.kroll.annotations.Kroll;
 import org.appcelerator.kroll.common.Log;
 import org.appcelerator.kroll.util.KrollStreamHelper;
 import org.appcelerator.titanium.io.TiBaseFile;
-import org.appcelerator.titanium.util.TiBlobLruCache;
+import org.appcelerator.titanium.util.TiBitmapCache;
 import org.appcelerator.titanium.util.TiImageHelper;
 import org.appcelerator.titanium.util.TiMimeTypeHelper;
 
@@ -62,7 +62,7 @@ public class TiBlob extends KrollProxy
 	private Object rotation;
 
 	// This handles the memory cache of images.
-	private final TiBlobLruCache mMemoryCache = TiBlobLruCache.getInstance();
+	private final TiBitmapCache bitmapCache = TiBitmapCache.getInstance();
 
 	private TiBlob(int type, Object data, String mimetype)
 	{
@@ -530,47 +530,43 @@ public class TiBlob extends KrollProxy
 				opts.inPreferredConfig = Bitmap.Config.ARGB_8888;
 			}
 
-			// The only opts that can be used to uniquely name an image is the inSampleSize
-			int inSampleSize = opts.inSampleSize;
+			// The only opts that can be used to uniquely name an image are the sample size and density scaling.
+			int inSampleSize = Math.max(opts.inSampleSize, 1);
+			int decodeWidth = (width + inSampleSize - 1) / inSampleSize;
+			int decodeHeight = (height + inSampleSize - 1) / inSampleSize;
+			if ((opts.inDensity > 0) && (opts.inTargetDensity > 0)) {
+				decodeWidth = (int) ((long) decodeWidth * opts.inTargetDensity / opts.inDensity);
+				decodeHeight = (int) ((long) decodeHeight * opts.inTargetDensity / opts.inDensity);
+			}
 			String nativePath = getNativePath();
-			String key = null;
+			TiBitmapCache.Key key = null;
 			if (nativePath != null) {
-				key = getNativePath() + "_" + inSampleSize;
-				Bitmap bitmap = mMemoryCache.get(key);
+				key = new TiBitmapCache.Key(nativePath, decodeWidth, decodeHeight, null);
+				Bitmap bitmap = bitmapCache.getBitmap(key);
 				if (bitmap != null) {
-					if (!bitmap.isRecycled()) {
-						return bitmap;
-					} else {
-						try {
-							mMemoryCache.remove(key);
-						} catch (Exception _ex) {}
-					}
+					return bitmap;
 				}
 			}
 
 			try {
+				boolean isReusing = bitmapCache.applyReusableBitmap(opts, width, height);
 				Bitmap bitmap;
-				switch (type) {
-					case TYPE_FILE:
-						bitmap = BitmapFactory.decodeStream(getInputStream(), null, opts);
-						if (key != null) {
-							try {
-								mMemoryCache.put(key, bitmap);
-							} catch (Exception _ex) {}
-						}
-						return bitmap;
-					case TYPE_DATA:
-						byte[] byteArray = (byte[]) data;
-						bitmap = BitmapFactory.decodeByteArray(byteArray, 0, byteArray.length, opts);
-						if (key != null) {
-							try {
-								mMemoryCache.put(key, bitmap);
-							} catch (Exception _ex) {}
-						}
-						return bitmap;
+				try {
+					bitmap = decodeImage(opts);
+				} catch (IllegalArgumentException e) {
+					// The pooled bitmap could not be reused for this image. Decode into a new bitmap instead.
+					if (!isReusing) {
+						throw e;
+					}
+					opts.inBitmap = null;
+					bitmap = decodeImage(opts);
 				}
+				if (bitmap != null) {
+					bitmapCache.put(key, bitmap, null);
+				}
+				return bitmap;
 			} catch (OutOfMemoryError e) {
-				TiBlobLruCache.getInstance().evictAll();
+				bitmapCache.evictAll();
 				Log.e(TAG, "Unable to get the image. Not enough memory: " + e.getMessage(), e);
 				return null;
 			}
@@ -578,6 +574,41 @@ public class TiBlob extends KrollProxy
 		return image;
 	}
 
+	private Bitmap decodeImage(BitmapFactory.Options opts)
+	{
+		switch (type) {
+			case TYPE_FILE:
+				try (InputStream stream = getInputStream()) {
+					return BitmapFactory.decodeStream(stream, null, opts);
+				} catch (IOException e) {
+					Log.e(TAG, "Unable to close the image stream: " + e.getMessage(), e);
+					return null;
+				}
+			case TYPE_DATA:
+				byte[] byteArray = (byte[]) data;
+				return BitmapFactory.decodeByteArray(byteArray, 0, byteArray.length, opts);
+		}
+		return null;
+	}
+
+	/**
+	 * Describes the content of the file backing this blob, so that images derived from it can be stored in
+	 * the bitmap cache's disk tier.
+	 * @param operation the operation applied to the image, such as "imageAsResized".
+	 * @return the file's path, length and modification time, or null if this blob is not backed by a local file.
+	 */
+	private String getImageCacheSignature(String operation)
+	{
+		if ((type != TYPE_FILE) || !(data instanceof TiBaseFile)) {
+			return null;
+		}
+		File file = ((TiBaseFile) data).getNativeFile();
+		if ((file == null) || !file.isFile()) {
+			return null;
+		}
+		return file.getAbsolutePath() + ":" + file.length() + ":" + file.lastModified() + ":" + operation;
+	}
+
 	private int getImageOrientation()
 	{
 		int rotation = 0;
@@ -610,19 +641,13 @@ public class TiBlob extends KrollProxy
 		int y = options.optInt(TiC.PROPERTY_Y, (height - heightCropped) / 2);
 
 		String nativePath = getNativePath();
-		String key = null;
+		TiBitmapCache.Key key = null;
 		if (nativePath != null) {
-			key = getNativePath() + "_imageAsCropped_" + rotation + "_" + widthCropped + "_" + heightCropped + "_" + x
-				  + "_" + y;
-			Bitmap bitmap = mMemoryCache.get(key);
+			key = new TiBitmapCache.Key(getNativePath() + "_imageAsCropped_" + rotation + "_" + widthCropped + "_"
+				+ heightCropped + "_" + x + "_" + y);
+			Bitmap bitmap = bitmapCache.getBitmap(key);
 			if (bitmap != null) {
-				if (!bitmap.isRecycled()) {
-					return blobFromImage(bitmap);
-				} else {
-					try {
-						mMemoryCache.remove(key);
-					} catch (Exception _ex) {}
-				}
+				return blobFromImage(bitmap);
 			}
 		}
 
@@ -632,17 +657,15 @@ public class TiBlob extends KrollProxy
 			matrix.postRotate(rotation);
 			Bitmap imageCropped = Bitmap.createBitmap(img, x, y, widthCropped, heightCropped, matrix, true);
 			if (img != image && img != imageCropped) {
-				img.recycle();
+				bitmapCache.releaseBitmap(img);
 				img = null;
 			}
 			if (key != null) {
-				try {
-					mMemoryCache.put(key, imageCropped);
-				} catch (Exception _ex) {}
+				bitmapCache.put(key, imageCropped, null);
 			}
 			return blobFromImage(imageCropped);
 		} catch (OutOfMemoryError e) {
-			TiBlobLruCache.getInstance().evictAll();
+			bitmapCache.evictAll();
 			Log.e(TAG, "Unable to crop the image. Not enough memory: " + e.getMessage(), e);
 		} catch (IllegalArgumentException e) {
 			Log.e(TAG, "Unable to crop the image. Illegal Argument: " + e.getMessage(), e);
@@ -695,19 +718,15 @@ public class TiBlob extends KrollProxy
 
 		int rotation = getImageOrientation();
 
-		String key = null;
+		TiBitmapCache.Key key = null;
 		String nativePath = getNativePath();
 		if (nativePath != null) {
-			key = nativePath + "_imageAsResized_" + rotation + "_" + dstWidth + "_" + dstHeight;
-			Bitmap bitmap = mMemoryCache.get(key);
+			String operation = "_imageAsResized_" + rotation;
+			key = new TiBitmapCache.Key(
+				nativePath + operation, dstWidth, dstHeight, getImageCacheSignature(operation));
+			Bitmap bitmap = bitmapCache.loadBitmap(key);
 			if (bitmap != null) {
-				if (!bitmap.isRecycled()) {
-					return blobFromImage(bitmap);
-				} else {
-					try {
-						mMemoryCache.remove(key);
-					} catch (Exception _ex) {}
-				}
+				return blobFromImage(bitmap);
 			}
 		}
 
@@ -747,17 +766,15 @@ public class TiBlob extends KrollProxy
 				imageResized = Bitmap.createScaledBitmap(img, dstWidth, dstHeight, true);
 			}
 			if (img != image && img != imageResized) {
-				img.recycle();
+				bitmapCache.releaseBitmap(img);
 				img = null;
 			}
 			if (key != null) {
-				try {
-					mMemoryCache.put(key, imageResized);
-				} catch (Exception _ex) {}
+				bitmapCache.put(key, imageResized, null);
 			}
 			return blobFromImage(imageResized);
 		} catch (OutOfMemoryError e) {
-			TiBlobLruCache.getInstance().evictAll();
+			bitmapCache.evictAll();
 			Log.e(TAG, "Unable to resize the image. Not enough memory: " + e.getMessage(), e);
 		} catch (IllegalArgumentException e) {
 			Log.e(TAG, "Unable to resize the image. Illegal Argument: " + e.getMessage(), e);
@@ -795,7 +812,7 @@ public class TiBlob extends KrollProxy
 				result = TiBlob.blobFromData(data, "image/jpeg");
 			}
 		} catch (OutOfMemoryError e) {
-			TiBlobLruCache.getInstance().evictAll();
+			bitmapCache.evictAll();
 			Log.e(TAG, "Unable to get the thumbnail image. Not enough memory: " + e.getMessage(), e);
 		} catch (IllegalArgumentException e) {
 			Log.e(TAG, "Unable to get the thumbnail image. Illegal Argument: " + e.getMessage(), e);
@@ -803,8 +820,8 @@ public class TiBlob extends KrollProxy
 			Log.e(TAG, "Unable to get the thumbnail image. Unknown exception: " + t.getMessage(), t);
 		} finally {
 			// [MOD-309] Free up memory to work around issue in Android
-			if (img != null) {
-				img.recycle();
+			if (img != null && img != image) {
+				bitmapCache.releaseBitmap(img);
 				img = null;
 			}
 			bos = null;
@@ -841,18 +858,13 @@ public class TiBlob extends KrollProxy
 		}
 
 		String nativePath = getNativePath();
-		String key = null;
+		TiBitmapCache.Key key = null;
 		if (nativePath != null) {
-			key = getNativePath() + "_imageAsThumbnail_" + rotation + "_" + thumbnailSize + "_" + border + "_" + radius;
-			Bitmap bitmap = mMemoryCache.get(key);
+			key = new TiBitmapCache.Key(getNativePath() + "_imageAsThumbnail_" + rotation + "_" + thumbnailSize + "_"
+				+ border + "_" + radius);
+			Bitmap bitmap = bitmapCache.getBitmap(key);
 			if (bitmap != null) {
-				if (!bitmap.isRecycled()) {
-					return blobFromImage(bitmap);
-				} else {
-					try {
-						mMemoryCache.remove(key);
-					} catch (Exception _ex) {}
-				}
+				return blobFromImage(bitmap);
 			}
 		}
 
@@ -860,7 +872,7 @@ public class TiBlob extends KrollProxy
 			Bitmap imageFinal = null;
 			Bitmap imageThumbnail = ThumbnailUtils.extractThumbnail(img, thumbnailSize, thumbnailSize);
 			if (img != image && img != imageThumbnail) {
-				img.recycle();
+				bitmapCache.releaseBitmap(img);
 				img = null;
 			}
 
@@ -870,14 +882,14 @@ public class TiBlob extends KrollProxy
 				} else {
 					imageFinal = TiImageHelper.imageWithTransparentBorder(imageThumbnail, border);
 					if (imageThumbnail != image && imageThumbnail != imageFinal) {
-						imageThumbnail.recycle();
+						bitmapCache.releaseBitmap(imageThumbnail);
 						imageThumbnail = null;
 					}
 				}
 			} else {
 				imageFinal = TiImageHelper.imageWithRoundedCorner(imageThumbnail, radius, border);
 				if (imageThumbnail != image && imageThumbnail != imageFinal) {
-					imageThumbnail.recycle();
+					bitmapCache.releaseBitmap(imageThumbnail);
 					imageThumbnail = null;
 				}
 			}
@@ -887,14 +899,12 @@ public class TiBlob extends KrollProxy
 				imageFinal = TiImageHelper.rotateImage(imageFinal, rotation);
 			}
 			if (key != null) {
-				try {
-					mMemoryCache.put(key, imageFinal);
-				} catch (Exception _ex) {}
+				bitmapCache.put(key, imageFinal, null);
 			}
 			return blobFromImage(imageFinal);
 
 		} catch (OutOfMemoryError e) {
-			TiBlobLruCache.getInstance().evictAll();
+			bitmapCache.evictAll();
 			Log.e(TAG, "Unable to get the thumbnail image. Not enough memory: " + e.getMessage(), e);
 		} catch (IllegalArgumentException e) {
 			Log.e(TAG, "Unable to get the thumbnail image. Illegal Argument: " + e.getMessage(), e);
@@ -920,38 +930,30 @@ public class TiBlob extends KrollProxy
 		int rotation = getImageOrientation();
 
 		String nativePath = getNativePath();
-		String key = null;
+		TiBitmapCache.Key key = null;
 		if (nativePath != null) {
-			key = getNativePath() + "_imageWithAlpha_" + rotation;
-			Bitmap bitmap = mMemoryCache.get(key);
+			key = new TiBitmapCache.Key(getNativePath() + "_imageWithAlpha_" + rotation);
+			Bitmap bitmap = bitmapCache.getBitmap(key);
 			if (bitmap != null) {
-				if (!bitmap.isRecycled()) {
-					return blobFromImage(bitmap);
-				} else {
-					try {
-						mMemoryCache.remove(key);
-					} catch (Exception _ex) {}
-				}
+				return blobFromImage(bitmap);
 			}
 		}
 
 		try {
 			Bitmap imageWithAlpha = TiImageHelper.imageWithAlpha(img);
 			if (img != image && img != imageWithAlpha) {
-				img.recycle();
+				bitmapCache.releaseBitmap(img);
 				img = null;
 			}
 			if (rotation != 0) {
 				imageWithAlpha = TiImageHelper.rotateImage(imageWithAlpha, rotation);
 			}
 			if (key != null) {
-				try {
-					mMemoryCache.put(key, imageWithAlpha);
-				} catch (Exception _ex) {}
+				bitmapCache.put(key, imageWithAlpha, null);
 			}
 			return blobFromImage(imageWithAlpha);
 		} catch (OutOfMemoryError e) {
-			TiBlobLruCache.getInstance().evictAll();
+			bitmapCache.evictAll();
 			Log.e(TAG, "Unable to get the image with alpha. Not enough memory: " + e.getMessage(), e);
 		} catch (IllegalArgumentException e) {
 			Log.e(TAG, "Unable to get the image with alpha. Illegal Argument: " + e.getMessage(), e);
@@ -983,38 +985,31 @@ public class TiBlob extends KrollProxy
 		}
 
 		String nativePath = getNativePath();
-		String key = null;
+		TiBitmapCache.Key key = null;
 		if (nativePath != null) {
-			key = getNativePath() + "_imageWithRoundedCorner_" + rotation + "_" + border + "_" + radius;
-			Bitmap bitmap = mMemoryCache.get(key);
+			key = new TiBitmapCache.Key(
+				getNativePath() + "_imageWithRoundedCorner_" + rotation + "_" + border + "_" + radius);
+			Bitmap bitmap = bitmapCache.getBitmap(key);
 			if (bitmap != null) {
-				if (!bitmap.isRecycled()) {
-					return blobFromImage(bitmap);
-				} else {
-					try {
-						mMemoryCache.remove(key);
-					} catch (Exception _ex) {}
-				}
+				return blobFromImage(bitmap);
 			}
 		}
 
 		try {
 			Bitmap imageRoundedCorner = TiImageHelper.imageWithRoundedCorner(img, radius, border);
 			if (img != image && img != imageRoundedCorner) {
-				img.recycle();
+				bitmapCache.releaseBitmap(img);
 				img = null;
 			}
 			if (rotation != 0) {
 				imageRoundedCorner = TiImageHelper.rotateImage(imageRoundedCorner, rotation);
 			}
 			if (key != null) {
-				try {
-					mMemoryCache.put(key, imageRoundedCorner);
-				} catch (Exception _ex) {}
+				bitmapCache.put(key, imageRoundedCorner, null);
 			}
 			return blobFromImage(imageRoundedCorner);
 		} catch (OutOfMemoryError e) {
-			TiBlobLruCache.getInstance().evictAll();
+			bitmapCache.evictAll();
 			Log.e(TAG, "Unable to get the image with rounded corner. Not enough memory: " + e.getMessage(), e);
 		} catch (IllegalArgumentException e) {
 			Log.e(TAG, "Unable to get the image with rounded corner. Illegal Argument: " + e.getMessage(), e);
@@ -1042,38 +1037,30 @@ public class TiBlob extends KrollProxy
 		int borderSize = size.intValue();
 
 		String nativePath = getNativePath();
-		String key = null;
+		TiBitmapCache.Key key = null;
 		if (nativePath != null) {
-			key = getNativePath() + "_imageWithTransparentBorder_" + rotation + "_" + borderSize;
-			Bitmap bitmap = mMemoryCache.get(key);
+			key = new TiBitmapCache.Key(getNativePath() + "_imageWithTransparentBorder_" + rotation + "_" + borderSize);
+			Bitmap bitmap = bitmapCache.getBitmap(key);
 			if (bitmap != null) {
-				if (!bitmap.isRecycled()) {
-					return blobFromImage(bitmap);
-				} else {
-					try {
-						mMemoryCache.remove(key);
-					} catch (Exception _ex) {}
-				}
+				return blobFromImage(bitmap);
 			}
 		}
 
 		try {
 			Bitmap imageWithBorder = TiImageHelper.imageWithTransparentBorder(img, borderSize);
 			if (img != image && img != imageWithBorder) {
-				img.recycle();
+				bitmapCache.releaseBitmap(img);
 				img = null;
 			}
 			if (rotation != 0) {
 				imageWithBorder = TiImageHelper.rotateImage(imageWithBorder, rotation);
 			}
 			if (key != null) {
-				try {
-					mMemoryCache.put(key, imageWithBorder);
-				} catch (Exception _ex) {}
+				bitmapCache.put(key, imageWithBorder, null);
 			}
 			return blobFromImage(imageWithBorder);
 		} catch (OutOfMemoryError e) {
-			TiBlobLruCache.getInstance().evictAll();
+			bitmapCache.evictAll();
 			Log.e(TAG, "Unable to get the image with transparent border. Not enough memory: " + e.getMessage(), e);
 		} catch (IllegalArgumentException e) {
 			Log.e(TAG, "Unable to get the image with transparent border. Illegal Argument: " + e.getMessage(), e);
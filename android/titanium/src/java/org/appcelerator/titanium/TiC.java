@@ -368,6 +368,7 @@ public class TiC
 	public static final String PROPERTY_CLEAR_ON_EDIT = "clearOnEdit";
 	public static final String PROPERTY_CLIP_VIEWS = "clipViews";
 	public static final String PROPERTY_CLIP_MODE = "clipMode";
+	public static final String PROPERTY_COALESCE = "coalesce";
 	public static final String PROPERTY_CODE = "code";
 	public static final String PROPERTY_COLOR = "color";
 	public static final String PROPERTY_COLUMNS = "columns";
@@ -575,6 +576,7 @@ public class TiC
 	public static final String PROPERTY_MAX_IMAGES = "maxImages";
 	public static final String PROPERTY_MAX_LENGTH = "maxLength";
 	public static final String PROPERTY_MAX_LINES = "maxLines";
+	public static final String PROPERTY_MAX_RATE = "maxRate";
 	public static final String PROPERTY_MAX_ROW_HEIGHT = "maxRowHeight";
 	public static final String PROPERTY_MEDIA = "media";
 	public static final String PROPERTY_MEDIA_CONTROL_STYLE = "mediaControlStyle";
@@ -668,11 +670,13 @@ public class TiC
 	public static final String PROPERTY_POWER = "power";
 	public static final String PROPERTY_PREFERRED_PROVIDER = "preferredProvider";
 	public static final String PROPERTY_PREVENT_CORNER_OVERLAP = "preventCornerOverlap";
+	public static final String PROPERTY_PREWARM_COUNT = "prewarmCount";
 	public static final String PROPERTY_PROMPT = "prompt";
 	public static final String PROPERTY_PROMPT_ID = "promptid";
 	public static final String PROPERTY_PROPERTIES = "properties";
 	public static final String PROPERTY_PLAYABLE_DURATION = "playableDuration";
 	public static final String PROPERTY_PROVIDER = "provider";
+	public static final String PROPERTY_RECYCLE_POOL_SIZE = "recyclePoolSize";
 	public static final String PROPERTY_REFERRED_BY = "referredBy";
 	public static final String PROPERTY_REFRESH_CONTROL = "refreshControl";
 	public static final String PROPERTY_REFRESH_CONTROL_OFFSET = "offset";
@@ -735,6 +739,7 @@ public class TiC
 	public static final String PROPERTY_SHADOW_COLOR = "shadowColor";
 	public static final String PROPERTY_SHADOW_OFFSET = "shadowOffset";
 	public static final String PROPERTY_SHADOW_RADIUS = "shadowRadius";
+	public static final String PROPERTY_SHARED = "shared";
 	public static final String PROPERTY_SHIFT_MODE = "shiftMode";
 	public static final String PROPERTY_SHOW_AS_ACTION = "showAsAction";
 	public static final String PROPERTY_SHOW_BADGE = "showBadge";
@@ -53,6 +53,7 @@ public class TiExceptionHandler implements Handler.Callback, KrollExceptionHandl
 	public static final String ERROR_COLUMN = "column";
 	public static final String ERROR_STACK = "stack";
 	public static final String ERROR_NATIVESTACK = "nativeStack";
+	public static final String ERROR_RECENT_LOGS = "recentLogs";
 
 	// DEPRECATED in 9.0.0, REMOVE 11.0.0
 	public static final String ERROR_LINEOFFSET = "lineOffset";
@@ -77,6 +78,7 @@ public class TiExceptionHandler implements Handler.Callback, KrollExceptionHandl
 		dict.put(ERROR_COLUMN, error.lineOffset);
 		dict.put(ERROR_STACK, error.jsStack);
 		dict.put(ERROR_NATIVESTACK, error.javaStack);
+		dict.put(ERROR_RECENT_LOGS, Log.getRecentEntries().toArray(new String[0]));
 
 		// DEPRECATED in 9.0.0, REMOVE 11.0.0
 		dict.put(ERROR_LINEOFFSET, error.lineOffset);
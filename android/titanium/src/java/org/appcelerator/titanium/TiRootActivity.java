@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.LinkedList;
 
 import org.appcelerator.kroll.common.Log;
+import org.appcelerator.kroll.common.TiStartupTimeline;
 import org.appcelerator.kroll.KrollDict;
 import org.appcelerator.kroll.KrollEventCallback;
 import org.appcelerator.kroll.KrollModule;
@@ -142,6 +143,7 @@ public class TiRootActivity extends TiLaunchActivity implements TiActivitySuppor
 	protected void onCreate(Bundle savedInstanceState)
 	{
 		Log.checkpoint(TAG, "checkpoint, on root activity create, savedInstanceState: " + savedInstanceState);
+		TiStartupTimeline.mark("TiRootActivity.onCreate");
 
 		// Create the main launcher intent expected to launch this root activity.
 		// This is the only intent Titanium supports in order to simulate "singleTask" like resume behavior.
@@ -8,13 +8,34 @@ package org.appcelerator.titanium;
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.appcelerator.kroll.KrollDict;
 import org.appcelerator.kroll.common.Log;
 
+import android.os.SystemClock;
+
+/**
+ * Styles of an app's views, indexed by class names and ids.
+ * <p>
+ * Merged styles are cached per basename, id, classes and density so that views styled alike are only
+ * merged once. The concrete implementation must therefore fill its maps in its constructor and never
+ * change them afterwards.
+ */
 public abstract class TiStylesheet
 {
 	private static final String TAG = "TiStylesheet";
+	private static final int MAX_CACHE_SIZE = 2048;
+	private static final char KEY_SEPARATOR = '\u0000';
+
+	// Merged styles, which must never be modified since they are shared by every view styled alike.
+	private final ConcurrentHashMap<String, KrollDict> cache = new ConcurrentHashMap<>();
+
+	// Statistics.
+	private static final AtomicLong hitCount = new AtomicLong();
+	private static final AtomicLong missCount = new AtomicLong();
+	private static final AtomicLong mergeTime = new AtomicLong(); // ns
 
 	protected final HashMap<String, HashMap<String, KrollDict>> classesMap;
 	protected final HashMap<String, HashMap<String, KrollDict>> idsMap;
@@ -40,12 +61,60 @@ public abstract class TiStylesheet
 		}
 	}
 
+	/**
+	 * Obtains the styles of a view, merged in order of precedence: classes in the given order, then id,
+	 * with global styles preceding the basename's and density specific styles preceding the others.
+	 * @param objectId the view's id. Can be null.
+	 * @param classes the view's class names.
+	 * @param density the display's density.
+	 * @param basename the name of the file creating the view.
+	 * @return a new dictionary of the merged styles, which the caller is free to modify.
+	 */
 	public final KrollDict getStylesheet(String objectId, Collection<String> classes, String density, String basename)
 	{
-		Log.d(TAG,
-			  "getStylesheet id: " + objectId + ", classes: " + classes + ", density: " + density
-				  + ", basename: " + basename,
-			  Log.DEBUG_MODE);
+		StringBuilder keyBuilder = new StringBuilder();
+		keyBuilder.append(basename).append(KEY_SEPARATOR).append(objectId).append(KEY_SEPARATOR).append(density);
+		for (String clazz : classes) {
+			keyBuilder.append(KEY_SEPARATOR).append(clazz);
+		}
+		String key = keyBuilder.toString();
+
+		KrollDict result = cache.get(key);
+		if (result != null) {
+			hitCount.incrementAndGet();
+		} else {
+			missCount.incrementAndGet();
+			final long startTime = SystemClock.elapsedRealtimeNanos();
+			result = mergeStylesheet(objectId, classes, density, basename);
+			mergeTime.addAndGet(SystemClock.elapsedRealtimeNanos() - startTime);
+			if (cache.size() < MAX_CACHE_SIZE) {
+				cache.put(key, result);
+			}
+		}
+
+		// Copy on return, as the cached styles are shared.
+		return new KrollDict(result);
+	}
+
+	/**
+	 * Obtains statistics of the styles requested by views.
+	 * @return map of the cache hit and miss counts, and of the total time spent merging styles on misses.
+	 */
+	public static HashMap<String, Object> getStats()
+	{
+		HashMap<String, Object> stats = new HashMap<>();
+		stats.put("hits", hitCount.get());
+		stats.put("misses", missCount.get());
+		stats.put("mergeTime", mergeTime.get() / 1000000.0);
+		return stats;
+	}
+
+	private KrollDict mergeStylesheet(String objectId, Collection<String> classes, String density, String basename)
+	{
+		if (Log.isDebugModeEnabled()) {
+			Log.d(TAG, "getStylesheet id: " + objectId + ", classes: " + classes + ", density: " + density
+				+ ", basename: " + basename, Log.DEBUG_MODE);
+		}
 
 		KrollDict result = new KrollDict();
 		if (classesMap != null) {
@@ -0,0 +1,616 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package org.appcelerator.titanium.util;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.appcelerator.kroll.KrollDict;
+import org.appcelerator.kroll.KrollRuntime;
+import org.appcelerator.kroll.common.Log;
+import org.appcelerator.titanium.TiApplication;
+import org.appcelerator.titanium.view.TiDrawableReference;
+
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.os.Build;
+import android.os.Process;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.collection.LruCache;
+
+/**
+ * Process wide cache of decoded bitmaps shared by image views, the image loader and blob image operations.
+ * <p>
+ * Bitmaps are held by a strong memory tier which is bounded by byte size and evicts the least recently used
+ * bitmaps first. Downsampled images whose source content can be identified across app launches are also written
+ * to a disk tier, so that they do not need to be decoded and scaled from the original image again.
+ * <p>
+ * Bitmaps which their owners no longer need can be handed to {@link #releaseBitmap(Bitmap)}, which pools them to
+ * be reused as {@link BitmapFactory.Options#inBitmap} by later decodes. A bitmap which has ever been stored in
+ * this cache is never pooled or recycled, since it may still be displayed by a view.
+ */
+public final class TiBitmapCache
+{
+	private static final String TAG = "TiBitmapCache";
+	private static final String DISK_CACHE_DIRECTORY = "tibitmapcache";
+	private static final long MAX_DISK_CACHE_SIZE = 20 * 1024 * 1024;
+	private static final int MAX_POOL_COUNT = 8;
+
+	/**
+	 * Identifies a decoded bitmap by its source and the size it was decoded to.
+	 */
+	public static final class Key
+	{
+		private final Object source;
+		private final int width;
+		private final int height;
+		private final String diskSignature;
+
+		/**
+		 * Creates a key for the given source decoded at its original size.
+		 * @param source the image source such as a {@link TiDrawableReference.Key}. Must implement equals/hashCode.
+		 */
+		public Key(@NonNull Object source)
+		{
+			this(source, 0, 0, null);
+		}
+
+		/**
+		 * Creates a key for the given source decoded to the given size.
+		 * @param source the image source such as a {@link TiDrawableReference.Key}. Must implement equals/hashCode.
+		 * @param width the decoded width in pixels, or 0 for the original width.
+		 * @param height the decoded height in pixels, or 0 for the original height.
+		 * @param diskSignature string uniquely describing the source's content and the operation applied to it,
+		 *                      such as its path and modification time. Only downsampled bitmaps with a signature are
+		 *                      written to the disk tier. Can be null.
+		 */
+		public Key(@NonNull Object source, int width, int height, @Nullable String diskSignature)
+		{
+			this.source = source;
+			this.width = Math.max(width, 0);
+			this.height = Math.max(height, 0);
+			this.diskSignature = diskSignature;
+		}
+
+		public Object getSource()
+		{
+			return this.source;
+		}
+
+		public int getWidth()
+		{
+			return this.width;
+		}
+
+		public int getHeight()
+		{
+			return this.height;
+		}
+
+		private String getDiskFileName()
+		{
+			if ((this.diskSignature == null) || (this.width <= 0) || (this.height <= 0)) {
+				return null;
+			}
+			return TiDigestUtils.sha1Hex(this.diskSignature + "_" + this.width + "x" + this.height);
+		}
+
+		@Override
+		public int hashCode()
+		{
+			int hashCode = this.source.hashCode();
+			hashCode = (31 * hashCode) + this.width;
+			hashCode = (31 * hashCode) + this.height;
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object value)
+		{
+			if (!(value instanceof Key)) {
+				return false;
+			}
+			Key key = (Key) value;
+			return (key.width == this.width) && (key.height == this.height) && key.source.equals(this.source);
+		}
+	}
+
+	private static final class Entry
+	{
+		final Bitmap bitmap;
+		final TiExifOrientation orientation;
+
+		Entry(Bitmap bitmap, TiExifOrientation orientation)
+		{
+			this.bitmap = bitmap;
+			this.orientation = orientation;
+		}
+	}
+
+	private static final class InstanceHolder
+	{
+		private static final TiBitmapCache INSTANCE = new TiBitmapCache();
+	}
+
+	private final Object lock = new Object();
+	private final LruCache<Key, Entry> memoryCache;
+	private final long maxPoolSize;
+	private final ExecutorService diskExecutor;
+
+	// Guarded by lock.
+	private final Set<Bitmap> cachedBitmaps = Collections.newSetFromMap(new WeakHashMap<>());
+	private final ArrayList<Bitmap> reusableBitmaps = new ArrayList<>();
+	private long poolSize = 0;
+	private long memoryHitCount = 0;
+	private long memoryMissCount = 0;
+	private long diskHitCount = 0;
+	private long diskMissCount = 0;
+	private long evictionCount = 0;
+	private long poolHitCount = 0;
+	private long poolMissCount = 0;
+
+	// Guarded by diskLock. Disk entries in least recently used order, mapped to their file size.
+	private final Object diskLock = new Object();
+	private LinkedHashMap<String, Long> diskEntries;
+	private File diskDirectory;
+	private long diskSize = 0;
+	private long diskEvictionCount = 0;
+
+	private TiBitmapCache()
+	{
+		// Use 1/8th of the available memory for decoded bitmaps and up to half of that for reusable bitmaps.
+		long maxMemorySize = Math.min(Runtime.getRuntime().maxMemory() / 8, Integer.MAX_VALUE);
+		this.maxPoolSize = maxMemorySize / 2;
+		this.memoryCache = new LruCache<Key, Entry>((int) maxMemorySize) {
+			@Override
+			protected int sizeOf(@NonNull Key key, @NonNull Entry entry)
+			{
+				return entry.bitmap.getAllocationByteCount();
+			}
+
+			@Override
+			protected void entryRemoved(boolean evicted, @NonNull Key key, @NonNull Entry oldEntry, Entry newEntry)
+			{
+				if (evicted) {
+					synchronized (lock)
+					{
+						evictionCount++;
+					}
+				}
+			}
+		};
+		this.diskExecutor = Executors.newSingleThreadExecutor((runnable) -> {
+			Thread thread = new Thread(() -> {
+				Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+				runnable.run();
+			}, TAG);
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		// Decoded images belong to the runtime which is being disposed of.
+		KrollRuntime.addOnDisposingListener((KrollRuntime runtime) -> {
+			evictAll();
+		});
+	}
+
+	/**
+	 * @return the shared bitmap cache.
+	 */
+	public static TiBitmapCache getInstance()
+	{
+		return InstanceHolder.INSTANCE;
+	}
+
+	/**
+	 * Fetches a bitmap from the memory tier. Never touches the disk, so it can be called on the main thread.
+	 * @param key the key the bitmap was stored under.
+	 * @return the cached bitmap, or null if not in memory.
+	 */
+	public Bitmap getBitmap(Key key)
+	{
+		Entry entry = getEntry(key);
+		synchronized (lock)
+		{
+			if (entry != null) {
+				memoryHitCount++;
+			} else {
+				memoryMissCount++;
+			}
+		}
+		return (entry != null) ? entry.bitmap : null;
+	}
+
+	/**
+	 * Fetches a bitmap from the memory tier, falling back to the disk tier. Reads from disk are blocking.
+	 * @param key the key the bitmap was stored under.
+	 * @return the cached bitmap, or null if in neither tier.
+	 */
+	public Bitmap loadBitmap(Key key)
+	{
+		Bitmap bitmap = getBitmap(key);
+		if ((bitmap == null) && (key != null)) {
+			bitmap = readFromDisk(key);
+		}
+		return bitmap;
+	}
+
+	/**
+	 * Fetches the EXIF orientation of a bitmap in the memory tier. Does not affect hit/miss statistics.
+	 * @param key the key the bitmap was stored under.
+	 * @return the orientation the bitmap was stored with, or null if unknown or not cached.
+	 */
+	public TiExifOrientation getOrientation(Key key)
+	{
+		if (key == null) {
+			return null;
+		}
+		Entry entry = this.memoryCache.get(key);
+		return (entry != null) ? entry.orientation : null;
+	}
+
+	/**
+	 * Stores a bitmap in the memory tier, and in the disk tier if the key has a disk signature.
+	 * The bitmap must not be recycled by the caller afterwards.
+	 * @param key the key to store the bitmap under.
+	 * @param bitmap the decoded bitmap.
+	 * @param orientation the EXIF orientation of the bitmap's source. Can be null.
+	 */
+	public void put(Key key, Bitmap bitmap, TiExifOrientation orientation)
+	{
+		if ((key == null) || (bitmap == null) || bitmap.isRecycled()) {
+			return;
+		}
+		synchronized (lock)
+		{
+			this.cachedBitmaps.add(bitmap);
+		}
+		this.memoryCache.put(key, new Entry(bitmap, orientation));
+		writeToDisk(key, bitmap);
+	}
+
+	/**
+	 * Stores a full size image loaded by a {@link TiDrawableReference} in the memory tier.
+	 * @param imageInfo the loaded image.
+	 */
+	public void put(TiImageInfo imageInfo)
+	{
+		if ((imageInfo != null) && (imageInfo.getKey() != null)) {
+			put(new Key(imageInfo.getKey()), imageInfo.getBitmap(), imageInfo.getOrientation());
+		}
+	}
+
+	/**
+	 * Removes a bitmap from the memory tier.
+	 * @param key the key the bitmap was stored under.
+	 */
+	public void remove(Key key)
+	{
+		if (key != null) {
+			this.memoryCache.remove(key);
+		}
+	}
+
+	/**
+	 * Releases all bitmaps in the memory tier and the reuse pool. The disk tier is kept.
+	 */
+	public void evictAll()
+	{
+		this.memoryCache.evictAll();
+		synchronized (lock)
+		{
+			for (Bitmap bitmap : this.reusableBitmaps) {
+				bitmap.recycle();
+			}
+			this.reusableBitmaps.clear();
+			this.poolSize = 0;
+		}
+	}
+
+	/**
+	 * Hands a bitmap which the caller no longer references back to the cache.
+	 * <p>
+	 * Mutable bitmaps are pooled for reuse by {@link #applyReusableBitmap(BitmapFactory.Options, int, int)},
+	 * other bitmaps are recycled. Bitmaps which have been stored in this cache are left untouched.
+	 * @param bitmap the bitmap to release. Can be null.
+	 */
+	public void releaseBitmap(Bitmap bitmap)
+	{
+		if ((bitmap == null) || bitmap.isRecycled()) {
+			return;
+		}
+		synchronized (lock)
+		{
+			if (this.cachedBitmaps.contains(bitmap) || this.reusableBitmaps.contains(bitmap)) {
+				return;
+			}
+			if (bitmap.isMutable() && (bitmap.getAllocationByteCount() <= this.maxPoolSize)) {
+				this.reusableBitmaps.add(bitmap);
+				this.poolSize += bitmap.getAllocationByteCount();
+
+				// Discard the oldest pooled bitmaps once over the limits.
+				while ((this.reusableBitmaps.size() > MAX_POOL_COUNT) || (this.poolSize > this.maxPoolSize)) {
+					Bitmap oldBitmap = this.reusableBitmaps.remove(0);
+					this.poolSize -= oldBitmap.getAllocationByteCount();
+					oldBitmap.recycle();
+				}
+				return;
+			}
+		}
+		bitmap.recycle();
+	}
+
+	/**
+	 * Prepares decoding options to reuse a pooled bitmap, if one is large enough for the decoded image.
+	 * <p>
+	 * Also marks the decoded bitmap as mutable, so that it can be pooled via {@link #releaseBitmap(Bitmap)}
+	 * later. If decoding fails with an {@link IllegalArgumentException} while this method returned true, the
+	 * caller should clear {@link BitmapFactory.Options#inBitmap} and decode again.
+	 * @param opts the options to be passed to BitmapFactory. Images scaled by density are not supported.
+	 * @param sourceWidth the width of the encoded image in pixels.
+	 * @param sourceHeight the height of the encoded image in pixels.
+	 * @return true if a pooled bitmap was assigned to {@link BitmapFactory.Options#inBitmap}.
+	 */
+	public boolean applyReusableBitmap(BitmapFactory.Options opts, int sourceWidth, int sourceHeight)
+	{
+		if ((opts == null) || (sourceWidth <= 0) || (sourceHeight <= 0)) {
+			return false;
+		}
+		opts.inMutable = true;
+		if ((opts.inDensity > 0) && (opts.inTargetDensity > 0) && (opts.inDensity != opts.inTargetDensity)) {
+			return false;
+		}
+
+		int sampleSize = Math.max(opts.inSampleSize, 1);
+		long width = (sourceWidth + sampleSize - 1) / sampleSize;
+		long height = (sourceHeight + sampleSize - 1) / sampleSize;
+		int bytesPerPixel = (opts.inPreferredConfig == Bitmap.Config.RGB_565) ? 2 : 4;
+		long byteCount = width * height * bytesPerPixel;
+
+		synchronized (lock)
+		{
+			// Pick the smallest pooled bitmap which fits.
+			Bitmap bestBitmap = null;
+			for (Bitmap bitmap : this.reusableBitmaps) {
+				int allocationByteCount = bitmap.getAllocationByteCount();
+				if ((allocationByteCount >= byteCount)
+					&& ((bestBitmap == null) || (allocationByteCount < bestBitmap.getAllocationByteCount()))) {
+					bestBitmap = bitmap;
+				}
+			}
+			if (bestBitmap == null) {
+				this.poolMissCount++;
+				return false;
+			}
+			this.reusableBitmaps.remove(bestBitmap);
+			this.poolSize -= bestBitmap.getAllocationByteCount();
+			this.poolHitCount++;
+			opts.inBitmap = bestBitmap;
+			return true;
+		}
+	}
+
+	/**
+	 * @return hit, miss and eviction counts and the current sizes of each tier.
+	 */
+	public KrollDict getStats()
+	{
+		KrollDict stats = new KrollDict();
+		synchronized (lock)
+		{
+			stats.put("memoryHits", this.memoryHitCount);
+			stats.put("memoryMisses", this.memoryMissCount);
+			stats.put("diskHits", this.diskHitCount);
+			stats.put("diskMisses", this.diskMissCount);
+			stats.put("evictions", this.evictionCount);
+			stats.put("poolHits", this.poolHitCount);
+			stats.put("poolMisses", this.poolMissCount);
+			stats.put("poolSize", this.poolSize);
+		}
+		stats.put("memorySize", this.memoryCache.size());
+		stats.put("maxMemorySize", this.memoryCache.maxSize());
+		synchronized (diskLock)
+		{
+			stats.put("diskEvictions", this.diskEvictionCount);
+			stats.put("diskSize", this.diskSize);
+		}
+		stats.put("maxDiskSize", MAX_DISK_CACHE_SIZE);
+		return stats;
+	}
+
+	private Entry getEntry(Key key)
+	{
+		if (key == null) {
+			return null;
+		}
+		Entry entry = this.memoryCache.get(key);
+		if ((entry != null) && entry.bitmap.isRecycled()) {
+			// Recycled by its owner. Can no longer be used.
+			this.memoryCache.remove(key);
+			entry = null;
+		}
+		return entry;
+	}
+
+	/** Must be called while synchronized on diskLock. */
+	private boolean loadDiskIndex()
+	{
+		if (this.diskEntries != null) {
+			return true;
+		}
+		TiApplication application = TiApplication.getInstance();
+		if (application == null) {
+			return false;
+		}
+		this.diskDirectory = new File(application.getCacheDir(), DISK_CACHE_DIRECTORY);
+		if (!this.diskDirectory.isDirectory() && !this.diskDirectory.mkdirs()) {
+			Log.w(TAG, "Unable to create disk cache directory: " + this.diskDirectory);
+			return false;
+		}
+
+		// Rebuild the LRU order from file modification times, which are updated on every read.
+		this.diskEntries = new LinkedHashMap<>(64, 0.75f, true);
+		File[] files = this.diskDirectory.listFiles();
+		if (files != null) {
+			Arrays.sort(files, (file1, file2) -> Long.compare(file1.lastModified(), file2.lastModified()));
+			for (File file : files) {
+				if (file.getName().endsWith(".tmp")) {
+					file.delete();
+					continue;
+				}
+				this.diskEntries.put(file.getName(), file.length());
+				this.diskSize += file.length();
+			}
+		}
+		return true;
+	}
+
+	private Bitmap readFromDisk(Key key)
+	{
+		String fileName = key.getDiskFileName();
+		if (fileName == null) {
+			return null;
+		}
+
+		File file;
+		synchronized (diskLock)
+		{
+			if (!loadDiskIndex() || (this.diskEntries.get(fileName) == null)) {
+				synchronized (lock)
+				{
+					this.diskMissCount++;
+				}
+				return null;
+			}
+			file = new File(this.diskDirectory, fileName);
+		}
+
+		Bitmap bitmap = null;
+		try {
+			BitmapFactory.Options opts = new BitmapFactory.Options();
+			opts.inJustDecodeBounds = true;
+			BitmapFactory.decodeFile(file.getPath(), opts);
+			opts.inJustDecodeBounds = false;
+			boolean isReusing = applyReusableBitmap(opts, opts.outWidth, opts.outHeight);
+			try {
+				bitmap = BitmapFactory.decodeFile(file.getPath(), opts);
+			} catch (IllegalArgumentException ex) {
+				if (!isReusing) {
+					throw ex;
+				}
+				opts.inBitmap = null;
+				bitmap = BitmapFactory.decodeFile(file.getPath(), opts);
+			}
+		} catch (Throwable ex) {
+			Log.w(TAG, "Failed to read cached image: " + file, ex);
+		}
+
+		if (bitmap == null) {
+			removeFromDisk(fileName);
+			synchronized (lock)
+			{
+				this.diskMissCount++;
+			}
+			return null;
+		}
+
+		file.setLastModified(System.currentTimeMillis());
+		synchronized (lock)
+		{
+			this.diskHitCount++;
+			this.cachedBitmaps.add(bitmap);
+		}
+		this.memoryCache.put(key, new Entry(bitmap, null));
+		return bitmap;
+	}
+
+	private void writeToDisk(Key key, Bitmap bitmap)
+	{
+		final String fileName = key.getDiskFileName();
+		if (fileName == null) {
+			return;
+		}
+		synchronized (diskLock)
+		{
+			if ((this.diskEntries != null) && this.diskEntries.containsKey(fileName)) {
+				return;
+			}
+		}
+
+		this.diskExecutor.execute(() -> {
+			File directory;
+			synchronized (diskLock)
+			{
+				if (!loadDiskIndex() || this.diskEntries.containsKey(fileName)) {
+					return;
+				}
+				directory = this.diskDirectory;
+			}
+
+			// Write to a temporary file first so that readers never see a partially written image.
+			File tempFile = new File(directory, fileName + ".tmp");
+			File file = new File(directory, fileName);
+			boolean wasWritten = false;
+			try (OutputStream stream = new FileOutputStream(tempFile)) {
+				Bitmap.CompressFormat format = (Build.VERSION.SDK_INT >= Build.VERSION_CODES.R)
+					? Bitmap.CompressFormat.WEBP_LOSSLESS : Bitmap.CompressFormat.PNG;
+				wasWritten = !bitmap.isRecycled() && bitmap.compress(format, 100, stream);
+			} catch (Throwable ex) {
+				// The bitmap may have been recycled by its owner while being written.
+				Log.d(TAG, "Failed to write image to disk cache: " + ex.getMessage(), Log.DEBUG_MODE);
+			}
+			if (!wasWritten || !tempFile.renameTo(file)) {
+				tempFile.delete();
+				return;
+			}
+
+			synchronized (diskLock)
+			{
+				this.diskEntries.put(fileName, file.length());
+				this.diskSize += file.length();
+				trimDiskToSize();
+			}
+		});
+	}
+
+	private void removeFromDisk(String fileName)
+	{
+		synchronized (diskLock)
+		{
+			Long size = (this.diskEntries != null) ? this.diskEntries.remove(fileName) : null;
+			if (size != null) {
+				this.diskSize -= size;
+				new File(this.diskDirectory, fileName).delete();
+			}
+		}
+	}
+
+	/** Must be called while synchronized on diskLock. */
+	private void trimDiskToSize()
+	{
+		Iterator<Map.Entry<String, Long>> iterator = this.diskEntries.entrySet().iterator();
+		while ((this.diskSize > MAX_DISK_CACHE_SIZE) && iterator.hasNext()) {
+			Map.Entry<String, Long> entry = iterator.next();
+			iterator.remove();
+			this.diskSize -= entry.getValue();
+			this.diskEvictionCount++;
+			new File(this.diskDirectory, entry.getKey()).delete();
+		}
+	}
+}
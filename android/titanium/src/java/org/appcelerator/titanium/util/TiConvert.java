@@ -62,7 +62,9 @@ public class TiConvert
 			if (len > 0) {
 				Object v = a[0];
 				if (v != null) {
-					Log.w(TAG, "Array member is type: " + v.getClass().getSimpleName(), Log.DEBUG_MODE);
+					if (Log.isDebugModeEnabled()) {
+						Log.w(TAG, "Array member is type: " + v.getClass().getSimpleName(), Log.DEBUG_MODE);
+					}
 
 				} else {
 					Log.w(TAG, "First member of array is null", Log.DEBUG_MODE);
@@ -18,6 +18,7 @@ import androidx.annotation.NonNull;
 /**
  * Manages the asynchronous opening of InputStreams from URIs so that
  * the resources get put into our TiResponseCache.
+ * Decoded images are stored in the shared {@link TiBitmapCache}.
  */
 public class TiLoadImageManager
 {
@@ -56,10 +57,19 @@ public class TiLoadImageManager
 		this.threadPool.execute(() -> {
 			TiImageInfo imageInfo = null;
 			try {
-				Bitmap bitmap = drawableRef.getBitmap(true);
+				// The image may have been decoded by another request while this one was queued.
+				TiBitmapCache bitmapCache = TiBitmapCache.getInstance();
+				TiBitmapCache.Key cacheKey = new TiBitmapCache.Key(drawableRef.getKey());
+				Bitmap bitmap = bitmapCache.getBitmap(cacheKey);
 				if (bitmap != null) {
-					TiExifOrientation orientation = drawableRef.getExifOrientation();
-					imageInfo = new TiImageInfo(drawableRef.getKey(), bitmap, orientation);
+					imageInfo = new TiImageInfo(drawableRef.getKey(), bitmap, bitmapCache.getOrientation(cacheKey));
+				} else {
+					bitmap = drawableRef.getBitmap(true);
+					if (bitmap != null) {
+						TiExifOrientation orientation = drawableRef.getExifOrientation();
+						imageInfo = new TiImageInfo(drawableRef.getKey(), bitmap, orientation);
+						bitmapCache.put(imageInfo);
+					}
 				}
 			} catch (Exception ex) {
 				Log.e(TAG, "Exception loading image: " + ex.getLocalizedMessage());
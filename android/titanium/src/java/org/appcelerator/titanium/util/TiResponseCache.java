@@ -7,6 +7,7 @@
 package org.appcelerator.titanium.util;
 
 import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -15,7 +16,10 @@ import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.net.CacheRequest;
 import java.net.CacheResponse;
 import java.net.HttpURLConnection;
@@ -23,15 +27,23 @@ import java.net.ResponseCache;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.InflaterInputStream;
 
@@ -40,64 +52,80 @@ import org.brotli.dec.BrotliInputStream;
 import org.appcelerator.kroll.common.Log;
 import org.appcelerator.titanium.TiApplication;
 
+/**
+ * HTTP response cache storing each response as a pair of header (".hdr") and body (".bdy") files.
+ * <p>
+ * An in-memory index of all cached responses (size, expiry, ETag, content encoding and redirect location) is
+ * kept in least-recently-used order and persisted to an append-only journal file, in the style of DiskLruCache.
+ * This allows {@link #peek(URI)} and {@link #openCachedStream(URI)} to be answered without reading headers from
+ * disk, and least-recently-used responses to be evicted as soon as a new response pushes the cache over its
+ * maximum size.
+ * <p>
+ * Responses which must be revalidated before use, such as "no-cache" responses, are only stored if they provide
+ * an "ETag" or "Last-Modified" validator. The HTTP client then sends a conditional request for them and uses
+ * the cached body if the server replies with "304 Not Modified".
+ */
 public class TiResponseCache extends ResponseCache
 {
 	private static final String TAG = "TiResponseCache";
 
 	private static final String HEADER_SUFFIX = ".hdr";
 	private static final String BODY_SUFFIX = ".bdy";
+	private static final String TEMP_SUFFIX = ".tmp";
+	private static final String JOURNAL_FILE_NAME = "journal";
+	private static final String JOURNAL_TEMP_FILE_NAME = "journal.tmp";
+	private static final String JOURNAL_MAGIC = "ti.responsecache";
+	private static final String JOURNAL_VERSION = "1";
+	private static final String JOURNAL_CLEAN = "CLEAN";
+	private static final String JOURNAL_READ = "READ";
+	private static final String JOURNAL_REMOVE = "REMOVE";
+	private static final String JOURNAL_NULL_VALUE = "-";
+	private static final int JOURNAL_COMPACT_THRESHOLD = 2000;
+	private static final int MAX_HEADER_CACHE_SIZE = 64;
+	private static final int MAX_REDIRECTS = 20;
 	private static final String CACHE_SIZE_KEY = "ti.android.cache.size.max";
+	// Before, the default in kilobytes was multiplied by 1024 in int arithmetic, which overflowed into a 1GB cap.
 	private static final int DEFAULT_CACHE_SIZE = 25 * 1024 * 1024; // 25MB
-	private static final int INITIAL_DELAY = 10000;
-	private static final int CLEANUP_DELAY = 60000;
 	private static final HashMap<String, ArrayList<CompleteListener>> completeListeners = new HashMap<>();
+	private static final Pattern MAX_AGE_PATTERN = Pattern.compile("max-age=(\\d+)");
+	private static final Pattern NO_CACHE_PATTERN =
+		Pattern.compile("(^|[\\s,])(no-cache|max-age=0+)\\s*(,|$)", Pattern.CASE_INSENSITIVE);
+	private static final Pattern MUST_REVALIDATE_PATTERN =
+		Pattern.compile("(^|[\\s,])(must-revalidate|proxy-revalidate)\\s*(,|$)", Pattern.CASE_INSENSITIVE);
 	private static long maxCacheSize = 0;
 
 	// List of Video Media Formats from http://developer.android.com/guide/appendix/media-formats.html
 	private static final List<String> videoFormats = new ArrayList<>(Arrays.asList("mkv", "webm", "3gp", "mp4", "ts"));
 
-	private static ScheduledExecutorService cleanupExecutor = null;
+	private static ExecutorService journalExecutor = null;
 
 	public interface CompleteListener {
 		void cacheCompleted(URI uri);
 	}
 
-	private static class TiCacheCleanup implements Runnable
+	/** Index entry of a cached response. */
+	private static class CacheEntry
 	{
-		private File cacheDir;
-		private long maxSize;
-		public TiCacheCleanup(File cacheDir, long maxSize)
+		final String key;
+		long size;
+		long expires;
+		boolean requiresValidation;
+		String contentEncoding;
+		String location;
+		String etag;
+
+		CacheEntry(String key)
 		{
-			this.cacheDir = cacheDir;
-			this.maxSize = maxSize;
+			this.key = key;
 		}
 
-		@Override
-		public void run()
+		/**
+		 * Determines if the response can be used without contacting the server.
+		 * Responses without an expiration time are used until evicted, unless they must be revalidated.
+		 */
+		boolean isFresh(long now)
 		{
-			// Build up a list of access times
-			HashMap<Long, File> lastTime = new HashMap<>();
-			for (File hdrFile : cacheDir.listFiles((dir, name) -> name.endsWith(HEADER_SUFFIX))) {
-				lastTime.put(hdrFile.lastModified(), hdrFile);
-			}
-
-			// Ensure that the cache is under the required size
-			List<Long> sz = new ArrayList<>(lastTime.keySet());
-			Collections.sort(sz);
-			Collections.reverse(sz);
-			long cacheSize = 0;
-			for (Long last : sz) {
-				File hdrFile = lastTime.get(last);
-				String h = hdrFile.getName().substring(0, hdrFile.getName().lastIndexOf('.')); // Hash
-				File bdyFile = new File(cacheDir, h + BODY_SUFFIX);
-
-				cacheSize += hdrFile.length();
-				cacheSize += bdyFile.length();
-				if (cacheSize > this.maxSize) {
-					hdrFile.delete();
-					bdyFile.delete();
-				}
-			}
+			return (expires > now) || ((expires == 0) && !requiresValidation);
 		}
 	}
 
@@ -128,40 +156,81 @@ public class TiResponseCache extends ResponseCache
 
 	private static class TiCacheOutputStream extends FileOutputStream
 	{
-		private URI uri;
-		public TiCacheOutputStream(URI uri, File file) throws FileNotFoundException
+		private TiCacheRequest request;
+		private boolean isClosed = false;
+
+		public TiCacheOutputStream(TiCacheRequest request, File file) throws FileNotFoundException
 		{
 			super(file);
-			this.uri = uri;
+			this.request = request;
+		}
+
+		@Override
+		public void write(byte[] b) throws IOException
+		{
+			write(b, 0, b.length);
+		}
+
+		@Override
+		public void write(int b) throws IOException
+		{
+			super.write(b);
+			request.bytesWritten++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException
+		{
+			super.write(b, off, len);
+			request.bytesWritten += len;
 		}
 
 		@Override
 		public void close() throws IOException
 		{
 			super.close();
-			fireCacheCompleted(uri);
+			if (!isClosed) {
+				isClosed = true;
+				request.commit();
+			}
 		}
 	}
 
-	private static class TiCacheRequest extends CacheRequest
+	private class TiCacheRequest extends CacheRequest
 	{
-		private URI uri;
-		private File bFile, hFile;
-		private long contentLength;
-
-		public TiCacheRequest(URI uri, File bFile, File hFile, long contentLength)
+		private final URI uri;
+		private final CacheEntry entry;
+		private final long contentLength;
+		private long bytesWritten = 0;
+		private boolean isCommitted = false;
+		private boolean isAborted = false;
+
+		public TiCacheRequest(URI uri, CacheEntry entry, long contentLength)
 		{
 			super();
 			this.uri = uri;
-			this.bFile = bFile;
-			this.hFile = hFile;
+			this.entry = entry;
 			this.contentLength = contentLength;
 		}
 
 		@Override
 		public OutputStream getBody() throws IOException
 		{
-			return new TiCacheOutputStream(uri, bFile);
+			return new TiCacheOutputStream(this, getTempFile(entry.key, BODY_SUFFIX));
+		}
+
+		void commit()
+		{
+			synchronized (this)
+			{
+				if (isAborted || isCommitted) {
+					return;
+				}
+				isCommitted = true;
+			}
+			if (completeEdit(entry, true)) {
+				fireCacheCompleted(uri);
+			}
 		}
 
 		@Override
@@ -170,12 +239,20 @@ public class TiResponseCache extends ResponseCache
 			// Only truly abort if we didn't write the whole length
 			// This works around a bug where Android calls abort()
 			// whenever the file is closed, successful writes or not
-			if (bFile.length() != this.contentLength) {
-				Log.e(TAG, "Failed to add item to the cache!");
-				if (bFile.exists())
-					bFile.delete();
-				if (hFile.exists())
-					hFile.delete();
+			boolean wasCommitted;
+			synchronized (this)
+			{
+				if (isAborted || (bytesWritten == this.contentLength)) {
+					return;
+				}
+				isAborted = true;
+				wasCommitted = isCommitted;
+			}
+			Log.e(TAG, "Failed to add item to the cache!");
+			if (wasCommitted) {
+				remove(entry.key);
+			} else {
+				completeEdit(entry, false);
 			}
 		}
 	}
@@ -185,7 +262,8 @@ public class TiResponseCache extends ResponseCache
 	 * TiResponseCache. For other kinds of ResponseCache, e.g. HttpResponseCache, it only
 	 * checks whether the system's default response cache is set.
 	 * @param uri The URI to check if cached content exists for.
-	 * @return true if the content from URI is cached; false otherwise.
+	 * @return true if the content from URI is cached and fresh; false otherwise. Expired or "no-cache"
+	 *         responses must be revalidated by requesting them.
 	 */
 	public static boolean peek(URI uri)
 	{
@@ -194,16 +272,8 @@ public class TiResponseCache extends ResponseCache
 		if (rcc instanceof TiResponseCache) {
 			// The default response cache is set by Titanium
 			TiResponseCache rc = (TiResponseCache) rcc;
-			if (rc.cacheDir == null) {
-				return false;
-			}
-			String hash = TiDigestUtils.sha1Hex(uri.toString());
-			File hFile = new File(rc.cacheDir, hash + HEADER_SUFFIX);
-			File bFile = new File(rc.cacheDir, hash + BODY_SUFFIX);
-			if (!bFile.exists() || !hFile.exists()) {
-				return false;
-			}
-			return true;
+			CacheEntry entry = rc.getEntry(uri, false);
+			return (entry != null) && entry.isFresh(System.currentTimeMillis());
 
 		} else if (rcc != null) {
 			// The default response cache is set by other modules/sdks
@@ -247,6 +317,32 @@ public class TiResponseCache extends ResponseCache
 			return null;
 		}
 
+		// Titanium's cache indexes redirect locations. Follow them without reading any cached headers.
+		ResponseCache rcc = TiResponseCache.getDefault();
+		if (rcc instanceof TiResponseCache) {
+			TiResponseCache rc = (TiResponseCache) rcc;
+			URI nextUri = uri;
+			for (int redirectCount = 0; redirectCount <= MAX_REDIRECTS; redirectCount++) {
+				CacheEntry entry = rc.getEntry(nextUri, false);
+				if ((entry == null) || !entry.isFresh(System.currentTimeMillis())) {
+					return null;
+				}
+
+				URI redirectUri = null;
+				if (entry.location != null) {
+					try {
+						redirectUri = new URI(entry.location);
+					} catch (Exception ex) {
+					}
+				}
+				if ((redirectUri == null) || redirectUri.equals(nextUri)) {
+					return nextUri;
+				}
+				nextUri = redirectUri;
+			}
+			return null;
+		}
+
 		// Check if the given URI is cached. If it is, follow its cached redirects if applicable.
 		try {
 			URI nextUri = uri;
@@ -327,26 +423,14 @@ public class TiResponseCache extends ResponseCache
 		if (rcc instanceof TiResponseCache) {
 			// The default response cache is set by Titanium
 			TiResponseCache rc = (TiResponseCache) rcc;
-			if (rc.cacheDir == null) {
-				return null;
-			}
-			String hash = TiDigestUtils.sha1Hex(uri.toString());
-			File hFile = new File(rc.cacheDir, hash + HEADER_SUFFIX);
-			File bFile = new File(rc.cacheDir, hash + BODY_SUFFIX);
-			if (!bFile.exists() || !hFile.exists()) {
+			CacheEntry entry = rc.getEntry(uri, true);
+			if (entry == null) {
 				return null;
 			}
 			try {
-				String contentEncoding = null;
-				// Read in the headers
-				try {
-					Map<String, List<String>> headers = readHeaders(hFile);
-					contentEncoding = getHeader(headers, "content-encoding");
-				} catch (IOException e) {
-					// continue with file read?
-				}
 				// Decompress cached response based on Content-Encoding header
-				FileInputStream fis = new FileInputStream(bFile);
+				String contentEncoding = entry.contentEncoding;
+				FileInputStream fis = new FileInputStream(rc.getFile(entry.key, BODY_SUFFIX));
 				if ("gzip".equalsIgnoreCase(contentEncoding)) {
 					return new GZIPInputStream(fis);
 				} else if ("deflate".equalsIgnoreCase(contentEncoding)) {
@@ -356,7 +440,8 @@ public class TiResponseCache extends ResponseCache
 				}
 				return fis;
 			} catch (FileNotFoundException e) {
-				// Fallback to URL download?
+				// Cache directory was cleared externally. Fallback to URL download.
+				rc.remove(entry.key);
 				return null;
 			} catch (IOException e) {
 				return null;
@@ -391,18 +476,42 @@ public class TiResponseCache extends ResponseCache
 
 	private File cacheDir = null;
 
+	// All fields below are guarded by "lock".
+	private final Object lock = new Object();
+	private LinkedHashMap<String, CacheEntry> index = new LinkedHashMap<>(); // least recently used first
+	private final LinkedHashMap<String, Map<String, List<String>>> headerCache =
+		new LinkedHashMap<String, Map<String, List<String>>>(0, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Map<String, List<String>>> eldest)
+			{
+				return size() > MAX_HEADER_CACHE_SIZE;
+			}
+		};
+	private final HashSet<String> editingKeys = new HashSet<>();
+	private final HashSet<String> keysRemovedWhileLoading = new HashSet<>();
+	private long size = 0;
+	private Writer journalWriter;
+	private int redundantOpCount = 0;
+	private boolean isInitialized = false;
+	private boolean isIndexLoaded = false;
+	private boolean isCompactionScheduled = false;
+
 	public TiResponseCache(File cachedir, TiApplication tiApp)
 	{
 		super();
 
 		this.cacheDir = cachedir;
 
-		maxCacheSize = tiApp.getAppProperties().getInt(CACHE_SIZE_KEY, DEFAULT_CACHE_SIZE) * 1024;
+		// Property is in kilobytes.
+		maxCacheSize = tiApp.getAppProperties().getInt(CACHE_SIZE_KEY, DEFAULT_CACHE_SIZE / 1024) * 1024L;
 		Log.d(TAG, "max cache size is:" + maxCacheSize, Log.DEBUG_MODE);
 
-		cleanupExecutor = Executors.newSingleThreadScheduledExecutor();
-		TiCacheCleanup command = new TiCacheCleanup(cacheDir, maxCacheSize);
-		cleanupExecutor.scheduleWithFixedDelay(command, INITIAL_DELAY, CLEANUP_DELAY, TimeUnit.MILLISECONDS);
+		// Load the index in the background, ahead of the first request.
+		journalExecutor = Executors.newSingleThreadExecutor();
+		synchronized (lock)
+		{
+			initialize();
+		}
 	}
 
 	@Override
@@ -427,25 +536,35 @@ public class TiResponseCache extends ResponseCache
 			return null;
 		}
 
-		// Get our key, which is a hash of the URI
-		String hash = TiDigestUtils.sha1Hex(uri.toString());
-
-		// Make our cache files
-		File hFile = new File(cacheDir, hash + HEADER_SUFFIX);
-		File bFile = new File(cacheDir, hash + BODY_SUFFIX);
-
-		if (!bFile.exists() || !hFile.exists()) {
+		// Look up the response in the index. This also updates the access log.
+		// If not fresh, the HTTP client sends a conditional request using the cached response's validators.
+		CacheEntry entry = getEntry(uri, true);
+		if (entry == null) {
 			return null;
 		}
 
-		// Read in the headers
-		Map<String, List<String>> headers = readHeaders(hFile);
-
-		// Update the access log
-		hFile.setLastModified(System.currentTimeMillis());
+		try {
+			// Read in the headers, unless they were read recently.
+			Map<String, List<String>> headers;
+			synchronized (lock)
+			{
+				headers = headerCache.get(entry.key);
+			}
+			if (headers == null) {
+				headers = readHeaders(getFile(entry.key, HEADER_SUFFIX));
+				synchronized (lock)
+				{
+					headerCache.put(entry.key, headers);
+				}
+			}
 
-		// Respond with the cache
-		return new TiCacheResponse(headers, new FileInputStream(bFile));
+			// Respond with the cache
+			return new TiCacheResponse(headers, new FileInputStream(getFile(entry.key, BODY_SUFFIX)));
+		} catch (FileNotFoundException e) {
+			// Cache directory was cleared externally.
+			remove(entry.key);
+			return null;
+		}
 	}
 
 	private static Map<String, List<String>> readHeaders(File hFile) throws IOException
@@ -543,7 +662,15 @@ public class TiResponseCache extends ResponseCache
 		// getHeaderFields() just checks the response itself
 		Map<String, List<String>> headers = makeLowerCaseHeaders(conn.getHeaderFields());
 		String cacheControl = getHeader(headers, "cache-control");
-		if (cacheControl != null && cacheControl.matches("^.*(no-cache|no-store|must-revalidate|max-age=0).*")) {
+		if (cacheControl != null && cacheControl.contains("no-store")) {
+			return null; // See RFC-2616
+		}
+
+		// Responses which must be revalidated are only useful if the server can answer a conditional request.
+		String etag = getHeader(headers, "etag");
+		boolean hasValidator = (etag != null) || (getHeader(headers, "last-modified") != null);
+		boolean requiresValidation = requiresValidation(cacheControl);
+		if (requiresValidation && !hasValidator) {
 			return null; // See RFC-2616
 		}
 
@@ -581,31 +708,542 @@ public class TiResponseCache extends ResponseCache
 		// Get our key, which is a hash of the URI
 		String hash = TiDigestUtils.sha1Hex(uri.toString());
 
-		// Make our cache files
-		File hFile = new File(cacheDir, hash + HEADER_SUFFIX);
-		File bFile = new File(cacheDir, hash + BODY_SUFFIX);
-
-		// Write headers synchronously
-		FileWriter hWriter = new FileWriter(hFile);
-		try {
-			hWriter.write(sb.toString());
-		} finally {
-			hWriter.close();
-		}
+		// Describe the response for the index.
+		CacheEntry entry = new CacheEntry(hash);
+		entry.expires = getExpirationTime(headers, cacheControl);
+		entry.requiresValidation = requiresValidation;
+		entry.contentEncoding = getHeader(headers, "content-encoding");
+		entry.location = getHeader(headers, "location");
+		entry.etag = etag;
 
-		synchronized (this)
+		synchronized (lock)
 		{
+			initialize();
+
 			// Don't add it to the cache if its already being written
-			if (!bFile.createNewFile()) {
+			if (!editingKeys.add(hash)) {
 				return null;
 			}
-			return new TiCacheRequest(uri, bFile, hFile, contentLength);
 		}
+
+		// Write headers synchronously. Files are moved in place once the body has been written.
+		try (FileWriter hWriter = new FileWriter(getTempFile(hash, HEADER_SUFFIX))) {
+			hWriter.write(sb.toString());
+		} catch (IOException e) {
+			completeEdit(entry, false);
+			throw e;
+		}
+		return new TiCacheRequest(uri, entry, contentLength);
+	}
+
+	/**
+	 * Determines if a response must be revalidated with the server once it expires.
+	 * "no-cache" responses expire immediately, see {@link #getExpirationTime(Map, String)}.
+	 */
+	private static boolean requiresValidation(String cacheControl)
+	{
+		return (cacheControl != null)
+			&& (NO_CACHE_PATTERN.matcher(cacheControl).find() || MUST_REVALIDATE_PATTERN.matcher(cacheControl).find());
+	}
+
+	/**
+	 * Determines when a response expires from its "Cache-Control: max-age" or "Expires" header.
+	 * @return Expiration time in milliseconds since epoch. Returns 0 if the response provides no expiration
+	 *         or must be revalidated on every use.
+	 */
+	private static long getExpirationTime(Map<String, List<String>> headers, String cacheControl)
+	{
+		if ((cacheControl != null) && NO_CACHE_PATTERN.matcher(cacheControl).find()) {
+			return 0;
+		}
+		if (cacheControl != null) {
+			Matcher matcher = MAX_AGE_PATTERN.matcher(cacheControl);
+			if (matcher.find()) {
+				try {
+					return System.currentTimeMillis() + (Long.parseLong(matcher.group(1)) * 1000L);
+				} catch (NumberFormatException e) {
+					// Ignore...
+				}
+			}
+		}
+		String expires = getHeader(headers, "expires");
+		if (expires != null) {
+			try {
+				SimpleDateFormat format = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss zzz", Locale.US);
+				Date date = format.parse(expires);
+				if (date != null) {
+					return date.getTime();
+				}
+			} catch (ParseException e) {
+				// An invalid date means the response has already expired.
+				return System.currentTimeMillis();
+			}
+		}
+		return 0;
 	}
 
 	public void setCacheDir(File dir)
 	{
-		cacheDir = dir;
+		synchronized (lock)
+		{
+			closeJournal();
+			index.clear();
+			headerCache.clear();
+			keysRemovedWhileLoading.clear();
+			size = 0;
+			isInitialized = false;
+			isIndexLoaded = false;
+			cacheDir = dir;
+		}
+	}
+
+	private File getFile(String key, String suffix)
+	{
+		return new File(cacheDir, key + suffix);
+	}
+
+	private File getTempFile(String key, String suffix)
+	{
+		return new File(cacheDir, key + suffix + TEMP_SUFFIX);
+	}
+
+	/**
+	 * Looks up the given URI's response in the index without accessing the file system.
+	 * While the index is still loading, reads the response's headers instead of waiting for it.
+	 * @param uri The URI to look up.
+	 * @param isAccess Set true to mark the response as most recently used.
+	 * @return Returns the index entry or null if not cached.
+	 */
+	private CacheEntry getEntry(URI uri, boolean isAccess)
+	{
+		File dir = cacheDir;
+		if ((uri == null) || (dir == null)) {
+			return null;
+		}
+		String key = TiDigestUtils.sha1Hex(uri.toString());
+		synchronized (lock)
+		{
+			initialize();
+
+			CacheEntry entry = index.get(key);
+			if ((entry != null) && isAccess) {
+				touchEntry(entry);
+				writeJournalLine(JOURNAL_READ + ' ' + key, false);
+			}
+			if ((entry != null) || isIndexLoaded || keysRemovedWhileLoading.contains(key)) {
+				return entry;
+			}
+		}
+		return readEntry(dir, key);
+	}
+
+	/**
+	 * Moves the given entry to the most recently used end of the index.
+	 * Must be called while synchronized on "lock".
+	 */
+	private void touchEntry(CacheEntry entry)
+	{
+		index.remove(entry.key);
+		index.put(entry.key, entry);
+	}
+
+	/**
+	 * Finishes writing a response to the cache.
+	 * @param entry The index entry describing the response.
+	 * @param isSuccess Set true to move the written files in place. Set false to discard them.
+	 * @return Returns true if the response was added to the cache.
+	 */
+	private boolean completeEdit(CacheEntry entry, boolean isSuccess)
+	{
+		synchronized (lock)
+		{
+			editingKeys.remove(entry.key);
+
+			File hTempFile = getTempFile(entry.key, HEADER_SUFFIX);
+			File bTempFile = getTempFile(entry.key, BODY_SUFFIX);
+			if (!isSuccess || !hTempFile.exists() || !bTempFile.exists()) {
+				hTempFile.delete();
+				bTempFile.delete();
+				return false;
+			}
+
+			// Replace the previous response, if any.
+			File hFile = getFile(entry.key, HEADER_SUFFIX);
+			File bFile = getFile(entry.key, BODY_SUFFIX);
+			if (!hTempFile.renameTo(hFile) || !bTempFile.renameTo(bFile)) {
+				hTempFile.delete();
+				bTempFile.delete();
+				removeEntry(entry.key);
+				return false;
+			}
+			entry.size = hFile.length() + bFile.length();
+
+			CacheEntry oldEntry = index.remove(entry.key);
+			if (oldEntry != null) {
+				size -= oldEntry.size;
+				redundantOpCount++;
+			}
+			keysRemovedWhileLoading.remove(entry.key);
+			index.put(entry.key, entry);
+			size += entry.size;
+			headerCache.remove(entry.key);
+			writeJournalLine(toJournalLine(entry), true);
+
+			trimToSize();
+			return true;
+		}
+	}
+
+	/**
+	 * Removes the given response from the cache.
+	 * @param key The hash of the response's URI.
+	 */
+	private void remove(String key)
+	{
+		synchronized (lock)
+		{
+			removeEntry(key);
+		}
+	}
+
+	/** Must be called while synchronized on "lock". */
+	private void removeEntry(String key)
+	{
+		getFile(key, HEADER_SUFFIX).delete();
+		getFile(key, BODY_SUFFIX).delete();
+		headerCache.remove(key);
+		if (!isIndexLoaded) {
+			keysRemovedWhileLoading.add(key);
+		}
+
+		CacheEntry entry = index.remove(key);
+		if (entry != null) {
+			size -= entry.size;
+			redundantOpCount++;
+			writeJournalLine(JOURNAL_REMOVE + ' ' + key, true);
+		}
+	}
+
+	/**
+	 * Evicts least recently used responses until the cache is under its maximum size.
+	 * Must be called while synchronized on "lock".
+	 */
+	private void trimToSize()
+	{
+		Iterator<Map.Entry<String, CacheEntry>> iterator = index.entrySet().iterator();
+		while ((size > maxCacheSize) && iterator.hasNext()) {
+			CacheEntry entry = iterator.next().getValue();
+			if (editingKeys.contains(entry.key)) {
+				continue;
+			}
+			iterator.remove();
+			getFile(entry.key, HEADER_SUFFIX).delete();
+			getFile(entry.key, BODY_SUFFIX).delete();
+			headerCache.remove(entry.key);
+			size -= entry.size;
+			redundantOpCount++;
+			writeJournalLine(JOURNAL_REMOVE + ' ' + entry.key, false);
+		}
+		flushJournal();
+	}
+
+	/**
+	 * Starts loading the index in the background, if not done already.
+	 * Must be called while synchronized on "lock".
+	 */
+	private void initialize()
+	{
+		if (isInitialized || (cacheDir == null) || (journalExecutor == null)) {
+			return;
+		}
+		isInitialized = true;
+
+		final File dir = cacheDir;
+		journalExecutor.execute(() -> loadIndex(dir));
+	}
+
+	/**
+	 * Loads the index from the journal, or builds it from the cached files if there is no journal yet.
+	 * Reads files without holding "lock", then swaps the loaded index in, so that lookups are not blocked.
+	 * @param dir The cache directory to load the index of.
+	 */
+	private void loadIndex(File dir)
+	{
+		File[] tempFiles = dir.listFiles((file, name) -> name.endsWith(TEMP_SUFFIX));
+
+		LinkedHashMap<String, CacheEntry> loadedIndex = new LinkedHashMap<>();
+		if (!readJournal(new File(dir, JOURNAL_FILE_NAME), loadedIndex)) {
+			loadedIndex.clear();
+			buildIndexFromFiles(dir, loadedIndex);
+		}
+
+		synchronized (lock)
+		{
+			// Discard the loaded index if the cache directory was changed meanwhile.
+			if ((dir != cacheDir) || !isInitialized) {
+				return;
+			}
+
+			// Delete partially written files of a previous app session.
+			if (tempFiles != null) {
+				for (File file : tempFiles) {
+					String key = file.getName().substring(0, file.getName().indexOf('.'));
+					if (!editingKeys.contains(key)) {
+						file.delete();
+					}
+				}
+			}
+
+			// Responses written or removed while loading are more recent than the loaded ones.
+			for (String key : keysRemovedWhileLoading) {
+				loadedIndex.remove(key);
+			}
+			for (CacheEntry entry : index.values()) {
+				loadedIndex.remove(entry.key);
+				loadedIndex.put(entry.key, entry);
+			}
+			index = loadedIndex;
+			size = 0;
+			for (CacheEntry entry : index.values()) {
+				size += entry.size;
+			}
+			keysRemovedWhileLoading.clear();
+			isIndexLoaded = true;
+
+			rebuildJournal();
+			trimToSize();
+		}
+	}
+
+	/**
+	 * Replays the given journal into the given index.
+	 * @return Returns true if the journal was read. Returns false if it does not exist or is invalid.
+	 */
+	private static boolean readJournal(File journalFile, LinkedHashMap<String, CacheEntry> index)
+	{
+		if (!journalFile.exists()) {
+			return false;
+		}
+		try (BufferedReader reader = new BufferedReader(
+				 new InputStreamReader(new FileInputStream(journalFile), StandardCharsets.UTF_8))) {
+			if (!JOURNAL_MAGIC.equals(reader.readLine()) || !JOURNAL_VERSION.equals(reader.readLine())) {
+				return false;
+			}
+			for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+				String[] values = line.split(" ");
+				if (values.length < 2) {
+					continue;
+				}
+				String key = values[1];
+				if (JOURNAL_CLEAN.equals(values[0]) && (values.length >= 8)) {
+					CacheEntry entry = new CacheEntry(key);
+					try {
+						entry.size = Long.parseLong(values[2]);
+						entry.expires = Long.parseLong(values[3]);
+					} catch (NumberFormatException e) {
+						continue;
+					}
+					entry.requiresValidation = "1".equals(values[4]);
+					entry.contentEncoding = fromJournalValue(values[5]);
+					entry.location = fromJournalValue(values[6]);
+					entry.etag = fromJournalValue(values[7]);
+					index.remove(key);
+					index.put(key, entry);
+				} else if (JOURNAL_READ.equals(values[0])) {
+					CacheEntry entry = index.remove(key);
+					if (entry != null) {
+						index.put(key, entry);
+					}
+				} else if (JOURNAL_REMOVE.equals(values[0])) {
+					index.remove(key);
+				}
+			}
+			return true;
+		} catch (IOException e) {
+			Log.w(TAG, "Failed to read cache journal. Rebuilding it.", e);
+			return false;
+		}
+	}
+
+	/**
+	 * Builds the given index from the header files of a cache written without a journal.
+	 */
+	private static void buildIndexFromFiles(File dir, LinkedHashMap<String, CacheEntry> index)
+	{
+		File[] hdrFiles = dir.listFiles((file, name) -> name.endsWith(HEADER_SUFFIX));
+		if (hdrFiles == null) {
+			return;
+		}
+
+		// Header files were touched on every access. Add them in least recently used order.
+		Arrays.sort(hdrFiles, (file1, file2) -> Long.compare(file1.lastModified(), file2.lastModified()));
+		for (File hdrFile : hdrFiles) {
+			String key = hdrFile.getName().substring(0, hdrFile.getName().lastIndexOf('.'));
+			CacheEntry entry = readEntry(dir, key);
+			if (entry != null) {
+				index.put(key, entry);
+			} else {
+				hdrFile.delete();
+				new File(dir, key + BODY_SUFFIX).delete();
+			}
+		}
+	}
+
+	/**
+	 * Describes a cached response by reading its header file.
+	 * @param dir The cache directory.
+	 * @param key The hash of the response's URI.
+	 * @return Returns the entry, or null if the response is not cached or its files are invalid.
+	 */
+	private static CacheEntry readEntry(File dir, String key)
+	{
+		File hdrFile = new File(dir, key + HEADER_SUFFIX);
+		File bdyFile = new File(dir, key + BODY_SUFFIX);
+		if (!hdrFile.exists() || !bdyFile.exists()) {
+			return null;
+		}
+		try {
+			Map<String, List<String>> headers = readHeaders(hdrFile);
+			String cacheControl = getHeader(headers, "cache-control");
+			CacheEntry entry = new CacheEntry(key);
+			entry.size = hdrFile.length() + bdyFile.length();
+			entry.expires = getExpirationTime(headers, cacheControl);
+			entry.requiresValidation = requiresValidation(cacheControl);
+			entry.contentEncoding = getHeader(headers, "content-encoding");
+			entry.location = getHeader(headers, "location");
+			entry.etag = getHeader(headers, "etag");
+			return entry;
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Writes a compact journal holding one line per indexed response, replacing the current journal.
+	 * Must be called while synchronized on "lock".
+	 */
+	private void rebuildJournal()
+	{
+		closeJournal();
+
+		File journalFile = new File(cacheDir, JOURNAL_FILE_NAME);
+		File tempFile = new File(cacheDir, JOURNAL_TEMP_FILE_NAME);
+		try (Writer writer = new BufferedWriter(
+				 new OutputStreamWriter(new FileOutputStream(tempFile), StandardCharsets.UTF_8))) {
+			writer.write(JOURNAL_MAGIC + '\n' + JOURNAL_VERSION + '\n');
+			for (CacheEntry entry : index.values()) {
+				writer.write(toJournalLine(entry));
+				writer.write('\n');
+			}
+		} catch (IOException e) {
+			Log.w(TAG, "Failed to write cache journal.", e);
+			tempFile.delete();
+			return;
+		}
+		if (!tempFile.renameTo(journalFile)) {
+			tempFile.delete();
+			return;
+		}
+		redundantOpCount = 0;
+
+		try {
+			journalWriter = new BufferedWriter(
+				new OutputStreamWriter(new FileOutputStream(journalFile, true), StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			Log.w(TAG, "Failed to open cache journal.", e);
+		}
+	}
+
+	/**
+	 * Appends a line to the journal, compacting the journal once it mostly holds redundant lines.
+	 * Must be called while synchronized on "lock".
+	 */
+	private void writeJournalLine(String line, boolean isFlushNeeded)
+	{
+		if (journalWriter == null) {
+			return;
+		}
+		try {
+			journalWriter.write(line);
+			journalWriter.write('\n');
+			if (isFlushNeeded) {
+				journalWriter.flush();
+			}
+		} catch (IOException e) {
+			Log.w(TAG, "Failed to write to cache journal.", e);
+			closeJournal();
+		}
+
+		if (line.startsWith(JOURNAL_READ)) {
+			redundantOpCount++;
+		}
+		if ((redundantOpCount >= JOURNAL_COMPACT_THRESHOLD) && (redundantOpCount >= index.size())
+			&& !isCompactionScheduled && (journalExecutor != null)) {
+			isCompactionScheduled = true;
+			journalExecutor.execute(() -> {
+				synchronized (lock)
+				{
+					isCompactionScheduled = false;
+					if (isIndexLoaded) {
+						rebuildJournal();
+					}
+				}
+			});
+		}
+	}
+
+	/** Must be called while synchronized on "lock". */
+	private void flushJournal()
+	{
+		if (journalWriter == null) {
+			return;
+		}
+		try {
+			journalWriter.flush();
+		} catch (IOException e) {
+			closeJournal();
+		}
+	}
+
+	/** Must be called while synchronized on "lock". */
+	private void closeJournal()
+	{
+		if (journalWriter == null) {
+			return;
+		}
+		try {
+			journalWriter.close();
+		} catch (IOException e) {
+			// Ignore...
+		}
+		journalWriter = null;
+	}
+
+	private static String toJournalLine(CacheEntry entry)
+	{
+		return JOURNAL_CLEAN + ' ' + entry.key + ' ' + entry.size + ' ' + entry.expires + ' '
+			+ (entry.requiresValidation ? '1' : '0') + ' ' + toJournalValue(entry.contentEncoding) + ' '
+			+ toJournalValue(entry.location) + ' ' + toJournalValue(entry.etag);
+	}
+
+	private static String toJournalValue(String value)
+	{
+		if ((value == null) || value.isEmpty()) {
+			return JOURNAL_NULL_VALUE;
+		}
+		// Values are space separated. Escape spaces and the escape character itself.
+		value = value.replace("%", "%25").replace(" ", "%20").replace("\n", "%0A");
+
+		// Escape a value equal to the null sentinel, so that it is not read back as null.
+		return JOURNAL_NULL_VALUE.equals(value) ? "%2D" : value;
+	}
+
+	private static String fromJournalValue(String value)
+	{
+		if (JOURNAL_NULL_VALUE.equals(value)) {
+			return null;
+		}
+		return value.replace("%2D", "-").replace("%0A", "\n").replace("%20", " ").replace("%25", "%");
 	}
 
 	private static void fireCacheCompleted(URI uri)
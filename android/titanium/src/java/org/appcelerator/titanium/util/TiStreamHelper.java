@@ -10,6 +10,8 @@ package org.appcelerator.titanium.util;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 import org.appcelerator.kroll.KrollDict;
 import org.appcelerator.kroll.KrollFunction;
 import org.appcelerator.kroll.KrollObject;
@@ -212,13 +214,16 @@ public class TiStreamHelper
 
 	public static int read(InputStream inputStream, BufferProxy bufferProxy, int offset, int length) throws IOException
 	{
-		byte[] buffer = bufferProxy.getBuffer();
-
-		if ((offset + length) > buffer.length) {
-			length = buffer.length - offset;
+		if ((offset + length) > bufferProxy.getLength()) {
+			length = bufferProxy.getLength() - offset;
 		}
 
-		return inputStream.read(buffer, offset, length);
+		// Read straight into the buffer's memory, whether backed by an array or shared.
+		ByteBuffer buffer = bufferProxy.getByteBuffer(offset, length);
+		if (buffer.hasArray()) {
+			return inputStream.read(buffer.array(), buffer.arrayOffset() + offset, length);
+		}
+		return Channels.newChannel(inputStream).read(buffer);
 	}
 
 	public static void readAsync(final KrollObject krollObject, final TiStream sourceStream, final BufferProxy buffer,
@@ -248,13 +253,16 @@ public class TiStreamHelper
 	public static int write(OutputStream outputStream, BufferProxy bufferProxy, int offset, int length)
 		throws IOException
 	{
-		byte[] buffer = bufferProxy.getBuffer();
-
-		if ((offset + length) > buffer.length) {
-			length = buffer.length - offset;
+		if ((offset + length) > bufferProxy.getLength()) {
+			length = bufferProxy.getLength() - offset;
 		}
 
-		outputStream.write(buffer, offset, length);
+		ByteBuffer buffer = bufferProxy.getByteBuffer(offset, length);
+		if (buffer.hasArray()) {
+			outputStream.write(buffer.array(), buffer.arrayOffset() + offset, length);
+		} else {
+			Channels.newChannel(outputStream).write(buffer);
+		}
 		outputStream.flush();
 
 		return length;
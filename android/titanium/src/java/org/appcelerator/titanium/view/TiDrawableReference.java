@@ -30,7 +30,7 @@ import org.appcelerator.titanium.util.TiDownloadListener;
 import org.appcelerator.titanium.util.TiDownloadManager;
 import org.appcelerator.titanium.util.TiExifOrientation;
 import org.appcelerator.titanium.util.TiFileHelper;
-import org.appcelerator.titanium.util.TiImageCache;
+import org.appcelerator.titanium.util.TiBitmapCache;
 import org.appcelerator.titanium.util.TiImageHelper;
 import org.appcelerator.titanium.util.TiUIHelper;
 import org.appcelerator.titanium.util.TiUrl;
@@ -68,7 +68,7 @@ public class TiDrawableReference
 
 	/**
 	 * Uniquely identifies an image loaded by TiDrawableReference.
-	 * Intended to be used as a key in collections (such as HashTable) and by the TiImageCache class.
+	 * Intended to be used as a key in collections (such as HashTable) and by the TiBitmapCache class.
 	 * Instances of this class are returned by the TiDrawableReference.getKey() method.
 	 */
 	public static final class Key
@@ -411,7 +411,7 @@ public class TiDrawableReference
 		final int maxRetries = needRetry ? this.decodeRetries : 0;
 		for (int index = 0; index <= maxRetries; index++) {
 			if (index > 0) {
-				Log.d(TAG, "Will retry decoding image: " + this.toString(), Log.DEBUG_MODE);
+				Log.debugf(TAG, "Will retry decoding image: {}", this);
 			}
 			try (var inputStream = getInputStream()) {
 				// Decode image to an uncompressed bitmap.
@@ -424,7 +424,7 @@ public class TiDrawableReference
 				Log.d(TAG, "Clearing image cache and forcing garbage collection.", Log.DEBUG_MODE);
 
 				// Clear image cache and force garbage collection.
-				TiImageCache.clear();
+				TiBitmapCache.getInstance().evictAll();
 				System.gc();
 
 				// Down-sample image by a power of 2.
@@ -444,6 +444,49 @@ public class TiDrawableReference
 		return bitmap;
 	}
 
+	/**
+	 * Gets the full size bitmap from the resource, decoded into a bitmap pooled by {@link TiBitmapCache}
+	 * if one is large enough. The returned bitmap is mutable and should be handed back via
+	 * {@link TiBitmapCache#releaseBitmap(Bitmap)} once no longer displayed, so that it can be reused for
+	 * decoding the next image, such as the next frame of an animation.
+	 * This method should be called from a background thread.
+	 * @return Bitmap, or null if errors occurred while trying to load or fetch it.
+	 */
+	public Bitmap getReusableBitmap()
+	{
+		BitmapFactory.Options opts = new BitmapFactory.Options();
+		opts.inSampleSize = 1;
+		opts.inPreferredConfig = Bitmap.Config.ARGB_8888;
+
+		Bounds bounds = peekBounds();
+		boolean isReusing = TiBitmapCache.getInstance().applyReusableBitmap(opts, bounds.width, bounds.height);
+
+		Bitmap bitmap = null;
+		try (var inputStream = getInputStream()) {
+			bitmap = BitmapFactory.decodeStream(inputStream, null, opts);
+		} catch (IllegalArgumentException ex) {
+			// The pooled bitmap could not be reused for this image.
+			if (!isReusing) {
+				Log.e(TAG, "Error decoding image: " + this.toString(), ex);
+				return null;
+			}
+		} catch (OutOfMemoryError ex) {
+			Log.e(TAG, "Not enough memory to load image: " + this.toString(), ex);
+			TiBitmapCache.getInstance().evictAll();
+			return null;
+		} catch (Throwable ex) {
+			Log.e(TAG, "Error decoding image: " + this.toString(), ex);
+		}
+
+		// Decode into a new bitmap if reusing failed.
+		if ((bitmap == null) && isReusing) {
+			TiBitmapCache.getInstance().releaseBitmap(opts.inBitmap);
+			opts.inBitmap = null;
+			bitmap = getBitmap(true);
+		}
+		return bitmap;
+	}
+
 	private Drawable getResourceDrawable()
 	{
 		if (!isTypeResourceId()) {
@@ -703,10 +746,26 @@ public class TiDrawableReference
 				Log.d(TAG, sb);
 			}
 
+			// The decoded bitmap is only an intermediate for scaling. Reuse a pooled bitmap for it if possible.
+			boolean isReusing = TiBitmapCache.getInstance().applyReusableBitmap(opts, srcWidth, srcHeight);
+
 			Bitmap bTemp = null;
 			try {
 				oomOccurred = false;
-				bTemp = BitmapFactory.decodeStream(is, null, opts);
+				try {
+					bTemp = BitmapFactory.decodeStream(is, null, opts);
+				} catch (IllegalArgumentException e) {
+					// The pooled bitmap could not be reused for this image. Decode into a new bitmap instead.
+					if (!isReusing) {
+						throw e;
+					}
+					opts.inBitmap = null;
+					try (InputStream retryStream = getInputStream()) {
+						bTemp = BitmapFactory.decodeStream(retryStream, null, opts);
+					} catch (IOException ex) {
+						Log.e(TAG, "Problem closing stream: " + ex.getMessage(), ex);
+					}
+				}
 				if (bTemp == null) {
 					Log.w(TAG, "Decoded bitmap is null");
 					return null;
@@ -741,9 +800,7 @@ public class TiDrawableReference
 					b = bTemp;
 					bTemp = null;
 				} else {
-					if (Log.isDebugModeEnabled()) {
-						Log.d(TAG, "Scaling bitmap to " + destWidth + "x" + destHeight, Log.DEBUG_MODE);
-					}
+					Log.debugf(TAG, "Scaling bitmap to {}x{}", destWidth, destHeight);
 
 					// If anyDensity=false, meaning Android is automatically scaling
 					// pixel dimensions, need to do that here as well, because Bitmap width/height
@@ -768,7 +825,7 @@ public class TiDrawableReference
 				// Recycle the temporary bitmap only if it isn't
 				// the same instance as our scaled bitmap.
 				if (bTemp != null && bTemp != b) {
-					bTemp.recycle();
+					TiBitmapCache.getInstance().releaseBitmap(bTemp);
 					bTemp = null;
 				}
 			}
@@ -678,328 +678,381 @@ public abstract class TiUIView implements KrollProxyListener, OnFocusChangeListe
 
 	public void propertyChanged(String key, Object oldValue, Object newValue, KrollProxy proxy)
 	{
-		if (key.equals(TiC.PROPERTY_LEFT)) {
-			resetPostAnimationValues();
-			resetTranslationX();
-			if (newValue != null) {
-				layoutParams.optionLeft = TiConvert.toTiDimension(TiConvert.toString(newValue), TiDimension.TYPE_LEFT);
-			} else {
-				layoutParams.optionLeft = null;
-			}
-			layoutNativeView();
-		} else if (key.equals(TiC.PROPERTY_TOP)) {
-			resetPostAnimationValues();
-			resetTranslationY();
-			if (newValue != null) {
-				layoutParams.optionTop = TiConvert.toTiDimension(TiConvert.toString(newValue), TiDimension.TYPE_TOP);
-			} else {
-				layoutParams.optionTop = null;
-			}
-			layoutNativeView();
-		} else if (key.equals(TiC.PROPERTY_CENTER)) {
-			resetPostAnimationValues();
-			resetTranslationX();
-			resetTranslationY();
-			TiConvert.updateLayoutCenter(newValue, layoutParams);
-			layoutNativeView();
-		} else if (key.equals(TiC.PROPERTY_RIGHT)) {
-			resetPostAnimationValues();
-			resetTranslationX();
-			if (newValue != null) {
-				layoutParams.optionRight =
-					TiConvert.toTiDimension(TiConvert.toString(newValue), TiDimension.TYPE_RIGHT);
-			} else {
-				layoutParams.optionRight = null;
-			}
-			layoutNativeView();
-		} else if (key.equals(TiC.PROPERTY_BOTTOM)) {
-			resetPostAnimationValues();
-			resetTranslationY();
-			if (newValue != null) {
-				layoutParams.optionBottom =
-					TiConvert.toTiDimension(TiConvert.toString(newValue), TiDimension.TYPE_BOTTOM);
-			} else {
-				layoutParams.optionBottom = null;
-			}
-			layoutNativeView();
-		} else if (key.equals(TiC.PROPERTY_SIZE)) {
-			if (newValue instanceof HashMap) {
-				@SuppressWarnings("unchecked")
-				HashMap<String, Object> d = (HashMap<String, Object>) newValue;
-				propertyChanged(TiC.PROPERTY_WIDTH, oldValue, d.get(TiC.PROPERTY_WIDTH), proxy);
-				propertyChanged(TiC.PROPERTY_HEIGHT, oldValue, d.get(TiC.PROPERTY_HEIGHT), proxy);
-			} else if (newValue != null) {
-				Log.w(TAG, "Unsupported property type (" + (newValue.getClass().getSimpleName()) + ") for key: " + key
-							   + ". Must be an object/dictionary");
-			}
-		} else if (key.equals(TiC.PROPERTY_HEIGHT)) {
-			resetPostAnimationValues();
-			if (newValue != null) {
-				layoutParams.optionHeight = null;
-				layoutParams.sizeOrFillHeightEnabled = true;
-				if (newValue.equals(TiC.LAYOUT_SIZE)) {
-					layoutParams.autoFillsHeight = false;
-				} else if (newValue.equals(TiC.LAYOUT_FILL)) {
-					layoutParams.autoFillsHeight = true;
-				} else if (!newValue.equals(TiC.SIZE_AUTO)) {
-					layoutParams.optionHeight =
-						TiConvert.toTiDimension(TiConvert.toString(newValue), TiDimension.TYPE_HEIGHT);
-					layoutParams.sizeOrFillHeightEnabled = false;
+		// Switching on the key compiles to a lookup by hash code instead of comparing it against every property.
+		switch (key) {
+			case TiC.PROPERTY_LEFT:
+				resetPostAnimationValues();
+				resetTranslationX();
+				if (newValue != null) {
+					layoutParams.optionLeft =
+						TiConvert.toTiDimension(TiConvert.toString(newValue), TiDimension.TYPE_LEFT);
+				} else {
+					layoutParams.optionLeft = null;
 				}
-			} else {
-				layoutParams.optionHeight = null;
-			}
-			layoutNativeView();
-		} else if (key.equals(TiC.PROPERTY_HORIZONTAL_WRAP)) {
-			if (nativeView instanceof TiCompositeLayout) {
-				((TiCompositeLayout) nativeView).setEnableHorizontalWrap(TiConvert.toBoolean(newValue, true));
-			}
-			layoutNativeView();
-		} else if (key.equals(TiC.PROPERTY_WIDTH)) {
-			resetPostAnimationValues();
-			if (newValue != null) {
-				layoutParams.optionWidth = null;
-				layoutParams.sizeOrFillWidthEnabled = true;
-				if (newValue.equals(TiC.LAYOUT_SIZE)) {
-					layoutParams.autoFillsWidth = false;
-				} else if (newValue.equals(TiC.LAYOUT_FILL)) {
-					layoutParams.autoFillsWidth = true;
-				} else if (!newValue.equals(TiC.SIZE_AUTO)) {
-					layoutParams.optionWidth =
-						TiConvert.toTiDimension(TiConvert.toString(newValue), TiDimension.TYPE_WIDTH);
-					layoutParams.sizeOrFillWidthEnabled = false;
+				layoutNativeView();
+				break;
+			case TiC.PROPERTY_TOP:
+				resetPostAnimationValues();
+				resetTranslationY();
+				if (newValue != null) {
+					layoutParams.optionTop =
+						TiConvert.toTiDimension(TiConvert.toString(newValue), TiDimension.TYPE_TOP);
+				} else {
+					layoutParams.optionTop = null;
 				}
-			} else {
-				layoutParams.optionWidth = null;
-			}
-			layoutNativeView();
-		} else if (key.equals(TiC.PROPERTY_LAYOUT)) {
-			String layout = TiConvert.toString(newValue);
-			if (nativeView instanceof TiCompositeLayout) {
+				layoutNativeView();
+				break;
+			case TiC.PROPERTY_CENTER:
 				resetPostAnimationValues();
-				((TiCompositeLayout) nativeView).setLayoutArrangement(layout);
+				resetTranslationX();
+				resetTranslationY();
+				TiConvert.updateLayoutCenter(newValue, layoutParams);
 				layoutNativeView();
-			}
-		} else if (key.equals(TiC.PROPERTY_ZINDEX)) {
-			if (newValue != null) {
-				layoutParams.optionZIndex = TiConvert.toInt(newValue);
-			} else {
-				layoutParams.optionZIndex = 0;
-			}
-			layoutNativeView(true);
-		} else if (key.equals(TiC.PROPERTY_FOCUSABLE)) {
-			getOuterView().setFocusable(TiConvert.toBoolean(newValue, false));
-		} else if (key.equals(TiC.PROPERTY_TOUCH_ENABLED)) {
-			nativeView.setEnabled(TiConvert.toBoolean(newValue));
-			doSetClickable(TiConvert.toBoolean(newValue));
-		} else if (key.equals(TiC.PROPERTY_FILTER_TOUCHES_WHEN_OBSCURED)) {
-			setFilterTouchesWhenObscured(TiConvert.toBoolean(newValue, false));
-		} else if (key.equals(TiC.PROPERTY_VISIBLE)) {
-			newValue = (newValue == null) ? false : newValue;
-			this.setVisibility(TiConvert.toBoolean(newValue) ? View.VISIBLE : View.INVISIBLE);
-		} else if (key.equals(TiC.PROPERTY_ENABLED)) {
-			nativeView.setEnabled(TiConvert.toBoolean(newValue));
-		} else if (key.startsWith(TiC.PROPERTY_BACKGROUND_PADDING)) {
-			Log.i(TAG, key + " not yet implemented.");
-		} else if (key.equals(TiC.PROPERTY_OPACITY) || key.equals(TiC.PROPERTY_TOUCH_FEEDBACK_COLOR)
-				   || key.equals(TiC.PROPERTY_TOUCH_FEEDBACK) || key.startsWith(TiC.PROPERTY_BACKGROUND_PREFIX)
-				   || key.startsWith(TiC.PROPERTY_BORDER_PREFIX)) {
-			// Update first before querying.
-			proxy.setProperty(key, newValue);
-
-			KrollDict d = proxy.getProperties();
-
-			boolean hasImage = hasImage(d);
-			boolean hasRepeat = hasRepeat(d);
-			boolean hasColorState = hasColorState(d);
-			boolean hasBorder = hasBorder(d);
-			boolean hasGradient = hasGradient(d);
-			boolean requiresCustomBackground = hasImage || hasColorState || hasBorder || hasGradient;
-
-			// PROPERTY_BACKGROUND_REPEAT is implicitly passed as false though not used in JS. So check the truth value and proceed.
-			if (!requiresCustomBackground) {
-				requiresCustomBackground =
-					requiresCustomBackground && d.optBoolean(TiC.PROPERTY_BACKGROUND_REPEAT, false);
-			}
-
-			if (!requiresCustomBackground) {
-				if (background != null) {
-					background.releaseDelegate();
-					background.setCallback(null);
-					background = null;
-				}
-
-				if (this.nativeView != null) {
-					if (d.containsKeyAndNotNull(TiC.PROPERTY_BACKGROUND_COLOR)) {
-						int bgColor = TiConvert.toColor(d, TiC.PROPERTY_BACKGROUND_COLOR, proxy.getActivity());
-						this.nativeView.setBackgroundColor(bgColor);
-						onBackgroundColorChanged(bgColor);
-					} else {
-						this.nativeView.setBackground(null);
-						onBackgroundColorChanged(Color.TRANSPARENT);
+				break;
+			case TiC.PROPERTY_RIGHT:
+				resetPostAnimationValues();
+				resetTranslationX();
+				if (newValue != null) {
+					layoutParams.optionRight =
+						TiConvert.toTiDimension(TiConvert.toString(newValue), TiDimension.TYPE_RIGHT);
+				} else {
+					layoutParams.optionRight = null;
+				}
+				layoutNativeView();
+				break;
+			case TiC.PROPERTY_BOTTOM:
+				resetPostAnimationValues();
+				resetTranslationY();
+				if (newValue != null) {
+					layoutParams.optionBottom =
+						TiConvert.toTiDimension(TiConvert.toString(newValue), TiDimension.TYPE_BOTTOM);
+				} else {
+					layoutParams.optionBottom = null;
+				}
+				layoutNativeView();
+				break;
+			case TiC.PROPERTY_SIZE:
+				if (newValue instanceof HashMap) {
+					@SuppressWarnings("unchecked")
+					HashMap<String, Object> d = (HashMap<String, Object>) newValue;
+					propertyChanged(TiC.PROPERTY_WIDTH, oldValue, d.get(TiC.PROPERTY_WIDTH), proxy);
+					propertyChanged(TiC.PROPERTY_HEIGHT, oldValue, d.get(TiC.PROPERTY_HEIGHT), proxy);
+				} else if (newValue != null) {
+					Log.w(TAG, "Unsupported property type (" + (newValue.getClass().getSimpleName()) + ") for key: "
+						+ key + ". Must be an object/dictionary");
+				}
+				break;
+			case TiC.PROPERTY_HEIGHT:
+				resetPostAnimationValues();
+				if (newValue != null) {
+					layoutParams.optionHeight = null;
+					layoutParams.sizeOrFillHeightEnabled = true;
+					if (newValue.equals(TiC.LAYOUT_SIZE)) {
+						layoutParams.autoFillsHeight = false;
+					} else if (newValue.equals(TiC.LAYOUT_FILL)) {
+						layoutParams.autoFillsHeight = true;
+					} else if (!newValue.equals(TiC.SIZE_AUTO)) {
+						layoutParams.optionHeight =
+							TiConvert.toTiDimension(TiConvert.toString(newValue), TiDimension.TYPE_HEIGHT);
+						layoutParams.sizeOrFillHeightEnabled = false;
 					}
+				} else {
+					layoutParams.optionHeight = null;
 				}
-			} else {
-				boolean newBackground = background == null;
-				if (newBackground) {
-					background = new TiBackgroundDrawable();
+				layoutNativeView();
+				break;
+			case TiC.PROPERTY_HORIZONTAL_WRAP:
+				if (nativeView instanceof TiCompositeLayout) {
+					((TiCompositeLayout) nativeView).setEnableHorizontalWrap(TiConvert.toBoolean(newValue, true));
 				}
-
-				Integer bgColor = null;
-
-				if (!hasColorState && !hasGradient) {
-					if (d.get(TiC.PROPERTY_BACKGROUND_COLOR) != null) {
-						bgColor = TiConvert.toColor(d, TiC.PROPERTY_BACKGROUND_COLOR, proxy.getActivity());
-						if (newBackground
-							|| (key.equals(TiC.PROPERTY_OPACITY) || key.equals(TiC.PROPERTY_BACKGROUND_COLOR))) {
-							background.setBackgroundColor(bgColor);
-							onBackgroundColorChanged(bgColor);
-						}
+				layoutNativeView();
+				break;
+			case TiC.PROPERTY_WIDTH:
+				resetPostAnimationValues();
+				if (newValue != null) {
+					layoutParams.optionWidth = null;
+					layoutParams.sizeOrFillWidthEnabled = true;
+					if (newValue.equals(TiC.LAYOUT_SIZE)) {
+						layoutParams.autoFillsWidth = false;
+					} else if (newValue.equals(TiC.LAYOUT_FILL)) {
+						layoutParams.autoFillsWidth = true;
+					} else if (!newValue.equals(TiC.SIZE_AUTO)) {
+						layoutParams.optionWidth =
+							TiConvert.toTiDimension(TiConvert.toString(newValue), TiDimension.TYPE_WIDTH);
+						layoutParams.sizeOrFillWidthEnabled = false;
 					}
+				} else {
+					layoutParams.optionWidth = null;
 				}
-
-				if (hasImage || hasRepeat || hasColorState || hasGradient) {
-					if (newBackground || key.equals(TiC.PROPERTY_OPACITY)
-						|| key.startsWith(TiC.PROPERTY_BACKGROUND_PREFIX)) {
-						handleBackgroundImage(d);
+				layoutNativeView();
+				break;
+			case TiC.PROPERTY_LAYOUT: {
+				String layout = TiConvert.toString(newValue);
+				if (nativeView instanceof TiCompositeLayout) {
+					resetPostAnimationValues();
+					((TiCompositeLayout) nativeView).setLayoutArrangement(layout);
+					layoutNativeView();
+				}
+				break;
+			}
+			case TiC.PROPERTY_ZINDEX:
+				if (newValue != null) {
+					layoutParams.optionZIndex = TiConvert.toInt(newValue);
+				} else {
+					layoutParams.optionZIndex = 0;
+				}
+				layoutNativeView(true);
+				break;
+			case TiC.PROPERTY_FOCUSABLE:
+				getOuterView().setFocusable(TiConvert.toBoolean(newValue, false));
+				break;
+			case TiC.PROPERTY_TOUCH_ENABLED:
+				nativeView.setEnabled(TiConvert.toBoolean(newValue));
+				doSetClickable(TiConvert.toBoolean(newValue));
+				break;
+			case TiC.PROPERTY_FILTER_TOUCHES_WHEN_OBSCURED:
+				setFilterTouchesWhenObscured(TiConvert.toBoolean(newValue, false));
+				break;
+			case TiC.PROPERTY_VISIBLE:
+				newValue = (newValue == null) ? false : newValue;
+				this.setVisibility(TiConvert.toBoolean(newValue) ? View.VISIBLE : View.INVISIBLE);
+				break;
+			case TiC.PROPERTY_ENABLED:
+				nativeView.setEnabled(TiConvert.toBoolean(newValue));
+				break;
+			case TiC.PROPERTY_SOFT_KEYBOARD_ON_FOCUS:
+				Log.w(TAG,
+					  "Focus state changed to " + TiConvert.toString(newValue) + " not honored until next focus event.",
+					  Log.DEBUG_MODE);
+				break;
+			case TiC.PROPERTY_TRANSFORM:
+				if (nativeView != null) {
+					applyTransform((Ti2DMatrix) newValue);
+				}
+				break;
+			case TiC.PROPERTY_KEEP_SCREEN_ON:
+				if (nativeView != null) {
+					nativeView.setKeepScreenOn(TiConvert.toBoolean(newValue));
+				}
+				break;
+			case TiC.PROPERTY_ACCESSIBILITY_HIDDEN:
+				applyAccessibilityHidden(newValue);
+				break;
+			case TiC.PROPERTY_ELEVATION:
+				if (getOuterView() != null) {
+					ViewCompat.setElevation(getOuterView(), TiConvert.toFloat(newValue));
+				}
+				break;
+			case TiC.PROPERTY_ANCHOR_POINT:
+				if (getOuterView() != null) {
+					if (newValue instanceof HashMap) {
+						setAnchor((HashMap) newValue);
+					} else {
+						Log.e(TAG, "Invalid argument type for anchorPoint property. Ignoring");
 					}
 				}
-
-				if (hasBorder) {
-					if (borderView == null && parent != null) {
-						// Since we have to create a new border wrapper view, we need to remove this view, and re-add
-						// it.
-						// This will ensure the border wrapper view is added correctly.
-						TiUIView parentView = parent.getOrCreateView();
-						if (parentView != null) {
-							int removedChildIndex = parentView.findChildIndex(this);
-							parentView.remove(this);
-							initializeBorder(d, bgColor);
-							if (removedChildIndex == -1) {
-								parentView.add(this);
-							} else {
-								parentView.add(this, removedChildIndex);
-							}
-						}
-					} else if (key.startsWith(TiC.PROPERTY_BORDER_PREFIX)) {
-						handleBorderProperty(key, newValue);
+				break;
+			case TiC.PROPERTY_TRANSLATION_X: {
+				TiDimension val = TiConvert.toTiDimension(newValue, TiDimension.TYPE_WIDTH);
+				if (val != null) {
+					ViewCompat.setTranslationX(getOuterView(), (float) val.getPixels(getOuterView()));
+				}
+				break;
+			}
+			case TiC.PROPERTY_TRANSLATION_Y: {
+				TiDimension val = TiConvert.toTiDimension(newValue, TiDimension.TYPE_HEIGHT);
+				if (val != null) {
+					ViewCompat.setTranslationY(getOuterView(), (float) val.getPixels(getOuterView()));
+				}
+				break;
+			}
+			case TiC.PROPERTY_TRANSLATION_Z:
+				if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+					TiDimension val = TiConvert.toTiDimension(newValue, TiDimension.TYPE_UNDEFINED);
+					if (val != null) {
+						nativeView.setTranslationZ((float) val.getPixels(getOuterView()));
 					}
-
-					// TIMOB-24898: On older Android versions, transparency + rounded corners could require SW layer.
-					// Limit disabling HW acceleration to pre-Marshmallow. On newer versions, prefer HW with outline clipping.
-					if ((bgColor != null) && (Color.alpha(bgColor) < 255)) {
-						if (Build.VERSION.SDK_INT < Build.VERSION_CODES.M) {
-							disableHWAcceleration();
-						} else if (borderView != null && borderView.hasRadius()) {
-							// Use hardware-accelerated clipping via outline where possible (API 21+)
-							borderView.setClipToOutline(true);
-						}
+				}
+				break;
+			case TiC.PROPERTY_TRANSITION_NAME:
+				if (nativeView != null) {
+					ViewCompat.setTransitionName(nativeView, TiConvert.toString(newValue));
+				}
+				break;
+			case TiC.PROPERTY_SCALE_X:
+				if (getOuterView() != null) {
+					ViewCompat.setScaleX(getOuterView(), TiConvert.toFloat(newValue));
+				}
+				break;
+			case TiC.PROPERTY_SCALE_Y:
+				if (getOuterView() != null) {
+					ViewCompat.setScaleY(getOuterView(), TiConvert.toFloat(newValue));
+				}
+				break;
+			case TiC.PROPERTY_ROTATION:
+				getOuterView().setRotation(TiConvert.toFloat(newValue));
+				break;
+			case TiC.PROPERTY_ROTATION_X:
+				if (getOuterView() != null) {
+					ViewCompat.setRotationX(getOuterView(), TiConvert.toFloat(newValue));
+				}
+				break;
+			case TiC.PROPERTY_ROTATION_Y:
+				if (getOuterView() != null) {
+					ViewCompat.setRotationY(getOuterView(), TiConvert.toFloat(newValue));
+				}
+				break;
+			case TiC.PROPERTY_HIDDEN_BEHAVIOR:
+				hiddenBehavior = TiConvert.toInt(newValue, View.INVISIBLE);
+				break;
+			case TiC.PROPERTY_VIEW_SHADOW_COLOR:
+				if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.P) {
+					if (nativeView != null) {
+						nativeView.setOutlineAmbientShadowColor(TiConvert.toColor(TiConvert.toString(newValue),
+							TiApplication.getAppCurrentActivity()));
+						nativeView.setOutlineSpotShadowColor(TiConvert.toColor(TiConvert.toString(newValue),
+							TiApplication.getAppCurrentActivity()));
 					}
+				} else {
+					Log.w(TAG, "Setting the 'viewShadowColor' property requires Android P or later");
+				}
+				break;
+			case TiC.PROPERTY_CLIP_MODE:
+				if (nativeView != null) {
+					setClipMode(TiConvert.toInt(newValue, UIModule.CLIP_MODE_DEFAULT));
+					// Re-apply after next layout to ensure hierarchy updates are captured.
+					reapplyClipModeOnNextLayout(TiConvert.toInt(newValue, UIModule.CLIP_MODE_DEFAULT));
+				}
+				break;
+			case TiC.PROPERTY_OPACITY:
+			case TiC.PROPERTY_TOUCH_FEEDBACK:
+			case TiC.PROPERTY_TOUCH_FEEDBACK_COLOR:
+				backgroundPropertyChanged(key, newValue, proxy);
+				break;
+			default:
+				if (key.startsWith(TiC.PROPERTY_BACKGROUND_PADDING)) {
+					Log.i(TAG, key + " not yet implemented.");
+				} else if (key.startsWith(TiC.PROPERTY_BACKGROUND_PREFIX)
+					|| key.startsWith(TiC.PROPERTY_BORDER_PREFIX)) {
+					backgroundPropertyChanged(key, newValue, proxy);
+				} else if (key.startsWith("accessibility")) {
+					applyContentDescription();
+				} else {
+					Log.debugf(TAG, "Unhandled property key: {}", key);
 				}
+				break;
+		}
+	}
 
-				applyCustomBackground();
-			}
-			if (canApplyTouchFeedback(d)) {
-				String colorString = TiConvert.toString(d.get(TiC.PROPERTY_TOUCH_FEEDBACK_COLOR));
-				applyTouchFeedback((colorString != null) ? TiConvert.toColor(colorString, proxy.getActivity()) : null);
-			}
-			if (key.equals(TiC.PROPERTY_OPACITY)) {
-				setOpacity(TiConvert.toFloat(newValue, 1f));
-			}
-			if (this.nativeView != null) {
-				this.nativeView.postInvalidate();
-			}
-		} else if (key.equals(TiC.PROPERTY_SOFT_KEYBOARD_ON_FOCUS)) {
-			Log.w(TAG,
-				  "Focus state changed to " + TiConvert.toString(newValue) + " not honored until next focus event.",
-				  Log.DEBUG_MODE);
-		} else if (key.equals(TiC.PROPERTY_TRANSFORM)) {
-			if (nativeView != null) {
-				applyTransform((Ti2DMatrix) newValue);
-			}
-		} else if (key.equals(TiC.PROPERTY_KEEP_SCREEN_ON)) {
-			if (nativeView != null) {
-				nativeView.setKeepScreenOn(TiConvert.toBoolean(newValue));
-			}
+	/**
+	 * Updates the background, border and touch feedback of this view when one of their properties changes.
+	 */
+	private void backgroundPropertyChanged(String key, Object newValue, KrollProxy proxy)
+	{
+		// Update first before querying.
+		proxy.setProperty(key, newValue);
 
-		} else if (key.indexOf("accessibility") == 0 && !key.equals(TiC.PROPERTY_ACCESSIBILITY_HIDDEN)) {
-			applyContentDescription();
+		KrollDict d = proxy.getProperties();
 
-		} else if (key.equals(TiC.PROPERTY_ACCESSIBILITY_HIDDEN)) {
-			applyAccessibilityHidden(newValue);
+		boolean hasImage = hasImage(d);
+		boolean hasRepeat = hasRepeat(d);
+		boolean hasColorState = hasColorState(d);
+		boolean hasBorder = hasBorder(d);
+		boolean hasGradient = hasGradient(d);
+		boolean requiresCustomBackground = hasImage || hasColorState || hasBorder || hasGradient;
 
-		} else if (key.equals(TiC.PROPERTY_ELEVATION)) {
-			if (getOuterView() != null) {
-				ViewCompat.setElevation(getOuterView(), TiConvert.toFloat(newValue));
+		// PROPERTY_BACKGROUND_REPEAT is implicitly passed as false though not used in JS. So check the truth value and proceed.
+		if (!requiresCustomBackground) {
+			requiresCustomBackground =
+				requiresCustomBackground && d.optBoolean(TiC.PROPERTY_BACKGROUND_REPEAT, false);
+		}
+
+		if (!requiresCustomBackground) {
+			if (background != null) {
+				background.releaseDelegate();
+				background.setCallback(null);
+				background = null;
 			}
-		} else if (key.equals(TiC.PROPERTY_ANCHOR_POINT)) {
-			if (getOuterView() != null) {
-				if (newValue instanceof HashMap) {
-					setAnchor((HashMap) newValue);
+
+			if (this.nativeView != null) {
+				if (d.containsKeyAndNotNull(TiC.PROPERTY_BACKGROUND_COLOR)) {
+					int bgColor = TiConvert.toColor(d, TiC.PROPERTY_BACKGROUND_COLOR, proxy.getActivity());
+					this.nativeView.setBackgroundColor(bgColor);
+					onBackgroundColorChanged(bgColor);
 				} else {
-					Log.e(TAG, "Invalid argument type for anchorPoint property. Ignoring");
+					this.nativeView.setBackground(null);
+					onBackgroundColorChanged(Color.TRANSPARENT);
 				}
 			}
-		} else if (key.equals(TiC.PROPERTY_TRANSLATION_X)) {
-			TiDimension val = TiConvert.toTiDimension(newValue, TiDimension.TYPE_WIDTH);
-			if (val != null) {
-				ViewCompat.setTranslationX(getOuterView(), (float) val.getPixels(getOuterView()));
-			}
-		} else if (key.equals(TiC.PROPERTY_TRANSLATION_Y)) {
-			TiDimension val = TiConvert.toTiDimension(newValue, TiDimension.TYPE_HEIGHT);
-			if (val != null) {
-				ViewCompat.setTranslationY(getOuterView(), (float) val.getPixels(getOuterView()));
+		} else {
+			boolean newBackground = background == null;
+			if (newBackground) {
+				background = new TiBackgroundDrawable();
 			}
-		} else if (key.equals(TiC.PROPERTY_TRANSLATION_Z)) {
-			if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
-				TiDimension val = TiConvert.toTiDimension(newValue, TiDimension.TYPE_UNDEFINED);
-				if (val != null) {
-					nativeView.setTranslationZ((float) val.getPixels(getOuterView()));
+
+			Integer bgColor = null;
+
+			if (!hasColorState && !hasGradient) {
+				if (d.get(TiC.PROPERTY_BACKGROUND_COLOR) != null) {
+					bgColor = TiConvert.toColor(d, TiC.PROPERTY_BACKGROUND_COLOR, proxy.getActivity());
+					if (newBackground
+						|| (key.equals(TiC.PROPERTY_OPACITY) || key.equals(TiC.PROPERTY_BACKGROUND_COLOR))) {
+						background.setBackgroundColor(bgColor);
+						onBackgroundColorChanged(bgColor);
+					}
 				}
 			}
-		} else if (key.equals(TiC.PROPERTY_TRANSITION_NAME)) {
-			if (nativeView != null) {
-				ViewCompat.setTransitionName(nativeView, TiConvert.toString(newValue));
-			}
-		} else if (key.equals(TiC.PROPERTY_SCALE_X)) {
-			if (getOuterView() != null) {
-				ViewCompat.setScaleX(getOuterView(), TiConvert.toFloat(newValue));
-			}
-		} else if (key.equals(TiC.PROPERTY_SCALE_Y)) {
-			if (getOuterView() != null) {
-				ViewCompat.setScaleY(getOuterView(), TiConvert.toFloat(newValue));
-			}
-		} else if (key.equals(TiC.PROPERTY_ROTATION)) {
-			getOuterView().setRotation(TiConvert.toFloat(newValue));
-		} else if (key.equals(TiC.PROPERTY_ROTATION_X)) {
-			if (getOuterView() != null) {
-				ViewCompat.setRotationX(getOuterView(), TiConvert.toFloat(newValue));
-			}
-		} else if (key.equals(TiC.PROPERTY_ROTATION_Y)) {
-			if (getOuterView() != null) {
-				ViewCompat.setRotationY(getOuterView(), TiConvert.toFloat(newValue));
-			}
-		} else if (key.equals(TiC.PROPERTY_HIDDEN_BEHAVIOR)) {
-			hiddenBehavior = TiConvert.toInt(newValue, View.INVISIBLE);
-		} else if (key.equals(TiC.PROPERTY_VIEW_SHADOW_COLOR)) {
-			if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.P) {
-				if (nativeView != null) {
-					nativeView.setOutlineAmbientShadowColor(TiConvert.toColor(TiConvert.toString(newValue),
-						TiApplication.getAppCurrentActivity()));
-					nativeView.setOutlineSpotShadowColor(TiConvert.toColor(TiConvert.toString(newValue),
-						TiApplication.getAppCurrentActivity()));
+
+			if (hasImage || hasRepeat || hasColorState || hasGradient) {
+				if (newBackground || key.equals(TiC.PROPERTY_OPACITY)
+					|| key.startsWith(TiC.PROPERTY_BACKGROUND_PREFIX)) {
+					handleBackgroundImage(d);
 				}
-			} else {
-				Log.w(TAG, "Setting the 'viewShadowColor' property requires Android P or later");
 			}
-		} else if (key.equals(TiC.PROPERTY_CLIP_MODE)) {
-			if (nativeView != null) {
-				setClipMode(TiConvert.toInt(newValue, UIModule.CLIP_MODE_DEFAULT));
-				// Re-apply after next layout to ensure hierarchy updates are captured.
-				reapplyClipModeOnNextLayout(TiConvert.toInt(newValue, UIModule.CLIP_MODE_DEFAULT));
+
+			if (hasBorder) {
+				if (borderView == null && parent != null) {
+					// Since we have to create a new border wrapper view, we need to remove this view, and re-add
+					// it.
+					// This will ensure the border wrapper view is added correctly.
+					TiUIView parentView = parent.getOrCreateView();
+					if (parentView != null) {
+						int removedChildIndex = parentView.findChildIndex(this);
+						parentView.remove(this);
+						initializeBorder(d, bgColor);
+						if (removedChildIndex == -1) {
+							parentView.add(this);
+						} else {
+							parentView.add(this, removedChildIndex);
+						}
+					}
+				} else if (key.startsWith(TiC.PROPERTY_BORDER_PREFIX)) {
+					handleBorderProperty(key, newValue);
+				}
+
+				// TIMOB-24898: On older Android versions, transparency + rounded corners could require SW layer.
+				// Limit disabling HW acceleration to pre-Marshmallow. On newer versions, prefer HW with outline clipping.
+				if ((bgColor != null) && (Color.alpha(bgColor) < 255)) {
+					if (Build.VERSION.SDK_INT < Build.VERSION_CODES.M) {
+						disableHWAcceleration();
+					} else if (borderView != null && borderView.hasRadius()) {
+						// Use hardware-accelerated clipping via outline where possible (API 21+)
+						borderView.setClipToOutline(true);
+					}
+				}
 			}
-		} else if (Log.isDebugModeEnabled()) {
-			Log.d(TAG, "Unhandled property key: " + key, Log.DEBUG_MODE);
+
+			applyCustomBackground();
+		}
+		if (canApplyTouchFeedback(d)) {
+			String colorString = TiConvert.toString(d.get(TiC.PROPERTY_TOUCH_FEEDBACK_COLOR));
+			applyTouchFeedback((colorString != null) ? TiConvert.toColor(colorString, proxy.getActivity()) : null);
+		}
+		if (key.equals(TiC.PROPERTY_OPACITY)) {
+			setOpacity(TiConvert.toFloat(newValue, 1f));
+		}
+		if (this.nativeView != null) {
+			this.nativeView.postInvalidate();
 		}
 	}
 
@@ -1451,9 +1504,7 @@ public abstract class TiUIView implements KrollProxyListener, OnFocusChangeListe
 
 	public void release()
 	{
-		if (Log.isDebugModeEnabled()) {
-			Log.d(TAG, "Releasing: " + this, Log.DEBUG_MODE);
-		}
+		Log.debugf(TAG, "Releasing: {}", this);
 
 		// Track view destruction for debugging
 		KrollLifecycleTracker.trackViewDestroyed(this);
@@ -1463,9 +1514,7 @@ public abstract class TiUIView implements KrollProxyListener, OnFocusChangeListe
 		if (nv != null) {
 			if (nv instanceof ViewGroup) {
 				ViewGroup vg = (ViewGroup) nv;
-				if (Log.isDebugModeEnabled()) {
-					Log.d(TAG, "Group has: " + vg.getChildCount(), Log.DEBUG_MODE);
-				}
+				Log.debugf(TAG, "Group has: {}", vg.getChildCount());
 				if (!(vg instanceof AdapterView<?>)) {
 					vg.removeAllViews();
 				}
@@ -16,12 +16,16 @@ import org.appcelerator.titanium.TiC;
 import org.appcelerator.titanium.util.TiConvert;
 
 import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 import ti.modules.titanium.codec.CodecModule;
 
 /**
- * A proxy that wraps a primitive byte array buffer
+ * A proxy that wraps a primitive byte array buffer.
+ * <p>
+ * A buffer created with the "shared" property is backed by direct memory instead, which JavaScript
+ * can view as an ArrayBuffer without copying it. See {@link #getArrayBuffer()}.
  */
 @Kroll.proxy(creatableInModule = TitaniumModule.class,
 	propertyAccessors = {
@@ -33,7 +37,8 @@ public class BufferProxy extends KrollProxy
 {
 	private static final String TAG = "BufferProxy";
 
-	private byte[] buffer;
+	// Position 0 and limit at capacity at all times. Accessed through duplicates.
+	private ByteBuffer buffer;
 
 	public BufferProxy()
 	{
@@ -42,20 +47,36 @@ public class BufferProxy extends KrollProxy
 
 	public BufferProxy(int bufferSize)
 	{
-		buffer = new byte[bufferSize];
+		buffer = allocate(bufferSize, false);
 	}
 
 	public BufferProxy(byte[] existingBuffer)
+	{
+		buffer = ByteBuffer.wrap(existingBuffer);
+	}
+
+	protected BufferProxy(ByteBuffer existingBuffer)
 	{
 		buffer = existingBuffer;
 	}
 
+	/**
+	 * Allocates a buffer backed by a byte array, or by direct memory if shared.
+	 * @param length the buffer's length in bytes.
+	 * @param shared whether the buffer's memory can be shared with JavaScript.
+	 * @return the allocated buffer.
+	 */
+	protected static ByteBuffer allocate(int length, boolean shared)
+	{
+		return shared ? ByteBuffer.allocateDirect(length) : ByteBuffer.wrap(new byte[length]);
+	}
+
 	@Override
 	public void handleCreationArgs(KrollModule createdInModule, Object[] args)
 	{
 		// If no arguments are provided in create, allocate an empty buffer.
 		if (args.length == 0) {
-			buffer = new byte[0];
+			buffer = allocate(0, false);
 		} else {
 			super.handleCreationArgs(createdInModule, args);
 		}
@@ -78,7 +99,7 @@ public class BufferProxy extends KrollProxy
 			setProperty(TiC.PROPERTY_BYTE_ORDER, CodecModule.getByteOrder(null));
 		}
 
-		buffer = new byte[length];
+		buffer = allocate(length, TiConvert.toBoolean(dict, TiC.PROPERTY_SHARED, false));
 		Object value = dict.get(TiC.PROPERTY_VALUE);
 		if (value instanceof Number) {
 			encodeNumber((Number) value, dict);
@@ -94,8 +115,8 @@ public class BufferProxy extends KrollProxy
 			throw new IllegalArgumentException("data is a Number, but no type was given");
 		}
 
-		if (buffer.length == 0) {
-			buffer = new byte[CodecModule.getWidth(type)];
+		if (buffer.capacity() == 0) {
+			buffer = allocate(CodecModule.getWidth(type), isShared());
 		}
 
 		int byteOrder = CodecModule.getByteOrder(dict.get(TiC.PROPERTY_BYTE_ORDER));
@@ -112,10 +133,13 @@ public class BufferProxy extends KrollProxy
 		String charset = CodecModule.getCharset(type);
 		try {
 			byte[] bytes = value.getBytes(charset);
-			if (buffer.length == 0) {
-				buffer = bytes;
+			if (buffer.capacity() == 0 && !isShared()) {
+				buffer = ByteBuffer.wrap(bytes);
 			} else {
-				System.arraycopy(bytes, 0, buffer, 0, bytes.length);
+				if (buffer.capacity() == 0) {
+					buffer = allocate(bytes.length, true);
+				}
+				getByteBuffer(0, bytes.length).put(bytes);
 			}
 		} catch (UnsupportedEncodingException e) {
 			Log.w(TAG, e.getMessage(), e);
@@ -124,46 +148,92 @@ public class BufferProxy extends KrollProxy
 	}
 
 	/**
-	 * @return The native buffer for this proxy
+	 * @return The native buffer for this proxy. Shared buffers return a copy of their content,
+	 * use {@link #getByteBuffer()} to access them in place.
 	 */
 	public byte[] getBuffer()
 	{
+		if (buffer.hasArray()) {
+			return buffer.array();
+		}
+		byte[] bytes = new byte[buffer.capacity()];
+		buffer.duplicate().get(bytes);
+		return bytes;
+	}
+
+	/**
+	 * Obtains a view of this buffer's content which reads and writes it in place.
+	 * The view's position and limit are independent of this buffer. Views obtained
+	 * before a change of this buffer's length no longer reflect its content.
+	 * @return A view of the whole buffer.
+	 */
+	public ByteBuffer getByteBuffer()
+	{
+		return buffer.duplicate();
+	}
+
+	/**
+	 * Obtains a view of a range of this buffer's content, see {@link #getByteBuffer()}.
+	 * @param offset The view's position, which is the start of the range.
+	 * @param length The length of the range. The view's limit is set to its end.
+	 * @return A view of the given range.
+	 */
+	public ByteBuffer getByteBuffer(int offset, int length)
+	{
+		ByteBuffer view = buffer.duplicate();
+		view.limit(offset + length);
+		view.position(offset);
+		return view;
+	}
+
+	/**
+	 * @return true if this buffer is backed by direct memory that can be shared with JavaScript.
+	 */
+	@Kroll.getProperty(name = "shared")
+	public boolean isShared()
+	{
+		return buffer.isDirect();
+	}
+
+	/**
+	 * Obtains this buffer's memory to be viewed by JavaScript as an ArrayBuffer, without copying.
+	 * Buffers which are not shared are moved to shared memory first.
+	 * @return The direct buffer backing this proxy.
+	 */
+	@Kroll.getProperty
+	public Object getArrayBuffer()
+	{
+		if (!isShared()) {
+			buffer = copyOf(buffer, buffer.capacity(), true);
+		}
 		return buffer;
 	}
 
 	@Override
 	public Object getIndexedProperty(int index)
 	{
-		return buffer[index] & 0xFF;
+		return buffer.get(index) & 0xFF;
 	}
 
 	@Override
 	public void setIndexedProperty(int index, Object value)
 	{
 		if (value instanceof Number) {
-			buffer[index] = ((Number) value).byteValue();
+			buffer.put(index, ((Number) value).byteValue());
 		} else {
 			super.setIndexedProperty(index, value);
 		}
 	}
 
-	protected byte[] copyOf(byte[] array, int newLength)
+	protected ByteBuffer copyOf(ByteBuffer source, int newLength, boolean shared)
 	{
-		byte[] newArray = new byte[newLength];
-		int length = newLength;
-		if (length > array.length) {
-			length = array.length;
-		}
-		System.arraycopy(array, 0, newArray, 0, length);
-		return newArray;
-	}
-
-	protected byte[] copyOfRange(byte[] array, int from, int to)
-	{
-		int length = to - from;
-		byte[] newArray = new byte[length];
-		System.arraycopy(array, from, newArray, 0, length);
-		return newArray;
+		ByteBuffer newBuffer = allocate(newLength, shared);
+		int length = Math.min(newLength, source.capacity());
+		ByteBuffer sourceView = source.duplicate();
+		sourceView.limit(length);
+		newBuffer.put(sourceView);
+		newBuffer.rewind();
+		return newBuffer;
 	}
 
 	protected void validateOffsetAndLength(int offset, int length, int bufferLength)
@@ -185,11 +255,24 @@ public class BufferProxy extends KrollProxy
 	 */
 	public int write(int position, byte[] sourceBuffer, int sourceOffset, int sourceLength)
 	{
-		if ((position + sourceLength) > buffer.length) {
-			buffer = copyOf(buffer, (position + sourceLength));
+		return write(position, ByteBuffer.wrap(sourceBuffer, sourceOffset, sourceLength));
+	}
+
+	/**
+	 * Writes the remaining content of source into this, growing this buffer if needed.
+	 *
+	 * @param position the offset position of this buffer.
+	 * @param source   the source to write from, such as a range of a buffer from {@link #getByteBuffer(int, int)}.
+	 * @return number of bytes written.
+	 */
+	public int write(int position, ByteBuffer source)
+	{
+		int sourceLength = source.remaining();
+		if ((position + sourceLength) > buffer.capacity()) {
+			resize(position + sourceLength);
 		}
 
-		System.arraycopy(sourceBuffer, sourceOffset, buffer, position, sourceLength);
+		getByteBuffer(position, sourceLength).put(source);
 
 		return sourceLength;
 	}
@@ -200,25 +283,22 @@ public class BufferProxy extends KrollProxy
 		if (args.length < 1) {
 			throw new IllegalArgumentException("At least 1 argument required for append: src");
 		}
-		int destLength = buffer.length;
+		int destLength = buffer.capacity();
 		BufferProxy src = (BufferProxy) args[0];
-		byte[] sourceBuffer = src.getBuffer();
 
 		int offset = 0;
 		if (args.length > 1 && args[1] != null) {
 			offset = TiConvert.toInt(args[1]);
 		}
 
-		int sourceLength = sourceBuffer.length;
+		int sourceLength = src.getLength();
 		if (args.length > 2 && args[2] != null) {
 			sourceLength = TiConvert.toInt(args[2]);
 		}
 
-		validateOffsetAndLength(offset, sourceLength, sourceBuffer.length);
+		validateOffsetAndLength(offset, sourceLength, src.getLength());
 
-		buffer = copyOf(buffer, (destLength + sourceLength));
-		System.arraycopy(sourceBuffer, offset, buffer, destLength, sourceLength);
-		return sourceLength;
+		return write(destLength, src.getByteBuffer(offset, sourceLength));
 	}
 
 	@Kroll.method
@@ -228,7 +308,6 @@ public class BufferProxy extends KrollProxy
 			throw new IllegalArgumentException("At least 2 arguments required for insert: src, offset");
 		}
 		BufferProxy sourceBufferProxy = (BufferProxy) args[0];
-		byte[] sourceBuffer = sourceBufferProxy.getBuffer();
 		int offset = TiConvert.toInt(args[1]);
 
 		int sourceOffset = 0;
@@ -236,20 +315,24 @@ public class BufferProxy extends KrollProxy
 			sourceOffset = TiConvert.toInt(args[2]);
 		}
 
-		int sourceLength = sourceBuffer.length;
+		int sourceLength = sourceBufferProxy.getLength();
 		if (args.length > 3 && args[3] != null) {
 			sourceLength = TiConvert.toInt(args[3]);
 		}
 
-		validateOffsetAndLength(sourceOffset, sourceLength, sourceBuffer.length);
+		validateOffsetAndLength(sourceOffset, sourceLength, sourceBufferProxy.getLength());
 
-		byte[] preInsertBuffer = copyOf(buffer, offset);
-		byte[] postInsertBuffer = copyOfRange(buffer, offset, buffer.length);
+		// Views of the current buffer remain valid once replaced, even when inserting this buffer into itself.
+		ByteBuffer source = sourceBufferProxy.getByteBuffer(sourceOffset, sourceLength);
+		ByteBuffer preInsert = getByteBuffer(0, offset);
+		ByteBuffer postInsert = getByteBuffer(offset, buffer.capacity() - offset);
 
-		buffer = new byte[(preInsertBuffer.length + sourceLength + postInsertBuffer.length)];
-		System.arraycopy(preInsertBuffer, 0, buffer, 0, preInsertBuffer.length);
-		System.arraycopy(sourceBuffer, sourceOffset, buffer, preInsertBuffer.length, sourceLength);
-		System.arraycopy(postInsertBuffer, 0, buffer, (preInsertBuffer.length + sourceLength), postInsertBuffer.length);
+		ByteBuffer newBuffer = allocate(preInsert.remaining() + sourceLength + postInsert.remaining(), isShared());
+		newBuffer.put(preInsert);
+		newBuffer.put(source);
+		newBuffer.put(postInsert);
+		newBuffer.rewind();
+		buffer = newBuffer;
 
 		return sourceLength;
 	}
@@ -262,7 +345,6 @@ public class BufferProxy extends KrollProxy
 		}
 
 		BufferProxy sourceBufferProxy = (BufferProxy) args[0];
-		byte[] sourceBuffer = sourceBufferProxy.getBuffer();
 
 		int offset = 0;
 		if (args.length > 1 && args[1] != null) {
@@ -274,14 +356,19 @@ public class BufferProxy extends KrollProxy
 			sourceOffset = TiConvert.toInt(args[2]);
 		}
 
-		int sourceLength = sourceBuffer.length;
+		int sourceLength = sourceBufferProxy.getLength();
 		if (args.length > 3 && args[3] != null) {
 			sourceLength = TiConvert.toInt(args[3]);
 		}
 
-		validateOffsetAndLength(sourceOffset, sourceLength, sourceBuffer.length);
+		validateOffsetAndLength(sourceOffset, sourceLength, sourceBufferProxy.getLength());
 
-		System.arraycopy(sourceBuffer, sourceOffset, buffer, offset, sourceLength);
+		ByteBuffer source = sourceBufferProxy.getByteBuffer(sourceOffset, sourceLength);
+		if (sourceBufferProxy == this) {
+			// Ranges of the same buffer may overlap, copy through a separate buffer.
+			source = copyOf(source.slice(), sourceLength, false);
+		}
+		getByteBuffer(offset, sourceLength).put(source);
 		return sourceLength;
 	}
 
@@ -293,14 +380,14 @@ public class BufferProxy extends KrollProxy
 			offset = TiConvert.toInt(args[0]);
 		}
 
-		int length = buffer.length;
+		int length = buffer.capacity();
 		if (args.length > 1 && args[1] != null) {
 			length = TiConvert.toInt(args[1]);
 		}
 
-		validateOffsetAndLength(offset, length, buffer.length);
+		validateOffsetAndLength(offset, length, buffer.capacity());
 
-		BufferProxy clone = new BufferProxy(copyOfRange(buffer, offset, offset + length));
+		BufferProxy clone = new BufferProxy(copyOf(getByteBuffer(offset, length).slice(), length, isShared()));
 		// Copy over byteOrder and type properties
 		clone.setProperty(TiC.PROPERTY_BYTE_ORDER, this.getProperty(TiC.PROPERTY_BYTE_ORDER));
 		if (this.hasProperty(TiC.PROPERTY_TYPE)) {
@@ -327,38 +414,49 @@ public class BufferProxy extends KrollProxy
 			offset = TiConvert.toInt(args[1]);
 		}
 
-		int length = buffer.length;
+		int length = buffer.capacity();
 		if (args.length > 2 && args[2] != null) {
 			length = TiConvert.toInt(args[2]);
 		}
 
-		validateOffsetAndLength(offset, length, buffer.length);
+		validateOffsetAndLength(offset, length, buffer.capacity());
 
-		Arrays.fill(buffer, offset, (offset + length), (byte) fillByte);
+		fill(offset, length, (byte) fillByte);
+	}
+
+	protected void fill(int offset, int length, byte value)
+	{
+		if (buffer.hasArray()) {
+			Arrays.fill(buffer.array(), offset, (offset + length), value);
+		} else {
+			for (int index = offset; index < (offset + length); index++) {
+				buffer.put(index, value);
+			}
+		}
 	}
 
 	@Kroll.method
 	public void clear()
 	{
-		Arrays.fill(buffer, (byte) 0);
+		fill(0, buffer.capacity(), (byte) 0);
 	}
 
 	@Kroll.method
 	public void release()
 	{
-		buffer = new byte[0];
+		buffer = allocate(0, isShared());
 	}
 
 	@Kroll.method
 	public String toString()
 	{
-		return new String(buffer);
+		return new String(getBuffer());
 	}
 
 	@Kroll.method
 	public TiBlob toBlob()
 	{
-		return TiBlob.blobFromData(buffer);
+		return TiBlob.blobFromData(getBuffer());
 	}
 
 	/**
@@ -367,7 +465,7 @@ public class BufferProxy extends KrollProxy
 	@Kroll.getProperty
 	public int getLength()
 	{
-		return buffer.length;
+		return buffer.capacity();
 	}
 
 	/**
@@ -384,7 +482,7 @@ public class BufferProxy extends KrollProxy
 
 	public void resize(int length)
 	{
-		buffer = copyOf(buffer, length);
+		buffer = copyOf(buffer, length, isShared());
 	}
 
 	@Override
@@ -7,7 +7,10 @@
 package ti.modules.titanium.codec;
 
 import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.nio.charset.UnsupportedCharsetException;
 import org.appcelerator.kroll.KrollDict;
 import org.appcelerator.kroll.KrollModule;
 import org.appcelerator.kroll.annotations.Kroll;
@@ -76,21 +79,25 @@ public class CodecModule extends KrollModule
 			position = TiConvert.toInt(args, TiC.PROPERTY_POSITION);
 		}
 
-		byte[] buffer = dest.getBuffer();
-		return encodeNumber(src, type, buffer, position, byteOrder);
+		return encodeNumber(src, type, dest.getByteBuffer(), position, byteOrder);
 	}
 
 	public static int encodeNumber(Number src, String type, byte[] dest, int position, int byteOrder)
+	{
+		return encodeNumber(src, type, ByteBuffer.wrap(dest), position, byteOrder);
+	}
+
+	public static int encodeNumber(Number src, String type, ByteBuffer dest, int position, int byteOrder)
 	{
 		long l = src.longValue();
 		if (type.equals(TYPE_BYTE)) {
-			dest[position] = (byte) (l & 0xFF);
+			dest.put(position, (byte) (l & 0xFF));
 			return position + 1;
 		} else if (type.equals(TYPE_SHORT)) {
 			int bits = byteOrder == BIG_ENDIAN ? 8 : 0;
 			int step = byteOrder == BIG_ENDIAN ? -8 : 8;
 			for (int i = position; i < position + 2; i++, bits += step) {
-				dest[i] = (byte) ((l >>> bits) & 0xFF);
+				dest.put(i, (byte) ((l >>> bits) & 0xFF));
 			}
 			return position + 2;
 		} else if (type.equals(TYPE_INT) || type.equals(TYPE_FLOAT)) {
@@ -100,7 +107,7 @@ public class CodecModule extends KrollModule
 			int bits = byteOrder == BIG_ENDIAN ? 24 : 0;
 			int step = byteOrder == BIG_ENDIAN ? -8 : 8;
 			for (int j = position; j < position + 4; j++, bits += step) {
-				dest[j] = (byte) ((l >>> bits) & 0xFF);
+				dest.put(j, (byte) ((l >>> bits) & 0xFF));
 			}
 			return position + 4;
 		} else if (type.equals(TYPE_LONG) || type.equals(TYPE_DOUBLE)) {
@@ -110,7 +117,7 @@ public class CodecModule extends KrollModule
 			int bits = byteOrder == BIG_ENDIAN ? 56 : 0;
 			int step = byteOrder == BIG_ENDIAN ? -8 : 8;
 			for (int i = position; i < position + 8; i++, bits += step) {
-				dest[i] = (byte) ((l >>> bits) & 0xFF);
+				dest.put(i, (byte) ((l >>> bits) & 0xFF));
 			}
 			return position + 8;
 		}
@@ -136,12 +143,12 @@ public class CodecModule extends KrollModule
 			position = TiConvert.toInt(args, TiC.PROPERTY_POSITION);
 		}
 
-		byte[] src = buffer.getBuffer();
+		ByteBuffer src = buffer.getByteBuffer();
 		if (type.equals(TYPE_BYTE)) {
-			return src[position];
+			return src.get(position);
 		} else if (type.equals(TYPE_SHORT)) {
-			short s1 = (short) (src[position] & 0xFF);
-			short s2 = (short) (src[position + 1] & 0xFF);
+			short s1 = (short) (src.get(position) & 0xFF);
+			short s2 = (short) (src.get(position + 1) & 0xFF);
 			switch (byteOrder) {
 				case BIG_ENDIAN:
 					return ((s1 << 8) + s2);
@@ -153,7 +160,7 @@ public class CodecModule extends KrollModule
 			int shiftBits = byteOrder == BIG_ENDIAN ? 24 : 0;
 			int step = byteOrder == BIG_ENDIAN ? -8 : 8;
 			for (int i = 0; i < 4; i++, shiftBits += step) {
-				int part = (int) (src[position + i] & 0xFF);
+				int part = (int) (src.get(position + i) & 0xFF);
 				bits += (part << shiftBits);
 			}
 			if (type.equals(TYPE_FLOAT)) {
@@ -165,7 +172,7 @@ public class CodecModule extends KrollModule
 			int shiftBits = byteOrder == BIG_ENDIAN ? 56 : 0;
 			int step = byteOrder == BIG_ENDIAN ? -8 : 8;
 			for (int i = 0; i < 8; i++, shiftBits += step) {
-				long part = (long) (src[position + i] & 0xFF);
+				long part = (long) (src.get(position + i) & 0xFF);
 				bits += (part << shiftBits);
 			}
 			if (type.equals(TYPE_DOUBLE)) {
@@ -203,7 +210,6 @@ public class CodecModule extends KrollModule
 		}
 
 		String charset = validateCharset(args);
-		byte[] destBuffer = dest.getBuffer();
 		validatePositionAndLength(srcPosition, srcLength, src.length());
 
 		if (srcPosition != 0 || srcLength != src.length()) {
@@ -212,7 +218,7 @@ public class CodecModule extends KrollModule
 
 		try {
 			byte[] encoded = src.getBytes(charset);
-			System.arraycopy(encoded, 0, destBuffer, destPosition, encoded.length);
+			dest.getByteBuffer(destPosition, encoded.length).put(encoded);
 
 			return destPosition + encoded.length;
 		} catch (UnsupportedEncodingException e) {
@@ -229,23 +235,23 @@ public class CodecModule extends KrollModule
 		}
 
 		BufferProxy src = (BufferProxy) args.get(TiC.PROPERTY_SOURCE);
-		byte[] buffer = src.getBuffer();
 
 		int position = 0;
 		if (args.containsKey(TiC.PROPERTY_POSITION)) {
 			position = TiConvert.toInt(args, TiC.PROPERTY_POSITION);
 		}
-		int length = buffer.length;
+		int length = src.getLength();
 		if (args.containsKey(TiC.PROPERTY_LENGTH)) {
 			length = TiConvert.toInt(args, TiC.PROPERTY_LENGTH);
 		}
 
-		validatePositionAndLength(position, length, buffer.length);
+		validatePositionAndLength(position, length, src.getLength());
 		String charset = validateCharset(args);
 
 		try {
-			return new String(buffer, position, length, charset);
-		} catch (UnsupportedEncodingException e) {
+			// Decode in place, shared buffers have no backing array.
+			return Charset.forName(charset).decode(src.getByteBuffer(position, length)).toString();
+		} catch (UnsupportedCharsetException e) {
 			Log.w(TAG, e.getMessage(), e);
 			throw new IllegalArgumentException("Unsupported Encoding: " + charset);
 		}
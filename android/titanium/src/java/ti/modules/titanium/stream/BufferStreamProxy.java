@@ -6,12 +6,10 @@
  */
 package ti.modules.titanium.stream;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 
 import org.appcelerator.kroll.KrollProxy;
 import org.appcelerator.kroll.annotations.Kroll;
-import org.appcelerator.kroll.common.Log;
 import org.appcelerator.titanium.io.TiStream;
 import org.appcelerator.titanium.util.TiStreamHelper;
 
@@ -64,23 +62,21 @@ public class BufferStreamProxy extends KrollProxy implements TiStream
 
 	public int readSync(Object bufferProxy, int offset, int length) throws IOException
 	{
-		ByteArrayInputStream bufferInputStream =
-			new ByteArrayInputStream(this.buffer.getBuffer(), this.position, (this.buffer.getLength() - this.position));
-		int bytesRead;
-
-		try {
-			bytesRead = TiStreamHelper.read(bufferInputStream, (BufferProxy) bufferProxy, offset, length);
-
-			if (bytesRead > -1) {
-				this.position += bytesRead;
-			}
+		// Copy between the buffers directly, shared buffers have no backing array to stream from.
+		BufferProxy destination = (BufferProxy) bufferProxy;
+		int available = this.buffer.getLength() - this.position;
+		if (available <= 0) {
+			return -1;
+		}
+		int bytesRead = Math.min(Math.min(length, destination.getLength() - offset), available);
+		if (bytesRead <= 0) {
+			return 0;
+		}
 
-			return bytesRead;
+		destination.getByteBuffer(offset, bytesRead).put(this.buffer.getByteBuffer(this.position, bytesRead));
+		this.position += bytesRead;
 
-		} catch (IOException e) {
-			Log.e(TAG, "Unable to read from buffer stream, IO error", e);
-			throw new IOException("Unable to read from buffer stream, IO error");
-		}
+		return bytesRead;
 	}
 
 	@Kroll.method
@@ -103,7 +99,7 @@ public class BufferStreamProxy extends KrollProxy implements TiStream
 
 	public int writeSync(Object bufferProxy, int offset, int length) throws IOException
 	{
-		int bytesWritten = buffer.write(position, ((BufferProxy) bufferProxy).getBuffer(), offset, length);
+		int bytesWritten = buffer.write(position, ((BufferProxy) bufferProxy).getByteBuffer(offset, length));
 		position += bytesWritten;
 
 		return bytesWritten;
@@ -13,6 +13,7 @@
  * (and Uint8Array in particular) as a means of encapsulating a byte array. We should consider accepting
  * a Uint8Array in any of our APIs that take a Ti.Buffer and eventually deprecating/removing Ti.Buffer.
  */
+/* global OS_ANDROID */
 
 import {
 	customInspectSymbol,
@@ -1012,6 +1013,12 @@ Buffer.prototype.ucs2Slice = function (start, end) {
  * @returns {Ti.Buffer} the underlying Ti.Buffer backing this Buffer instance
  */
 Buffer.prototype.toTiBuffer = function () {
+	if (OS_ANDROID) {
+		// Copy all bytes at once into the Ti.Buffer's shared memory, rather than one at a time through the binding layer
+		const sharedBuffer = Ti.createBuffer({ length: this.length, shared: true });
+		new Uint8Array(sharedBuffer.arrayBuffer).set(this);
+		return sharedBuffer;
+	}
 	const tiBuffer = Ti.createBuffer({ length: this.length });
 	copyBuffer(this, tiBuffer, 0, this.length);
 	return tiBuffer;
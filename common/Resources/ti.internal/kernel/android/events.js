@@ -135,6 +135,13 @@ export default function EventEmitterBootstrap(global, kroll) {
 				throw new Error('addListener only takes instances of Function. The listener for event "' + type + '" is "' + (typeof listener) + '"');
 			}
 
+			// An options dictionary can be passed instead of a view, such as { coalesce: 'frame' }.
+			var options;
+			if (view !== null && typeof view === 'object' && Object.getPrototypeOf(view) === Object.prototype) {
+				options = view;
+				view = undefined;
+			}
+
 			if (!this._events) {
 				this._events = {};
 			}
@@ -170,6 +177,11 @@ export default function EventEmitterBootstrap(global, kroll) {
 				this._hasListenersForEventType(type, true);
 			}
 
+			// Let the Java proxy limit how often the event is fired while the JS thread is busy.
+			if (options && (options.coalesce !== undefined || options.maxRate !== undefined)) {
+				this._setEventCoalescing(type, options);
+			}
+
 			return id;
 		},
 		enumerable: false
@@ -191,6 +203,14 @@ export default function EventEmitterBootstrap(global, kroll) {
 		enumerable: false
 	});
 
+	// The JavaObject prototype will provide a version of this
+	// that delegates back to the Java proxy. Non-Java versions
+	// of EventEmitter don't care, so this no op is called instead.
+	Object.defineProperty(EventEmitter.prototype, '_setEventCoalescing', {
+		value: function () {},
+		enumerable: false
+	});
+
 	Object.defineProperty(EventEmitter.prototype, 'on', {
 		value: EventEmitter.prototype.addListener,
 		enumerable: false
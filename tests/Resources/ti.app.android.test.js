@@ -24,6 +24,144 @@ describe.android('Titanium.App.Android', function () {
 		should(Ti.App.Android.appVersionName).be.eql('v1.01');
 	});
 
+	it('assetCacheStats', function () {
+		const stats = Ti.App.Android.assetCacheStats;
+		should(stats).be.an.Object();
+		// "app.js" is read through the cache during startup: prefetched since the second launch, else missed.
+		should(stats.hits + stats.misses).be.above(0);
+		// Each prefetched asset is read at most once, or released unused.
+		should(stats.hits + stats.unused).be.belowOrEqual(stats.prefetched);
+		should(stats.dropped).be.belowOrEqual(stats.prefetched);
+		should(stats.waits).be.belowOrEqual(stats.hits + stats.misses);
+		should(stats.bytesSaved > 0).eql(stats.hits > 0);
+		should(stats.cachedBytes).be.belowOrEqual(stats.maxCachedBytes);
+	});
+
+	it('conversionStats', function () {
+		// Converting an object interns its property names, so converting the same name again is a hit.
+		const key = `conversionStatsKey${Date.now()}`;
+		const before = Ti.App.Android.conversionStats;
+		Ti.UI.createView({ [key]: 1 });
+		const afterFirst = Ti.App.Android.conversionStats;
+		Ti.UI.createView({ [key]: 2 });
+		const afterSecond = Ti.App.Android.conversionStats;
+
+		should(afterFirst.keyMisses).be.above(before.keyMisses);
+		should(afterFirst.internedKeys).be.above(0);
+		should(afterSecond.keyHits).be.above(afterFirst.keyHits);
+		should(afterSecond.keyMisses).eql(afterFirst.keyMisses);
+		should(afterSecond.lazyPending).be.belowOrEqual(afterSecond.lazyObjects);
+	});
+
+	describe('lazyConversion', () => {
+		let wasLazyConversion;
+
+		function createItems () {
+			const items = [];
+			for (let index = 0; index < 100; index++) {
+				items.push({ properties: { title: `Item ${index}`, myNumber: index } });
+			}
+			return items;
+		}
+
+		before(() => {
+			wasLazyConversion = Ti.App.Android.lazyConversion;
+		});
+
+		after(() => {
+			Ti.App.Android.lazyConversion = wasLazyConversion;
+		});
+
+		it('converts large arrays of objects eagerly when disabled', () => {
+			Ti.App.Android.lazyConversion = false;
+			should(Ti.App.Android.lazyConversion).be.false();
+
+			const before = Ti.App.Android.conversionStats;
+			const section = Ti.UI.createListSection({ items: createItems() });
+			should(Ti.App.Android.conversionStats.lazyObjects).be.eql(before.lazyObjects);
+			should(section.getItemAt(70).properties.title).be.eql('Item 70');
+		});
+
+		it('converts large arrays of objects lazily when enabled', () => {
+			Ti.App.Android.lazyConversion = true;
+			should(Ti.App.Android.lazyConversion).be.true();
+
+			const before = Ti.App.Android.conversionStats;
+			const items = createItems();
+			const section = Ti.UI.createListSection({ items });
+			const afterSet = Ti.App.Android.conversionStats;
+			should(afterSet.lazyObjects).be.aboveOrEqual(before.lazyObjects + items.length);
+
+			// Read.
+			should(section.getItemAt(70).properties.title).be.eql('Item 70');
+			should(section.getItemAt(70).properties.myNumber).be.eql(70);
+
+			// Write.
+			const item = section.getItemAt(71);
+			item.properties.title = 'Changed';
+			section.updateItemAt(71, item);
+			should(section.getItemAt(71).properties.title).be.eql('Changed');
+
+			// Iterate.
+			const sectionItems = section.items;
+			should(sectionItems.length).be.eql(items.length);
+			sectionItems.forEach((sectionItem, index) => {
+				if (index !== 71) {
+					should(sectionItem.properties.title).be.eql(`Item ${index}`);
+				}
+			});
+			const afterRead = Ti.App.Android.conversionStats;
+			should(afterRead.lazyMaterialized).be.above(afterSet.lazyMaterialized);
+			should(afterRead.lazyPending).be.belowOrEqual(afterRead.lazyObjects);
+		});
+	});
+
+	it('messengerStats', function () {
+		this.timeout(5000);
+		const before = Ti.App.Android.messengerStats;
+		// The database thread hands the resolution of the returned promise off to the JS thread.
+		const db = Ti.Database.open('messenger_stats.db');
+		return db.executeAsync('SELECT 1').then(rows => {
+			rows.close();
+			const stats = Ti.App.Android.messengerStats;
+			should(stats.handOffCount).be.above(before.handOffCount);
+			should(stats.handOffP50).be.belowOrEqual(stats.handOffP99);
+			should(stats.handOffP99).be.belowOrEqual(stats.handOffMax);
+			should(stats.blockingCount).be.aboveOrEqual(before.blockingCount);
+			should(stats.blockingP50).be.belowOrEqual(stats.blockingP99);
+			should(stats.blockingP99).be.belowOrEqual(stats.blockingMax);
+			return stats;
+		}).finally(() => db.close());
+	});
+
+	it('stylesheetStats', function () {
+		const classNames = [ `stylesheetStats${Date.now()}` ];
+		const before = Ti.App.Android.stylesheetStats;
+		Ti.UI.createView({ classNames });
+		const afterFirst = Ti.App.Android.stylesheetStats;
+		Ti.UI.createView({ classNames });
+		const afterSecond = Ti.App.Android.stylesheetStats;
+
+		// Styles are only looked up if the app has a compiled stylesheet, which this app does not have.
+		should(afterFirst).eql(before);
+		should(afterSecond).eql(before);
+	});
+
+	it('recentLogs', function () {
+		// Warnings are always kept, such as the one logged for an unknown coalesce mode.
+		const mode = `recentLogs${Date.now()}`;
+		Ti.UI.createView().addEventListener('touchmove', () => {}, { coalesce: mode });
+
+		const logs = Ti.App.Android.recentLogs;
+		should(logs).be.an.Array();
+		should(logs.length).be.belowOrEqual(256);
+		for (const entry of logs) {
+			should(entry).match(/^\d\d-\d\d \d\d:\d\d:\d\d\.\d{3} [DIWEV]\/.*: /);
+		}
+		const warnings = logs.filter(entry => entry.includes('W/KrollEventCoalescer: ') && entry.includes(mode));
+		should(warnings.length).eql(1);
+	});
+
 	it('launchIntent', function () {
 		const launchIntent = Ti.App.Android.launchIntent;
 		should(launchIntent).not.be.undefined();
@@ -237,6 +237,24 @@ describe('Titanium.App', () => {
 		// 	});
 		// });
 
+		describe.android('.startupTimeline', () => {
+			it('is a read-only Array', () => {
+				should(Ti.App).have.a.readOnlyProperty('startupTimeline').which.is.an.Array();
+			});
+
+			it('contains startup phases', () => {
+				const traceEvents = Ti.App.startupTimeline;
+				const onCreate = traceEvents.find(event => event.name === 'TiApplication.onCreate');
+				should(onCreate).be.an.Object();
+				should(onCreate.ph).eql('X');
+				should(onCreate.ts).be.a.Number();
+				should(onCreate.dur).be.a.Number();
+				should(onCreate.tid).be.a.Number();
+				should(traceEvents.some(event => event.ph === 'M' && event.tid === onCreate.tid)).be.true();
+				should(JSON.parse(JSON.stringify({ traceEvents }))).have.property('traceEvents');
+			});
+		});
+
 		describe('.url', () => {
 			it('is a read-only String', () => {
 				should(Ti.App).have.a.readOnlyProperty('url').which.is.a.String();
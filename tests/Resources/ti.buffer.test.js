@@ -708,4 +708,61 @@ describe('Titanium.Buffer', function () {
 			should(buffer[3]).eql(120);
 		});
 	});
+
+	describe.android('.arrayBuffer', function () {
+		it('is shared when created with shared: true', function () {
+			var buffer = Ti.createBuffer({ length: 16, shared: true });
+			should(buffer.shared).be.true();
+			should(buffer.arrayBuffer).be.an.instanceOf(ArrayBuffer);
+			should(buffer.arrayBuffer.byteLength).eql(16);
+		});
+
+		it('views buffer content in place', function () {
+			var buffer = Ti.createBuffer({ value: 'abc' }),
+				bytes;
+			should(buffer.shared).be.false();
+			bytes = new Uint8Array(buffer.arrayBuffer);
+			should(buffer.shared).be.true();
+			should(Array.from(bytes)).eql([ 97, 98, 99 ]);
+
+			bytes[0] = 120;
+			should(buffer[0]).eql(120);
+			buffer[2] = 122;
+			should(bytes[2]).eql(122);
+			should(buffer.toString()).eql('xbz');
+		});
+
+		it('is seen by Ti.Codec', function () {
+			var buffer = Ti.createBuffer({ length: 4, shared: true }),
+				bytes = new Uint8Array(buffer.arrayBuffer);
+			Ti.Codec.encodeNumber({
+				source: 305419896,
+				dest: buffer,
+				type: Ti.Codec.TYPE_INT,
+				byteOrder: Ti.Codec.BIG_ENDIAN
+			});
+			should(Array.from(bytes)).eql([ 18, 52, 86, 120 ]);
+
+			bytes.set([ 0x68, 0x69 ]);
+			should(Ti.Codec.decodeString({ source: buffer, length: 2 })).eql('hi');
+		});
+
+		it('keeps content across resizes', function () {
+			var buffer = Ti.createBuffer({ value: 'abc', shared: true }),
+				other = Ti.createBuffer({ value: 'def' });
+			buffer.append(other);
+			buffer.insert(other, 0, 0, 1);
+			should(buffer.shared).be.true();
+			should(buffer.length).eql(7);
+			should(buffer.toString()).eql('dabcdef');
+			should(new Uint8Array(buffer.arrayBuffer)[6]).eql(102);
+		});
+
+		it('is used by Buffer#toTiBuffer()', function () {
+			var tiBuffer = Buffer.from('hello').toTiBuffer();
+			should(tiBuffer.shared).be.true();
+			should(tiBuffer.length).eql(5);
+			should(tiBuffer.toString()).eql('hello');
+		});
+	});
 });
@@ -512,6 +512,40 @@ describe('Titanium.Database', function () {
 				.finally(() => db.close());
 		});
 
+		// Callbacks and promises are settled from the database thread without blocking it.
+		it.android('settles concurrent queries in order', function (finish) {
+			this.timeout(5000);
+			const db = Ti.Database.open('execute_async.db');
+			const count = 20;
+			const callbackOrder = [];
+			const promiseOrder = [];
+			const promises = [];
+			for (let index = 0; index < count; index++) {
+				const promise = db.executeAsync(`SELECT ${index} AS value`, err => {
+					if (!err) {
+						callbackOrder.push(index);
+					}
+				});
+				promises.push(promise.then(rows => {
+					// The callback was called before the promise was resolved.
+					should(callbackOrder).containEql(index);
+					promiseOrder.push(rows.field(0));
+					rows.close();
+					return rows;
+				}));
+			}
+			Promise.all(promises).then(() => {
+				const expectedOrder = Array.from({ length: count }, (value, index) => index);
+				should(callbackOrder).eql(expectedOrder);
+				should(promiseOrder).eql(expectedOrder);
+
+				const stats = Ti.App.Android.messengerStats;
+				should(stats.handOffCount).be.above(0);
+				return finish();
+			}).catch(err => finish(err))
+				.finally(() => db.close());
+		});
+
 		it('calls callback with Error for invalid SQL', function (finish) {
 			const db = Ti.Database.open('execute_async.db');
 			db.executeAsync('THIS IS SOME INVALID SQL', err => {
@@ -614,6 +648,236 @@ describe('Titanium.Database', function () {
 		});
 	});
 
+	describe.android('#executeBatch()', () => {
+		it('is a function', () => { // eslint-disable-line mocha/no-identical-title
+			const db = Ti.Database.open('execute_batch.db');
+			try {
+				should(db.executeBatch).be.a.Function();
+			} finally {
+				db.close();
+			}
+		});
+
+		it('inserts all rows with typed parameters', () => {
+			const db = Ti.Database.open('execute_batch.db');
+			let rows;
+			try {
+				db.execute('CREATE TABLE IF NOT EXISTS batchTable (text TEXT, number INTEGER, real REAL, empty TEXT)');
+				db.execute('DELETE FROM batchTable');
+
+				const count = db.executeBatch('INSERT INTO batchTable (text, number, real, empty) VALUES (?, ?, ?, ?)', [
+					[ 'one', 1, 1.5, null ],
+					[ 'two', 2, 2.5, null ],
+					[ 'three', Number.MAX_SAFE_INTEGER, -3.25, null ]
+				]);
+				should(count).eql(3);
+
+				rows = db.execute('SELECT text, number, real, empty FROM batchTable ORDER BY rowid');
+				should(rows.rowCount).eql(3);
+				should(rows.field(0)).eql('one');
+				should(rows.field(1)).eql(1);
+				should(rows.field(2)).eql(1.5);
+				should(rows.field(3)).be.null();
+				rows.next();
+				rows.next();
+				should(rows.field(1)).eql(Number.MAX_SAFE_INTEGER);
+				should(rows.field(2)).eql(-3.25);
+			} finally {
+				if (rows) {
+					rows.close();
+				}
+				db.close();
+			}
+		});
+
+		it('rolls back all rows on failure', () => {
+			const db = Ti.Database.open('execute_batch.db');
+			try {
+				db.execute('CREATE TABLE IF NOT EXISTS uniqueTable (id INTEGER PRIMARY KEY)');
+				db.execute('DELETE FROM uniqueTable');
+				try {
+					db.executeBatch('INSERT INTO uniqueTable (id) VALUES (?)', [ [ 1 ], [ 2 ], [ 2 ] ]);
+					should.fail(true, false, 'Expected to throw an exception for duplicate key');
+				} catch (e) {
+					should(e.index).eql(2);
+				}
+				const rows = db.execute('SELECT COUNT(*) FROM uniqueTable');
+				should(rows.field(0)).eql(0);
+				rows.close();
+			} finally {
+				db.close();
+			}
+		});
+
+		it('resolves Promise from executeBatchAsync()', function (finish) {
+			this.timeout(5000);
+			const db = Ti.Database.open('execute_batch.db');
+			db.execute('CREATE TABLE IF NOT EXISTS batchTable (text TEXT, number INTEGER, real REAL, empty TEXT)');
+			db.execute('DELETE FROM batchTable');
+			db.executeBatchAsync('INSERT INTO batchTable (text, number) VALUES (?, ?)', [ [ 'a', 1 ], [ 'b', 2 ] ])
+				.then(count => {
+					try {
+						should(count).eql(2);
+					} finally {
+						db.close();
+					}
+					return finish();
+				})
+				.catch(e => {
+					db.close();
+					finish(e);
+				});
+		});
+
+		it('has statementCacheSize property', () => {
+			const db = Ti.Database.open('execute_batch.db');
+			try {
+				should(db.statementCacheSize).be.a.Number();
+				db.statementCacheSize = 10;
+				should(db.statementCacheSize).eql(10);
+			} finally {
+				db.close();
+			}
+		});
+	});
+
+	describe.android('ResultSet#fetchAll()', () => {
+		function createTable(db) {
+			db.execute('CREATE TABLE IF NOT EXISTS fetchTable (name TEXT, number INTEGER)');
+			db.execute('DELETE FROM fetchTable');
+			for (let index = 0; index < 5; index++) {
+				db.execute('INSERT INTO fetchTable (name, number) VALUES (?, ?)', `row${index}`, index);
+			}
+		}
+
+		it('returns all rows as objects', () => {
+			const db = Ti.Database.open('fetch.db');
+			let rows;
+			try {
+				createTable(db);
+				rows = db.execute('SELECT name, number FROM fetchTable ORDER BY number');
+				const result = rows.fetchAll();
+				should(result).be.an.Array();
+				should(result.length).eql(5);
+				should(result[0].name).eql('row0');
+				should(result[4].number).eql(4);
+				should(rows.isValidRow()).be.false();
+			} finally {
+				if (rows) {
+					rows.close();
+				}
+				db.close();
+			}
+		});
+
+		it('returns all rows grouped by column', () => {
+			const db = Ti.Database.open('fetch.db');
+			let rows;
+			try {
+				createTable(db);
+				rows = db.execute('SELECT name, number FROM fetchTable ORDER BY number');
+				const result = rows.fetchAll({ columnar: true });
+				should(result.name).eql([ 'row0', 'row1', 'row2', 'row3', 'row4' ]);
+				should(result.number).eql([ 0, 1, 2, 3, 4 ]);
+			} finally {
+				if (rows) {
+					rows.close();
+				}
+				db.close();
+			}
+		});
+
+		it('returns fixed-size pages from fetchPage()', () => {
+			const db = Ti.Database.open('fetch.db');
+			let rows;
+			try {
+				createTable(db);
+				rows = db.execute('SELECT name, number FROM fetchTable ORDER BY number');
+				should(rows.fetchPage(2).length).eql(2);
+				should(rows.fetchPage(2).length).eql(2);
+				const lastPage = rows.fetchPage(2);
+				should(lastPage.length).eql(1);
+				should(lastPage[0].number).eql(4);
+				should(rows.fetchPage(2).length).eql(0);
+			} finally {
+				if (rows) {
+					rows.close();
+				}
+				db.close();
+			}
+		});
+
+		it('resolves Promise from fetchPageAsync()', function (finish) {
+			this.timeout(5000);
+			const db = Ti.Database.open('fetch.db');
+			createTable(db);
+			const rows = db.execute('SELECT name, number FROM fetchTable ORDER BY number');
+			rows.fetchPageAsync(3, { columnar: true })
+				.then(result => {
+					try {
+						should(result.number).eql([ 0, 1, 2 ]);
+					} finally {
+						rows.close();
+						db.close();
+					}
+					return finish();
+				})
+				.catch(e => {
+					rows.close();
+					db.close();
+					finish(e);
+				});
+		});
+	});
+
+	describe.android('write-ahead logging', () => {
+		it('is disabled by default', () => {
+			const db = Ti.Database.open('wal.db');
+			try {
+				should(db.writeAheadLogging).be.false();
+			} finally {
+				db.close();
+			}
+		});
+
+		it('runs queued reads and writes in order', function (finish) {
+			this.timeout(5000);
+			const db = Ti.Database.open('wal.db', { writeAheadLogging: true, readConnections: 2 });
+			should(db.writeAheadLogging).be.true();
+			db.execute('CREATE TABLE IF NOT EXISTS walTable (id INTEGER)');
+			db.execute('DELETE FROM walTable');
+
+			const queries = [
+				db.executeAsync('INSERT INTO walTable (id) VALUES (?)', 1),
+				db.executeAsync('SELECT COUNT(*) FROM walTable'),
+				db.executeAsync('SELECT COUNT(*) FROM walTable'),
+				db.executeAsync('INSERT INTO walTable (id) VALUES (?)', 2),
+				db.executeAsync('SELECT COUNT(*) FROM walTable')
+			];
+			Promise.all(queries)
+				.then(results => {
+					try {
+						should(results[1].field(0)).eql(1);
+						should(results[2].field(0)).eql(1);
+						should(results[4].field(0)).eql(2);
+						results.forEach(result => result && result.close());
+
+						// Synchronous queries must see all previously queued writes.
+						db.execute('INSERT INTO walTable (id) VALUES (?)', 3);
+						should(db.lastInsertRowId).be.above(0);
+						should(db.rowsAffected).eql(1);
+					} finally {
+						db.close();
+					}
+					return finish();
+				})
+				.catch(e => {
+					db.close();
+					finish(e);
+				});
+		});
+	});
+
 	describe.windowsMissing('#executeAllAsync()', () => {
 		it('is a function', () => { // eslint-disable-line mocha/no-identical-title
 			const db = Ti.Database.open('execute_all_async.db');
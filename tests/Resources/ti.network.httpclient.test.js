@@ -708,6 +708,65 @@ describe('Titanium.Network.HTTPClient', function () {
 		xhr.send();
 	});
 
+	it.android('streams response data in chunks', function (finish) {
+		this.timeout(6e4);
+		const xhr = Ti.Network.createHTTPClient({
+			timeout: 6e4,
+			streamResponse: true
+		});
+
+		let streamedSize = 0;
+		xhr.ondatastream = function (e) {
+			try {
+				should(e.data).be.an.Object();
+				should(e.data.length).eql(e.size);
+				streamedSize += e.data.length;
+			} catch (err) {
+				finish(err);
+			}
+		};
+		xhr.onload = function (e) {
+			try {
+				should(streamedSize).be.above(0);
+				should(e.source.responseData).not.be.ok();
+				finish();
+			} catch (err) {
+				finish(err);
+			}
+		};
+		xhr.onerror = e => finish(new Error(e.error));
+
+		xhr.open('GET', 'https://raw.githubusercontent.com/tidev/titanium-sdk/main/tests/Resources/large.jpg');
+		xhr.send();
+	});
+
+	it.android('pipes response data into streamTarget', function (finish) {
+		this.timeout(6e4);
+		const file = Ti.Filesystem.getFile(Ti.Filesystem.tempDirectory, 'streamTarget.jpg');
+		const stream = file.open(Ti.Filesystem.MODE_WRITE);
+		const xhr = Ti.Network.createHTTPClient({
+			timeout: 6e4,
+			streamTarget: stream
+		});
+
+		xhr.onload = function () {
+			try {
+				stream.close();
+				should(file.size).be.above(0);
+				finish();
+			} catch (err) {
+				finish(err);
+			}
+		};
+		xhr.onerror = e => {
+			stream.close();
+			finish(new Error(e.error));
+		};
+
+		xhr.open('GET', 'https://raw.githubusercontent.com/tidev/titanium-sdk/main/tests/Resources/large.jpg');
+		xhr.send();
+	});
+
 	// FIXME: Windows 'source' is missing on onload
 	it.windowsMissing('send on response', function (finish) {
 		const xhr = Ti.Network.createHTTPClient({
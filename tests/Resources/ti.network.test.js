@@ -92,6 +92,16 @@ describe('Titanium.Network', function () {
 		should(Ti.Network.createHTTPClient).be.a.Function();
 	});
 
+	it.android('getHTTPClientMetrics()', function () {
+		should(Ti.Network.getHTTPClientMetrics).be.a.Function();
+		const metrics = Ti.Network.getHTTPClientMetrics();
+		should(metrics.queued).be.a.Number();
+		should(metrics.inFlight).be.a.Number();
+		should(metrics.maxConcurrentRequests).be.above(0);
+		should(metrics.maxRequestsPerHost).be.above(0);
+		should(metrics.hosts).be.an.Object();
+	});
+
 	it.iosBroken('#createTCPSocket() should be removed', () => {
 		// iOS will return an empty function because of how the old TiProxy logic is written. Ugh
 		should.not.exist(Ti.Network.createTCPSocket);
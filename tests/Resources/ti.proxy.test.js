@@ -64,4 +64,82 @@ describe('Titanium.Proxy', () => {
 			// What do we expect in terms of those properties?
 		});
 	});
+
+	describe.android('#addEventListener() options', () => {
+		it('should coalesce events with a policy', () => {
+			const view = Ti.UI.createView();
+			view.addEventListener('touchmove', () => {}, { coalesce: 'frame' });
+			view.addEventListener('postlayout', () => {}, { maxRate: 10 });
+			view.addEventListener('click', () => {});
+
+			const stats = view.getEventCoalescingStats();
+			should(stats).be.an.Object();
+			should(stats.touchmove.mode).eql('frame');
+			should(stats.touchmove.posted).eql(0);
+			should(stats.touchmove.dropped).eql(0);
+			should(stats.touchmove.merged).eql(0);
+			should(stats.postlayout.mode).eql('latest');
+			should(stats).not.have.property('click');
+		});
+
+		// Fires the given number of events from native code, in a single turn of the JS thread.
+		function fireNativeEvents(child, count) {
+			for (let index = 0; index < count; index++) {
+				child._fireEventToParent('coalescetest', { index });
+			}
+		}
+
+		it('should deliver the latest event only', finish => {
+			const parent = Ti.UI.createView();
+			const child = Ti.UI.createView();
+			parent.add(child);
+			const events = [];
+			parent.addEventListener('coalescetest', e => events.push(e), { coalesce: 'latest' });
+
+			fireNativeEvents(child, 10);
+			setTimeout(() => {
+				try {
+					should(events.length).eql(1);
+					should(events[0].index).eql(9);
+					const stats = parent.getEventCoalescingStats().coalescetest;
+					should(stats.posted).eql(10);
+					should(stats.delivered).eql(1);
+					should(stats.dropped).eql(9);
+				} catch (err) {
+					return finish(err);
+				}
+				finish();
+			}, 200);
+		});
+
+		it('should deliver a batch of all events', finish => {
+			const parent = Ti.UI.createView();
+			const child = Ti.UI.createView();
+			parent.add(child);
+			const events = [];
+			parent.addEventListener('coalescetest', e => events.push(e), { coalesce: 'batch' });
+
+			fireNativeEvents(child, 10);
+			setTimeout(() => {
+				try {
+					should(events.length).eql(1);
+					should(events[0].events).be.an.Array();
+					should(events[0].events.length).eql(10);
+					events[0].events.forEach((data, index) => should(data.index).eql(index));
+					const stats = parent.getEventCoalescingStats().coalescetest;
+					should(stats.delivered).eql(1);
+					should(stats.merged).eql(9);
+				} catch (err) {
+					return finish(err);
+				}
+				finish();
+			}, 200);
+		});
+
+		it('should ignore unknown coalesce modes', () => {
+			const view = Ti.UI.createView();
+			view.addEventListener('touchmove', () => {}, { coalesce: 'unknown' });
+			should(view.getEventCoalescingStats()).not.have.property('touchmove');
+		});
+	});
 });
@@ -34,6 +34,25 @@ describe.android('Titanium.UI.Android', () => {
 		});
 	});
 
+	describe('#getImageCacheStats()', () => {
+		it('is a function', () => should(Ti.UI.Android).have.a.property('getImageCacheStats').which.is.a.Function());
+
+		it('counts resized blob images served from cache', () => {
+			const blob = Ti.Filesystem.getFile('Logo.png').read();
+			blob.imageAsResized(40, 30);
+			const before = Ti.UI.Android.getImageCacheStats();
+			should(before.memoryHits).be.a.Number();
+			should(before.memorySize).be.above(0);
+			should(before.memorySize).be.belowOrEqual(before.maxMemorySize);
+
+			const b = blob.imageAsResized(40, 30);
+			should(b.width).be.eql(40);
+			should(b.height).be.eql(30);
+			const after = Ti.UI.Android.getImageCacheStats();
+			should(after.memoryHits).be.above(before.memoryHits);
+		});
+	});
+
 	describe('constants', () => {
 		it('FLAG_LAYOUT_NO_LIMITS', () => {
 			should(Ti.UI.Android).have.constant('FLAG_LAYOUT_NO_LIMITS').which.is.a.Number();
@@ -271,7 +271,7 @@ describe('Titanium.UI.ImageView', function () {
 		function test(imageViewProperties, finish) {
 			win = Ti.UI.createWindow();
 			win.add(Ti.UI.createImageView(imageViewProperties));
-			win.addEventListener('postlayout', function listener() {
+			win.addEventListener('postlayout', function listener () {
 				win.removeEventListener('postlayout', listener);
 				finish();
 			});
@@ -419,6 +419,250 @@ describe('Titanium.UI.ImageView', function () {
 		win.open();
 	});
 
+	it.android('images with repeatCount', function (finish) {
+		this.timeout(10000);
+
+		const events = [];
+		const framesShown = Ti.UI.Android.getImageAnimationStats().framesShown;
+		const fromFile = Ti.Filesystem.getFile(Ti.Filesystem.resourcesDirectory, 'Logo.png');
+		win = Ti.UI.createWindow();
+		const imageView = Ti.UI.createImageView({
+			width: Ti.UI.FILL,
+			height: Ti.UI.FILL,
+			duration: 50,
+			repeatCount: 2
+		});
+		imageView.addEventListener('load', function listener () {
+			imageView.removeEventListener('load', listener);
+			imageView.start();
+		});
+		imageView.addEventListener('start', () => events.push('start'));
+		imageView.addEventListener('pause', () => events.push('pause'));
+		imageView.addEventListener('change', () => {
+			events.push('change');
+			if (events.includes('pause')) {
+				return;
+			}
+			try {
+				imageView.pause();
+				should(imageView.paused).be.true();
+				should(imageView.animating).be.false();
+			} catch (err) {
+				return finish(err);
+			}
+			const changeCount = events.length;
+			setTimeout(() => {
+				try {
+					// No frames are shown while paused.
+					should(events.length).eql(changeCount + 1);
+					should(events[events.length - 1]).eql('pause');
+					imageView.resume();
+					should(imageView.paused).be.false();
+					should(imageView.animating).be.true();
+				} catch (err) {
+					finish(err);
+				}
+			}, 500);
+		});
+		imageView.addEventListener('stop', () => {
+			events.push('stop');
+			try {
+				should(events[0]).eql('start');
+				should(events.filter(name => name === 'change').length).eql(6);
+				should(events.indexOf('pause')).eql(2);
+				should(events[events.length - 1]).eql('stop');
+				should(imageView.animating).be.false();
+				should(Ti.UI.Android.getImageAnimationStats().framesShown).be.above(framesShown);
+			} catch (err) {
+				return finish(err);
+			}
+			finish();
+		});
+		win.addEventListener('open', () => {
+			imageView.images = [ fromFile, fromFile, fromFile ];
+		});
+
+		win.add(imageView);
+		win.open();
+	});
+
+	it.android('images suspended while hidden', function (finish) {
+		this.timeout(10000);
+
+		const fromFile = Ti.Filesystem.getFile(Ti.Filesystem.resourcesDirectory, 'Logo.png');
+		win = Ti.UI.createWindow();
+		const container = Ti.UI.createView();
+		const imageView = Ti.UI.createImageView({
+			width: Ti.UI.FILL,
+			height: Ti.UI.FILL,
+			duration: 50
+		});
+		imageView.addEventListener('start', function listener () {
+			imageView.removeEventListener('start', listener);
+			const stats = Ti.UI.Android.getImageAnimationStats();
+			container.visible = false;
+			setTimeout(() => {
+				try {
+					// Hiding a parent does not detach the view, but stops its frames.
+					const hiddenStats = Ti.UI.Android.getImageAnimationStats();
+					should(hiddenStats.suspensions).be.above(stats.suspensions);
+					setTimeout(() => {
+						try {
+							should(Ti.UI.Android.getImageAnimationStats().framesShown).eql(hiddenStats.framesShown);
+						} catch (err) {
+							return finish(err);
+						}
+						imageView.addEventListener('change', function changed () {
+							imageView.removeEventListener('change', changed);
+							imageView.stop();
+							finish();
+						});
+						container.visible = true;
+					}, 500);
+				} catch (err) {
+					finish(err);
+				}
+			}, 500);
+		});
+		win.addEventListener('open', () => {
+			imageView.images = [ fromFile, fromFile, fromFile ];
+			imageView.start();
+		});
+
+		container.add(imageView);
+		win.add(container);
+		win.open();
+	});
+
+	it.android('images fire load after restart', function (finish) {
+		this.timeout(10000);
+
+		let loadCount = 0;
+		const fromFile = Ti.Filesystem.getFile(Ti.Filesystem.resourcesDirectory, 'Logo.png');
+		win = Ti.UI.createWindow();
+		const imageView = Ti.UI.createImageView({
+			width: Ti.UI.FILL,
+			height: Ti.UI.FILL,
+			duration: 50
+		});
+		imageView.addEventListener('load', () => {
+			loadCount++;
+			if (loadCount === 1) {
+				imageView.start();
+			} else {
+				finish();
+			}
+		});
+		imageView.addEventListener('change', function listener () {
+			imageView.removeEventListener('change', listener);
+			imageView.stop();
+			imageView.start();
+		});
+		win.addEventListener('open', () => {
+			imageView.images = [ fromFile, fromFile, fromFile ];
+		});
+
+		win.add(imageView);
+		win.open();
+	});
+
+	describe.android('remote image cache', function () {
+		this.timeout(10000);
+
+		const port = 8181;
+		let server;
+		afterEach(() => {
+			if (server) {
+				server.close();
+				server = null;
+			}
+		});
+
+		// Serves Logo.png on a local socket with the given headers and records the received requests.
+		// Requests carrying the image's ETag are answered with "304 Not Modified".
+		function startImageServer(headers) {
+			const logoFile = Ti.Filesystem.getFile(Ti.Filesystem.resourcesDirectory, 'Logo.png');
+			const body = Ti.Stream.readAll(Ti.Stream.createStream({ source: logoFile.read(), mode: Ti.Stream.MODE_READ }));
+			const requests = [];
+			const socket = Ti.Network.Socket.createTCP({
+				port,
+				accepted: e => {
+					socket.accept({});
+					const inbound = e.inbound;
+					const requestBuffer = Ti.createBuffer({ length: 4096 });
+					inbound.read(requestBuffer, result => {
+						const request = requestBuffer.toString().substring(0, result.bytesProcessed);
+						requests.push(request);
+						const isNotModified = /^if-none-match: "logo"/im.test(request);
+						let response = isNotModified ? 'HTTP/1.1 304 Not Modified\r\n' : 'HTTP/1.1 200 OK\r\n';
+						response += `${headers}ETag: "logo"\r\nConnection: close\r\n`;
+						response += `Content-Type: image/png\r\nContent-Length: ${isNotModified ? 0 : body.length}\r\n\r\n`;
+						const responseBuffer = Ti.createBuffer({ value: response });
+						if (!isNotModified) {
+							responseBuffer.append(body);
+						}
+						inbound.write(responseBuffer, () => inbound.close());
+					});
+				}
+			});
+			socket.listen();
+			socket.accept({});
+			return {
+				requests,
+				close: () => socket.close()
+			};
+		}
+
+		// Loads the given image, or images, in a new window. Resolves once decoded or failed to decode.
+		function loadImageView(properties) {
+			return new Promise(resolve => {
+				if (win) {
+					win.close();
+				}
+				win = Ti.UI.createWindow();
+				const imageView = Ti.UI.createImageView(properties);
+				imageView.addEventListener('load', resolve);
+				imageView.addEventListener('error', resolve);
+				win.add(imageView);
+				win.open();
+			});
+		}
+
+		it('serves a fresh image from the cache', async () => {
+			server = startImageServer('Cache-Control: max-age=600\r\n');
+			const url = `http://127.0.0.1:${port}/fresh.png?time=${Date.now()}`;
+			await loadImageView({ image: url });
+			should(server.requests.length).eql(1);
+
+			// Animation frames are decoded without using the in-memory image cache.
+			await loadImageView({ images: [ url ] });
+			should(server.requests.length).eql(1);
+		});
+
+		it('revalidates a "no-cache" image', async () => {
+			server = startImageServer('Cache-Control: no-cache\r\n');
+			const url = `http://127.0.0.1:${port}/no-cache.png?time=${Date.now()}`;
+			await loadImageView({ image: url });
+			should(server.requests.length).eql(1);
+
+			await loadImageView({ images: [ url ] });
+			should(server.requests.length).eql(2);
+			should(server.requests[1]).match(/^if-none-match: "logo"/im);
+		});
+
+		it('revalidates an expired image', async () => {
+			server = startImageServer('Cache-Control: max-age=1\r\n');
+			const url = `http://127.0.0.1:${port}/expired.png?time=${Date.now()}`;
+			await loadImageView({ image: url });
+			should(server.requests.length).eql(1);
+
+			await new Promise(resolve => setTimeout(resolve, 1500));
+			await loadImageView({ images: [ url ] });
+			should(server.requests.length).eql(2);
+			should(server.requests[1]).match(/^if-none-match: "logo"/im);
+		});
+	});
+
 	describe('.scalingMode', () => {
 		function test(scalingMode, finish) {
 			win = Ti.UI.createWindow();
@@ -430,7 +674,7 @@ describe('Titanium.UI.ImageView', function () {
 				height: Ti.UI.FILL
 			});
 			win.add(imageView);
-			win.addEventListener('postlayout', function listener() {
+			win.addEventListener('postlayout', function listener () {
 				try {
 					win.removeEventListener('postlayout', listener);
 					should(imageView.scalingMode).be.eql(scalingMode);
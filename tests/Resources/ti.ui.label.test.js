@@ -88,6 +88,56 @@ describe('Titanium.UI.Label', function () {
 		});
 	});
 
+	it.android('#applyProperties() updates view and label properties of an open label', function (finish) {
+		this.slow(1000);
+		this.timeout(5000);
+
+		win = Ti.UI.createWindow();
+		const label = Ti.UI.createLabel({ text: 'Label' });
+		win.add(label);
+		win.addEventListener('open', () => {
+			label.addEventListener('postlayout', function listener() {
+				label.removeEventListener('postlayout', listener);
+				try {
+					should(label.text).eql('Updated');
+					should(label.size.width).be.above(0);
+					should(label.size.height).be.above(0);
+				} catch (err) {
+					return finish(err);
+				}
+				finish();
+			});
+			try {
+				label.applyProperties({
+					text: 'Updated',
+					color: 'red',
+					font: { fontSize: 20 },
+					textAlign: Ti.UI.TEXT_ALIGNMENT_CENTER,
+					verticalAlign: Ti.UI.TEXT_VERTICAL_ALIGNMENT_CENTER,
+					maxLines: 1,
+					ellipsize: Ti.UI.TEXT_ELLIPSIZE_TRUNCATE_END,
+					shadowColor: 'black',
+					shadowRadius: 2,
+					shadowOffset: { x: 1, y: 1 },
+					left: 10,
+					top: 10,
+					width: 100,
+					height: 50,
+					opacity: 0.5,
+					backgroundColor: 'blue',
+					borderColor: 'green',
+					borderWidth: 1,
+					accessibilityLabel: 'Updated label',
+					elevation: 2,
+					rotation: 0
+				});
+			} catch (err) {
+				return finish(err);
+			}
+		});
+		win.open();
+	});
+
 	describe('.text', () => {
 		it('is a String', () => {
 			const label = Ti.UI.createLabel({
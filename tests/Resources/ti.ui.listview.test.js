@@ -928,6 +928,188 @@ describe('Titanium.UI.ListView', function () {
 		}
 	});
 
+	it.android('ListSection.items manipulation (attached)', finish => {
+		const itemCount = 500;
+		const createItems = (prefix, count) => {
+			const items = [];
+			for (let i = 0; i < count; i++) {
+				items.push({ itemId: `${prefix}${i}`, properties: { title: `${prefix}${i}` } });
+			}
+			return items;
+		};
+		const section = Ti.UI.createListSection({
+			headerTitle: 'HEADER',
+			footerTitle: 'FOOTER',
+			items: createItems('A', itemCount)
+		});
+		const listView = Ti.UI.createListView({ sections: [ section ] });
+		win = Ti.UI.createWindow();
+		win.add(listView);
+		win.addEventListener('open', () => {
+			try {
+				section.appendItems(createItems('B', 2));
+				section.insertItemsAt(0, createItems('C', 2));
+				section.deleteItemsAt(1, 2);
+				section.updateItemAt(0, { itemId: 'D0', properties: { title: 'D0' } });
+
+				// Large replacements are diffed in the background. Keep half of the items.
+				const items = section.items;
+				section.items = items.filter((item, index) => (index % 2) === 0);
+				section.replaceItemsAt(1, 1, createItems('E', 1));
+			} catch (err) {
+				return finish(err);
+			}
+			setTimeout(() => {
+				try {
+					const items = section.items;
+					should(items.length).be.eql((itemCount + 2) / 2);
+					should(items[0].properties.title).be.eql('D0');
+					should(items[1].properties.title).be.eql('E0');
+					should(items[2].properties.title).be.eql('A4');
+					should(listView.sections[0].items.length).be.eql(items.length);
+					listView.scrollToItem(0, items.length - 1, { animated: false });
+				} catch (err) {
+					return finish(err);
+				}
+				finish();
+			}, 500);
+		});
+		win.open();
+	});
+
+	it.android('binds nested children of recycled items', function (finish) {
+		this.timeout(5000);
+
+		// Labels report the values they show once laid out. "this" is the label's proxy.
+		const mismatches = [];
+		const checkedIndexes = new Set();
+		function onPostLayout(e) {
+			const match = /^(Title|Detail) (\d+)$/.exec(this.text);
+			if (!match || (Number(match[2]) !== e.itemIndex)) {
+				mismatches.push(`${this.text} at item ${e.itemIndex}`);
+			}
+			checkedIndexes.add(e.itemIndex);
+		}
+
+		const listView = Ti.UI.createListView({
+			templates: {
+				nested: {
+					childTemplates: [ {
+						type: 'Ti.UI.View',
+						bindId: 'container',
+						properties: { layout: 'vertical', height: Ti.UI.SIZE },
+						childTemplates: [
+							{
+								type: 'Ti.UI.Label',
+								bindId: 'title',
+								properties: { color: 'red' },
+								events: { postlayout: onPostLayout }
+							},
+							{
+								type: 'Ti.UI.View',
+								properties: { height: Ti.UI.SIZE },
+								childTemplates: [ {
+									type: 'Ti.UI.Label',
+									bindId: 'detail',
+									properties: { color: 'gray' },
+									events: { postlayout: onPostLayout }
+								} ]
+							}
+						]
+					} ]
+				}
+			},
+			defaultItemTemplate: 'nested'
+		});
+		const items = [];
+		for (let i = 0; i < 200; i++) {
+			items.push({ title: { text: `Title ${i}` }, detail: { text: `Detail ${i}` } });
+		}
+		listView.sections = [ Ti.UI.createListSection({ items }) ];
+
+		win = Ti.UI.createWindow();
+		win.addEventListener('open', () => {
+			setTimeout(() => {
+				try {
+					listView.scrollToItem(0, 199, { animated: false });
+				} catch (err) {
+					return finish(err);
+				}
+				setTimeout(() => {
+					try {
+						should(mismatches).be.empty();
+						should(checkedIndexes.has(199)).be.true();
+						should(listView.recycleStats.hits).be.above(0);
+					} catch (err) {
+						return finish(err);
+					}
+					finish();
+				}, 1000);
+			}, 500);
+		});
+
+		win.add(listView);
+		win.open();
+	});
+
+	it.android('.recycleStats', function (finish) {
+		this.timeout(5000);
+
+		const items = [];
+		for (let i = 0; i < 200; i++) {
+			items.push({ properties: { title: `Item ${i}` } });
+		}
+		const listView = Ti.UI.createListView({
+			sections: [ Ti.UI.createListSection({ items }) ],
+			recyclePoolSize: 4,
+			prewarmCount: 2
+		});
+
+		win = Ti.UI.createWindow();
+		win.addEventListener('open', () => {
+			setTimeout(() => {
+				try {
+					listView.scrollToItem(0, 199, { animated: false });
+				} catch (err) {
+					return finish(err);
+				}
+				setTimeout(() => {
+					try {
+						const stats = listView.recycleStats;
+						should(stats).be.an.Object();
+						should(stats.hits).be.a.Number();
+						should(stats.misses).be.a.Number();
+						should(stats.inflates).be.a.Number();
+						should(stats.prewarmed).be.a.Number();
+						should(stats.released).be.a.Number();
+						should(stats.pooled).be.a.Number();
+						should(stats.inflates).be.above(0);
+						should(stats.hits + stats.misses).be.above(0);
+
+						// Holders are prewarmed while idle, up to "prewarmCount".
+						should(stats.prewarmed).be.above(0);
+						should(stats.inflates).be.aboveOrEqual(stats.prewarmed);
+
+						// All items use the default template, so at most "recyclePoolSize" items are kept.
+						should(stats.pooled).be.belowOrEqual(4);
+
+						// Lowering the pool size releases the items exceeding it.
+						listView.recyclePoolSize = 1;
+						const trimmedStats = listView.recycleStats;
+						should(trimmedStats.pooled).be.belowOrEqual(1);
+						should(trimmedStats.released - stats.released).eql(stats.pooled - trimmedStats.pooled);
+					} catch (err) {
+						return finish(err);
+					}
+					finish();
+				}, 500);
+			}, 500);
+		});
+
+		win.add(listView);
+		win.open();
+	});
+
 	// Making sure sections data is saved even when it's filtered (TIMOB-24019)
 	it('TIMOB-24019', finish => {
 		const listView = Ti.UI.createListView({
@@ -1009,6 +1191,83 @@ describe('Titanium.UI.ListView', function () {
 		win.open();
 	});
 
+	it.android('.searchText ignores diacritics when caseInsensitiveSearch', function (finish) {
+		this.timeout(5000);
+
+		const section = Ti.UI.createListSection({
+			items: [
+				{ properties: { title: 'Crème brûlée', searchableText: 'Crème brûlée' } },
+				{ properties: { title: 'Tea', searchableText: 'Tea' } }
+			]
+		});
+		const listView = Ti.UI.createListView({
+			sections: [ section ],
+			caseInsensitiveSearch: true
+		});
+		let expectNoResults = false;
+
+		listView.addEventListener('noresults', () => {
+			if (!expectNoResults) {
+				return finish(new Error('"CREME" should match "Crème brûlée"'));
+			}
+			finish();
+		});
+
+		win = Ti.UI.createWindow();
+		win.addEventListener('open', () => {
+			listView.searchText = 'CREME';
+
+			setTimeout(() => {
+				expectNoResults = true;
+				listView.searchText = 'coffee';
+			}, 500);
+		});
+
+		win.add(listView);
+		win.open();
+	});
+
+	it.android('.searchView filters in background', function (finish) {
+		this.timeout(5000);
+
+		const section = Ti.UI.createListSection({
+			items: [
+				{ properties: { title: 'Crème brûlée', searchableText: 'Crème brûlée' } },
+				{ properties: { title: 'Tea', searchableText: 'Tea' } }
+			]
+		});
+		const searchBar = Ti.UI.createSearchBar();
+		const listView = Ti.UI.createListView({
+			sections: [ section ],
+			searchView: searchBar,
+			caseInsensitiveSearch: true
+		});
+		let expectNoResults = false;
+
+		listView.addEventListener('noresults', () => {
+			if (!expectNoResults) {
+				return finish(new Error('"CREME" should match "Crème brûlée"'));
+			}
+			finish();
+		});
+
+		win = Ti.UI.createWindow();
+		win.addEventListener('open', () => {
+			// Each query extends the previous one, so that only previous results are tested again.
+			searchBar.value = 'C';
+			searchBar.value = 'CR';
+			searchBar.value = 'CREME';
+
+			setTimeout(() => {
+				expectNoResults = true;
+				searchBar.value = 'CREMES';
+			}, 500);
+		});
+
+		win.add(listView);
+		win.open();
+	});
+
 	it('.refreshControl (in NavigationWindow)', function (finish) {
 		const window = Ti.UI.createWindow({
 			title: 'Hello World',
@@ -373,6 +373,45 @@ describe('Titanium.UI.TableView', function () {
 		win.open();
 	});
 
+	it('appendRow and deleteRow in same turn', finish => {
+		const tableView = Ti.UI.createTableView({
+			data: [ { title: 'Row 0' } ]
+		});
+
+		win = Ti.UI.createWindow({
+			backgroundColor: 'blue'
+		});
+		win.addEventListener('focus', () => {
+			try {
+
+				// Append rows one at a time, as done when receiving messages.
+				for (let i = 1; i <= 100; i++) {
+					tableView.appendRow({ title: `Row ${i}` });
+				}
+
+				// Delete by table index, which must account for rows appended above.
+				tableView.deleteRow(50);
+				tableView.insertRowAfter(99, { title: 'Last' });
+
+				// Validate section row count.
+				should(tableView.sections[0].rowCount).be.eql(101);
+
+				// Validate rows in section.
+				should(tableView.sections[0].rows[49].title).be.eql('Row 49');
+				should(tableView.sections[0].rows[50].title).be.eql('Row 51');
+				should(tableView.sections[0].rows[99].title).be.eql('Row 100');
+				should(tableView.sections[0].rows[100].title).be.eql('Last');
+
+				finish();
+			} catch (err) {
+				return finish(err);
+			}
+		});
+
+		win.add(tableView);
+		win.open();
+	});
+
 	it('TableViewSection.add', finish => {
 		const section = Ti.UI.createTableViewSection();
 		const tableView = Ti.UI.createTableView({
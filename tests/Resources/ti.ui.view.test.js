@@ -300,6 +300,38 @@ describe('Titanium.UI.View', function () {
 		win.open();
 	});
 
+	it.android('applies buffered property changes with final values', function (finish) {
+		win = Ti.UI.createWindow({ backgroundColor: 'blue' });
+		const view = Ti.UI.createView({ width: 50, height: 50, left: 0, top: 0, backgroundColor: 'red' });
+		win.add(view);
+		win.open().then(() => {
+			// In high performance mode, changes within one turn are delivered once on the next frame.
+			view.setHighPerformanceMode(true);
+			const coalescedBefore = view.getAdaptiveOptimizationStats().propertyKeysCoalesced;
+			view.width = 100;
+			view.height = 100;
+			view.width = 150;
+			view.backgroundColor = 'yellow';
+			view.width = 200;
+			view.backgroundColor = 'green';
+
+			view.addEventListener('postlayout', function listener () {
+				view.removeEventListener('postlayout', listener);
+				try {
+					should(view.width).eql(200);
+					should(view.backgroundColor).eql('green');
+					should(view.rect.width).eql(200);
+					should(view.rect.height).eql(100);
+					should(view.getAdaptiveOptimizationStats().propertyKeysCoalesced).be.above(coalescedBefore);
+				} catch (err) {
+					return finish(err);
+				}
+				finish();
+			});
+			return true;
+		}).catch(e => finish(e));
+	});
+
 	// FIXME Times out on iOS. Never fires postlayout?
 	it('rect and size', function (finish) {
 		win = Ti.UI.createWindow({ backgroundColor: 'blue' });